@@ -184,6 +184,30 @@ abstract public class CardPanelContainer extends JPanel {
         return placeholder;
     }
 
+    /**
+     * Like {@link #addCard(Card)} for each card, but lays out the panels only once.
+     * Must call from the Swing event thread.
+     *
+     * @param cards a {@link java.util.List} of {@link forge.Card} objects.
+     * @return the {@link arcane.ui.CardPanel} of each card, in the same order.
+     */
+    public List<CardPanel> addCards(List<Card> cards) {
+        List<CardPanel> placeholders = new ArrayList<CardPanel>(cards.size());
+        for (Card card : cards) {
+            CardPanel placeholder = new CardPanel(card);
+            placeholder.setDisplayEnabled(false);
+            cardPanels.add(placeholder);
+            add(placeholder);
+            placeholders.add(placeholder);
+        }
+        if (!placeholders.isEmpty()) {
+            doLayout();
+            CardPanel last = placeholders.get(placeholders.size() - 1);
+            scrollRectToVisible(new Rectangle(last.getCardX(), last.getCardY(), last.getCardWidth(), last.getCardHeight()));
+        }
+        return placeholders;
+    }
+
     /**
      * <p>getCardPanel.</p>
      *
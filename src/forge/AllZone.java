@@ -8,8 +8,8 @@ import forge.deck.DeckManager;
 import forge.gui.input.InputControl;
 import forge.properties.ForgeProps;
 import forge.properties.NewConstants;
+import forge.quest.data.QuestMatchState;
 
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -18,6 +18,9 @@ import java.util.Map;
  * Please use public getters and setters instead of direct field access.
  * <p/>
  * If you need a setter, by all means, add it.
+ * <p/>
+ * The parts of a game come from the {@link GameState} bound to the calling
+ * thread, so every thread can play its own game.
  *
  * @author Forge
  * @version $Id: $
@@ -26,11 +29,6 @@ public class AllZone implements NewConstants {
     //only for testing, should read decks from local directory
 //  public static final IO IO = new IO("all-decks");
 
-    /** Constant <code>HumanPlayer</code> */
-    private static final Player HumanPlayer = new HumanPlayer("Human");
-    /** Constant <code>ComputerPlayer</code> */
-    private static final Player ComputerPlayer = new AIPlayer("Computer");
-
     /** Constant <code>QuestData</code> */
     private static forge.quest.data.QuestData QuestData = null;
     /** Constant <code>QuestAssignment</code> */
@@ -38,106 +36,52 @@ public class AllZone implements NewConstants {
     /** Constant <code>NameChanger</code> */
     private static final NameChanger NameChanger = new NameChanger();
 
-    /** Constant <code>EndOfTurn</code> */
-    private static EndOfTurn EndOfTurn = new EndOfTurn();
-    /** Constant <code>EndOfCombat</code> */
-    private static EndOfCombat EndOfCombat = new EndOfCombat();
-    private static Upkeep Upkeep = new Upkeep();
+    /** The game bound to each thread, see setGameState. */
+    private static final ThreadLocal<GameState> boundGameState = new ThreadLocal<GameState>();
 
-    /** Constant <code>Phase</code> */
-    private static final Phase Phase = new Phase();
+    /** The game shown on the screen, for threads that have no game bound. */
+    private static final GameState defaultGameState = new GameState(Constant.Runtime.matchState);
 
-    // Phase is now a prerequisite for CardFactory
+    // the game is now a prerequisite for CardFactory
     /** Constant <code>CardFactory</code> */
     private static final CardFactory CardFactory = new CardFactory(ForgeProps.getFile(CARDSFOLDER));
 
-    /** Constant <code>Stack</code> */
-    private static final MagicStack Stack = new MagicStack();
-    /** Constant <code>InputControl</code> */
-    private static final InputControl InputControl = new InputControl();
-    /** Constant <code>GameAction</code> */
-    private static final GameAction GameAction = new GameAction();
-    /** Constant <code>StaticEffects</code> */
-    private static final StaticEffects StaticEffects = new StaticEffects();
-    /** Constant <code>GameInfo</code> */
-    private static final GameInfo GameInfo = new GameInfo();
-
-    /** Constant <code>TriggerHandler</code> */
-    private static final TriggerHandler TriggerHandler = new TriggerHandler();
-
-    //initialized at Runtime since it has to be the last object constructed
-
-    /** Constant <code>Computer</code> */
-    private static ComputerAI_Input Computer;
+    /** Constant <code>DeckManager</code> */
+    private final static DeckManager dMgr = new DeckManager(ForgeProps.getFile(NEW_DECKS));
 
-    //shared between Input_Attack, Input_Block, Input_CombatDamage , InputState_Computer
+    /**
+     * <p>getGameState.</p>
+     *
+     * @return the {@link forge.GameState} bound to the calling thread, or the
+     * game shown on the screen if there is none.
+     */
+    public static GameState getGameState() {
+        GameState state = boundGameState.get();
+        return state != null ? state : defaultGameState;
+    }
 
-    /** Constant <code>Combat</code> */
-    private static Combat Combat = new Combat();
+    /**
+     * <p>setGameState.</p>
+     *
+     * Binds a game to the calling thread; every getter of AllZone called on
+     * this thread afterwards returns a part of that game.
+     *
+     * @param state a {@link forge.GameState} object, or null to go back to
+     * the game shown on the screen.
+     */
+    public static void setGameState(GameState state) {
+        if (state == null) boundGameState.remove();
+        else boundGameState.set(state);
+    }
 
-    //Human_Play, Computer_Play is different because Card.comesIntoPlay() is called when a card is added by PlayerZone.add(Card)
-    /** Constant <code>Human_Battlefield</code> */
-    private final static PlayerZone Human_Battlefield = new PlayerZone_ComesIntoPlay(Constant.Zone.Battlefield, AllZone.getHumanPlayer());
-    /** Constant <code>Human_Hand</code> */
-    private final static PlayerZone Human_Hand = new DefaultPlayerZone(Constant.Zone.Hand, AllZone.getHumanPlayer());
-    /** Constant <code>Human_Graveyard</code> */
-    private final static PlayerZone Human_Graveyard = new DefaultPlayerZone(Constant.Zone.Graveyard, AllZone.getHumanPlayer());
-    /** Constant <code>Human_Library</code> */
-    private final static PlayerZone Human_Library = new DefaultPlayerZone(Constant.Zone.Library, AllZone.getHumanPlayer());
-    /** Constant <code>Human_Exile</code> */
-    private final static PlayerZone Human_Exile = new DefaultPlayerZone(Constant.Zone.Exile, AllZone.getHumanPlayer());
-    /** Constant <code>Human_Command</code> */
-    private final static PlayerZone Human_Command = new DefaultPlayerZone(Constant.Zone.Command, AllZone.getHumanPlayer());
-
-    /** Constant <code>Computer_Battlefield</code> */
-    private final static PlayerZone Computer_Battlefield = new PlayerZone_ComesIntoPlay(Constant.Zone.Battlefield, AllZone.getComputerPlayer());
-    /** Constant <code>Computer_Hand</code> */
-    private final static PlayerZone Computer_Hand = new DefaultPlayerZone(Constant.Zone.Hand, AllZone.getComputerPlayer());
-    /** Constant <code>Computer_Graveyard</code> */
-    private final static PlayerZone Computer_Graveyard = new DefaultPlayerZone(Constant.Zone.Graveyard, AllZone.getComputerPlayer());
-    /** Constant <code>Computer_Library</code> */
-    private final static PlayerZone Computer_Library = new DefaultPlayerZone(Constant.Zone.Library, AllZone.getComputerPlayer());
-    /** Constant <code>Computer_Exile</code> */
-    private final static PlayerZone Computer_Exile = new DefaultPlayerZone(Constant.Zone.Exile, AllZone.getComputerPlayer());
-    /** Constant <code>Computer_Command</code> */
-    private final static PlayerZone Computer_Command = new DefaultPlayerZone(Constant.Zone.Command, AllZone.getComputerPlayer());
-
-    /** Constant <code>Stack_Zone</code> */
-    private final static PlayerZone Stack_Zone = new DefaultPlayerZone(Constant.Zone.Stack, null);
-
-    /** Constant <code>ManaPool</code> */
-    private static final ManaPool ManaPool = new ManaPool(AllZone.getHumanPlayer());
-    /** Constant <code>Computer_ManaPool</code> */
-    private static final ManaPool Computer_ManaPool = new ManaPool(AllZone.getComputerPlayer());
-
-    /** Constant <code>Display</code> */
-    private static Display Display;
-
-    /** Constant <code>map</code> */
-    private final static Map<String, PlayerZone> map = new HashMap<String, PlayerZone>();
-
-    static {
-        map.put(Constant.Zone.Graveyard + AllZone.getHumanPlayer(), Human_Graveyard);
-        map.put(Constant.Zone.Hand + AllZone.getHumanPlayer(), Human_Hand);
-        map.put(Constant.Zone.Library + AllZone.getHumanPlayer(), Human_Library);
-        map.put(Constant.Zone.Battlefield + AllZone.getHumanPlayer(), Human_Battlefield);
-        map.put(Constant.Zone.Exile + AllZone.getHumanPlayer(), Human_Exile);
-        map.put(Constant.Zone.Command + AllZone.getHumanPlayer(), Human_Command);
-
-        map.put(Constant.Zone.Graveyard + AllZone.getComputerPlayer(), Computer_Graveyard);
-        map.put(Constant.Zone.Hand + AllZone.getComputerPlayer(), Computer_Hand);
-        map.put(Constant.Zone.Library + AllZone.getComputerPlayer(), Computer_Library);
-        map.put(Constant.Zone.Battlefield + AllZone.getComputerPlayer(), Computer_Battlefield);
-        map.put(Constant.Zone.Exile + AllZone.getComputerPlayer(), Computer_Exile);
-        map.put(Constant.Zone.Command + AllZone.getComputerPlayer(), Computer_Command);
-
-        map.put(Constant.Zone.Stack + null, Stack_Zone);
+    /**
+     * <p>getBoundGameState.</p>
+     *
+     * @return the {@link forge.GameState} bound to the calling thread, or null.
+     */
+    static GameState getBoundGameState() {
+        return boundGameState.get();
     }
-    
-    private static long timestamp = 0;
-    
-    /** Constant <code>DeckManager</code> */
-    private final static DeckManager dMgr = new DeckManager(ForgeProps.getFile(NEW_DECKS));
 
     /**
      * <p>getHumanPlayer.</p>
@@ -146,7 +90,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static Player getHumanPlayer() {
-        return HumanPlayer;
+        return getGameState().getHumanPlayer();
     }
 
     /**
@@ -156,7 +100,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static Player getComputerPlayer() {
-        return ComputerPlayer;
+        return getGameState().getComputerPlayer();
     }
 
     /**
@@ -216,7 +160,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static EndOfTurn getEndOfTurn() {
-        return EndOfTurn;
+        return getGameState().getEndOfTurn();
     }
 
     /**
@@ -226,7 +170,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static forge.EndOfCombat getEndOfCombat() {
-        return EndOfCombat;
+        return getGameState().getEndOfCombat();
     }
     
     /**
@@ -236,7 +180,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.16
      */
     public static forge.Upkeep getUpkeep() {
-        return Upkeep;
+        return getGameState().getUpkeep();
     }
 
     /**
@@ -246,7 +190,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static Phase getPhase() {
-        return Phase;
+        return getGameState().getPhase();
     }
 
     /**
@@ -266,7 +210,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static MagicStack getStack() {
-        return Stack;
+        return getGameState().getStack();
     }
 
     /**
@@ -276,7 +220,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static InputControl getInputControl() {
-        return InputControl;
+        return getGameState().getInputControl();
     }
 
     /**
@@ -286,7 +230,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static GameAction getGameAction() {
-        return GameAction;
+        return getGameState().getGameAction();
     }
 
     /**
@@ -296,7 +240,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static StaticEffects getStaticEffects() {
-        return StaticEffects;
+        return getGameState().getStaticEffects();
     }
 
     /**
@@ -306,7 +250,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static GameInfo getGameInfo() {
-        return GameInfo;
+        return getGameState().getGameInfo();
     }
 
     /**
@@ -316,7 +260,16 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static TriggerHandler getTriggerHandler() {
-        return TriggerHandler;
+        return getGameState().getTriggerHandler();
+    }
+
+    /**
+     * <p>getEventBus.</p>
+     *
+     * @return a {@link forge.GameEventBus} object.
+     */
+    public static GameEventBus getEventBus() {
+        return getGameState().getEventBus();
     }
 
     /**
@@ -326,7 +279,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static ComputerAI_Input getComputer() {
-        return Computer;
+        return getGameState().getComputer();
     }
 
     /**
@@ -336,7 +289,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static void setComputer(ComputerAI_Input input) {
-        Computer = input;
+        getGameState().setComputer(input);
     }
 
     /**
@@ -346,7 +299,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static Combat getCombat() {
-        return Combat;
+        return getGameState().getCombat();
     }
 
     /**
@@ -356,7 +309,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static void setCombat(Combat attackers) {
-        Combat = attackers;
+        getGameState().setCombat(attackers);
     }
 
     //Human_Play, Computer_Play is different because Card.comesIntoPlay() is called when a card is added by PlayerZone.add(Card)
@@ -367,7 +320,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getHumanBattlefield() {
-        return Human_Battlefield;
+        return getGameState().getHumanBattlefield();
     }
 
     /**
@@ -377,7 +330,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getHumanHand() {
-        return Human_Hand;
+        return getGameState().getHumanHand();
     }
 
     /**
@@ -387,7 +340,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getHumanGraveyard() {
-        return Human_Graveyard;
+        return getGameState().getHumanGraveyard();
     }
 
     /**
@@ -397,7 +350,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getHumanLibrary() {
-        return Human_Library;
+        return getGameState().getHumanLibrary();
     }
 
     /**
@@ -407,7 +360,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getHumanExile() {
-        return Human_Exile;
+        return getGameState().getHumanExile();
     }
 
     /**
@@ -417,7 +370,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getHumanCommand() {
-        return Human_Command;
+        return getGameState().getHumanCommand();
     }
 
     /**
@@ -427,7 +380,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getComputerBattlefield() {
-        return Computer_Battlefield;
+        return getGameState().getComputerBattlefield();
     }
 
     /**
@@ -437,7 +390,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getComputerHand() {
-        return Computer_Hand;
+        return getGameState().getComputerHand();
     }
 
     /**
@@ -447,7 +400,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getComputerGraveyard() {
-        return Computer_Graveyard;
+        return getGameState().getComputerGraveyard();
     }
 
     /**
@@ -457,7 +410,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getComputerLibrary() {
-        return Computer_Library;
+        return getGameState().getComputerLibrary();
     }
 
     /**
@@ -467,7 +420,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getComputerExile() {
-        return Computer_Exile;
+        return getGameState().getComputerExile();
     }
 
     /**
@@ -477,7 +430,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getComputerCommand() {
-        return Computer_Command;
+        return getGameState().getComputerCommand();
     }
 
     /**
@@ -487,7 +440,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static PlayerZone getStackZone() {
-        return Stack_Zone;
+        return getGameState().getStackZone();
     }
 
     /**
@@ -497,7 +450,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static ManaPool getManaPool() {
-        return ManaPool;
+        return getGameState().getManaPool();
     }
 
     /**
@@ -507,7 +460,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static ManaPool getComputerManaPool() {
-        return Computer_ManaPool;
+        return getGameState().getComputerManaPool();
     }
 
     /**
@@ -517,7 +470,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static Display getDisplay() {
-        return Display;
+        return getGameState().getDisplay();
     }
 
     /**
@@ -527,7 +480,7 @@ public class AllZone implements NewConstants {
      * @since 1.0.15
      */
     public static void setDisplay(Display display) {
-        Display = display;
+        getGameState().setDisplay(display);
     }
 
     /**
@@ -536,7 +489,7 @@ public class AllZone implements NewConstants {
      * @return a {@link java.util.Map} object.
      */
     private static Map<String, PlayerZone> getMap() {
-        return map;
+        return getGameState().getMap();
     }
 
     /**
@@ -596,8 +549,22 @@ public class AllZone implements NewConstants {
     	return dMgr;
     }
     
+    /**
+     * <p>getMatchState.</p>
+     *
+     * @return the {@link forge.quest.data.QuestMatchState} the result of the
+     * game is added to.
+     */
+    public static QuestMatchState getMatchState() {
+        return getGameState().getMatchState();
+    }
+
+    /**
+     * <p>getNextTimestamp.</p>
+     *
+     * @return a long.
+     */
     public static long getNextTimestamp() {
-    	timestamp++;
-    	return timestamp;
+        return getGameState().getNextTimestamp();
     }
 }//AllZone
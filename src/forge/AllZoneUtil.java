@@ -103,12 +103,14 @@ public class AllZoneUtil {
      * @return a CardList with all cards in play of the given name
      */
     public static CardList getCardsInPlay(final String cardName) {
+        if (cardName != null && !"".equals(cardName)) {
+            CardList cards = getPlayerCardsInPlay(AllZone.getHumanPlayer(), cardName);
+            cards.addAll(getPlayerCardsInPlay(AllZone.getComputerPlayer(), cardName));
+            return cards;
+        }
         CardList cards = new CardList();
         cards.addAll(getPlayerCardsInPlay(AllZone.getHumanPlayer()));
         cards.addAll(getPlayerCardsInPlay(AllZone.getComputerPlayer()));
-        if (cardName != null && !"".equals(cardName)) {
-            cards = cards.getName(cardName);
-        }
         return cards;
     }
 
@@ -135,15 +137,12 @@ public class AllZoneUtil {
      * @return a CardList with all cards of a given name the player has in play
      */
     public static CardList getPlayerCardsInPlay(final Player player, final String cardName) {
-        CardList cards = new CardList();
-
         PlayerZone play = AllZone.getZone(Constant.Zone.Battlefield, player);
-        cards.addAll(play.getCards());
 
         if (cardName != null && !"".equals(cardName)) {
-            cards = cards.getName(cardName);
+            return play.getCardsNamed(cardName);
         }
-        return cards;
+        return new CardList(play.getCards());
     }
 
     //////////GRAVEYARD
@@ -185,9 +184,10 @@ public class AllZoneUtil {
      * @return a CardList containing all cards with that name in the target graveyard
      */
     public static CardList getPlayerGraveyard(final Player player, final String cardName) {
-        CardList cards = getPlayerGraveyard(player);
-        cards = cards.getName(cardName);
-        return cards;
+        if (player.isHuman() || player.isComputer()) {
+            return AllZone.getZone(Constant.Zone.Graveyard, player).getCardsNamed(cardName);
+        }
+        return new CardList();
     }
 
     // Get a Cards in All Graveyards with a certain name
@@ -199,10 +199,8 @@ public class AllZoneUtil {
      * @return a CardList of all cards with the given name in all graveyards
      */
     public static CardList getCardsInGraveyard(final String cardName) {
-        CardList cards = new CardList();
-        cards.addAll(getPlayerGraveyard(AllZone.getHumanPlayer()));
-        cards.addAll(getPlayerGraveyard(AllZone.getComputerPlayer()));
-        cards = cards.getName(cardName);
+        CardList cards = getPlayerGraveyard(AllZone.getHumanPlayer(), cardName);
+        cards.addAll(getPlayerGraveyard(AllZone.getComputerPlayer(), cardName));
         return cards;
     }
 
@@ -267,13 +265,7 @@ public class AllZoneUtil {
         if (card == null)
             return false;
 
-        CardList cl = getCardsInZone(pz);
-
-        for (int i = 0; i < cl.size(); i++)
-            if (cl.get(i).equals(card))
-                return true;
-
-        return false;
+        return pz != null && pz.contains(card);
     }
 
     ////////////// EXILE
@@ -398,7 +390,7 @@ public class AllZoneUtil {
      * @return a boolean.
      */
     public static boolean isCardInPlay(Card card) {
-        return getCardsInPlay().contains(card);
+        return isCardInPlay(card, AllZone.getHumanPlayer()) || isCardInPlay(card, AllZone.getComputerPlayer());
     }
 
     /**
@@ -408,7 +400,7 @@ public class AllZoneUtil {
      * @return true is the card is in play, false otherwise
      */
     public static boolean isCardInPlay(final String cardName) {
-        return getCardsInPlay(cardName).size() > 0;
+        return isCardInPlay(cardName, AllZone.getHumanPlayer()) || isCardInPlay(cardName, AllZone.getComputerPlayer());
     }
 
     /**
@@ -419,7 +411,7 @@ public class AllZoneUtil {
      * @return true if that player has that card in play, false otherwise
      */
     public static boolean isCardInPlay(final String cardName, final Player player) {
-        return getPlayerCardsInPlay(player, cardName).size() > 0;
+        return AllZone.getZone(Constant.Zone.Battlefield, player).hasCardNamed(cardName);
     }
     
 	/**
@@ -431,7 +423,8 @@ public class AllZoneUtil {
 	 * @since 1.0.15
 	 */
 	public static boolean isCardInPlay(final Card card, final Player player) {
-		return getPlayerCardsInPlay(player).contains(card);
+		return (player.isHuman() || player.isComputer())
+				&& AllZone.getZone(Constant.Zone.Battlefield, player).contains(card);
 	}
 
     ///get a list of certain types are in play (like Mountain, Elf, etc...)
@@ -512,8 +505,7 @@ public class AllZoneUtil {
         CardList cards = getPlayerCardsInPlay(player);
         cards = cards.filter(new CardListFilter() {
             public boolean addCard(Card c) {
-                ArrayList<String> colorList = CardUtil.getColors(c);
-                return colorList.contains(color);
+                return c.isColor(color);
             }
         });
         return cards;
@@ -13,6 +13,7 @@ import forge.card.staticAbility.StaticAbility;
 import forge.card.trigger.Trigger;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.Map.Entry;
 
 /**
@@ -25,8 +26,8 @@ import java.util.Map.Entry;
  * @version $Id: $
  */
 public class Card extends MyObservable implements Comparable<Card> {
-    private static int nextUniqueNumber;
-    private int uniqueNumber = nextUniqueNumber++;
+    private static final AtomicInteger nextUniqueNumber = new AtomicInteger();
+    private int uniqueNumber = nextUniqueNumber.getAndIncrement();
 
     private long value;
 
@@ -39,6 +40,12 @@ public class Card extends MyObservable implements Comparable<Card> {
     private ArrayList<String> otherExtrinsicKeyword = new ArrayList<String>();
     private ArrayList<String> HiddenExtrinsicKeyword = new ArrayList<String>();        //Hidden keywords won't be displayed on the card
     private ArrayList<String> prevIntrinsicKeyword = new ArrayList<String>();
+    // All current keywords (the four lists above, hidden ones without the
+    // HIDDEN prefix) and how often each occurs; rebuilt on the first query
+    // after a keyword change, see keywordsChanged().
+    private ArrayList<String> keywordCache;
+    private TreeMap<String, Integer> keywordCount;
+    private long keywordMask;              // the Keyword values among them
     private ArrayList<Card> attached = new ArrayList<Card>();
     private ArrayList<Card> equippedBy = new ArrayList<Card>();             //which equipment cards are equipping this card?
     //equipping size will always be 0 or 1
@@ -53,6 +60,12 @@ public class Card extends MyObservable implements Comparable<Card> {
     private ArrayList<SpellAbility> spellAbility = new ArrayList<SpellAbility>();
     private ArrayList<Ability_Mana> manaAbility = new ArrayList<Ability_Mana>();
     private ArrayList<Card_Color> cardColor = new ArrayList<Card_Color>();
+    // determineColor() result, good while colorInfo is the game's GameInfo and
+    // colorEpoch its color epoch
+    private Card_Color determinedColor;
+    private int colorMask;
+    private GameInfo colorInfo;
+    private long colorEpoch = -1;
     private ArrayList<StaticAbility> staticAbilities = new ArrayList<StaticAbility>();
 
     private ArrayList<Object> rememberedObjects = new ArrayList<Object>();
@@ -186,6 +199,93 @@ public class Card extends MyObservable implements Comparable<Card> {
 
     private int abilityUsed;                                                           //How many times has this ability been used?
 
+    /** The printed characteristics this card was built from, null for tokens and the like. */
+    private CardTemplate template = null;
+
+    /**
+     * <p>Constructor for Card.</p>
+     */
+    public Card() {
+    }
+
+    /**
+     * <p>Constructor for Card.</p>
+     *
+     * Builds a card from a template.  The types, keywords, abilities, SVars
+     * and sets are shared with the template and only copied when this card
+     * changes them, so creating a card does not copy the card's text.
+     *
+     * @param t a {@link forge.CardTemplate} object.
+     */
+    public Card(CardTemplate t) {
+        template = t;
+
+        name = t.getName();
+        imageName = t.getImageName();
+        manaCost = t.getManaCost();
+        text = t.getText();
+        baseAttack = t.getBaseAttack();
+        baseDefense = t.getBaseDefense();
+        baseAttackString = t.getBaseAttackString();
+        baseDefenseString = t.getBaseDefenseString();
+        baseLoyalty = t.getBaseLoyalty();
+
+        type = t.sharedTypes();
+        intrinsicKeyword = t.sharedIntrinsicKeywords();
+        intrinsicAbility = t.sharedIntrinsicAbilities();
+        staticAbilityStrings = t.sharedStaticAbilityStrings();
+        SVars = t.sharedSVars();
+        Sets = t.sharedSets();
+
+        setTriggers(t.sharedTriggers());
+    }
+
+    /**
+     * <p>Getter for the field <code>template</code>.</p>
+     *
+     * @return a {@link forge.CardTemplate} object, or null if this card was
+     * not built from one
+     */
+    public CardTemplate getTemplate() {
+        return template;
+    }
+
+    // copy-on-write for the data shared with the template; call these
+    // before changing the corresponding field
+
+    private ArrayList<String> ownType() {
+        if (template != null && type == template.sharedTypes()) type = new ArrayList<String>(type);
+        return type;
+    }
+
+    private ArrayList<String> ownIntrinsicKeyword() {
+        if (template != null && intrinsicKeyword == template.sharedIntrinsicKeywords())
+            intrinsicKeyword = new ArrayList<String>(intrinsicKeyword);
+        return intrinsicKeyword;
+    }
+
+    private ArrayList<String> ownIntrinsicAbility() {
+        if (template != null && intrinsicAbility == template.sharedIntrinsicAbilities())
+            intrinsicAbility = new ArrayList<String>(intrinsicAbility);
+        return intrinsicAbility;
+    }
+
+    private ArrayList<String> ownStaticAbilityStrings() {
+        if (template != null && staticAbilityStrings == template.sharedStaticAbilityStrings())
+            staticAbilityStrings = new ArrayList<String>(staticAbilityStrings);
+        return staticAbilityStrings;
+    }
+
+    private Map<String, String> ownSVars() {
+        if (template != null && SVars == template.sharedSVars()) SVars = new TreeMap<String, String>(SVars);
+        return SVars;
+    }
+
+    private ArrayList<SetInfo> ownSets() {
+        if (template != null && Sets == template.sharedSets()) Sets = new ArrayList<SetInfo>(Sets);
+        return Sets;
+    }
+
     public void addDevoured(Card c)
     {
         devouredCards.add(c);
@@ -786,7 +886,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean hasFirstStrike() {
-        return firstStrike || hasKeyword("First Strike");
+        return firstStrike || hasKeyword(Keyword.FIRST_STRIKE);
     }
 
     /**
@@ -813,7 +913,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean hasDoubleStrike() {
-        return doubleStrike || hasKeyword("Double Strike");
+        return doubleStrike || hasKeyword(Keyword.DOUBLE_STRIKE);
     }
 
     /**
@@ -882,7 +982,7 @@ public class Card extends MyObservable implements Comparable<Card> {
         AllZone.getTriggerHandler().runTrigger("CounterAdded", runParams);
         */
 
-        this.updateObservers();
+        AllZone.getEventBus().post(GameEvent.Type.COUNTERS_CHANGED, this);
     }
 
     /**
@@ -937,7 +1037,7 @@ public class Card extends MyObservable implements Comparable<Card> {
 
         AllZone.getGameAction().checkStateEffects();
 
-        this.updateObservers();
+        AllZone.getEventBus().post(GameEvent.Type.COUNTERS_CHANGED, this);
     }
 
     /**
@@ -972,7 +1072,7 @@ public class Card extends MyObservable implements Comparable<Card> {
 
             AllZone.getGameAction().checkStateEffects();
 
-            this.updateObservers();
+            AllZone.getEventBus().post(GameEvent.Type.COUNTERS_CHANGED, this);
         }
     }
 
@@ -1027,7 +1127,7 @@ public class Card extends MyObservable implements Comparable<Card> {
             else
                 subtractCounter(counterName, num - n);
         }
-        this.updateObservers();
+        AllZone.getEventBus().post(GameEvent.Type.COUNTERS_CHANGED, this);
     }
 
     //get all counters from a card
@@ -1039,6 +1139,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void setCounters(Map<Counters, Integer> allCounters) {
         counters = allCounters;
+        AllZone.getEventBus().post(GameEvent.Type.COUNTERS_CHANGED, this);
     }
 
     //get all counters from a card
@@ -1049,6 +1150,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void clearCounters() {
         counters = new TreeMap<Counters, Integer>();
+        AllZone.getEventBus().post(GameEvent.Type.COUNTERS_CHANGED, this);
     }
 
     /**
@@ -1087,15 +1189,16 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @param str a {@link java.lang.String} object.
      */
     public void setSVar(String Var, String str) {
-        if (SVars.containsKey(Var)) SVars.remove(Var);
+        Map<String, String> vars = ownSVars();
+        if (vars.containsKey(Var)) vars.remove(Var);
 
-        SVars.put(Var, str);
+        vars.put(Var, str);
     }
 
     /**
      * <p>getSVars.</p>
      *
-     * @return a Map object.
+     * @return a Map object; do not modify it, use setSVar.
      */
     public Map<String, String> getSVars() {
         return SVars;
@@ -1107,7 +1210,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @param newSVars a Map object.
      */
     public void setSVars(Map<String, String> newSVars) {
-        SVars = newSVars;
+        SVars = new TreeMap<String, String>(newSVars);
     }
 
     /**
@@ -1198,6 +1301,7 @@ public class Card extends MyObservable implements Comparable<Card> {
         if (s.equals(""))
             s = "0";
         cardColor.add(new Card_Color(new ManaCost(s), this, false, true));
+        AllZone.getGameInfo().colorsChanged();
     }
 
     /**
@@ -1213,6 +1317,7 @@ public class Card extends MyObservable implements Comparable<Card> {
         if (bIncrease)
             Card_Color.increaseTimestamp();
         cardColor.add(new Card_Color(new ManaCost(s), c, addToColors, false));
+        AllZone.getGameInfo().colorsChanged();
         return Card_Color.getTimestamp();
     }
 
@@ -1230,24 +1335,48 @@ public class Card extends MyObservable implements Comparable<Card> {
             if (cc.equals(s, c, addTo, timestamp))
                 removeCol = cc;
 
-        if (removeCol != null)
+        if (removeCol != null) {
             cardColor.remove(removeCol);
+            AllZone.getGameInfo().colorsChanged();
+        }
     }
 
     /**
      * <p>determineColor.</p>
      *
+     * The result is cached until the colors of any card of the game or its
+     * global color changes change.
+     *
      * @return a {@link forge.Card_Color} object.
      */
     public Card_Color determineColor() {
-        if (this.isImmutable()) {
-            return new Card_Color(this);
+        GameInfo info = AllZone.getGameInfo();
+        long epoch = info.getColorEpoch();
+        if (colorInfo != info || colorEpoch != epoch) {
+            Card_Color colors;
+            if (this.isImmutable()) {
+                colors = new Card_Color(this);
+            } else {
+                ArrayList<Card_Color> globalChanges = info.getColorChanges();
+                colors = determineColor(globalChanges);
+                colors.fixColorless();
+            }
+            determinedColor = colors;
+            colorMask = colors.getMask();
+            colorInfo = info;
+            colorEpoch = epoch;
         }
-        Card_Color colors = null;
-        ArrayList<Card_Color> globalChanges = AllZone.getGameInfo().getColorChanges();
-        colors = determineColor(globalChanges);
-        colors.fixColorless();
-        return colors;
+        return determinedColor;
+    }
+
+    /**
+     * <p>getColorMask.</p>
+     *
+     * @return the current colors of this card as a mask of {@link forge.Color#getMask()} bits.
+     */
+    public int getColorMask() {
+        determineColor();
+        return colorMask;
     }
 
     /**
@@ -1257,6 +1386,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void setColor(ArrayList<Card_Color> colors) {
         cardColor = colors;
+        AllZone.getGameInfo().colorsChanged();
     }
 
     /**
@@ -1582,7 +1712,7 @@ public class Card extends MyObservable implements Comparable<Card> {
                     k = k.replace(":", " ");
                     sbLong.append(k).append("\r\n");
                 } else if (keyword.get(i).startsWith("Champion")) {
-                    String k = getKeyword().get(i);
+                    String k = keyword.get(i);
                     String kk[] = k.split(":");
                     String types = kk[1];
                     if (kk.length > 2) types = kk[2];
@@ -3150,7 +3280,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @param a a {@link java.lang.String} object.
      */
     public void addType(String a) {
-        type.add(a);
+        ownType().add(a);
         this.updateObservers();
     }
 
@@ -3160,7 +3290,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @param a a {@link java.lang.String} object.
      */
     public void removeType(String a) {
-        type.remove(a);
+        ownType().remove(a);
         this.updateObservers();
     }
 
@@ -3181,7 +3311,7 @@ public class Card extends MyObservable implements Comparable<Card> {
     public ArrayList<String> clearAllTypes() {
         ArrayList<String> originalTypes = new ArrayList<String>();
         originalTypes.addAll(type);
-        type.clear();
+        type = new ArrayList<String>();
         return originalTypes;
     }
 
@@ -3647,7 +3777,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void setTapped(boolean b) {
         tapped = b;
-        updateObservers();
+        AllZone.getEventBus().post(GameEvent.Type.TAPPED, this);
     }
 
     /**
@@ -3708,19 +3838,54 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a {@link java.util.ArrayList} object.
      */
     public ArrayList<String> getKeyword() {
-        ArrayList<String> a1 = new ArrayList<String>(getIntrinsicKeyword());
-        ArrayList<String> a2 = new ArrayList<String>(getExtrinsicKeyword());
-        ArrayList<String> a3 = new ArrayList<String>(getOtherExtrinsicKeyword());
-        ArrayList<String> a4 = new ArrayList<String>(getHiddenExtrinsicKeyword());
-        a1.addAll(a2);
-        a1.addAll(a3);
-        a1.addAll(a4);
+        return new ArrayList<String>(getCachedKeywords());
+    }
 
-        // SOL Changes for Mana
-        //for(Ability_Mana sa:getManaAbility())
-        //    if(sa.isBasic()) a1.add((sa).orig);
+    /**
+     * <p>getCachedKeywords.</p>
+     *
+     * Same as getKeyword(), but returns the cached list itself, so it
+     * costs nothing as long as the keywords don't change.
+     *
+     * @return a {@link java.util.List} object; do not modify it.
+     */
+    List<String> getCachedKeywords() {
+        if (keywordCache == null) {
+            ArrayList<String> all = new ArrayList<String>(intrinsicKeyword.size() + extrinsicKeyword.size()
+                    + otherExtrinsicKeyword.size() + HiddenExtrinsicKeyword.size());
+            all.addAll(intrinsicKeyword);
+            all.addAll(extrinsicKeyword);
+            all.addAll(otherExtrinsicKeyword);
+            for (String k : HiddenExtrinsicKeyword)
+                all.add(k.substring(7));
 
-        return a1;
+            // SOL Changes for Mana
+            //for(Ability_Mana sa:getManaAbility())
+            //    if(sa.isBasic()) a1.add((sa).orig);
+
+            TreeMap<String, Integer> count = new TreeMap<String, Integer>();
+            long mask = 0;
+            for (String k : all) {
+                Integer n = count.get(k);
+                count.put(k, n == null ? 1 : n + 1);
+                Keyword kw = Keyword.get(k);
+                if (kw != null) mask |= kw.getMask();
+            }
+            keywordCache = all;
+            keywordCount = count;
+            keywordMask = mask;
+        }
+        return keywordCache;
+    }
+
+    /**
+     * <p>keywordsChanged.</p>
+     *
+     * Must be called after every change to one of the keyword lists.
+     */
+    private void keywordsChanged() {
+        keywordCache = null;
+        keywordCount = null;
     }
 
     //keywords are like flying, fear, first strike, etc...
@@ -3747,7 +3912,7 @@ public class Card extends MyObservable implements Comparable<Card> {
     /**
      * <p>getIntrinsicAbilities.</p>
      *
-     * @return a {@link java.util.ArrayList} object.
+     * @return a {@link java.util.ArrayList} object; do not modify it, use addIntrinsicAbility.
      */
     public ArrayList<String> getIntrinsicAbilities() {
         return intrinsicAbility;
@@ -3766,7 +3931,8 @@ public class Card extends MyObservable implements Comparable<Card> {
      * <p>clearIntrinsicKeyword.</p>
      */
     public void clearIntrinsicKeyword() {
-        intrinsicKeyword.clear();
+        intrinsicKeyword = new ArrayList<String>();
+        keywordsChanged();
     }
 
     /**
@@ -3776,6 +3942,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void setIntrinsicKeyword(ArrayList<String> a) {
         intrinsicKeyword = new ArrayList<String>(a);
+        keywordsChanged();
         this.updateObservers();
     }
 
@@ -3783,10 +3950,11 @@ public class Card extends MyObservable implements Comparable<Card> {
      * <p>clearAllKeywords.</p>
      */
     public void clearAllKeywords() {
-        intrinsicKeyword.clear();
+        intrinsicKeyword = new ArrayList<String>();
         extrinsicKeyword.clear();
         otherExtrinsicKeyword.clear();
         HiddenExtrinsicKeyword.clear();        //Hidden keywords won't be displayed on the card
+        keywordsChanged();
     }
 
     /**
@@ -3804,8 +3972,10 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @param s a {@link java.lang.String} object.
      */
     public void addIntrinsicKeyword(String s) {
-        if (s.trim().length() != 0)
-            intrinsicKeyword.add(s);
+        if (s.trim().length() != 0) {
+            ownIntrinsicKeyword().add(s);
+            keywordsChanged();
+        }
         //intrinsicKeyword.add((getName().trim().length()== 0 ? s :s.replaceAll(getName(), "CARDNAME")));
     }
 
@@ -3816,7 +3986,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void addIntrinsicAbility(String s) {
         if (s.trim().length() != 0)
-            intrinsicAbility.add(s);
+            ownIntrinsicAbility().add(s);
     }
 
     /**
@@ -3826,7 +3996,8 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void addNonStackingIntrinsicKeyword(String s) {
         if (!getIntrinsicKeyword().contains(s) && s.trim().length() != 0) {
-                intrinsicKeyword.add((getName().trim().length() == 0 ? s : s.replaceAll(getName(), "CARDNAME")));
+                ownIntrinsicKeyword().add((getName().trim().length() == 0 ? s : s.replaceAll(getName(), "CARDNAME")));
+                keywordsChanged();
         }
     }
 
@@ -3836,7 +4007,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @param s a {@link java.lang.String} object.
      */
     public void removeIntrinsicKeyword(String s) {
-        intrinsicKeyword.remove(s);
+        if (ownIntrinsicKeyword().remove(s)) keywordsChanged();
         this.updateObservers();
     }
 
@@ -3865,6 +4036,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void setExtrinsicKeyword(ArrayList<String> a) {
         extrinsicKeyword = new ArrayList<String>(a);
+        keywordsChanged();
         this.updateObservers();
     }
 
@@ -3876,8 +4048,10 @@ public class Card extends MyObservable implements Comparable<Card> {
     public void addExtrinsicKeyword(String s) {
         //if(!hasKeyword(s)){
         if (s.startsWith("HIDDEN")) addHiddenExtrinsicKeyword(s);
-        else
+        else {
             extrinsicKeyword.add(s);
+            keywordsChanged();
+        }
         //extrinsicKeyword.add((getName().trim().length()==0 ? s :s.replaceAll(getName(), "CARDNAME")));
         //}
     }
@@ -3889,7 +4063,10 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void addStackingExtrinsicKeyword(String s) {
         if (s.startsWith("HIDDEN")) addHiddenExtrinsicKeyword(s);
-        else extrinsicKeyword.add(s);
+        else {
+            extrinsicKeyword.add(s);
+            keywordsChanged();
+        }
     }
 
     /**
@@ -3899,7 +4076,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void removeExtrinsicKeyword(String s) {
         if (s.startsWith("HIDDEN")) removeHiddenExtrinsicKeyword(s);
-        else extrinsicKeyword.remove(s);
+        else if (extrinsicKeyword.remove(s)) keywordsChanged();
         this.updateObservers();
     }
 
@@ -3928,6 +4105,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void setOtherExtrinsicKeyword(ArrayList<String> a) {
         otherExtrinsicKeyword = new ArrayList<String>(a);
+        keywordsChanged();
         this.updateObservers();
     }
 
@@ -3938,6 +4116,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void addOtherExtrinsicKeyword(String s) {
         otherExtrinsicKeyword.add((getName().trim().length() == 0 ? s : s.replaceAll(getName(), "CARDNAME")));
+        keywordsChanged();
     }
 
     /**
@@ -3947,6 +4126,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void addStackingOtherExtrinsicKeyword(String s) {
         extrinsicKeyword.add(s);
+        keywordsChanged();
     }
 
     /**
@@ -3955,7 +4135,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @param s a {@link java.lang.String} object.
      */
     public void removeOtherExtrinsicKeyword(String s) {
-        otherExtrinsicKeyword.remove(s);
+        if (otherExtrinsicKeyword.remove(s)) keywordsChanged();
         this.updateObservers();
     }
 
@@ -4037,6 +4217,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void addHiddenExtrinsicKeyword(String s) {
         HiddenExtrinsicKeyword.add(s);
+        keywordsChanged();
     }
 
     /**
@@ -4045,7 +4226,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @param s a {@link java.lang.String} object.
      */
     public void removeHiddenExtrinsicKeyword(String s) {
-        HiddenExtrinsicKeyword.remove(s);
+        if (HiddenExtrinsicKeyword.remove(s)) keywordsChanged();
         //this.updateObservers();
     }
     
@@ -4069,11 +4250,12 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void addStaticAbilityString(String s) {
         if (s.trim().length() != 0)
-        	staticAbilityStrings.add(s);
+        	ownStaticAbilityStrings().add(s);
     }
     
     public void setStaticAbilities(ArrayList<StaticAbility> a) {
     	staticAbilities = new ArrayList<StaticAbility>(a);
+    	staticAbilitiesChanged();
     }
     
     public ArrayList<StaticAbility> getStaticAbilities() {
@@ -4085,9 +4267,21 @@ public class Card extends MyObservable implements Comparable<Card> {
         if (s.trim().length() != 0) {
         	StaticAbility stAb = new StaticAbility(s,this);
         	staticAbilities.add(stAb);
+        	staticAbilitiesChanged();
         }
     }
 
+    /**
+     * <p>staticAbilitiesChanged.</p>
+     *
+     * Lets StaticEffects update its registry if this card is in the game.
+     */
+    private void staticAbilitiesChanged() {
+        StaticEffects se = AllZone.getStaticEffects();
+        if (se != null)
+            se.staticAbilitiesChanged(this);
+    }
+
     /**
      * <p>isPermanent.</p>
      *
@@ -4509,7 +4703,42 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean hasKeyword(String keyword) {
-        return getKeyword().contains(keyword);
+        Keyword k = Keyword.get(keyword);
+        if (k != null) return hasKeyword(k);
+        getCachedKeywords();
+        return keywordCount.containsKey(keyword);
+    }
+
+    /**
+     * <p>hasKeyword.</p>
+     *
+     * @param keyword a {@link forge.Keyword} object.
+     * @return a boolean.
+     */
+    public boolean hasKeyword(Keyword keyword) {
+        getCachedKeywords();
+        return (keywordMask & keyword.getMask()) != 0;
+    }
+
+    /**
+     * <p>hasAnyKeyword.</p>
+     *
+     * @param mask a combination of {@link forge.Keyword} masks, see Keyword.maskOf().
+     * @return true if this card has at least one of these keywords.
+     */
+    public boolean hasAnyKeyword(long mask) {
+        getCachedKeywords();
+        return (keywordMask & mask) != 0;
+    }
+
+    /**
+     * <p>getKeywordMask.</p>
+     *
+     * @return the {@link forge.Keyword} masks of all the keywords this card has.
+     */
+    public long getKeywordMask() {
+        getCachedKeywords();
+        return keywordMask;
     }
 
     /**
@@ -4519,10 +4748,10 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean hasStartOfKeyword(String keyword) {
-        ArrayList<String> a = getKeyword();
-        for (int i = 0; i < a.size(); i++)
-            if (a.get(i).toString().startsWith(keyword)) return true;
-        return false;
+        getCachedKeywords();
+        // keywords starting with the given text sort right after it
+        String k = keywordCount.ceilingKey(keyword);
+        return k != null && k.startsWith(keyword);
     }
 
     /**
@@ -4532,7 +4761,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a int.
      */
     public int getKeywordPosition(String k) {
-        ArrayList<String> a = getKeyword();
+        List<String> a = getCachedKeywords();
         for (int i = 0; i < a.size(); i++)
             if (a.get(i).toString().startsWith(k)) return i;
         return -1;
@@ -4545,7 +4774,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean keywordsContain(String keyword) {
-        ArrayList<String> a = getKeyword();
+        List<String> a = getCachedKeywords();
         for (int i = 0; i < a.size(); i++)
             if (a.get(i).toString().contains(keyword)) return true;
         return false;
@@ -4588,13 +4817,9 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a int.
      */
     public int getAmountOfKeyword(String k) {
-        int count = 0;
-        ArrayList<String> keywords = getKeyword();
-        for (int j = 0; j < keywords.size(); j++) {
-            if (keywords.get(j).equals(k)) count++;
-        }
-
-        return count;
+        getCachedKeywords();
+        Integer count = keywordCount.get(k);
+        return count == null ? 0 : count;
     }
 
     // This is for keywords with a number like Bushido, Annihilator and Rampage. It returns the total.
@@ -4606,8 +4831,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public int getKeywordMagnitude(String k) {
         int count = 0;
-        ArrayList<String> keywords = getKeyword();
-        for (String kw : keywords) {
+        for (String kw : getCachedKeywords()) {
             if (kw.startsWith(k)) {
                 String[] parse = kw.split(" ");
                 String s = parse[1];
@@ -4682,28 +4906,8 @@ public class Card extends MyObservable implements Comparable<Card> {
     public boolean isValid(final String Restriction, final Player sourceController, final Card source) {
 
         if (getName().equals("Mana Pool") || isImmutable()) return false;
-        if (Restriction.equals("False")) return false;
-
-        String incR[] = Restriction.split("\\."); // Inclusive restrictions are Card types
-
-        if (incR[0].equals("Spell") && !isSpell())
-            return false;
-        if (incR[0].equals("Permanent") && (isInstant() || isSorcery()))
-            return false;
-        if (!incR[0].equals("card")
-                && !incR[0].equals("Card")
-                && !incR[0].equals("Spell")
-                && !incR[0].equals("Permanent")
-                && !(isType(incR[0])))
-            return false; //Check for wrong type
-
-        if (incR.length > 1) {
-            final String excR = incR[1];
-            String exR[] = excR.split("\\+"); // Exclusive Restrictions are ...
-            for (int j = 0; j < exR.length; j++)
-                if (hasProperty(exR[j], sourceController, source) == false) return false;
-        }
-        return true;
+
+        return CardRestriction.get(Restriction).isValid(this, sourceController, source);
     }//isValidCard(String Restriction)
 
     // Takes arguments like Blue or withFlying
@@ -4716,204 +4920,169 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean hasProperty(String Property, final Player sourceController, final Card source) {
-        //by name can also have color names, so needs to happen before colors.
-        if (Property.startsWith("named")) {
-            if (!getName().equals(Property.substring(5))) return false;
-        } else if (Property.startsWith("notnamed")) {
-            if (getName().equals(Property.substring(8))) return false;
-        } else if (Property.startsWith("sameName")) {
-            if (!getName().equals(source.getName())) return false;
-        }
-        // ... Card colors
-        else if (Property.contains("White")
-                || Property.contains("Blue")
-                || Property.contains("Black")
-                || Property.contains("Red")
-                || Property.contains("Green")
-                || Property.contains("Colorless")) {
-            if (Property.startsWith("non")) {
-                if (CardUtil.getColors(this).contains(Property.substring(3).toLowerCase())) return false;
-            } else if (!CardUtil.getColors(this).contains(Property.toLowerCase())) return false;
-        } else if (Property.contains("MultiColor")) // ... Card is multicolored
-        {
-            if (Property.startsWith("non") && (CardUtil.getColors(this).size() > 1)) return false;
-            if (!Property.startsWith("non") && (CardUtil.getColors(this).size() <= 1)) return false;
-        } else if (Property.contains("MonoColor")) // ... Card is monocolored
-        {
-            if (Property.startsWith("non") && (CardUtil.getColors(this).size() == 1 && !isColorless())) return false;
-            if (!Property.startsWith("non") && (CardUtil.getColors(this).size() > 1 || isColorless())) return false;
-        } else if (Property.startsWith("YouCtrl")) {
-            if (!getController().isPlayer(sourceController)) return false;
-        } else if (Property.startsWith("YouDontCtrl")) {
-            if (getController().isPlayer(sourceController)) return false;
-        } else if (Property.startsWith("YouOwn")) {
-            if (!getOwner().isPlayer(sourceController)) return false;
-        } else if (Property.startsWith("YouDontOwn")) {
-            if (getOwner().isPlayer(sourceController)) return false;
-        } else if (Property.startsWith("ControllerControls")) {
-            String type = Property.substring(18);
-            CardList list = AllZoneUtil.getPlayerCardsInPlay(getController());
-            if (list.getType(type).isEmpty()) return false;
-        } else if (Property.startsWith("Other")) {
-            if (this.equals(source)) return false;
-        } else if (Property.startsWith("Self")) {
-            if (!this.equals(source)) return false;
-        } else if (Property.startsWith("AttachedBy")) {
-            if (!equippedBy.contains(source) && !enchantedBy.contains(source)) return false;
-        } else if (Property.startsWith("Attached")) {
-            if (!equipping.contains(source) && !enchanting.contains(source)) return false;
-        } else if (Property.startsWith("EnchantedBy")) {
-            if (!enchantedBy.contains(source)) return false;
-        } else if (Property.startsWith("Enchanted")) {
-            if (!enchanting.contains(source)) return false;
-        } else if (Property.startsWith("EquippedBy")) {
-            if (!equippedBy.contains(source)) return false;
-        } else if (Property.startsWith("Equipped")) {
-            if (!equipping.contains(source)) return false;
-        } else if (Property.startsWith("Cloned")) {
-            if (cloneOrigin == null || !cloneOrigin.equals(source)) return false;
-        } else if (Property.startsWith("DamagedBy")) {
-            if (!receivedDamageFromThisTurn.containsKey(source)) return false;
-        } else if (Property.startsWith("Damaged")) {
-            if (!dealtDamageToThisTurn.containsKey(source)) return false;
-        } else if (Property.startsWith("SharesColorWith")) {
-            if (!sharesColorWith(source)) return false;
-        } else if (Property.startsWith("with")) // ... Card keywords
-        {
-            if (Property.startsWith("without") && hasStartOfKeyword(Property.substring(7))) return false;
-            if (!Property.startsWith("without") && !hasStartOfKeyword(Property.substring(4))) return false;
-        } else if (Property.startsWith("tapped")) {
-            if (!isTapped()) return false;
-        } else if (Property.startsWith("untapped")) {
-            if (!isUntapped()) return false;
-        } else if (Property.startsWith("faceDown")) {
-            if (!isFaceDown()) return false;
-        } else if (Property.startsWith("hasLevelUp")) {
-            if (!hasLevelUp()) return false;
-        } else if (Property.startsWith("enteredBattlefieldThisTurn")) {
-            if (!(getTurnInZone() == AllZone.getPhase().getTurn())) return false;
-        } else if (Property.startsWith("dealtDamageToYouThisTurn")) {
-            if (!(dealtDmgToHumanThisTurn && getController().isPlayer(AllZone.getComputerPlayer()))
-                    && !(dealtDmgToComputerThisTurn && getController().isPlayer(AllZone.getHumanPlayer())))
-                return false;
-        } else if (Property.startsWith("wasDealtDamageThisTurn")) {
-            if ((getReceivedDamageFromThisTurn().keySet()).isEmpty()) return false;
-        } else if (Property.startsWith("enchanted")) {
-            if (!isEnchanted()) return false;
-        } else if (Property.startsWith("unenchanted")) {
-            if (isEnchanted()) return false;
-        } else if (Property.startsWith("enchanting")) {
-            if (!isEnchanting()) return false;
-        } else if (Property.startsWith("equipped")) {
-            if (!isEquipped()) return false;
-        } else if (Property.startsWith("unequipped")) {
-            if (isEquipped()) return false;
-        } else if (Property.startsWith("equipping")) {
-            if (!isEquipping()) return false;
-        } else if (Property.startsWith("token")) {
-            if (!isToken()) return false;
-        } else if (Property.startsWith("nonToken")) {
-            if (isToken()) return false;
-        } else if (Property.startsWith("power") ||     // 8/10
-                Property.startsWith("toughness") ||
-                Property.startsWith("cmc")) {
-            int x = 0;
-            int y = 0;
-            int z = 0;
-
-            if (Property.startsWith("power")) {
-                z = 7;
-                y = getNetAttack();
-            } else if (Property.startsWith("toughness")) {
-                z = 11;
-                y = getNetDefense();
-            } else if (Property.startsWith("cmc")) {
-                z = 5;
-                y = getCMC();
-            }
-
-            if (Property.substring(z).equals("X")) {
-                x = CardFactoryUtil.xCount(source, source.getSVar("X"));
-            } else if (Property.substring(z).equals("Y")) {
-                x = CardFactoryUtil.xCount(source, source.getSVar("Y"));
-            } else
-                x = Integer.parseInt(Property.substring(z));
-
-            if (!AllZoneUtil.compare(y, Property, x))
-                return false;
-        }
+        return hasProperty(CardRestriction.getProperty(Property), sourceController, source);
+    }
 
-        // syntax example: countersGE9 P1P1 or countersLT12TIME (greater number than 99 not supported)
-        /*
-               * slapshot5 - fair warning, you cannot use numbers with 2 digits (greater number than 9 not supported
-               * you can use X and the SVar:X:Number$12 to get two digits.  This will need a better fix, and I have the
-               * beginnings of a regex below
-               */
-        else if (Property.startsWith("counters")) {
-            /*
-                    Pattern p = Pattern.compile("[a-z]*[A-Z][A-Z][X0-9]+.*$");
-                    String[] parse = ???
-                    System.out.println("Parsing completed of: "+Property);
-                    for(int i = 0; i < parse.length; i++) {
-                        System.out.println("parse["+i+"]: "+parse[i]);
-                    }*/
-
-            // TODO: get a working regex out of this pattern so the amount of digits doesn't matter
-            int number = 0;
-            if (Property.substring(10, 11).equals("X"))
-                number = CardFactoryUtil.xCount(source, getSVar("X"));
-            else if (Property.substring(10, 11).equals("Y"))
-                number = CardFactoryUtil.xCount(source, getSVar("Y"));
-            else
-                number = Integer.parseInt(Property.substring(10, 11));
-
-            String type = Property.substring(11);
-            String comparator = Property.substring(8, 10); // comparator = EQ, LE, GE etc.
-            int actualnumber = getCounters(Counters.getType(type));
-
-            if (!AllZoneUtil.compare(actualnumber, comparator, number))
-                return false;
-        } else if (Property.startsWith("attacking")) {
-            if (!isAttacking()) return false;
-        } else if (Property.startsWith("notattacking")) {
-            if (isAttacking()) return false;
-        } else if (Property.equals("blocking")) {
-            if (!isBlocking()) return false;
-        } else if (Property.startsWith("blockingSource")) {
-            if (!isBlocking(source)) return false;
-        } else if (Property.startsWith("notblocking")) {
-            if (isBlocking()) return false;
-        } else if (Property.startsWith("blocked")) {
-            if (!AllZone.getCombat().isBlocked(this)) return false;
-        } else if (Property.startsWith("blockedBySource")) {
-            if (!isBlockedBy(source)) return false;
-        } else if (Property.startsWith("unblocked")) {
-            if (!AllZone.getCombat().isUnblocked(this)) return false;
-        } else if (Property.startsWith("kicked")) {
-            if (!isKicked()) return false;
-        } else if (Property.startsWith("notkicked")) {
-            if (isKicked()) return false;
-        } else if (Property.startsWith("evoked")) {
-            if (!isEvoked()) return false;
-        } else if (Property.equals("HasDevoured")) {
-            if(devouredCards.size() == 0) return false;
-        } else if (Property.equals("HasNotDevoured")) {
-            if(devouredCards.size() != 0) return false;
-        } else if (Property.startsWith("non")) // ... Other Card types
-        {
-            if (isType(Property.substring(3))) return false;
-        } else if (Property.equals("CostsPhyrexianMana")) {
-            if (!manaCost.contains("P")) return false;
-        } else if (Property.equals("IsRemembered")) {
-            if(!source.getRemembered().contains(this)) return false;
-        } else {
-            if (Property.equals("ChosenType")) {
-                if (!isType(source.getChosenType())) return false;
-            } else {
-                if (!isType(Property)) return false;
+    /**
+     * <p>hasProperty.</p>
+     *
+     * @param p a property parsed by {@link forge.CardRestriction}.
+     * @param sourceController a {@link forge.Player} object.
+     * @param source a {@link forge.Card} object.
+     * @return a boolean.
+     */
+    boolean hasProperty(CardRestriction.Property p, final Player sourceController, final Card source) {
+        switch (p.kind) {
+            case NAMED:
+                return getName().equals(p.arg);
+            case NOT_NAMED:
+                return !getName().equals(p.arg);
+            case SAME_NAME:
+                return getName().equals(source.getName());
+
+            // ... Card colors
+            case COLOR:
+                return isColor(p.arg);
+            case NON_COLOR:
+                return !isColor(p.arg);
+            case MULTICOLOR:
+                return Integer.bitCount(getColorMask()) > 1;
+            case NON_MULTICOLOR:
+                return Integer.bitCount(getColorMask()) <= 1;
+            case MONOCOLOR:
+                return Integer.bitCount(getColorMask()) <= 1 && !isColorless();
+            case NON_MONOCOLOR:
+                return !(Integer.bitCount(getColorMask()) == 1 && !isColorless());
+
+            case YOU_CTRL:
+                return getController().isPlayer(sourceController);
+            case YOU_DONT_CTRL:
+                return !getController().isPlayer(sourceController);
+            case YOU_OWN:
+                return getOwner().isPlayer(sourceController);
+            case YOU_DONT_OWN:
+                return !getOwner().isPlayer(sourceController);
+            case CONTROLLER_CONTROLS:
+                return AllZoneUtil.getPlayerCardsInPlay(getController()).view().getType(p.arg).any();
+            case OTHER:
+                return !this.equals(source);
+            case SELF:
+                return this.equals(source);
+            case ATTACHED_BY:
+                return equippedBy.contains(source) || enchantedBy.contains(source);
+            case ATTACHED:
+                return equipping.contains(source) || enchanting.contains(source);
+            case ENCHANTED_BY:
+                return enchantedBy.contains(source);
+            case ENCHANTED:
+                return enchanting.contains(source);
+            case EQUIPPED_BY:
+                return equippedBy.contains(source);
+            case EQUIPPED:
+                return equipping.contains(source);
+            case CLONED:
+                return cloneOrigin != null && cloneOrigin.equals(source);
+            case DAMAGED_BY:
+                return receivedDamageFromThisTurn.containsKey(source);
+            case DAMAGED:
+                return dealtDamageToThisTurn.containsKey(source);
+            case SHARES_COLOR_WITH:
+                return sharesColorWith(source);
+
+            // ... Card keywords
+            case WITH:
+                return hasStartOfKeyword(p.arg);
+            case WITHOUT:
+                return !hasStartOfKeyword(p.arg);
+
+            case TAPPED:
+                return isTapped();
+            case UNTAPPED:
+                return isUntapped();
+            case FACE_DOWN:
+                return isFaceDown();
+            case HAS_LEVEL_UP:
+                return hasLevelUp();
+            case ENTERED_BATTLEFIELD_THIS_TURN:
+                return getTurnInZone() == AllZone.getPhase().getTurn();
+            case DEALT_DAMAGE_TO_YOU_THIS_TURN:
+                return (dealtDmgToHumanThisTurn && getController().isPlayer(AllZone.getComputerPlayer()))
+                        || (dealtDmgToComputerThisTurn && getController().isPlayer(AllZone.getHumanPlayer()));
+            case WAS_DEALT_DAMAGE_THIS_TURN:
+                return !getReceivedDamageFromThisTurn().keySet().isEmpty();
+            case IS_ENCHANTED:
+                return isEnchanted();
+            case UNENCHANTED:
+                return !isEnchanted();
+            case ENCHANTING:
+                return isEnchanting();
+            case IS_EQUIPPED:
+                return isEquipped();
+            case UNEQUIPPED:
+                return !isEquipped();
+            case EQUIPPING:
+                return isEquipping();
+            case TOKEN:
+                return isToken();
+            case NON_TOKEN:
+                return !isToken();
+
+            case POWER:
+            case TOUGHNESS:
+            case CMC: {
+                int y;
+                if (p.kind == CardRestriction.Kind.POWER) y = getNetAttack();
+                else if (p.kind == CardRestriction.Kind.TOUGHNESS) y = getNetDefense();
+                else y = getCMC();
+
+                int x = p.variable == null ? p.number : CardFactoryUtil.xCount(source, source.getSVar(p.variable));
+                return AllZoneUtil.compare(y, p.comparator, x);
             }
+            case COUNTERS: {
+                int number = p.variable == null ? p.number : CardFactoryUtil.xCount(source, getSVar(p.variable));
+                return AllZoneUtil.compare(getCounters(p.counter), p.comparator, number);
+            }
+
+            case ATTACKING:
+                return isAttacking();
+            case NOT_ATTACKING:
+                return !isAttacking();
+            case BLOCKING:
+                return isBlocking();
+            case BLOCKING_SOURCE:
+                return isBlocking(source);
+            case NOT_BLOCKING:
+                return !isBlocking();
+            case BLOCKED:
+                return AllZone.getCombat().isBlocked(this);
+            case BLOCKED_BY_SOURCE:
+                return isBlockedBy(source);
+            case UNBLOCKED:
+                return AllZone.getCombat().isUnblocked(this);
+            case KICKED:
+                return isKicked();
+            case NOT_KICKED:
+                return !isKicked();
+            case EVOKED:
+                return isEvoked();
+            case HAS_DEVOURED:
+                return devouredCards.size() != 0;
+            case HAS_NOT_DEVOURED:
+                return devouredCards.size() == 0;
+            case NON_TYPE: // ... Other Card types
+                return !isType(p.arg);
+            case COSTS_PHYREXIAN_MANA:
+                return manaCost.contains("P");
+            case IS_REMEMBERED:
+                return source.getRemembered().contains(this);
+            case CHOSEN_TYPE:
+                return isType(source.getChosenType());
+            case TYPE:
+                return isType(p.arg);
+            default:
+                // throws the same error parsing did
+                return hasProperty(CardRestriction.parseProperty(p.arg), sourceController, source);
         }
-        return true;
     }//hasProperty
 
     /**
@@ -4923,6 +5092,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      */
     public void setImmutable(boolean isImmutable) {
         this.isImmutable = isImmutable;
+        colorEpoch = -1;
     }
 
     /**
@@ -4946,7 +5116,10 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean isColor(String col) {
-        return CardUtil.getColors(this).contains(col);
+        Color c = Color.ConvertFromString(col);
+        // anything ConvertFromString doesn't know comes back as Colorless
+        if (c == Color.Colorless && !col.equals(Constant.Color.Colorless)) return false;
+        return (getColorMask() & c.getMask()) != 0;
     }
 
     /**
@@ -4955,7 +5128,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean isBlack() {
-        return CardUtil.getColors(this).contains(Constant.Color.Black);
+        return (getColorMask() & Color.Black.getMask()) != 0;
     }
 
     /**
@@ -4964,7 +5137,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean isBlue() {
-        return CardUtil.getColors(this).contains(Constant.Color.Blue);
+        return (getColorMask() & Color.Blue.getMask()) != 0;
     }
 
     /**
@@ -4973,7 +5146,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean isRed() {
-        return CardUtil.getColors(this).contains(Constant.Color.Red);
+        return (getColorMask() & Color.Red.getMask()) != 0;
     }
 
     /**
@@ -4982,7 +5155,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean isGreen() {
-        return CardUtil.getColors(this).contains(Constant.Color.Green);
+        return (getColorMask() & Color.Green.getMask()) != 0;
     }
 
     /**
@@ -4991,7 +5164,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean isWhite() {
-        return CardUtil.getColors(this).contains(Constant.Color.White);
+        return (getColorMask() & Color.White.getMask()) != 0;
     }
 
     /**
@@ -5000,7 +5173,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean isColorless() {
-        return CardUtil.getColors(this).contains(Constant.Color.Colorless);
+        return (getColorMask() & Color.Colorless.getMask()) != 0;
     }
 
     /**
@@ -5010,13 +5183,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @return a boolean.
      */
     public boolean sharesColorWith(final Card c1) {
-        boolean shares = false;
-        shares |= (isBlack() && c1.isBlack());
-        shares |= (isBlue() && c1.isBlue());
-        shares |= (isGreen() && c1.isGreen());
-        shares |= (isRed() && c1.isRed());
-        shares |= (isWhite() && c1.isWhite());
-        return shares;
+        return (getColorMask() & c1.getColorMask() & ~Color.Colorless.getMask()) != 0;
     }
 
     /**
@@ -5220,6 +5387,7 @@ public class Card extends MyObservable implements Comparable<Card> {
     public void setDamage(int n) {
         //if (this.hasKeyword("Prevent all damage that would be dealt to CARDNAME.")) n = 0;
         damage = n;
+        AllZone.getEventBus().post(GameEvent.Type.DAMAGE_CHANGED, this);
     }
 
     /**
@@ -5418,7 +5586,7 @@ public class Card extends MyObservable implements Comparable<Card> {
         }
 
         if (hasStartOfKeyword("PreventAllDamageBy")) {
-            String valid = getKeyword().get(getKeywordPosition("PreventAllDamageBy"));
+            String valid = getCachedKeywords().get(getKeywordPosition("PreventAllDamageBy"));
             valid = valid.split(" ", 2)[1];
             if (source.isValid(valid, this.getController(), this))
                 return 0;
@@ -5685,7 +5853,10 @@ public class Card extends MyObservable implements Comparable<Card> {
         GameActionUtil.executeDamageToCreatureEffects(source, this, damageToAdd);
 
         if (AllZoneUtil.isCardInPlay(this) && wither) addCounter(Counters.M1M1, damageToAdd);
-        if (AllZoneUtil.isCardInPlay(this) && !wither) damage += damageToAdd;
+        if (AllZoneUtil.isCardInPlay(this) && !wither) {
+            damage += damageToAdd;
+            AllZone.getEventBus().post(GameEvent.Type.DAMAGE_CHANGED, this);
+        }
 
     }
 
@@ -5698,13 +5869,13 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @param sInfo a {@link forge.SetInfo} object.
      */
     public void addSet(SetInfo sInfo) {
-        Sets.add(sInfo);
+        ownSets().add(sInfo);
     }
 
     /**
      * <p>getSets.</p>
      *
-     * @return a {@link java.util.ArrayList} object.
+     * @return a {@link java.util.ArrayList} object; do not modify it, use addSet.
      */
     public ArrayList<SetInfo> getSets() {
         return Sets;
@@ -5716,7 +5887,7 @@ public class Card extends MyObservable implements Comparable<Card> {
      * @param siList a {@link java.util.ArrayList} object.
      */
     public void setSets(ArrayList<SetInfo> siList) {
-        Sets = siList;
+        Sets = new ArrayList<SetInfo>(siList);
     }
 
     /**
@@ -5860,6 +6031,6 @@ public class Card extends MyObservable implements Comparable<Card> {
     }
     
     public void setFoil(int f) {
-    	SVars.put("Foil", Integer.toString(f));
+    	ownSVars().put("Foil", Integer.toString(f));
     }
 }//end Card class
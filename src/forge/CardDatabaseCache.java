@@ -0,0 +1,388 @@
+package forge;
+
+import com.esotericsoftware.minlog.Log;
+import com.google.code.jyield.YieldUtils;
+import forge.card.trigger.Trigger;
+import forge.card.trigger.TriggerHandler;
+import net.slightlymagic.braids.util.generator.FindNonDirectoriesSkipDotDirectoriesGenerator;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * <p>CardDatabaseCache class.</p>
+ *
+ * Keeps a compiled binary image of the card scripts so that the card database
+ * does not have to be parsed from text on every start.  The image holds an
+ * interned string table, the card records (with SVars already split and the
+ * trigger parameter maps already parsed) and a checksum of the source tree.
+ * ReadCard only falls back to parsing the text files when the checksum no
+ * longer matches.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class CardDatabaseCache {
+    /** Constant <code>MAGIC=0x46434442</code>, "FCDB". */
+    private static final int MAGIC = 0x46434442;
+    /** Bump whenever the record layout below changes. */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String CHARSET = "UTF-8";
+
+    private File imageFile;
+    private long checksum;
+
+    /**
+     * <p>Constructor for CardDatabaseCache.</p>
+     *
+     * @param imageFile the compiled image to read and write
+     * @param checksum the checksum of the card scripts, see {@link #checksumFolder(File)}
+     * and {@link #checksumZip(File)}
+     */
+    public CardDatabaseCache(File imageFile, long checksum) {
+        this.imageFile = imageFile;
+        this.checksum = checksum;
+    }
+
+    /**
+     * <p>checksumFolder.</p>
+     *
+     * Cheap fingerprint of the card scripts; it only looks at the relative
+     * path, size and modification time of each .txt file, so it never has to
+     * read the scripts themselves.
+     *
+     * @param cardsfolder a {@link java.io.File} object.
+     * @return a long.
+     */
+    public static long checksumFolder(File cardsfolder) {
+        CRC32 crc = new CRC32();
+        int prefix = cardsfolder.getAbsolutePath().length();
+
+        // the generator does not guarantee any order, so sort the entries first
+        List<String> entries = new ArrayList<String>();
+        for (File f : YieldUtils.toIterable(new FindNonDirectoriesSkipDotDirectoriesGenerator(cardsfolder))) {
+            if (!f.getName().endsWith(".txt")) continue;
+
+            entries.add(f.getAbsolutePath().substring(prefix) + '|' + f.length() + '|' + f.lastModified());
+        }
+        Collections.sort(entries);
+
+        for (String s : entries) {
+            updateCrc(crc, s);
+        }
+
+        return crc.getValue() ^ ((long) entries.size() << 32);
+    }
+
+    /**
+     * <p>checksumZip.</p>
+     *
+     * @param zipFile a {@link java.io.File} object.
+     * @return a long.
+     */
+    public static long checksumZip(File zipFile) {
+        CRC32 crc = new CRC32();
+        updateCrc(crc, zipFile.getName() + '|' + zipFile.length() + '|' + zipFile.lastModified());
+        return crc.getValue();
+    }
+
+    /**
+     * <p>updateCrc.</p>
+     *
+     * @param crc a {@link java.util.zip.CRC32} object.
+     * @param s a {@link java.lang.String} object.
+     */
+    private static void updateCrc(CRC32 crc, String s) {
+        try {
+            crc.update(s.getBytes(CHARSET));
+        } catch (UnsupportedEncodingException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * <p>load.</p>
+     *
+     * Fills the map from the compiled image, if there is one and it was built
+     * from the same card scripts.
+     *
+     * @param mapToFill maps card names to Card instances
+     * @return true if the map was filled, false if the caller has to parse the
+     * card scripts instead
+     */
+    public boolean load(Map<String, Card> mapToFill) {
+        if (!imageFile.isFile()) return false;
+
+        Map<String, Card> loaded = new HashMap<String, Card>();
+        RandomAccessFile raf = null;
+        try {
+            raf = new RandomAccessFile(imageFile, "r");
+            FileChannel channel = raf.getChannel();
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buf.getInt() != MAGIC || buf.getInt() != FORMAT_VERSION || buf.getLong() != checksum) {
+                return false;
+            }
+
+            String[] strings = new String[buf.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buf.getInt()];
+                buf.get(bytes);
+                strings[i] = new String(bytes, CHARSET);
+            }
+
+            int cardCount = buf.getInt();
+            for (int i = 0; i < cardCount; i++) {
+                Card c = readCard(buf, strings);
+                loaded.put(c.getName(), c);
+            }
+        } catch (Exception ex) {
+            // a truncated or otherwise broken image is not fatal, we just rebuild it
+            Log.warn("CardDatabaseCache : could not read " + imageFile.getAbsolutePath() + " - " + ex);
+            return false;
+        } finally {
+            close(raf);
+        }
+
+        mapToFill.putAll(loaded);
+        return true;
+    }
+
+    /**
+     * <p>save.</p>
+     *
+     * Writes the compiled image for the given cards.  Failing to write the
+     * image only costs the next start some time, so errors are logged and
+     * otherwise ignored.
+     *
+     * @param cards a {@link java.util.Map} object.
+     */
+    public void save(Map<String, Card> cards) {
+        Map<String, Integer> stringIds = new LinkedHashMap<String, Integer>();
+        ByteArrayOutputStream records = new ByteArrayOutputStream(1 << 20);
+        DataOutputStream out = null;
+
+        try {
+            DataOutputStream rec = new DataOutputStream(records);
+            rec.writeInt(cards.size());
+            for (Card c : cards.values()) {
+                writeCard(rec, c, stringIds);
+            }
+            rec.flush();
+
+            File tmp = new File(imageFile.getAbsolutePath() + ".tmp");
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(checksum);
+            out.writeInt(stringIds.size());
+            for (String s : stringIds.keySet()) {
+                byte[] bytes = s.getBytes(CHARSET);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            records.writeTo(out);
+            out.close();
+            out = null;
+
+            // replace the old image only once the new one is complete
+            if (imageFile.exists() && !imageFile.delete()) {
+                throw new IOException("cannot replace " + imageFile.getAbsolutePath());
+            }
+            if (!tmp.renameTo(imageFile)) {
+                throw new IOException("cannot rename " + tmp.getAbsolutePath());
+            }
+        } catch (IOException ex) {
+            Log.warn("CardDatabaseCache : could not write " + imageFile.getAbsolutePath() + " - " + ex);
+        } finally {
+            close(out);
+        }
+    }
+
+    /**
+     * <p>writeCard.</p>
+     *
+     * @param out a {@link java.io.DataOutputStream} object.
+     * @param c a {@link forge.Card} object.
+     * @param ids a {@link java.util.Map} object.
+     * @throws java.io.IOException if any.
+     */
+    private static void writeCard(DataOutputStream out, Card c, Map<String, Integer> ids) throws IOException {
+        writeString(out, c.getName(), ids);
+        writeString(out, c.getManaCost(), ids);
+        writeStrings(out, c.getType(), ids);
+        writeString(out, c.getSpellText(), ids);
+
+        writeString(out, c.getBaseAttackString(), ids);
+        writeString(out, c.getBaseDefenseString(), ids);
+        out.writeInt(c.getBaseAttack());
+        out.writeInt(c.getBaseDefense());
+        out.writeInt(c.getBaseLoyalty());
+
+        writeStrings(out, c.getIntrinsicKeyword(), ids);
+        writeMap(out, c.getSVars(), ids);
+        writeStrings(out, c.getIntrinsicAbilities(), ids);
+
+        ArrayList<Trigger> triggers = c.getTriggers();
+        out.writeInt(triggers.size());
+        for (Trigger t : triggers) {
+            writeString(out, t.getName(), ids);
+            writeMap(out, t.getMapParams(), ids);
+        }
+
+        writeStrings(out, c.getStaticAbilityStrings(), ids);
+
+        ArrayList<SetInfo> sets = c.getSets();
+        out.writeInt(sets.size());
+        for (SetInfo si : sets) {
+            writeString(out, si.Code, ids);
+            writeString(out, si.Rarity, ids);
+            writeString(out, si.URL, ids);
+            out.writeInt(si.PicCount);
+        }
+    }
+
+    /**
+     * <p>readCard.</p>
+     *
+     * Mirrors writeCard, and goes through the same Card setters ReadCard uses.
+     *
+     * @param buf a {@link java.nio.ByteBuffer} object.
+     * @param strings the interned string table
+     * @return a {@link forge.Card} object.
+     */
+    private static Card readCard(ByteBuffer buf, String[] strings) {
+        Card c = new Card();
+
+        c.setName(readString(buf, strings));
+        c.setManaCost(readString(buf, strings));
+        for (int i = buf.getInt(); i > 0; i--) {
+            c.addType(readString(buf, strings));
+        }
+        c.setText(readString(buf, strings));
+
+        c.setBaseAttackString(readString(buf, strings));
+        c.setBaseDefenseString(readString(buf, strings));
+        c.setBaseAttack(buf.getInt());
+        c.setBaseDefense(buf.getInt());
+        c.setBaseLoyalty(buf.getInt());
+
+        for (int i = buf.getInt(); i > 0; i--) {
+            c.addIntrinsicKeyword(readString(buf, strings));
+        }
+        for (int i = buf.getInt(); i > 0; i--) {
+            c.setSVar(readString(buf, strings), readString(buf, strings));
+        }
+        for (int i = buf.getInt(); i > 0; i--) {
+            c.addIntrinsicAbility(readString(buf, strings));
+        }
+
+        for (int i = buf.getInt(); i > 0; i--) {
+            String name = readString(buf, strings);
+            HashMap<String, String> mapParams = new HashMap<String, String>();
+            for (int j = buf.getInt(); j > 0; j--) {
+                mapParams.put(readString(buf, strings), readString(buf, strings));
+            }
+            Trigger t = TriggerHandler.parseTrigger(mapParams, c);
+            t.setName(name);
+            c.addTrigger(t);
+        }
+
+        for (int i = buf.getInt(); i > 0; i--) {
+            c.addStaticAbilityString(readString(buf, strings));
+        }
+
+        for (int i = buf.getInt(); i > 0; i--) {
+            String code = readString(buf, strings);
+            String rarity = readString(buf, strings);
+            String url = readString(buf, strings);
+            c.addSet(new SetInfo(code, rarity, url, buf.getInt()));
+        }
+
+        return c;
+    }
+
+    /**
+     * <p>writeString.</p>
+     *
+     * @param out a {@link java.io.DataOutputStream} object.
+     * @param s a {@link java.lang.String} object, may be null.
+     * @param ids a {@link java.util.Map} object.
+     * @throws java.io.IOException if any.
+     */
+    private static void writeString(DataOutputStream out, String s, Map<String, Integer> ids) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        Integer id = ids.get(s);
+        if (id == null) {
+            id = ids.size();
+            ids.put(s, id);
+        }
+        out.writeInt(id);
+    }
+
+    /**
+     * <p>writeStrings.</p>
+     *
+     * @param out a {@link java.io.DataOutputStream} object.
+     * @param list a {@link java.util.List} object.
+     * @param ids a {@link java.util.Map} object.
+     * @throws java.io.IOException if any.
+     */
+    private static void writeStrings(DataOutputStream out, List<String> list, Map<String, Integer> ids) throws IOException {
+        out.writeInt(list.size());
+        for (String s : list) {
+            writeString(out, s, ids);
+        }
+    }
+
+    /**
+     * <p>writeMap.</p>
+     *
+     * @param out a {@link java.io.DataOutputStream} object.
+     * @param map a {@link java.util.Map} object.
+     * @param ids a {@link java.util.Map} object.
+     * @throws java.io.IOException if any.
+     */
+    private static void writeMap(DataOutputStream out, Map<String, String> map, Map<String, Integer> ids) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<String, String> e : map.entrySet()) {
+            writeString(out, e.getKey(), ids);
+            writeString(out, e.getValue(), ids);
+        }
+    }
+
+    /**
+     * <p>readString.</p>
+     *
+     * @param buf a {@link java.nio.ByteBuffer} object.
+     * @param strings the interned string table
+     * @return a {@link java.lang.String} object, may be null.
+     */
+    private static String readString(ByteBuffer buf, String[] strings) {
+        int id = buf.getInt();
+        return id < 0 ? null : strings[id];
+    }
+
+    /**
+     * <p>close.</p>
+     *
+     * @param c a {@link java.io.Closeable} object.
+     */
+    private static void close(Closeable c) {
+        if (c == null) return;
+        try {
+            c.close();
+        } catch (IOException ignored) {
+            ;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package forge;
 
 import java.util.ArrayList;
 
+import forge.card.cardFactory.CardFactory;
+
 import net.slightlymagic.braids.util.generator.GeneratorFunctions;
 import net.slightlymagic.braids.util.lambda.Lambda1;
 
@@ -44,6 +46,29 @@ public class CardFilter {
         return listFilter;
     }
 
+    /**
+     * <p>cardListNameFilter.</p>
+     *
+     * Matches against the card names first, so only the matching cards of
+     * the database have to be built.
+     *
+     * @param factory a {@link forge.card.cardFactory.CardFactory} object.
+     * @param substring a {@link java.lang.String} object.
+     * @return a {@link forge.CardList} object.
+     */
+    public CardList cardListNameFilter(CardFactory factory, String substring) {
+        String sub = substring.toLowerCase();
+
+        CardList listFilter = new CardList();
+        for (String name : factory.getCardNames()) {
+            if (name.toLowerCase().indexOf(sub) >= 0) {
+                listFilter.add(factory.getDatabaseCard(name));
+            }
+        }
+
+        return listFilter;
+    }
+
     /**
      * <p>CardListTextFilter.</p>
      *
@@ -531,6 +531,16 @@ public class CardList implements Iterable<Card> {
     	return CardFilter.filter(this, filt);
     }
 
+    /**
+     * A filtered view of this list that doesn't copy it, for chains like
+     * view().getType("Creature").getKeyword("Flying").any().
+     *
+     * @return a {@link forge.CardListView} of all cards in this list.
+     */
+    public CardListView view() {
+        return new CardListView(this);
+    }
+
     /**
      * <p>toArray.</p>
      *
@@ -0,0 +1,308 @@
+package forge;
+
+import forge.card.cardFactory.CardFactoryUtil;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>CardListView class.</p>
+ *
+ * A filtered view of a list of cards that doesn't copy anything.  The filters
+ * methods like getType() and getKeyword() add are only applied when the view
+ * is read, so a chain like
+ * <pre>
+ *   list.view().getType("Creature").getKeyword("Flying").any()
+ * </pre>
+ * looks at each card once and stops at the first match, where the CardList
+ * methods would build a new list for every step.
+ *
+ * A view reads the list it was made from, so use it right away; changing the
+ * list while iterating a view fails like iterating the list itself would.
+ * Call toList() to keep the result.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class CardListView implements Iterable<Card> {
+    private static final CardListFilter[] NO_FILTERS = new CardListFilter[0];
+
+    private final Iterable<Card> source;
+    private final CardListFilter[] filters;
+
+    /**
+     * <p>Constructor for CardListView.</p>
+     *
+     * @param source the cards to look at, usually a {@link forge.CardList}.
+     */
+    public CardListView(Iterable<Card> source) {
+        this(source, NO_FILTERS);
+    }
+
+    private CardListView(Iterable<Card> source, CardListFilter[] filters) {
+        this.source = source;
+        this.filters = filters;
+    }
+
+    /**
+     * <p>filter.</p>
+     *
+     * @param filt a {@link forge.CardListFilter} object.
+     * @return a view with only the cards of this one the filter accepts.
+     */
+    public CardListView filter(CardListFilter filt) {
+        CardListFilter[] f = new CardListFilter[filters.length + 1];
+        System.arraycopy(filters, 0, f, 0, filters.length);
+        f[filters.length] = filt;
+        return new CardListView(source, f);
+    }
+
+    /**
+     * <p>accepts.</p>
+     *
+     * @param c a {@link forge.Card} object.
+     * @return true if c passes all filters of this view.
+     */
+    private boolean accepts(Card c) {
+        for (int i = 0; i < filters.length; i++)
+            if (!filters[i].addCard(c)) return false;
+        return true;
+    }
+
+    /**
+     * <p>getType.</p>
+     *
+     * @param cardType a {@link java.lang.String} object.
+     * @return a {@link forge.CardListView} object.
+     */
+    public CardListView getType(final String cardType) {
+        return filter(new CardListFilter() {
+            public boolean addCard(Card c) {
+                return c.isType(cardType);
+            }
+        });
+    }
+
+    /**
+     * <p>getNotType.</p>
+     *
+     * @param cardType a {@link java.lang.String} object.
+     * @return a {@link forge.CardListView} object.
+     */
+    public CardListView getNotType(final String cardType) {
+        return filter(new CardListFilter() {
+            public boolean addCard(Card c) {
+                return !c.isType(cardType);
+            }
+        });
+    }
+
+    /**
+     * <p>getController.</p>
+     *
+     * @param player a {@link forge.Player} object.
+     * @return a {@link forge.CardListView} object.
+     */
+    public CardListView getController(final Player player) {
+        return filter(new CardListFilter() {
+            public boolean addCard(Card c) {
+                return c.getController().isPlayer(player);
+            }
+        });
+    }
+
+    /**
+     * <p>getOwner.</p>
+     *
+     * @param player a {@link forge.Player} object.
+     * @return a {@link forge.CardListView} object.
+     */
+    public CardListView getOwner(final Player player) {
+        return filter(new CardListFilter() {
+            public boolean addCard(Card c) {
+                return c.getOwner().isPlayer(player);
+            }
+        });
+    }
+
+    /**
+     * <p>getName.</p>
+     *
+     * @param name a {@link java.lang.String} object.
+     * @return a {@link forge.CardListView} object.
+     */
+    public CardListView getName(final String name) {
+        return filter(new CardListFilter() {
+            public boolean addCard(Card c) {
+                return c.getName().equals(name);
+            }
+        });
+    }
+
+    /**
+     * <p>getKeyword.</p>
+     *
+     * @param keyword a {@link java.lang.String} object.
+     * @return a {@link forge.CardListView} object.
+     */
+    public CardListView getKeyword(final String keyword) {
+        return filter(new CardListFilter() {
+            public boolean addCard(Card c) {
+                return c.hasKeyword(keyword);
+            }
+        });
+    }
+
+    /**
+     * <p>getNotKeyword.</p>
+     *
+     * @param keyword a {@link java.lang.String} object.
+     * @return a {@link forge.CardListView} object.
+     */
+    public CardListView getNotKeyword(final String keyword) {
+        return filter(new CardListFilter() {
+            public boolean addCard(Card c) {
+                return !c.hasKeyword(keyword);
+            }
+        });
+    }
+
+    /**
+     * <p>getTokens.</p>
+     *
+     * @return a {@link forge.CardListView} object.
+     */
+    public CardListView getTokens() {
+        return filter(AllZoneUtil.token);
+    }
+
+    /**
+     * <p>getTargetableCards.</p>
+     *
+     * @param source a {@link forge.Card} object.
+     * @return a {@link forge.CardListView} object.
+     */
+    public CardListView getTargetableCards(final Card source) {
+        return filter(new CardListFilter() {
+            public boolean addCard(Card c) {
+                return CardFactoryUtil.canTarget(source, c);
+            }
+        });
+    }
+
+    /**
+     * <p>getValidCards.</p>
+     *
+     * @param restrictions a {@link java.lang.String} object.
+     * @param sourceController a {@link forge.Player} object.
+     * @param source a {@link forge.Card} object.
+     * @return a {@link forge.CardListView} object.
+     */
+    public CardListView getValidCards(String restrictions, final Player sourceController, final Card source) {
+        return getValidCards(restrictions.split(","), sourceController, source);
+    }
+
+    /**
+     * <p>getValidCards.</p>
+     *
+     * @param restrictions an array of {@link java.lang.String} objects.
+     * @param sourceController a {@link forge.Player} object.
+     * @param source a {@link forge.Card} object.
+     * @return a {@link forge.CardListView} object.
+     */
+    public CardListView getValidCards(final String[] restrictions, final Player sourceController, final Card source) {
+        return filter(new CardListFilter() {
+            public boolean addCard(Card c) {
+                return c.isValidCard(restrictions, sourceController, source);
+            }
+        });
+    }
+
+    /**
+     * <p>any.</p>
+     *
+     * @return true if at least one card is in this view; stops at the first one.
+     */
+    public boolean any() {
+        return first() != null;
+    }
+
+    /**
+     * <p>isEmpty.</p>
+     *
+     * @return true if no card is in this view.
+     */
+    public boolean isEmpty() {
+        return first() == null;
+    }
+
+    /**
+     * <p>first.</p>
+     *
+     * @return the first card in this view, or null.
+     */
+    public Card first() {
+        for (Card c : source)
+            if (accepts(c)) return c;
+        return null;
+    }
+
+    /**
+     * <p>count.</p>
+     *
+     * @return the number of cards in this view.
+     */
+    public int count() {
+        int n = 0;
+        for (Card c : source)
+            if (accepts(c)) n++;
+        return n;
+    }
+
+    /**
+     * <p>toList.</p>
+     *
+     * @return a new {@link forge.CardList} with the cards in this view.
+     */
+    public CardList toList() {
+        CardList list = new CardList();
+        for (Card c : source)
+            if (accepts(c)) list.add(c);
+        return list;
+    }
+
+    /**
+     * <p>iterator.</p>
+     *
+     * @return an {@link java.util.Iterator} over the cards in this view.
+     */
+    public Iterator<Card> iterator() {
+        final Iterator<Card> it = source.iterator();
+        return new Iterator<Card>() {
+            private Card next = advance();
+
+            private Card advance() {
+                while (it.hasNext()) {
+                    Card c = it.next();
+                    if (accepts(c)) return c;
+                }
+                return null;
+            }
+
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            public Card next() {
+                if (next == null) throw new NoSuchElementException();
+                Card c = next;
+                next = advance();
+                return c;
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
@@ -0,0 +1,323 @@
+package forge;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>CardRestriction class.</p>
+ *
+ * A parsed restriction like "Creature.nonBlack+YouCtrl+withFlying", as used
+ * by {@link Card#isValid(String, Player, Card)}.  The part before the dot is
+ * the card type, the parts after it, separated by "+", are properties that
+ * all have to hold.  Restrictions are parsed once and kept by their text, so
+ * checking one only walks the parsed properties.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public final class CardRestriction {
+
+    /** What a property checks; see Card.hasProperty(Property, Player, Card). */
+    enum Kind {
+        NAMED, NOT_NAMED, SAME_NAME,
+        COLOR, NON_COLOR, MULTICOLOR, NON_MULTICOLOR, MONOCOLOR, NON_MONOCOLOR,
+        YOU_CTRL, YOU_DONT_CTRL, YOU_OWN, YOU_DONT_OWN, CONTROLLER_CONTROLS,
+        OTHER, SELF, ATTACHED_BY, ATTACHED, ENCHANTED_BY, ENCHANTED, EQUIPPED_BY, EQUIPPED,
+        CLONED, DAMAGED_BY, DAMAGED, SHARES_COLOR_WITH,
+        WITH, WITHOUT,
+        TAPPED, UNTAPPED, FACE_DOWN, HAS_LEVEL_UP, ENTERED_BATTLEFIELD_THIS_TURN,
+        DEALT_DAMAGE_TO_YOU_THIS_TURN, WAS_DEALT_DAMAGE_THIS_TURN,
+        IS_ENCHANTED, UNENCHANTED, ENCHANTING, IS_EQUIPPED, UNEQUIPPED, EQUIPPING,
+        TOKEN, NON_TOKEN,
+        POWER, TOUGHNESS, CMC, COUNTERS,
+        ATTACKING, NOT_ATTACKING, BLOCKING, BLOCKING_SOURCE, NOT_BLOCKING,
+        BLOCKED, BLOCKED_BY_SOURCE, UNBLOCKED,
+        KICKED, NOT_KICKED, EVOKED, HAS_DEVOURED, HAS_NOT_DEVOURED,
+        NON_TYPE, COSTS_PHYREXIAN_MANA, IS_REMEMBERED, CHOSEN_TYPE, TYPE,
+        /** Didn't parse; checking it throws the parse error, like it always did. */
+        UNPARSED
+    }
+
+    /**
+     * One parsed property, like "nonBlack" or "powerGE2".
+     */
+    static final class Property {
+        final Kind kind;
+        /** Name, color, keyword or type the property is about. */
+        final String arg;
+        /** The number to compare with, unless variable is set. */
+        final int number;
+        /** "X" or "Y" if the number is an SVar, otherwise null. */
+        final String variable;
+        /** LT, LE, EQ, GE, GT or NE. */
+        final String comparator;
+        final Counters counter;
+
+        Property(Kind kind, String arg) {
+            this(kind, arg, 0, null, null, null);
+        }
+
+        Property(Kind kind, String arg, int number, String variable, String comparator, Counters counter) {
+            this.kind = kind;
+            this.arg = arg;
+            this.number = number;
+            this.variable = variable;
+            this.comparator = comparator;
+            this.counter = counter;
+        }
+    }
+
+    private static final Map<String, CardRestriction> restrictions = new HashMap<String, CardRestriction>();
+    private static final Map<String, Property> properties = new HashMap<String, Property>();
+
+    private static final int ANY = 0;
+    private static final int SPELL = 1;
+    private static final int PERMANENT = 2;
+    private static final int OF_TYPE = 3;
+
+    private final String text;
+    private final boolean never;
+    private final int base;
+    private final String baseType;
+    private final Property[] props;
+
+    /**
+     * <p>Constructor for CardRestriction.</p>
+     *
+     * @param restriction a {@link java.lang.String} object.
+     */
+    private CardRestriction(String restriction) {
+        text = restriction;
+        never = restriction.equals("False");
+
+        String incR[] = restriction.split("\\."); // Inclusive restrictions are Card types
+        baseType = incR[0];
+        if (baseType.equals("Spell")) base = SPELL;
+        else if (baseType.equals("Permanent")) base = PERMANENT;
+        else if (baseType.equals("card") || baseType.equals("Card")) base = ANY;
+        else base = OF_TYPE;
+
+        if (incR.length > 1) {
+            String exR[] = incR[1].split("\\+"); // Exclusive Restrictions are ...
+            props = new Property[exR.length];
+            for (int j = 0; j < exR.length; j++)
+                props[j] = getProperty(exR[j]);
+        } else {
+            props = new Property[0];
+        }
+    }
+
+    /**
+     * <p>get.</p>
+     *
+     * @param restriction a restriction like Permanent.Blue+withFlying.
+     * @return the parsed {@link forge.CardRestriction}.
+     */
+    public static synchronized CardRestriction get(String restriction) {
+        CardRestriction r = restrictions.get(restriction);
+        if (r == null) {
+            r = new CardRestriction(restriction);
+            restrictions.put(restriction, r);
+        }
+        return r;
+    }
+
+    /**
+     * <p>isValid.</p>
+     *
+     * @param c the {@link forge.Card} to check.
+     * @param sourceController a {@link forge.Player} object.
+     * @param source a {@link forge.Card} object.
+     * @return true if c meets this restriction.
+     */
+    public boolean isValid(Card c, Player sourceController, Card source) {
+        if (never) return false;
+
+        switch (base) {
+            case SPELL:
+                if (!c.isSpell()) return false;
+                break;
+            case PERMANENT:
+                if (c.isInstant() || c.isSorcery()) return false;
+                break;
+            case OF_TYPE:
+                if (!c.isType(baseType)) return false; //Check for wrong type
+                break;
+            default:
+                break;
+        }
+
+        for (int j = 0; j < props.length; j++)
+            if (!c.hasProperty(props[j], sourceController, source)) return false;
+        return true;
+    }
+
+    /**
+     * <p>getProperty.</p>
+     *
+     * @param property a property like Blue or withFlying.
+     * @return the parsed property.
+     */
+    static synchronized Property getProperty(String property) {
+        Property p = properties.get(property);
+        if (p == null) {
+            try {
+                p = parseProperty(property);
+            } catch (RuntimeException ex) {
+                p = new Property(Kind.UNPARSED, property);
+            }
+            properties.put(property, p);
+        }
+        return p;
+    }
+
+    /**
+     * <p>parseProperty.</p>
+     *
+     * The order of the checks matters, many properties start with the name
+     * of another one.
+     *
+     * @param Property a {@link java.lang.String} object.
+     * @return a {@link forge.CardRestriction.Property} object.
+     */
+    static Property parseProperty(String Property) {
+        //by name can also have color names, so needs to happen before colors.
+        if (Property.startsWith("named")) return new Property(Kind.NAMED, Property.substring(5));
+        if (Property.startsWith("notnamed")) return new Property(Kind.NOT_NAMED, Property.substring(8));
+        if (Property.startsWith("sameName")) return new Property(Kind.SAME_NAME, null);
+
+        // ... Card colors
+        if (Property.contains("White")
+                || Property.contains("Blue")
+                || Property.contains("Black")
+                || Property.contains("Red")
+                || Property.contains("Green")
+                || Property.contains("Colorless")) {
+            if (Property.startsWith("non"))
+                return new Property(Kind.NON_COLOR, Property.substring(3).toLowerCase());
+            return new Property(Kind.COLOR, Property.toLowerCase());
+        }
+        if (Property.contains("MultiColor")) // ... Card is multicolored
+            return new Property(Property.startsWith("non") ? Kind.NON_MULTICOLOR : Kind.MULTICOLOR, null);
+        if (Property.contains("MonoColor")) // ... Card is monocolored
+            return new Property(Property.startsWith("non") ? Kind.NON_MONOCOLOR : Kind.MONOCOLOR, null);
+
+        if (Property.startsWith("YouCtrl")) return new Property(Kind.YOU_CTRL, null);
+        if (Property.startsWith("YouDontCtrl")) return new Property(Kind.YOU_DONT_CTRL, null);
+        if (Property.startsWith("YouOwn")) return new Property(Kind.YOU_OWN, null);
+        if (Property.startsWith("YouDontOwn")) return new Property(Kind.YOU_DONT_OWN, null);
+        if (Property.startsWith("ControllerControls"))
+            return new Property(Kind.CONTROLLER_CONTROLS, Property.substring(18));
+        if (Property.startsWith("Other")) return new Property(Kind.OTHER, null);
+        if (Property.startsWith("Self")) return new Property(Kind.SELF, null);
+        if (Property.startsWith("AttachedBy")) return new Property(Kind.ATTACHED_BY, null);
+        if (Property.startsWith("Attached")) return new Property(Kind.ATTACHED, null);
+        if (Property.startsWith("EnchantedBy")) return new Property(Kind.ENCHANTED_BY, null);
+        if (Property.startsWith("Enchanted")) return new Property(Kind.ENCHANTED, null);
+        if (Property.startsWith("EquippedBy")) return new Property(Kind.EQUIPPED_BY, null);
+        if (Property.startsWith("Equipped")) return new Property(Kind.EQUIPPED, null);
+        if (Property.startsWith("Cloned")) return new Property(Kind.CLONED, null);
+        if (Property.startsWith("DamagedBy")) return new Property(Kind.DAMAGED_BY, null);
+        if (Property.startsWith("Damaged")) return new Property(Kind.DAMAGED, null);
+        if (Property.startsWith("SharesColorWith")) return new Property(Kind.SHARES_COLOR_WITH, null);
+
+        if (Property.startsWith("with")) { // ... Card keywords
+            if (Property.startsWith("without")) return new Property(Kind.WITHOUT, Property.substring(7));
+            return new Property(Kind.WITH, Property.substring(4));
+        }
+
+        if (Property.startsWith("tapped")) return new Property(Kind.TAPPED, null);
+        if (Property.startsWith("untapped")) return new Property(Kind.UNTAPPED, null);
+        if (Property.startsWith("faceDown")) return new Property(Kind.FACE_DOWN, null);
+        if (Property.startsWith("hasLevelUp")) return new Property(Kind.HAS_LEVEL_UP, null);
+        if (Property.startsWith("enteredBattlefieldThisTurn"))
+            return new Property(Kind.ENTERED_BATTLEFIELD_THIS_TURN, null);
+        if (Property.startsWith("dealtDamageToYouThisTurn"))
+            return new Property(Kind.DEALT_DAMAGE_TO_YOU_THIS_TURN, null);
+        if (Property.startsWith("wasDealtDamageThisTurn"))
+            return new Property(Kind.WAS_DEALT_DAMAGE_THIS_TURN, null);
+        if (Property.startsWith("enchanted")) return new Property(Kind.IS_ENCHANTED, null);
+        if (Property.startsWith("unenchanted")) return new Property(Kind.UNENCHANTED, null);
+        if (Property.startsWith("enchanting")) return new Property(Kind.ENCHANTING, null);
+        if (Property.startsWith("equipped")) return new Property(Kind.IS_EQUIPPED, null);
+        if (Property.startsWith("unequipped")) return new Property(Kind.UNEQUIPPED, null);
+        if (Property.startsWith("equipping")) return new Property(Kind.EQUIPPING, null);
+        if (Property.startsWith("token")) return new Property(Kind.TOKEN, null);
+        if (Property.startsWith("nonToken")) return new Property(Kind.NON_TOKEN, null);
+
+        if (Property.startsWith("power") ||     // 8/10
+                Property.startsWith("toughness") ||
+                Property.startsWith("cmc")) {
+            Kind kind;
+            int z;
+            if (Property.startsWith("power")) {
+                kind = Kind.POWER;
+                z = 7;
+            } else if (Property.startsWith("toughness")) {
+                kind = Kind.TOUGHNESS;
+                z = 11;
+            } else {
+                kind = Kind.CMC;
+                z = 5;
+            }
+
+            String amount = Property.substring(z);
+            if (amount.equals("X") || amount.equals("Y"))
+                return new Property(kind, null, 0, amount, comparator(Property), null);
+            return new Property(kind, null, Integer.parseInt(amount), null, comparator(Property), null);
+        }
+
+        // syntax example: countersGE9 P1P1 or countersLT12TIME (greater number than 9 not supported,
+        // use X and the SVar:X:Number$12 to get two digits)
+        if (Property.startsWith("counters")) {
+            String amount = Property.substring(10, 11);
+            Counters counter = Counters.getType(Property.substring(11));
+            String comparator = Property.substring(8, 10); // comparator = EQ, LE, GE etc.
+            if (amount.equals("X") || amount.equals("Y"))
+                return new Property(Kind.COUNTERS, null, 0, amount, comparator, counter);
+            return new Property(Kind.COUNTERS, null, Integer.parseInt(amount), null, comparator, counter);
+        }
+
+        if (Property.startsWith("attacking")) return new Property(Kind.ATTACKING, null);
+        if (Property.startsWith("notattacking")) return new Property(Kind.NOT_ATTACKING, null);
+        if (Property.equals("blocking")) return new Property(Kind.BLOCKING, null);
+        if (Property.startsWith("blockingSource")) return new Property(Kind.BLOCKING_SOURCE, null);
+        if (Property.startsWith("notblocking")) return new Property(Kind.NOT_BLOCKING, null);
+        if (Property.startsWith("blocked")) return new Property(Kind.BLOCKED, null);
+        if (Property.startsWith("blockedBySource")) return new Property(Kind.BLOCKED_BY_SOURCE, null);
+        if (Property.startsWith("unblocked")) return new Property(Kind.UNBLOCKED, null);
+        if (Property.startsWith("kicked")) return new Property(Kind.KICKED, null);
+        if (Property.startsWith("notkicked")) return new Property(Kind.NOT_KICKED, null);
+        if (Property.startsWith("evoked")) return new Property(Kind.EVOKED, null);
+        if (Property.equals("HasDevoured")) return new Property(Kind.HAS_DEVOURED, null);
+        if (Property.equals("HasNotDevoured")) return new Property(Kind.HAS_NOT_DEVOURED, null);
+        if (Property.startsWith("non")) // ... Other Card types
+            return new Property(Kind.NON_TYPE, Property.substring(3));
+        if (Property.equals("CostsPhyrexianMana")) return new Property(Kind.COSTS_PHYREXIAN_MANA, null);
+        if (Property.equals("IsRemembered")) return new Property(Kind.IS_REMEMBERED, null);
+        if (Property.equals("ChosenType")) return new Property(Kind.CHOSEN_TYPE, null);
+        return new Property(Kind.TYPE, Property);
+    }
+
+    /**
+     * <p>comparator.</p>
+     *
+     * @param property a property like powerGE2.
+     * @return the comparator AllZoneUtil.compare() would find in it.
+     */
+    private static String comparator(String property) {
+        String[] comparators = {"LT", "LE", "EQ", "GE", "GT", "NE"};
+        for (String comp : comparators)
+            if (property.contains(comp)) return comp;
+        return "";
+    }
+
+    /**
+     * <p>toString.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,259 @@
+package forge;
+
+import forge.card.trigger.Trigger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>CardTemplate class.</p>
+ *
+ * The printed, never changing part of a card: name, types, base
+ * power/toughness, mana cost, text, keywords, SVars, ability, trigger and
+ * static ability definitions and set info.  CardFactory keeps one template
+ * per card name, and every Card built from it shares the template's data
+ * until that Card changes it (see {@link Card#Card(CardTemplate)}), so four
+ * copies of a card in a deck hold one copy of this data.
+ *
+ * Templates are immutable; the lists handed to Card must never be changed.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public final class CardTemplate {
+    private final String name;
+    private final String imageName;
+    private final String manaCost;
+    private final String text;
+
+    private final int baseAttack;
+    private final int baseDefense;
+    private final String baseAttackString;
+    private final String baseDefenseString;
+    private final int baseLoyalty;
+
+    private final ArrayList<String> types;
+    private final ArrayList<String> intrinsicKeywords;
+    private final ArrayList<String> intrinsicAbilities;
+    private final ArrayList<String> staticAbilityStrings;
+    private final Map<String, String> sVars;
+    private final ArrayList<SetInfo> sets;
+
+    /**
+     * Copies without a host card, so the template does not keep the card it
+     * was made from alive; Card copies them again and hosts the copies.
+     */
+    private final ArrayList<Trigger> triggers;
+
+    /**
+     * <p>Constructor for CardTemplate.</p>
+     *
+     * Takes a snapshot of the printed characteristics of a card, usually
+     * one straight from ReadCard.
+     *
+     * @param c a {@link forge.Card} object.
+     */
+    public CardTemplate(Card c) {
+        name = c.getName();
+        imageName = c.getImageName();
+        manaCost = c.getManaCost();
+        text = c.getSpellText();
+
+        baseAttack = c.getBaseAttack();
+        baseDefense = c.getBaseDefense();
+        baseAttackString = c.getBaseAttackString();
+        baseDefenseString = c.getBaseDefenseString();
+        baseLoyalty = c.getBaseLoyalty();
+
+        types = c.getType();
+        intrinsicKeywords = c.getIntrinsicKeyword();
+        intrinsicAbilities = new ArrayList<String>(c.getIntrinsicAbilities());
+        staticAbilityStrings = new ArrayList<String>(c.getStaticAbilityStrings());
+        sVars = new TreeMap<String, String>(c.getSVars());
+        sets = new ArrayList<SetInfo>(c.getSets());
+        triggers = new ArrayList<Trigger>();
+        for (Trigger t : c.getTriggers()) {
+            Trigger copy = t.getCopy();
+            copy.setHostCard(null);
+            triggers.add(copy);
+        }
+    }
+
+    /**
+     * <p>Getter for the field <code>name</code>.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * <p>Getter for the field <code>imageName</code>.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String getImageName() {
+        return imageName;
+    }
+
+    /**
+     * <p>Getter for the field <code>manaCost</code>.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String getManaCost() {
+        return manaCost;
+    }
+
+    /**
+     * <p>Getter for the field <code>text</code>.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * <p>Getter for the field <code>baseAttack</code>.</p>
+     *
+     * @return a int.
+     */
+    public int getBaseAttack() {
+        return baseAttack;
+    }
+
+    /**
+     * <p>Getter for the field <code>baseDefense</code>.</p>
+     *
+     * @return a int.
+     */
+    public int getBaseDefense() {
+        return baseDefense;
+    }
+
+    /**
+     * <p>Getter for the field <code>baseAttackString</code>.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String getBaseAttackString() {
+        return baseAttackString;
+    }
+
+    /**
+     * <p>Getter for the field <code>baseDefenseString</code>.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String getBaseDefenseString() {
+        return baseDefenseString;
+    }
+
+    /**
+     * <p>Getter for the field <code>baseLoyalty</code>.</p>
+     *
+     * @return a int.
+     */
+    public int getBaseLoyalty() {
+        return baseLoyalty;
+    }
+
+    /**
+     * <p>getTypes.</p>
+     *
+     * @return an unmodifiable {@link java.util.List} object.
+     */
+    public List<String> getTypes() {
+        return Collections.unmodifiableList(types);
+    }
+
+    /**
+     * <p>getIntrinsicKeywords.</p>
+     *
+     * @return an unmodifiable {@link java.util.List} object.
+     */
+    public List<String> getIntrinsicKeywords() {
+        return Collections.unmodifiableList(intrinsicKeywords);
+    }
+
+    /**
+     * <p>getIntrinsicAbilities.</p>
+     *
+     * @return an unmodifiable {@link java.util.List} object.
+     */
+    public List<String> getIntrinsicAbilities() {
+        return Collections.unmodifiableList(intrinsicAbilities);
+    }
+
+    /**
+     * <p>getStaticAbilityStrings.</p>
+     *
+     * @return an unmodifiable {@link java.util.List} object.
+     */
+    public List<String> getStaticAbilityStrings() {
+        return Collections.unmodifiableList(staticAbilityStrings);
+    }
+
+    /**
+     * <p>getSVars.</p>
+     *
+     * @return an unmodifiable {@link java.util.Map} object.
+     */
+    public Map<String, String> getSVars() {
+        return Collections.unmodifiableMap(sVars);
+    }
+
+    /**
+     * <p>getSets.</p>
+     *
+     * @return an unmodifiable {@link java.util.List} object.
+     */
+    public List<SetInfo> getSets() {
+        return Collections.unmodifiableList(sets);
+    }
+
+    // The shared instances, for Card only.  Card copies them before its
+    // first change, see the own* methods in Card.
+
+    ArrayList<String> sharedTypes() {
+        return types;
+    }
+
+    ArrayList<String> sharedIntrinsicKeywords() {
+        return intrinsicKeywords;
+    }
+
+    ArrayList<String> sharedIntrinsicAbilities() {
+        return intrinsicAbilities;
+    }
+
+    ArrayList<String> sharedStaticAbilityStrings() {
+        return staticAbilityStrings;
+    }
+
+    Map<String, String> sharedSVars() {
+        return sVars;
+    }
+
+    ArrayList<SetInfo> sharedSets() {
+        return sets;
+    }
+
+    ArrayList<Trigger> sharedTriggers() {
+        return triggers;
+    }
+
+    /**
+     * <p>toString.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String toString() {
+        return name;
+    }
+}
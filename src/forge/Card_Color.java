@@ -4,6 +4,7 @@ import forge.card.mana.ManaCost;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>Card_Color class.</p>
@@ -40,7 +41,7 @@ public class Card_Color {
     /**
      * Constant <code>timeStamp=0</code>
      */
-    private static long timeStamp = 0;
+    private static final AtomicLong timeStamp = new AtomicLong();
 
     /**
      * <p>getTimestamp.</p>
@@ -48,7 +49,7 @@ public class Card_Color {
      * @return a long.
      */
     public static long getTimestamp() {
-        return timeStamp;
+        return timeStamp.get();
     }
 
     /**
@@ -66,7 +67,7 @@ public class Card_Color {
         if (baseColor)
             stamp = 0;
         else
-            stamp = timeStamp;
+            stamp = timeStamp.get();
     }
 
     /**
@@ -108,7 +109,7 @@ public class Card_Color {
      * <p>increaseTimestamp.</p>
      */
     static void increaseTimestamp() {
-        timeStamp++;
+        timeStamp.incrementAndGet();
     }
 
     /**
@@ -124,6 +125,18 @@ public class Card_Color {
         return effectingCard == c && addToColors == additional && stamp == time;
     }
 
+    /**
+     * <p>getMask.</p>
+     *
+     * @return the colors as a mask of {@link forge.Color#getMask()} bits.
+     */
+    int getMask() {
+        int mask = 0;
+        for (Color c : col)
+            mask |= c.getMask();
+        return mask;
+    }
+
     /**
      * <p>toStringArray.</p>
      *
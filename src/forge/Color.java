@@ -30,6 +30,15 @@ public enum Color {
         flag = c;
     }
 
+    /**
+     * <p>getMask.</p>
+     *
+     * @return this color's bit in a color mask, see Card.getColorMask().
+     */
+    public int getMask() {
+        return 1 << ordinal();
+    }
+
     /**
      * <p>Colorless.</p>
      *
@@ -420,6 +420,19 @@ public class Combat {
             addAttacker(att.get(i));
     }
 
+    /**
+     * <p>removeAllBlockers.</p>
+     *
+     * Takes back every block but keeps the attackers.  Unlike
+     * removeFromCombat() this doesn't update the display, so the AI can use
+     * it while trying out blocks.
+     */
+    public void removeAllBlockers() {
+        for (CardList blockers : map.values())
+            blockers.clear();
+        blocked.clear();
+    }
+
     /**
      * <p>getAllBlockers.</p>
      *
@@ -632,7 +645,7 @@ public class Combat {
      * @param block a {@link forge.CardList} object.
      * @param damage a int.
      */
-    private void distributeAIDamage(Card attacker, CardList block, int damage) {
+    void distributeAIDamage(Card attacker, CardList block, int damage) {
         Card c = attacker;
 
         if (block.size() == 1) {
@@ -693,55 +706,60 @@ public class Combat {
      * <p>dealAssignedDamage.</p>
      */
     public static void dealAssignedDamage() {
-        // This function handles both Regular and First Strike combat assignment
-        Player player = AllZone.getCombat().getDefendingPlayer();
+        AllZone.getEventBus().beginAction();
+        try {
+            // This function handles both Regular and First Strike combat assignment
+            Player player = AllZone.getCombat().getDefendingPlayer();
 
-        boolean bFirstStrike = AllZone.getPhase().is(Constant.Phase.Combat_FirstStrikeDamage);
+            boolean bFirstStrike = AllZone.getPhase().is(Constant.Phase.Combat_FirstStrikeDamage);
 
-        HashMap<Card, Integer> defMap = AllZone.getCombat().getDefendingDamageMap();
+            HashMap<Card, Integer> defMap = AllZone.getCombat().getDefendingDamageMap();
 
-        for (Entry<Card, Integer> entry : defMap.entrySet()) {
-            player.addCombatDamage(entry.getValue(), entry.getKey());
-        }
+            for (Entry<Card, Integer> entry : defMap.entrySet()) {
+                player.addCombatDamage(entry.getValue(), entry.getKey());
+            }
 
-        CardList unblocked = new CardList(bFirstStrike ? AllZone.getCombat().getUnblockedAttackers() :
-                AllZone.getCombat().getUnblockedFirstStrikeAttackers());
+            CardList unblocked = new CardList(bFirstStrike ? AllZone.getCombat().getUnblockedAttackers() :
+                    AllZone.getCombat().getUnblockedFirstStrikeAttackers());
 
-        for (int j = 0; j < unblocked.size(); j++) {
-            if (bFirstStrike)
-                CombatUtil.checkUnblockedAttackers(unblocked.get(j));
-            else {
-                if (!unblocked.getCard(j).hasFirstStrike() && !unblocked.getCard(j).hasDoubleStrike())
+            for (int j = 0; j < unblocked.size(); j++) {
+                if (bFirstStrike)
                     CombatUtil.checkUnblockedAttackers(unblocked.get(j));
+                else {
+                    if (!unblocked.getCard(j).hasFirstStrike() && !unblocked.getCard(j).hasDoubleStrike())
+                        CombatUtil.checkUnblockedAttackers(unblocked.get(j));
+                }
             }
-        }
 
-        // this can be much better below here...
+            // this can be much better below here...
 
-        CardList combatants = new CardList();
-        combatants.addAll(AllZone.getCombat().getAttackers());
-        combatants.addAll(AllZone.getCombat().getAllBlockers());
-        combatants.addAll(AllZone.getCombat().getDefendingPlaneswalkers());
+            CardList combatants = new CardList();
+            combatants.addAll(AllZone.getCombat().getAttackers());
+            combatants.addAll(AllZone.getCombat().getAllBlockers());
+            combatants.addAll(AllZone.getCombat().getDefendingPlaneswalkers());
 
-        Card c;
-        for (int i = 0; i < combatants.size(); i++) {
-            c = combatants.get(i);
+            Card c;
+            for (int i = 0; i < combatants.size(); i++) {
+                c = combatants.get(i);
 
-            // if no assigned damage to resolve, move to next
-            if (c.getTotalAssignedDamage() == 0)
-                continue;
+                // if no assigned damage to resolve, move to next
+                if (c.getTotalAssignedDamage() == 0)
+                    continue;
 
-            Map<Card, Integer> assignedDamageMap = c.getAssignedDamageMap();
-            HashMap<Card, Integer> damageMap = new HashMap<Card, Integer>();
+                Map<Card, Integer> assignedDamageMap = c.getAssignedDamageMap();
+                HashMap<Card, Integer> damageMap = new HashMap<Card, Integer>();
 
-            for (Entry<Card, Integer> entry : assignedDamageMap.entrySet()) {
-                Card crd = entry.getKey();
-                damageMap.put(crd, entry.getValue());
-            }
-            c.addCombatDamage(damageMap);
+                for (Entry<Card, Integer> entry : assignedDamageMap.entrySet()) {
+                    Card crd = entry.getKey();
+                    damageMap.put(crd, entry.getValue());
+                }
+                c.addCombatDamage(damageMap);
 
-            damageMap.clear();
-            c.clearAssignedDamage();
+                damageMap.clear();
+                c.clearAssignedDamage();
+            }
+        } finally {
+            AllZone.getEventBus().endAction();
         }
 
         //This was deeper before, but that resulted in the stack entry acting like before.
@@ -0,0 +1,466 @@
+package forge;
+
+import forge.card.cardFactory.CardFactoryUtil;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * <p>CombatSimulator class.</p>
+ *
+ * A snapshot of what the AI needs to know about a possible combat: the
+ * power, toughness, value and combat keywords of every attacker and blocker,
+ * which blockers can block each attacker, and what happens when a blocker
+ * blocks an attacker.  It is worked out once when the attack is planned, so
+ * trying out many ways of attacking only looks things up.  The snapshot does
+ * not follow the game; make a new one when the creatures have changed.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class CombatSimulator {
+    /** The keywords that matter when creatures fight. */
+    public static final long COMBAT_KEYWORDS = Keyword.maskOf(Keyword.FIRST_STRIKE, Keyword.DOUBLE_STRIKE,
+            Keyword.TRAMPLE, Keyword.DEATHTOUCH, Keyword.LIFELINK, Keyword.INFECT, Keyword.WITHER,
+            Keyword.VIGILANCE, Keyword.INDESTRUCTIBLE);
+
+    private final Player defender;
+
+    private final CardList attackers;
+    private final CardList blockers;
+    private final Map<Card, Integer> attackerIndex = new IdentityHashMap<Card, Integer>();
+    private final Map<Card, Integer> blockerIndex = new IdentityHashMap<Card, Integer>();
+
+    private final int[] attackerPower;
+    private final int[] attackerToughness;
+    private final int[] attackerValue;
+    private final long[] attackerKeywords;
+    private final int[] unblockedDamage;
+    private final int[] unblockedPoison;
+    private final int[] firstStrikeBlockPower;
+
+    private final int[] blockerPower;
+    private final int[] blockerToughness;
+    private final int[] blockerValue;
+    private final long[] blockerKeywords;
+
+    private final BitSet[] blockableBy; //the blockers that can block each attacker
+    private final boolean[][] attackerDies;
+    private final boolean[][] blockerDies;
+    private final int[][] blockDamage; //the damage the blocker deals to the attacker
+
+    /**
+     * <p>Constructor for CombatSimulator.</p>
+     *
+     * @param attackers the creatures that could attack.
+     * @param blockers the creatures that could block them.
+     * @param defender the {@link forge.Player} being attacked.
+     * @param combat the {@link forge.Combat} the attack is planned for.
+     */
+    public CombatSimulator(CardList attackers, CardList blockers, Player defender, Combat combat) {
+        this.defender = defender;
+        this.attackers = new CardList(attackers.toArray());
+        this.blockers = new CardList(blockers.toArray());
+
+        int numAttackers = this.attackers.size();
+        int numBlockers = this.blockers.size();
+
+        attackerPower = new int[numAttackers];
+        attackerToughness = new int[numAttackers];
+        attackerValue = new int[numAttackers];
+        attackerKeywords = new long[numAttackers];
+        unblockedDamage = new int[numAttackers];
+        unblockedPoison = new int[numAttackers];
+        firstStrikeBlockPower = new int[numAttackers];
+
+        blockerPower = new int[numBlockers];
+        blockerToughness = new int[numBlockers];
+        blockerValue = new int[numBlockers];
+        blockerKeywords = new long[numBlockers];
+
+        blockableBy = new BitSet[numAttackers];
+        attackerDies = new boolean[numAttackers][numBlockers];
+        blockerDies = new boolean[numAttackers][numBlockers];
+        blockDamage = new int[numAttackers][numBlockers];
+
+        for (int b = 0; b < numBlockers; b++) {
+            Card blocker = this.blockers.get(b);
+            blockerIndex.put(blocker, b);
+            blockerPower[b] = blocker.getNetCombatDamage();
+            blockerToughness[b] = blocker.getKillDamage();
+            blockerValue[b] = CardFactoryUtil.evaluateCreature(blocker);
+            blockerKeywords[b] = keywordsOf(blocker);
+        }
+
+        for (int a = 0; a < numAttackers; a++) {
+            Card attacker = this.attackers.get(a);
+            attackerIndex.put(attacker, a);
+            attackerPower[a] = attacker.getNetCombatDamage();
+            attackerToughness[a] = attacker.getKillDamage();
+            attackerValue[a] = CardFactoryUtil.evaluateCreature(attacker);
+            attackerKeywords[a] = keywordsOf(attacker);
+            unblockedDamage[a] = CombatUtil.damageIfUnblocked(attacker, defender, combat);
+            unblockedPoison[a] = CombatUtil.poisonIfUnblocked(attacker, defender, combat);
+
+            blockableBy[a] = new BitSet(numBlockers);
+            for (int b = 0; b < numBlockers; b++) {
+                Card blocker = this.blockers.get(b);
+                if (!CombatUtil.canBlock(attacker, blocker)) continue;
+
+                blockableBy[a].set(b);
+                attackerDies[a][b] = CombatUtil.canDestroyAttacker(attacker, blocker, combat, false);
+                blockerDies[a][b] = CombatUtil.canDestroyBlocker(blocker, attacker, combat, false);
+                blockDamage[a][b] = CombatUtil.dealsDamageAsBlocker(attacker, blocker);
+                if ((blockerKeywords[b] & Keyword.maskOf(Keyword.FIRST_STRIKE, Keyword.DOUBLE_STRIKE)) != 0)
+                    firstStrikeBlockPower[a] += blockDamage[a][b];
+            }
+        }
+    }
+
+    /**
+     * <p>keywordsOf.</p>
+     *
+     * @param c a {@link forge.Card} object.
+     * @return the combat keywords of the card.
+     */
+    private static long keywordsOf(Card c) {
+        long keywords = c.getKeywordMask() & COMBAT_KEYWORDS;
+        if (c.hasFirstStrike()) keywords |= Keyword.FIRST_STRIKE.getMask();
+        if (c.hasDoubleStrike()) keywords |= Keyword.DOUBLE_STRIKE.getMask();
+        return keywords;
+    }
+
+    /**
+     * <p>Getter for the field <code>attackers</code>.</p>
+     *
+     * @return a {@link forge.CardList} object.
+     */
+    public CardList getAttackers() {
+        return new CardList(attackers.toArray());
+    }
+
+    /**
+     * <p>Getter for the field <code>blockers</code>.</p>
+     *
+     * @return a {@link forge.CardList} object.
+     */
+    public CardList getBlockers() {
+        return new CardList(blockers.toArray());
+    }
+
+    /**
+     * <p>Getter for the field <code>defender</code>.</p>
+     *
+     * @return a {@link forge.Player} object.
+     */
+    public Player getDefender() {
+        return defender;
+    }
+
+    /**
+     * <p>isAttacker.</p>
+     *
+     * @param c a {@link forge.Card} object.
+     * @return true if c is one of the attackers of this snapshot.
+     */
+    public boolean isAttacker(Card c) {
+        return attackerIndex.containsKey(c);
+    }
+
+    /**
+     * <p>getPower.</p>
+     *
+     * @param c an attacker or blocker.
+     * @return its combat damage.
+     */
+    public int getPower(Card c) {
+        Integer a = attackerIndex.get(c);
+        return a != null ? attackerPower[a] : blockerPower[blockerIndex.get(c)];
+    }
+
+    /**
+     * <p>getToughness.</p>
+     *
+     * @param c an attacker or blocker.
+     * @return the damage needed to destroy it.
+     */
+    public int getToughness(Card c) {
+        Integer a = attackerIndex.get(c);
+        return a != null ? attackerToughness[a] : blockerToughness[blockerIndex.get(c)];
+    }
+
+    /**
+     * <p>getValue.</p>
+     *
+     * @param c an attacker or blocker.
+     * @return its value, see {@link CardFactoryUtil#evaluateCreature(Card)}.
+     */
+    public int getValue(Card c) {
+        Integer a = attackerIndex.get(c);
+        return a != null ? attackerValue[a] : blockerValue[blockerIndex.get(c)];
+    }
+
+    /**
+     * <p>hasKeyword.</p>
+     *
+     * @param c an attacker or blocker.
+     * @param keyword one of the {@link #COMBAT_KEYWORDS}.
+     * @return a boolean.
+     */
+    public boolean hasKeyword(Card c, Keyword keyword) {
+        Integer a = attackerIndex.get(c);
+        long keywords = a != null ? attackerKeywords[a] : blockerKeywords[blockerIndex.get(c)];
+        return (keywords & keyword.getMask()) != 0;
+    }
+
+    /**
+     * <p>strikesFirst.</p>
+     *
+     * @param c an attacker or blocker.
+     * @return true if it has first strike or double strike.
+     */
+    public boolean strikesFirst(Card c) {
+        return hasKeyword(c, Keyword.FIRST_STRIKE) || hasKeyword(c, Keyword.DOUBLE_STRIKE);
+    }
+
+    /**
+     * <p>canBlock.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @param blocker a {@link forge.Card} object.
+     * @return a boolean.
+     */
+    public boolean canBlock(Card attacker, Card blocker) {
+        return blockableBy[attackerIndex.get(attacker)].get(blockerIndex.get(blocker));
+    }
+
+    /**
+     * <p>canBeBlocked.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @return false if none of the blockers can block the attacker.
+     */
+    public boolean canBeBlocked(Card attacker) {
+        return !blockableBy[attackerIndex.get(attacker)].isEmpty();
+    }
+
+    /**
+     * <p>getPossibleBlockers.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @return the blockers that can block the attacker.
+     */
+    public CardList getPossibleBlockers(Card attacker) {
+        BitSet mask = blockableBy[attackerIndex.get(attacker)];
+        CardList list = new CardList();
+        for (int b = mask.nextSetBit(0); b >= 0; b = mask.nextSetBit(b + 1))
+            list.add(blockers.get(b));
+        return list;
+    }
+
+    /**
+     * <p>attackerDies.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @param blocker a {@link forge.Card} object.
+     * @return true if the blocker destroys the attacker.
+     */
+    public boolean attackerDies(Card attacker, Card blocker) {
+        return attackerDies[attackerIndex.get(attacker)][blockerIndex.get(blocker)];
+    }
+
+    /**
+     * <p>blockerDies.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @param blocker a {@link forge.Card} object.
+     * @return true if the attacker destroys the blocker.
+     */
+    public boolean blockerDies(Card attacker, Card blocker) {
+        return blockerDies[attackerIndex.get(attacker)][blockerIndex.get(blocker)];
+    }
+
+    /**
+     * <p>damageIfUnblocked.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @return see {@link CombatUtil#damageIfUnblocked(Card, Player, Combat)}.
+     */
+    public int damageIfUnblocked(Card attacker) {
+        return unblockedDamage[attackerIndex.get(attacker)];
+    }
+
+    /**
+     * <p>poisonIfUnblocked.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @return see {@link CombatUtil#poisonIfUnblocked(Card, Player, Combat)}.
+     */
+    public int poisonIfUnblocked(Card attacker) {
+        return unblockedPoison[attackerIndex.get(attacker)];
+    }
+
+    /**
+     * <p>getTotalFirstStrikeBlockPower.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @return the damage all the blockers with first strike or double strike
+     * that can block the attacker would deal to it.
+     */
+    public int getTotalFirstStrikeBlockPower(Card attacker) {
+        return firstStrikeBlockPower[attackerIndex.get(attacker)];
+    }
+
+    /**
+     * <p>damageAsBlocker.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @param blocker a {@link forge.Card} object.
+     * @return see {@link CombatUtil#dealsDamageAsBlocker(Card, Card)}.
+     */
+    public int damageAsBlocker(Card attacker, Card blocker) {
+        return blockDamage[attackerIndex.get(attacker)][blockerIndex.get(blocker)];
+    }
+
+    /**
+     * <p>trampleDamage.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @param blocker a {@link forge.Card} object.
+     * @return the damage a trampling attacker deals to the defending player
+     * when blocked by the blocker alone.
+     */
+    public int trampleDamage(Card attacker, Card blocker) {
+        int a = attackerIndex.get(attacker);
+        if ((attackerKeywords[a] & Keyword.TRAMPLE.getMask()) == 0) return 0;
+
+        int b = blockerIndex.get(blocker);
+        int lethal = (attackerKeywords[a] & Keyword.DEATHTOUCH.getMask()) != 0 ? 1 : blockerToughness[b];
+        int power = attackerPower[a];
+        if ((attackerKeywords[a] & Keyword.DOUBLE_STRIKE.getMask()) != 0)
+            power *= 2;
+
+        return Math.max(0, Math.min(power - lethal, Math.max(unblockedDamage[a], unblockedPoison[a])));
+    }
+
+    /**
+     * <p>resolve.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @param blocker the creature blocking it, or null if it isn't blocked.
+     * @return what happens when the blocker blocks the attacker.
+     */
+    public Outcome resolve(Card attacker, Card blocker) {
+        int a = attackerIndex.get(attacker);
+        boolean attackerLifelink = (attackerKeywords[a] & Keyword.LIFELINK.getMask()) != 0;
+
+        if (blocker == null)
+            return new Outcome(false, false, unblockedDamage[a], unblockedPoison[a],
+                    attackerLifelink ? unblockedDamage[a] : 0, 0);
+
+        int b = blockerIndex.get(blocker);
+        if (!blockableBy[a].get(b))
+            return resolve(attacker, null);
+
+        int damage = trampleDamage(attacker, blocker);
+        int poison = (attackerKeywords[a] & Keyword.INFECT.getMask()) != 0 && damage > 0 ? damage : 0;
+        if (poison > 0) damage = 0;
+
+        int dealtByAttacker = Math.min(attackerPower[a], blockerToughness[b]) + damage;
+        boolean blockerLifelink = (blockerKeywords[b] & Keyword.LIFELINK.getMask()) != 0;
+
+        return new Outcome(attackerDies[a][b], blockerDies[a][b], damage, poison,
+                attackerLifelink ? dealtByAttacker : 0, blockerLifelink ? blockDamage[a][b] : 0);
+    }
+
+    /**
+     * <p>Outcome class.</p>
+     *
+     * What happens when one attacker is blocked by one blocker, or is not
+     * blocked at all.
+     */
+    public static final class Outcome {
+        private final boolean attackerDies;
+        private final boolean blockerDies;
+        private final int damage;
+        private final int poison;
+        private final int attackerLifeGain;
+        private final int blockerLifeGain;
+
+        /**
+         * <p>Constructor for Outcome.</p>
+         *
+         * @param attackerDies a boolean.
+         * @param blockerDies a boolean.
+         * @param damage the damage dealt to the defending player.
+         * @param poison the poison counters the defending player gets.
+         * @param attackerLifeGain the life the attacking player gains.
+         * @param blockerLifeGain the life the defending player gains.
+         */
+        private Outcome(boolean attackerDies, boolean blockerDies, int damage, int poison,
+                        int attackerLifeGain, int blockerLifeGain) {
+            this.attackerDies = attackerDies;
+            this.blockerDies = blockerDies;
+            this.damage = damage;
+            this.poison = poison;
+            this.attackerLifeGain = attackerLifeGain;
+            this.blockerLifeGain = blockerLifeGain;
+        }
+
+        /**
+         * <p>attackerDies.</p>
+         *
+         * @return a boolean.
+         */
+        public boolean attackerDies() {
+            return attackerDies;
+        }
+
+        /**
+         * <p>blockerDies.</p>
+         *
+         * @return a boolean.
+         */
+        public boolean blockerDies() {
+            return blockerDies;
+        }
+
+        /**
+         * <p>Getter for the field <code>damage</code>.</p>
+         *
+         * @return the damage dealt to the defending player.
+         */
+        public int getDamage() {
+            return damage;
+        }
+
+        /**
+         * <p>Getter for the field <code>poison</code>.</p>
+         *
+         * @return the poison counters the defending player gets.
+         */
+        public int getPoison() {
+            return poison;
+        }
+
+        /**
+         * <p>Getter for the field <code>attackerLifeGain</code>.</p>
+         *
+         * @return the life the attacking player gains from lifelink.
+         */
+        public int getAttackerLifeGain() {
+            return attackerLifeGain;
+        }
+
+        /**
+         * <p>Getter for the field <code>blockerLifeGain</code>.</p>
+         *
+         * @return the life the defending player gains from lifelink.
+         */
+        public int getBlockerLifeGain() {
+            return blockerLifeGain;
+        }
+    }
+}
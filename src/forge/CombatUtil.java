@@ -109,48 +109,49 @@ public class CombatUtil {
 
         if (attacker == null) return true;
 
-        if (attacker.hasKeyword("Unblockable")) return false;
+        if (attacker.hasKeyword(Keyword.UNBLOCKABLE)) return false;
 
         //Landwalk
-        if (!AllZoneUtil.isCardInPlay("Staff of the Ages")) { //"Creatures with landwalk abilities can be blocked as though they didn't have those abilities."
+        if (attacker.hasAnyKeyword(Keyword.LANDWALK)
+                && !AllZoneUtil.isCardInPlay("Staff of the Ages")) { //"Creatures with landwalk abilities can be blocked as though they didn't have those abilities."
             CardList blkCL = AllZoneUtil.getPlayerCardsInPlay(attacker.getController().getOpponent());
             CardList temp = new CardList();
 
-            if (attacker.hasKeyword("Plainswalk")) {
+            if (attacker.hasKeyword(Keyword.PLAINSWALK)) {
                 temp = blkCL.getType("Plains");
                 if (!AllZoneUtil.isCardInPlay("Lord Magnus")
                         && !AllZoneUtil.isCardInPlay("Great Wall")
                         && !temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Islandwalk")) {
+            if (attacker.hasKeyword(Keyword.ISLANDWALK)) {
                 temp = blkCL.getType("Island");
                 if (!AllZoneUtil.isCardInPlay("Undertow")
                         && !AllZoneUtil.isCardInPlay("Gosta Dirk")
                         && !temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Swampwalk")) {
+            if (attacker.hasKeyword(Keyword.SWAMPWALK)) {
                 temp = blkCL.getType("Swamp");
                 if (!AllZoneUtil.isCardInPlay("Ur-drago")
                         && !AllZoneUtil.isCardInPlay("Quagmire")
                         && !temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Mountainwalk")) {
+            if (attacker.hasKeyword(Keyword.MOUNTAINWALK)) {
                 temp = blkCL.getType("Mountain");
                 if (!AllZoneUtil.isCardInPlay("Crevasse")
                         && !temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Forestwalk")) {
+            if (attacker.hasKeyword(Keyword.FORESTWALK)) {
                 temp = blkCL.getType("Forest");
                 if (!AllZoneUtil.isCardInPlay("Lord Magnus")
                         && !AllZoneUtil.isCardInPlay("Deadfall")
                         && !temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Legendary landwalk")) {
+            if (attacker.hasKeyword(Keyword.LEGENDARY_LANDWALK)) {
                 temp = blkCL.filter(new CardListFilter() {
                     public boolean addCard(Card c) {
                         return c.isLand()
@@ -160,7 +161,7 @@ public class CombatUtil {
                 if (!temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Snow swampwalk")) {
+            if (attacker.hasKeyword(Keyword.SNOW_SWAMPWALK)) {
                 temp = blkCL.filter(new CardListFilter() {
                     public boolean addCard(Card c) {
                         return c.isType("Swamp") && c.isSnow();
@@ -169,7 +170,7 @@ public class CombatUtil {
                 if (!temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Snow forestwalk")) {
+            if (attacker.hasKeyword(Keyword.SNOW_FORESTWALK)) {
                 temp = blkCL.filter(new CardListFilter() {
                     public boolean addCard(Card c) {
                         return c.isType("Forest") && c.isSnow();
@@ -178,7 +179,7 @@ public class CombatUtil {
                 if (!temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Snow islandwalk")) {
+            if (attacker.hasKeyword(Keyword.SNOW_ISLANDWALK)) {
                 temp = blkCL.filter(new CardListFilter() {
                     public boolean addCard(Card c) {
                         return c.isType("Island") && c.isSnow();
@@ -187,7 +188,7 @@ public class CombatUtil {
                 if (!temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Snow plainswalk")) {
+            if (attacker.hasKeyword(Keyword.SNOW_PLAINSWALK)) {
                 temp = blkCL.filter(new CardListFilter() {
                     public boolean addCard(Card c) {
                         return c.isType("Plains") && c.isSnow();
@@ -196,7 +197,7 @@ public class CombatUtil {
                 if (!temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Snow mountainwalk")) {
+            if (attacker.hasKeyword(Keyword.SNOW_MOUNTAINWALK)) {
                 temp = blkCL.filter(new CardListFilter() {
                     public boolean addCard(Card c) {
                         return c.isType("Mountain") && c.isSnow();
@@ -205,7 +206,7 @@ public class CombatUtil {
                 if (!temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Snow landwalk")) {
+            if (attacker.hasKeyword(Keyword.SNOW_LANDWALK)) {
                 temp = blkCL.filter(new CardListFilter() {
                     public boolean addCard(Card c) {
                         return c.isLand() && c.isSnow();
@@ -214,7 +215,7 @@ public class CombatUtil {
                 if (!temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Desertwalk")) {
+            if (attacker.hasKeyword(Keyword.DESERTWALK)) {
                 temp = blkCL.filter(new CardListFilter() {
                     public boolean addCard(Card c) {
                         return c.isLand()
@@ -224,7 +225,7 @@ public class CombatUtil {
                 if (!temp.isEmpty()) return false;
             }
 
-            if (attacker.hasKeyword("Nonbasic landwalk")) {
+            if (attacker.hasKeyword(Keyword.NONBASIC_LANDWALK)) {
                 temp = blkCL.filter(new CardListFilter() {
                     public boolean addCard(Card c) {
                         return c.isLand() && !c.isBasicLand();
@@ -309,18 +310,6 @@ public class CombatUtil {
         if (!attacker.hasKeyword("All creatures able to block CARDNAME do so.")
                 && canBlockAnAttackerWithLure(blocker, combat)) return false;
 
-        if (blocker.hasStartOfKeyword("CARDNAME can't block ")) {
-            for (String kw : blocker.getKeyword()) {
-                if (kw.startsWith("CARDNAME can't block ")) {
-                    String unblockableCard = kw.substring(21);
-                    int ID = Integer.parseInt(unblockableCard.substring(unblockableCard.lastIndexOf("(") + 1, unblockableCard.length() - 1));
-                    if (attacker.getUniqueNumber() == ID) {
-                        return false;
-                    }
-                }
-            }
-        }
-
         return canBlock(attacker, blocker);
     }
 
@@ -342,18 +331,30 @@ public class CombatUtil {
 
         if (CardFactoryUtil.hasProtectionFrom(blocker, attacker)) return false;
 
+        if (blocker.hasStartOfKeyword("CARDNAME can't block ")) {
+            for (String kw : blocker.getKeyword()) {
+                if (kw.startsWith("CARDNAME can't block ") && kw.endsWith(")")) {
+                    String unblockableCard = kw.substring(21);
+                    int ID = Integer.parseInt(unblockableCard.substring(unblockableCard.lastIndexOf("(") + 1, unblockableCard.length() - 1));
+                    if (attacker.getUniqueNumber() == ID) {
+                        return false;
+                    }
+                }
+            }
+        }
+
         //rare case:
-        if (blocker.hasKeyword("Shadow")
+        if (blocker.hasKeyword(Keyword.SHADOW)
                 && blocker.hasKeyword(
                 "CARDNAME can block creatures with shadow as though they didn't have shadow.")) return false;
 
-        if (attacker.hasKeyword("Shadow")
-                && !blocker.hasKeyword("Shadow")
+        if (attacker.hasKeyword(Keyword.SHADOW)
+                && !blocker.hasKeyword(Keyword.SHADOW)
                 && !blocker.hasKeyword(
                 "CARDNAME can block creatures with shadow as though they didn't have shadow.")) return false;
 
-        if (!attacker.hasKeyword("Shadow")
-                && blocker.hasKeyword("Shadow")) return false;
+        if (!attacker.hasKeyword(Keyword.SHADOW)
+                && blocker.hasKeyword(Keyword.SHADOW)) return false;
 
         if (blocker.hasKeyword("CARDNAME can't block white creatures with power 2 or greater.")) {
             if (attacker.isWhite() && attacker.getNetAttack() >= 2) return false;
@@ -460,24 +461,24 @@ public class CombatUtil {
         if (attacker.hasKeyword("CARDNAME can't be blocked by white creatures.") && blocker.isWhite()) return false;
 
         if (blocker.hasKeyword("CARDNAME can block only creatures with flying.")
-                && !attacker.hasKeyword("Flying")) return false;
+                && !attacker.hasKeyword(Keyword.FLYING)) return false;
 
-        if (attacker.hasKeyword("Flying")
+        if (attacker.hasKeyword(Keyword.FLYING)
                 || attacker.hasKeyword("CARDNAME can't be blocked except by creatures with flying or reach.")) {
-            if (!blocker.hasKeyword("Flying")
-                    && !blocker.hasKeyword("Reach")) return false;
+            if (!blocker.hasKeyword(Keyword.FLYING)
+                    && !blocker.hasKeyword(Keyword.REACH)) return false;
         }
 
-        if (attacker.hasKeyword("Horsemanship")) {
-            if (!blocker.hasKeyword("Horsemanship")) return false;
+        if (attacker.hasKeyword(Keyword.HORSEMANSHIP)) {
+            if (!blocker.hasKeyword(Keyword.HORSEMANSHIP)) return false;
         }
 
-        if (attacker.hasKeyword("Fear")) {
+        if (attacker.hasKeyword(Keyword.FEAR)) {
             if (!blocker.isArtifact() && !blocker.isBlack())
                 return false;
         }
 
-        if (attacker.hasKeyword("Intimidate")) {
+        if (attacker.hasKeyword(Keyword.INTIMIDATE)) {
             if (!blocker.isArtifact() && !blocker.sharesColorWith(attacker))
                 return false;
         }
@@ -786,6 +787,17 @@ public class CombatUtil {
      * @return a int.
      */
     public static int lifeThatWouldRemain(Combat combat) {
+        return lifeThatWouldRemain(AllZone.getComputerPlayer(), combat);
+    }
+
+    /**
+     * <p>lifeThatWouldRemain.</p>
+     *
+     * @param ai the {@link forge.Player} being attacked.
+     * @param combat a {@link forge.Combat} object.
+     * @return a int.
+     */
+    public static int lifeThatWouldRemain(Player ai, Combat combat) {
 
         int damage = 0;
 
@@ -803,11 +815,11 @@ public class CombatUtil {
             }
         }
 
-        damage += sumDamageIfUnblocked(unblocked, AllZone.getComputerPlayer());
+        damage += sumDamageIfUnblocked(unblocked, ai);
 
-        if (!AllZone.getComputerPlayer().canLoseLife()) damage = 0;
+        if (!ai.canLoseLife()) damage = 0;
 
-        return AllZone.getComputerPlayer().getLife() - damage;
+        return ai.getLife() - damage;
     }
 
     //calculates the amount of poison counters after the attack  
@@ -818,6 +830,17 @@ public class CombatUtil {
      * @return a int.
      */
     public static int resultingPoison(Combat combat) {
+        return resultingPoison(AllZone.getComputerPlayer(), combat);
+    }
+
+    /**
+     * <p>resultingPoison.</p>
+     *
+     * @param ai the {@link forge.Player} being attacked.
+     * @param combat a {@link forge.Combat} object.
+     * @return a int.
+     */
+    public static int resultingPoison(Player ai, Combat combat) {
 
         int poison = 0;
 
@@ -837,9 +860,9 @@ public class CombatUtil {
             }
         }
 
-        poison += sumPoisonIfUnblocked(unblocked, AllZone.getComputerPlayer());
+        poison += sumPoisonIfUnblocked(unblocked, ai);
 
-        return AllZone.getComputerPlayer().getPoisonCounters() + poison;
+        return ai.getPoisonCounters() + poison;
     }
 
     //Checks if the life of the attacked Player/Planeswalker is in danger 
@@ -850,15 +873,26 @@ public class CombatUtil {
      * @return a boolean.
      */
     public static boolean lifeInDanger(Combat combat) {
+        return lifeInDanger(AllZone.getComputerPlayer(), combat);
+    }
+
+    /**
+     * <p>lifeInDanger.</p>
+     *
+     * @param ai the {@link forge.Player} being attacked.
+     * @param combat a {@link forge.Combat} object.
+     * @return a boolean.
+     */
+    public static boolean lifeInDanger(Player ai, Combat combat) {
         // life in danger only cares about the player's life. Not about a Planeswalkers life
-        if (AllZone.getComputerPlayer().cantLose())
+        if (ai.cantLose())
             return false;
 
-        if (lifeThatWouldRemain(combat) < Math.min(4, AllZone.getComputerPlayer().getLife())
-                && !AllZone.getComputerPlayer().cantLoseForZeroOrLessLife())
+        if (lifeThatWouldRemain(ai, combat) < Math.min(4, ai.getLife())
+                && !ai.cantLoseForZeroOrLessLife())
             return true;
 
-        return (resultingPoison(combat) > Math.max(7, AllZone.getComputerPlayer().getPoisonCounters()));
+        return (resultingPoison(ai, combat) > Math.max(7, ai.getPoisonCounters()));
     }
 
     //Checks if the life of the attacked Player would be reduced
@@ -881,14 +915,25 @@ public class CombatUtil {
      * @return a boolean.
      */
     public static boolean lifeInSeriousDanger(Combat combat) {
+        return lifeInSeriousDanger(AllZone.getComputerPlayer(), combat);
+    }
+
+    /**
+     * <p>lifeInSeriousDanger.</p>
+     *
+     * @param ai the {@link forge.Player} being attacked.
+     * @param combat a {@link forge.Combat} object.
+     * @return a boolean.
+     */
+    public static boolean lifeInSeriousDanger(Player ai, Combat combat) {
         // life in danger only cares about the player's life. Not about a Planeswalkers life
-        if (AllZone.getComputerPlayer().cantLose())
+        if (ai.cantLose())
             return false;
 
-        if (lifeThatWouldRemain(combat) < 1 && !AllZone.getComputerPlayer().cantLoseForZeroOrLessLife())
+        if (lifeThatWouldRemain(ai, combat) < 1 && !ai.cantLoseForZeroOrLessLife())
             return true;
 
-        return (resultingPoison(combat) > 9);
+        return (resultingPoison(ai, combat) > 9);
     }
 
     // This calculates the amount of damage a blockgang can deal to the attacker (first strike not supported)
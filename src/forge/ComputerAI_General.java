@@ -2,6 +2,8 @@ package forge;
 
 import com.esotericsoftware.minlog.Log;
 import forge.card.cardFactory.CardFactoryUtil;
+import forge.card.mana.ManaPool;
+import forge.card.spellability.Cost;
 import forge.card.spellability.SpellAbility;
 import forge.card.spellability.Spell_Permanent;
 
@@ -13,23 +15,36 @@ import static forge.error.ErrorViewer.showError;
 /**
  * <p>ComputerAI_General class.</p>
  *
+ * Plays for the computer, or for the human player in games played without
+ * anyone at the screen, see {@link forge.gui.input.AIPilot}.
+ *
  * @author Forge
  * @version $Id: $
  */
 public class ComputerAI_General implements Computer {
+    private final Player player; //the player this AI plays for
 
     /**
      * <p>Constructor for ComputerAI_General.</p>
      */
     public ComputerAI_General() {
+        this(AllZone.getComputerPlayer());
+    }
 
+    /**
+     * <p>Constructor for ComputerAI_General.</p>
+     *
+     * @param player the {@link forge.Player} to play for.
+     */
+    public ComputerAI_General(Player player) {
+        this.player = player;
     }
 
     /**
      * <p>main1.</p>
      */
     public void main1() {
-    	ComputerUtil.chooseLandsToPlay();
+    	ComputerUtil.chooseLandsToPlay(player);
     	
     	if (AllZone.getStack().size() == 0)
     		playCards(Constant.Phase.Main1);
@@ -41,7 +56,7 @@ public class ComputerAI_General implements Computer {
      * <p>main2.</p>
      */
     public void main2() {
-		ComputerUtil.chooseLandsToPlay();
+		ComputerUtil.chooseLandsToPlay(player);
     	
     	if (AllZone.getStack().size() == 0)
     		playCards(Constant.Phase.Main2);
@@ -57,7 +72,7 @@ public class ComputerAI_General implements Computer {
     private void playCards(final String phase) {
         SpellAbility[] sp = phase.equals(Constant.Phase.Main1) ? getMain1() : getMain2();
 
-        boolean nextPhase = ComputerUtil.playCards(sp);
+        boolean nextPhase = ComputerUtil.playCards(sp, player);
 
         if (nextPhase) {
             AllZone.getPhase().passPriority();
@@ -71,9 +86,9 @@ public class ComputerAI_General implements Computer {
      */
     private SpellAbility[] getMain1() {
         //Card list of all cards to consider
-        CardList hand = AllZoneUtil.getPlayerHand(AllZone.getComputerPlayer());
+        CardList hand = AllZoneUtil.getPlayerHand(player);
 
-        if (AllZone.getComputerManaPool().isEmpty())
+        if (getManaPool().isEmpty())
             hand = hand.filter(new CardListFilter() {
                 public boolean addCard(Card c) {
 
@@ -86,7 +101,7 @@ public class ComputerAI_General implements Computer {
                     if (c.isCreature()
                             && (c.hasKeyword("Haste")) || c.hasKeyword("Exalted")) return true;
 
-                    CardList buffed = AllZoneUtil.getPlayerCardsInPlay(AllZone.getComputerPlayer()); //get all cards the computer controls with BuffedBy
+                    CardList buffed = AllZoneUtil.getPlayerCardsInPlay(player); //get all cards the AI controls with BuffedBy
                     for (int j = 0; j < buffed.size(); j++) {
                         Card buffedcard = buffed.get(j);
                         if (buffedcard.getSVar("BuffedBy").length() > 0) {
@@ -96,7 +111,7 @@ public class ComputerAI_General implements Computer {
                         }
                     }//BuffedBy
 
-                    CardList antibuffed = AllZoneUtil.getPlayerCardsInPlay(AllZone.getHumanPlayer()); //get all cards the human controls with AntiBuffedBy
+                    CardList antibuffed = AllZoneUtil.getPlayerCardsInPlay(player.getOpponent()); //get all cards the opponent controls with AntiBuffedBy
                     for (int k = 0; k < antibuffed.size(); k++) {
                         Card buffedcard = antibuffed.get(k);
                         if (buffedcard.getSVar("AntiBuffedBy").length() > 0) {
@@ -108,9 +123,9 @@ public class ComputerAI_General implements Computer {
 
                     if (c.isLand()) return false;
 
-                    CardList vengevines = AllZoneUtil.getPlayerGraveyard(AllZone.getComputerPlayer(), "Vengevine");
+                    CardList vengevines = AllZoneUtil.getPlayerGraveyard(player, "Vengevine");
                     if (vengevines.size() > 0) {
-                        CardList creatures = AllZoneUtil.getPlayerHand(AllZone.getComputerPlayer());
+                        CardList creatures = AllZoneUtil.getPlayerHand(player);
                         CardList creatures2 = new CardList();
                         for (int i = 0; i < creatures.size(); i++) {
                             if (creatures.get(i).isCreature()
@@ -118,7 +133,7 @@ public class ComputerAI_General implements Computer {
                                 creatures2.add(creatures.get(i));
                             }
                         }
-                        if (creatures2.size() + Phase.getComputerCreatureSpellCount() > 1
+                        if (creatures2.size() + getCreatureSpellCount() > 1
                                 && c.isCreature()
                                 && CardUtil.getConvertedManaCost(c.getManaCost()) <= 3) return true;
                     } // AI Improvement for Vengevine
@@ -126,10 +141,10 @@ public class ComputerAI_General implements Computer {
                     return false;
                 }
             });
-        CardList all = AllZoneUtil.getPlayerCardsInPlay(AllZone.getComputerPlayer());
+        CardList all = AllZoneUtil.getPlayerCardsInPlay(player);
         all.addAll(hand);
 
-        CardList humanPlayable = AllZoneUtil.getPlayerCardsInPlay(AllZone.getHumanPlayer());
+        CardList humanPlayable = AllZoneUtil.getPlayerCardsInPlay(player.getOpponent());
         humanPlayable = humanPlayable.filter(new CardListFilter() {
             public boolean addCard(Card c) {
                 return (c.canAnyPlayerActivate());
@@ -149,20 +164,20 @@ public class ComputerAI_General implements Computer {
      */
     private SpellAbility[] getMain2() {
         //Card list of all cards to consider
-        CardList all = AllZoneUtil.getPlayerHand(AllZone.getComputerPlayer());
+        CardList all = AllZoneUtil.getPlayerHand(player);
         //Don't play permanents with Flash before humans declare attackers step
         all = all.filter(new CardListFilter() {
             public boolean addCard(Card c) {
                 if (c.isPermanent()
                         && c.hasKeyword("Flash")
-                        && (AllZone.getPhase().isPlayerTurn(AllZone.getComputerPlayer())
+                        && (AllZone.getPhase().isPlayerTurn(player)
                         || AllZone.getPhase().isBefore(Constant.Phase.Combat_Declare_Attackers_InstantAbility)))
                     return false;
                 return true;
             }
         });
-        all.addAll(AllZoneUtil.getPlayerCardsInPlay(AllZone.getComputerPlayer()));
-        all.addAll(CardFactoryUtil.getExternalZoneActivationCards(AllZone.getComputerPlayer()));
+        all.addAll(AllZoneUtil.getPlayerCardsInPlay(player));
+        all.addAll(CardFactoryUtil.getExternalZoneActivationCards(player));
 
         // Prevent the computer from summoning Ball Lightning type creatures during main phase 2
         all = all.getNotKeyword("At the beginning of the end step, sacrifice CARDNAME.");
@@ -174,7 +189,7 @@ public class ComputerAI_General implements Computer {
             }
         });
 
-        CardList humanPlayable = AllZoneUtil.getPlayerCardsInPlay(AllZone.getHumanPlayer());
+        CardList humanPlayable = AllZoneUtil.getPlayerCardsInPlay(player.getOpponent());
         humanPlayable = humanPlayable.filter(new CardListFilter() {
             public boolean addCard(Card c) {
                 return (c.canAnyPlayerActivate());
@@ -191,23 +206,23 @@ public class ComputerAI_General implements Computer {
      * @return a {@link forge.CardList} object.
      */
     private CardList getAvailableSpellAbilities() {
-        CardList all = AllZoneUtil.getPlayerHand(AllZone.getComputerPlayer());
+        CardList all = AllZoneUtil.getPlayerHand(player);
         //Don't play permanents with Flash before humans declare attackers step
         all = all.filter(new CardListFilter() {
             public boolean addCard(Card c) {
                 if (c.isPermanent()
                         && c.hasKeyword("Flash")
-                        && (AllZone.getPhase().isPlayerTurn(AllZone.getComputerPlayer())
+                        && (AllZone.getPhase().isPlayerTurn(player)
                         || AllZone.getPhase().isBefore(Constant.Phase.Combat_Declare_Attackers_InstantAbility)))
                     return false;
                 return true;
             }
         });
-        all.addAll(AllZoneUtil.getPlayerCardsInPlay(AllZone.getComputerPlayer()));
-        all.addAll(CardFactoryUtil.getExternalZoneActivationCards(AllZone.getComputerPlayer()));
+        all.addAll(AllZoneUtil.getPlayerCardsInPlay(player));
+        all.addAll(CardFactoryUtil.getExternalZoneActivationCards(player));
 
 
-        CardList humanPlayable = AllZoneUtil.getPlayerCardsInPlay(AllZone.getHumanPlayer());
+        CardList humanPlayable = AllZoneUtil.getPlayerCardsInPlay(player.getOpponent());
         humanPlayable = humanPlayable.filter(new CardListFilter() {
             public boolean addCard(Card c) {
                 return (c.canAnyPlayerActivate());
@@ -245,7 +260,46 @@ public class ComputerAI_General implements Computer {
     }
 
     /**
-     * Returns the spellAbilities from the card list that the computer is able to play
+     * <p>getManaPool.</p>
+     *
+     * @return the {@link forge.card.mana.ManaPool} of the player this AI plays for.
+     */
+    private ManaPool getManaPool() {
+        return player.isComputer() ? AllZone.getComputerManaPool() : AllZone.getManaPool();
+    }
+
+    /**
+     * <p>getCreatureSpellCount.</p>
+     *
+     * @return the creature spells this AI's player has cast this turn.
+     */
+    private int getCreatureSpellCount() {
+        return player.isComputer() ? Phase.getComputerCreatureSpellCount() : Phase.getPlayerCreatureSpellCount();
+    }
+
+    /**
+     * <p>canChooseFor.</p>
+     *
+     * The card AI (canPlayAI, chooseTargetAI and paying the other costs)
+     * always decides for the computer, so the human player is only given
+     * spells with nothing to decide: permanents other than Auras, without
+     * targets, and with nothing to pay but a mana cost without X.
+     *
+     * @param sa a {@link forge.card.spellability.SpellAbility} object.
+     * @return true if this AI may play the ability.
+     */
+    private boolean canChooseFor(SpellAbility sa) {
+        if (player.isComputer())
+            return true;
+
+        Cost cost = sa.getPayCosts();
+        return sa instanceof Spell_Permanent && !sa.getSourceCard().isAura() && sa.getTarget() == null
+                && (cost == null || cost.isOnlyManaCost())
+                && !sa.isXCost() && !sa.isMultiKicker() && !sa.isReplicate();
+    }
+
+    /**
+     * Returns the spellAbilities from the card list that the AI is able to play
      *
      * @param l a {@link forge.CardList} object.
      * @return an array of {@link forge.card.spellability.SpellAbility} objects.
@@ -257,8 +311,8 @@ public class ComputerAI_General implements Computer {
                 // if SA is from AF_Counter don't add to getPlayable
                 //This try/catch should fix the "computer is thinking" bug
                 try {
-                    sa.setActivatingPlayer(AllZone.getComputerPlayer());
-                    if (ComputerUtil.canBePlayedAndPayedByAI(sa)) {
+                    sa.setActivatingPlayer(player);
+                    if (canChooseFor(sa) && ComputerUtil.canBePlayedAndPayedByAI(sa, player)) {
                         spellAbility.add(sa);
                     }
                 } catch (Exception ex) {
@@ -278,8 +332,12 @@ public class ComputerAI_General implements Computer {
         for (Card c : l) {
             for (SpellAbility sa : c.getSpellAbility()) {
                 // Check if this AF is a Counterpsell
-                if (sa.getAbilityFactory() != null && sa.getAbilityFactory().getAPI().equals("Counter"))
-                    spellAbility.add(sa);
+                if (sa.getAbilityFactory() != null && sa.getAbilityFactory().getAPI().equals("Counter")
+                        && canChooseFor(sa)) {
+                    sa.setActivatingPlayer(player);
+                    if (ComputerUtil.passesPrefilter(sa, player))
+                        spellAbility.add(sa);
+                }
             }
         }
 
@@ -298,7 +356,7 @@ public class ComputerAI_General implements Computer {
             for (SpellAbility sa : c.getSpellAbility()) {
                 // Or if this Permanent has an ETB ability with Counter
                 if (sa instanceof Spell_Permanent) {
-                    if (Spell_Permanent.checkETBEffects(c, sa, "Counter"))
+                    if (Spell_Permanent.checkETBEffects(c, sa, "Counter") && canChooseFor(sa))
                         spellAbility.add(sa);
                 }
             }
@@ -320,7 +378,7 @@ public class ComputerAI_General implements Computer {
     public void declare_attackers() {
         // 12/2/10(sol) the decision making here has moved to getAttackers()
 
-        AllZone.setCombat(ComputerUtil.getAttackers());
+        AllZone.setCombat(ComputerUtil.getAttackers(player));
 
         Card[] att = AllZone.getCombat().getAttackers();
         if (att.length > 0)
@@ -329,10 +387,10 @@ public class ComputerAI_General implements Computer {
         for (int i = 0; i < att.length; i++) {
             // tapping of attackers happens after Propaganda is paid for
             //if (!att[i].hasKeyword("Vigilance")) att[i].tap();
-            Log.debug("Computer just assigned " + att[i].getName() + " as an attacker.");
+            Log.debug(player + " just assigned " + att[i].getName() + " as an attacker.");
         }
 
-        AllZone.getComputerBattlefield().updateObservers();
+        AllZone.getZone(Constant.Zone.Battlefield, player).updateObservers();
         CombatUtil.showCombat();
 
         AllZone.getPhase().setNeedToNextPhase(true);
@@ -349,9 +407,9 @@ public class ComputerAI_General implements Computer {
      * <p>declare_blockers.</p>
      */
     public void declare_blockers() {
-        CardList blockers = AllZoneUtil.getCreaturesInPlay(AllZone.getComputerPlayer());
+        CardList blockers = AllZoneUtil.getCreaturesInPlay(player);
 
-        AllZone.setCombat(ComputerUtil_Block2.getBlockers(AllZone.getCombat(), blockers));
+        AllZone.setCombat(ComputerUtil_Block2.getBlockers(AllZone.getCombat(), blockers, player));
 
         CombatUtil.showCombat();
 
@@ -396,11 +454,11 @@ public class ComputerAI_General implements Computer {
         if (AllZone.getStack().size() == 0) {
             sas = getOtherPhases();
 
-            boolean pass = (sas.length == 0) || AllZone.getPhase().is(Constant.Phase.Upkeep, AllZone.getComputerPlayer()) ||
-                    AllZone.getPhase().is(Constant.Phase.Draw, AllZone.getComputerPlayer()) ||
-                    AllZone.getPhase().is(Constant.Phase.End_Of_Turn, AllZone.getComputerPlayer());
+            boolean pass = (sas.length == 0) || AllZone.getPhase().is(Constant.Phase.Upkeep, player) ||
+                    AllZone.getPhase().is(Constant.Phase.Draw, player) ||
+                    AllZone.getPhase().is(Constant.Phase.End_Of_Turn, player);
             if (!pass) {        // Each AF should check the phase individually
-                pass = ComputerUtil.playCards(sas);
+                pass = ComputerUtil.playCards(sas, player);
             }
 
             if (pass)
@@ -409,13 +467,13 @@ public class ComputerAI_General implements Computer {
         }
 
         // if top of stack is owned by me
-        if (AllZone.getStack().peekInstance().getActivatingPlayer().isComputer()) {
+        if (AllZone.getStack().peekInstance().getActivatingPlayer().equals(player)) {
             // probably should let my stuff resolve to force Human to respond to it
             AllZone.getPhase().passPriority();
             return;
         }
 
-        // top of stack is owned by human,
+        // top of stack is owned by the opponent,
         ArrayList<SpellAbility> possibleCounters = getPossibleCounters();
 
         if (possibleCounters.size() > 0 && ComputerUtil.playCounterSpell(possibleCounters)) {
@@ -426,7 +484,7 @@ public class ComputerAI_General implements Computer {
 
         possibleCounters.clear();
         possibleCounters = getPossibleETBCounters();
-        if (possibleCounters.size() > 0 && !ComputerUtil.playCards(possibleCounters)) {
+        if (possibleCounters.size() > 0 && !ComputerUtil.playCards(possibleCounters, player)) {
             // Responding Permanent w/ ETB Counter is on the Stack
             // AllZone.getPhase().passPriority();
             return;
@@ -435,7 +493,7 @@ public class ComputerAI_General implements Computer {
         sas = getOtherPhases();
         if (sas.length > 0) {
             // Spell not Countered
-            if (!ComputerUtil.playCards(sas))
+            if (!ComputerUtil.playCards(sas, player))
                 return;
         }
         // if this hasn't been covered above, just PassPriority()
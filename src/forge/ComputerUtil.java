@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 
 import static forge.error.ErrorViewer.showError;
 
@@ -40,6 +41,18 @@ public class ComputerUtil {
      * @return a boolean.
      */
     static public boolean playCards(SpellAbility[] all) {
+        return playCards(all, AllZone.getComputerPlayer());
+    }//playCards()
+
+    //if return true, go to next phase
+    /**
+     * <p>playCards.</p>
+     *
+     * @param all an array of {@link forge.card.spellability.SpellAbility} objects.
+     * @param player the {@link forge.Player} playing them.
+     * @return a boolean.
+     */
+    static public boolean playCards(SpellAbility[] all, Player player) {
         //not sure "playing biggest spell" matters?
         sortSpellAbilityByCost(all);
         //    MyRandom.shuffle(all);
@@ -50,10 +63,10 @@ public class ComputerUtil {
             if (af != null && af.getAPI().equals("Counter"))
                 continue;
 
-            sa.setActivatingPlayer(AllZone.getComputerPlayer());
-            if (canBePlayedAndPayedByAI(sa)) //checks everything nescessary
+            sa.setActivatingPlayer(player);
+            if (canBePlayedAndPayedByAI(sa, player)) //checks everything nescessary
             {
-                handlePlayingSpellAbility(sa);
+                handlePlayingSpellAbility(sa, player);
 
                 return false;
             }
@@ -68,13 +81,50 @@ public class ComputerUtil {
      * @return a boolean.
      */
     static public boolean playCards(ArrayList<SpellAbility> all) {
+        return playCards(all, AllZone.getComputerPlayer());
+    }//playCards()
+
+    /**
+     * <p>playCards.</p>
+     *
+     * @param all a {@link java.util.ArrayList} object.
+     * @param player the {@link forge.Player} playing them.
+     * @return a boolean.
+     */
+    static public boolean playCards(ArrayList<SpellAbility> all, Player player) {
         SpellAbility[] sas = new SpellAbility[all.size()];
         for (int i = 0; i < sas.length; i++) {
             sas[i] = all.get(i);
         }
-        return playCards(sas);
+        return playCards(sas, player);
     }//playCards()
 
+    /**
+     * <p>handlePlayingSpellAbility.</p>
+     *
+     * The human player is only given spells with nothing to pay but mana
+     * and nothing to target, see ComputerAI_General, since the rest of
+     * the card AI decides for the computer.
+     *
+     * @param sa a {@link forge.card.spellability.SpellAbility} object.
+     * @param player the {@link forge.Player} playing it.
+     */
+    static public void handlePlayingSpellAbility(SpellAbility sa, Player player) {
+        if (player.isComputer()) {
+            handlePlayingSpellAbility(sa);
+            return;
+        }
+
+        AllZone.getStack().freezeStack();
+        Card source = sa.getSourceCard();
+
+        if (sa.isSpell() && !source.isCopiedSpell())
+            AllZone.getGameAction().moveToStack(source);
+
+        payManaCost(sa, player, false, 0);
+        AllZone.getStack().addAndUnfreeze(sa);
+    }
+
     /**
      * <p>handlePlayingSpellAbility.</p>
      *
@@ -333,7 +383,108 @@ public class ComputerUtil {
      * @since 1.0.15
      */
     static public boolean canBePlayedAndPayedByAI(SpellAbility sa) {
-        return sa.canPlayAI() && sa.canPlay() && canPayCost(sa);
+        return canBePlayedAndPayedByAI(sa, AllZone.getComputerPlayer());
+    }
+
+    /**
+     * <p>canBePlayedAndPayedByAI.</p>
+     *
+     * Asks {@link #passesPrefilter(SpellAbility, Player)} first, which also
+     * checks canPlay(), and only then the AI logic and a test payment.
+     *
+     * @param sa a {@link forge.card.spellability.SpellAbility} object.
+     * @param player the {@link forge.Player} who would pay for it.
+     * @return a boolean.
+     */
+    static public boolean canBePlayedAndPayedByAI(SpellAbility sa, Player player) {
+        return passesPrefilter(sa, player) && sa.canPlayAI() && canPayCost(sa, player);
+    }
+
+    /**
+     * The answers of passesPrefilter since the game last changed. Only the
+     * checks in passesPrefilter are remembered here; canPlayAI can answer
+     * differently each time it is asked, so it is never cached.
+     */
+    private static final class Prefiltered {
+        private Player player;
+        private long version = -1;
+        private int stackSize = -1;
+        private int floatingMana = -1;
+        private int availableMana = -1;
+        private final IdentityHashMap<SpellAbility, Boolean> abilities = new IdentityHashMap<SpellAbility, Boolean>();
+    }
+
+    /** Constant <code>prefiltered</code> */
+    private static final GameLocal<Prefiltered> prefiltered = new GameLocal<Prefiltered>() {
+        protected Prefiltered initialValue() {
+            return new Prefiltered();
+        }
+    };
+
+    /**
+     * <p>passesPrefilter.</p>
+     *
+     * Cheap checks made before canBePlayedAndPayedByAI asks the AI logic
+     * and tries to pay the cost for real. The ability has to be playable
+     * now (timing, zone and activation limits), and the player has to have
+     * at least as many untapped mana sources and floating mana as the
+     * cost's converted mana cost, since the test payment takes only one
+     * mana from each source. The answer is remembered until the game, the
+     * stack or the floating mana changes, or another player asks, so the
+     * AI asking again about the abilities it just listed costs a lookup.
+     *
+     * @param sa a {@link forge.card.spellability.SpellAbility} object.
+     * @param player the {@link forge.Player} who would play it.
+     * @return false if the ability can't be played right now.
+     */
+    static boolean passesPrefilter(SpellAbility sa, Player player) {
+        Prefiltered cache = prefiltered.get();
+        long version = AllZone.getEventBus().getVersion();
+        int stackSize = AllZone.getStack().size();
+        int floatingMana = (player.isComputer() ? AllZone.getComputerManaPool() : AllZone.getManaPool()).totalMana();
+        if (cache.player != player || cache.version != version || cache.stackSize != stackSize
+                || cache.floatingMana != floatingMana) {
+            cache.abilities.clear();
+            cache.availableMana = -1;
+            cache.player = player;
+            cache.version = version;
+            cache.stackSize = stackSize;
+            cache.floatingMana = floatingMana;
+        }
+
+        Boolean known = cache.abilities.get(sa);
+        if (known != null)
+            return known;
+
+        boolean passes = sa.canPlay() && hasEnoughManaSources(sa, player, cache);
+        cache.abilities.put(sa, passes);
+        return passes;
+    }
+
+    /**
+     * <p>hasEnoughManaSources.</p>
+     *
+     * X is left out of the cost, and so are hybrid and Phyrexian costs, which
+     * can be paid with fewer mana than their converted mana cost.
+     *
+     * @param sa a {@link forge.card.spellability.SpellAbility} object.
+     * @param player the {@link forge.Player} who would pay for it.
+     * @param cache the {@link Prefiltered} cache for this game.
+     * @return false if the player can't have enough mana for the cost.
+     */
+    private static boolean hasEnoughManaSources(SpellAbility sa, Player player, Prefiltered cache) {
+        String mana = sa.getPayCosts() != null ? sa.getPayCosts().getTotalMana() : sa.getManaCost();
+        if (mana.contains("/"))
+            return true;
+
+        ManaCost cost = AllZone.getGameAction().getSpellCostChange(sa, new ManaCost(mana));
+        if (cost.isPaid())
+            return true;
+
+        if (cache.availableMana < 0)
+            cache.availableMana = getAvailableMana(player).size() + cache.floatingMana;
+
+        return cost.getConvertedManaCost() <= cache.availableMana;
     }
 
     /**
@@ -629,7 +780,7 @@ public class ComputerUtil {
 
         cost = ((ManaPool) manapool).subtractMana(sa, cost);
 
-        CardList manaSources = getAvailableMana();
+        CardList manaSources = getAvailableMana(player);
 
         //this is to prevent errors for mana sources that have abilities that cost mana.
         manaSources.remove(sa.getSourceCard());
@@ -917,7 +1068,17 @@ public class ComputerUtil {
      * @return a boolean.
      */
     static public boolean chooseLandsToPlay() {
-        Player computer = AllZone.getComputerPlayer();
+        return chooseLandsToPlay(AllZone.getComputerPlayer());
+    }
+
+    //plays a land if one is available
+    /**
+     * <p>chooseLandsToPlay.</p>
+     *
+     * @param computer the {@link forge.Player} playing the lands.
+     * @return a boolean.
+     */
+    static public boolean chooseLandsToPlay(final Player computer) {
         CardList landList = AllZoneUtil.getPlayerHand(computer);
         landList = landList.filter(AllZoneUtil.lands);
 
@@ -938,7 +1099,7 @@ public class ComputerUtil {
                 }
                 if (c.isType("Legendary")
                         && !c.getName().equals("Flagstones of Trokair")) {
-                    CardList list = AllZoneUtil.getPlayerCardsInPlay(AllZone.getComputerPlayer());
+                    CardList list = AllZoneUtil.getPlayerCardsInPlay(computer);
                     if (list.containsName(c.getName()))
                         return false;
                 }
@@ -947,8 +1108,8 @@ public class ComputerUtil {
                 ArrayList<SpellAbility> spellAbilities = c.getSpellAbilities();
                 for (SpellAbility sa : spellAbilities) 
                 	if (sa.isCycling()) {
-                		CardList hand = AllZoneUtil.getPlayerHand(AllZone.getComputerPlayer());
-                        CardList lands = AllZoneUtil.getPlayerCardsInPlay(AllZone.getComputerPlayer());
+                		CardList hand = AllZoneUtil.getPlayerHand(computer);
+                        CardList lands = AllZoneUtil.getPlayerCardsInPlay(computer);
                         lands.addAll(hand);
                         lands = lands.getType("Land");
 
@@ -1191,8 +1352,27 @@ public class ComputerUtil {
      * @return a {@link forge.Combat} object.
      */
     static public Combat getAttackers() {
-        ComputerUtil_Attack2 att = new ComputerUtil_Attack2(AllZoneUtil.getPlayerCardsInPlay(AllZone.getComputerPlayer()),
-                AllZoneUtil.getPlayerCardsInPlay(AllZone.getHumanPlayer()), AllZone.getHumanPlayer().getLife());
+        return getAttackers(AllZone.getComputerPlayer());
+    }
+
+    /**
+     * <p>getAttackers.</p>
+     *
+     * @param attacker the {@link forge.Player} attacking.
+     * @return a {@link forge.Combat} object.
+     */
+    static public Combat getAttackers(Player attacker) {
+        Player defender = attacker.getOpponent();
+        if (Constant.Runtime.AttackSearchNodes[0] > 0) {
+            ComputerUtil_AttackSearch search = new ComputerUtil_AttackSearch(attacker,
+                    AllZoneUtil.getPlayerCardsInPlay(attacker),
+                    AllZoneUtil.getPlayerCardsInPlay(defender), Constant.Runtime.AttackSearchNodes[0],
+                    Constant.Runtime.AttackSearchMillis[0]);
+            return search.getAttackers();
+        }
+
+        ComputerUtil_Attack2 att = new ComputerUtil_Attack2(attacker, AllZoneUtil.getPlayerCardsInPlay(attacker),
+                AllZoneUtil.getPlayerCardsInPlay(defender), defender.getLife());
 
         return att.getAttackers();
     }
@@ -1,16 +1,17 @@
 package forge;
 
-import forge.card.cardFactory.CardFactoryUtil;
 import forge.card.trigger.Trigger;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Random;
 
-//doesHumanAttackAndWin() uses the global variable AllZone.getComputerPlayer()
 /**
  * <p>ComputerUtil_Attack2 class.</p>
  *
+ * The "computer" of this class is the attacking player and the "human"
+ * its opponent, whoever is playing them.
+ *
  * @author Forge
  * @version $Id: $
  */
@@ -22,6 +23,9 @@ public class ComputerUtil_Attack2 {
     private CardList playerCreatures;
     private int blockerLife;
 
+    private final Player computer; //the attacking player
+    private final Player human;    //the defending player
+
     private Random random = MyRandom.random;
     private final int randomInt = random.nextInt();
 
@@ -30,6 +34,8 @@ public class ComputerUtil_Attack2 {
 
     private int aiAggression = 0; // added by Masher, how aggressive the ai attack will be depending on circumstances
 
+    private CombatSimulator simulator; //what happens when the computer creatures attack and the human creatures block
+
     /**
      * <p>Constructor for ComputerUtil_Attack2.</p>
      *
@@ -49,6 +55,21 @@ public class ComputerUtil_Attack2 {
      * @param blockerLife a int.
      */
     public ComputerUtil_Attack2(CardList possibleAttackers, CardList possibleBlockers, int blockerLife) {
+        this(AllZone.getComputerPlayer(), possibleAttackers, possibleBlockers, blockerLife);
+    }
+
+    /**
+     * <p>Constructor for ComputerUtil_Attack2.</p>
+     *
+     * @param attacker the {@link forge.Player} attacking.
+     * @param possibleAttackers a {@link forge.CardList} object.
+     * @param possibleBlockers a {@link forge.CardList} object.
+     * @param blockerLife a int.
+     */
+    public ComputerUtil_Attack2(Player attacker, CardList possibleAttackers, CardList possibleBlockers, int blockerLife) {
+        computer = attacker;
+        human = attacker.getOpponent();
+
         humanList = new CardList(possibleBlockers.toArray());
         humanList = humanList.getType("Creature");
 
@@ -97,17 +118,38 @@ public class ComputerUtil_Attack2 {
      * @return a boolean.
      */
     public boolean isEffectiveAttacker(Card attacker, Combat combat) {
-        if (CombatUtil.damageIfUnblocked(attacker, AllZone.getHumanPlayer(), combat) > 0) return true;
-        if (CombatUtil.poisonIfUnblocked(attacker, AllZone.getHumanPlayer(), combat) > 0) return true;
+        CombatSimulator sim = getSimulator(combat);
+        if (sim.damageIfUnblocked(attacker) > 0) return true;
+        if (sim.poisonIfUnblocked(attacker) > 0) return true;
 
         ArrayList<Trigger> registeredTriggers = AllZone.getTriggerHandler().getRegisteredTriggers();
         for (Trigger trigger : registeredTriggers)
             if (CombatUtil.combatTriggerWillTrigger(attacker, null, trigger, combat)
-                    && trigger.getHostCard().getController().isComputer()) return true;
+                    && trigger.getHostCard().getController().equals(computer)) return true;
 
         return false;
     }
 
+    /**
+     * <p>Getter for the field <code>simulator</code>.</p>
+     *
+     * Made the first time it is needed, for all the computer creatures
+     * against all the human creatures.
+     *
+     * @param combat the {@link forge.Combat} the attack is planned for.
+     * @return a {@link forge.CombatSimulator} object.
+     */
+    public CombatSimulator getSimulator(Combat combat) {
+        if (simulator == null) {
+            CardList possibleAttackers = new CardList(computerList.toArray());
+            for (Card attacker : attackers) {
+                if (!possibleAttackers.contains(attacker)) possibleAttackers.add(attacker);
+            }
+            simulator = new CombatSimulator(possibleAttackers, humanList, human, combat);
+        }
+        return simulator;
+    }
+
     /**
      * <p>getPossibleAttackers.</p>
      *
@@ -180,10 +222,10 @@ public class ComputerUtil_Attack2 {
         // (human will get an extra first attack with a creature that untaps)
         // In addition, if the computer guesses it needs no blockers, make sure that
         // it won't be surprised by Exalted
-        int humanExaltedBonus = countExaltedBonus(AllZone.getHumanPlayer());
+        int humanExaltedBonus = countExaltedBonus(human);
 
         if (humanExaltedBonus > 0) {
-            int nFinestHours = AllZoneUtil.getPlayerCardsInPlay(AllZone.getHumanPlayer(), "Finest Hour").size();
+            int nFinestHours = AllZoneUtil.getPlayerCardsInPlay(human, "Finest Hour").size();
 
             if ((blockersNeeded == 0 || nFinestHours > 0) && humanList.size() > 0) {
                 //
@@ -193,9 +235,9 @@ public class ComputerUtil_Attack2 {
                     // For Finest Hour, one creature could attack and get the bonus TWICE
                     humanBaseAttack = humanBaseAttack + humanExaltedBonus;
                 }
-                int totalExaltedAttack = AllZoneUtil.isCardInPlay("Rafiq of the Many", AllZone.getHumanPlayer()) ?
+                int totalExaltedAttack = AllZoneUtil.isCardInPlay("Rafiq of the Many", human) ?
                         2 * humanBaseAttack : humanBaseAttack;
-                if ((AllZone.getComputerPlayer().getLife() - 3) <= totalExaltedAttack) {
+                if ((computer.getLife() - 3) <= totalExaltedAttack) {
                     // We will lose if there is an Exalted attack -- keep one blocker
                     if (blockersNeeded == 0 && notNeededAsBlockers.size() > 0)
                         notNeededAsBlockers.remove(0);
@@ -233,7 +275,7 @@ public class ComputerUtil_Attack2 {
         //originally -3 so the computer will try to stay at 3 life
         //0 now to prevent the AI from not attacking when it's got low life
         //(seems to happen too often)
-        return AllZone.getComputerPlayer().getLife() <= totalAttack;
+        return computer.getLife() <= totalAttack;
     }
 
     /**
@@ -243,8 +285,8 @@ public class ComputerUtil_Attack2 {
      */
     private boolean doAssault() {
         //Beastmaster Ascension
-        if (AllZoneUtil.isCardInPlay("Beastmaster Ascension", AllZone.getComputerPlayer()) && attackers.size() > 1) {
-            CardList beastions = AllZoneUtil.getCardsInZone(Constant.Zone.Battlefield, AllZone.getComputerPlayer()).
+        if (AllZoneUtil.isCardInPlay("Beastmaster Ascension", computer) && attackers.size() > 1) {
+            CardList beastions = AllZoneUtil.getCardsInZone(Constant.Zone.Battlefield, computer).
                     getName("Beastmaster Ascension");
             int minCreatures = 7;
             for (Card beastion : beastions) {
@@ -290,6 +332,21 @@ public class ComputerUtil_Attack2 {
     }
 
 
+    /**
+     * <p>mustAttack.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @return true if the attacker doesn't really have a choice.
+     */
+    public boolean mustAttack(Card attacker) {
+        return attacker.hasKeyword("CARDNAME attacks each turn if able.")
+                || attacker.hasKeyword("At the beginning of the end step, destroy CARDNAME.")
+                || attacker.hasKeyword("At the beginning of the end step, exile CARDNAME.")
+                || attacker.hasKeyword("At the beginning of the end step, sacrifice CARDNAME.")
+                || attacker.getSacrificeAtEOT()
+                || attacker.getSirenAttackOrDestroy();
+    }
+
     /**
      * <p>Getter for the field <code>attackers</code>.</p>
      *
@@ -309,6 +366,8 @@ public class ComputerUtil_Attack2 {
 
         combat.setDefenders(AllZone.getCombat().getDefenders());
 
+        CombatSimulator sim = getSimulator(combat);
+
         boolean bAssault = doAssault();
         // Determine who will be attacked
         chooseDefender(combat, bAssault);
@@ -317,13 +376,7 @@ public class ComputerUtil_Attack2 {
 
         //Atackers that don't really have a choice
         for (Card attacker : attackers) {
-            if ((attacker.hasKeyword("CARDNAME attacks each turn if able.")
-                    || attacker.hasKeyword("At the beginning of the end step, destroy CARDNAME.")
-                    || attacker.hasKeyword("At the beginning of the end step, exile CARDNAME.")
-                    || attacker.hasKeyword("At the beginning of the end step, sacrifice CARDNAME.")
-                    || attacker.getSacrificeAtEOT()
-                    || attacker.getSirenAttackOrDestroy())
-                    && CombatUtil.canAttack(attacker, combat)) {
+            if (mustAttack(attacker) && CombatUtil.canAttack(attacker, combat)) {
                 combat.addAttacker(attacker);
                 attackersLeft.remove(attacker);
             }
@@ -361,7 +414,7 @@ public class ComputerUtil_Attack2 {
         // find the potential counter attacking damage compared to AI life total
         double aiLifeToPlayerDamageRatio = 1000000;
         if (candidateCounterAttackDamage > 0)
-            aiLifeToPlayerDamageRatio = (double) AllZone.getComputerPlayer().life / candidateCounterAttackDamage;
+            aiLifeToPlayerDamageRatio = (double) computer.life / candidateCounterAttackDamage;
 
         // get the potential damage and strength of the AI forces
         CardList candidateAttackers = new CardList();
@@ -372,7 +425,7 @@ public class ComputerUtil_Attack2 {
 
                 candidateAttackers.add(pCard);
                 if (pCard.getNetCombatDamage() > 0) {
-                    candidateUnblockedDamage += CombatUtil.damageIfUnblocked(pCard, AllZone.getHumanPlayer(), combat);
+                    candidateUnblockedDamage += sim.damageIfUnblocked(pCard);
                     computerForces += 1;
                 }
 
@@ -382,7 +435,7 @@ public class ComputerUtil_Attack2 {
         // find the potential damage ratio the AI can cause
         double playerLifeToDamageRatio = 1000000;
         if (candidateUnblockedDamage > 0)
-            playerLifeToDamageRatio = (double) AllZone.getHumanPlayer().life / candidateUnblockedDamage;
+            playerLifeToDamageRatio = (double) human.life / candidateUnblockedDamage;
 
         /*System.out.println(String.valueOf(aiLifeToPlayerDamageRatio) + " = ai life to player damage ratio");
 System.out.println(String.valueOf(playerLifeToDamageRatio) + " = player life ai player damage ratio");*/
@@ -405,7 +458,7 @@ System.out.println(String.valueOf(outNumber) + " = outNumber, higher = better fo
         // get list of attackers ordered from low power to high
         CardListUtil.sortAttackLowFirst(attackers);
         // get player life total
-        int playerLife = AllZone.getHumanPlayer().life;
+        int playerLife = human.life;
         // get the list of attackers up to the first blocked one
         CardList attritionalAttackers = new CardList();
         for (int x = 0; x < attackers.size() - playerForces; x++) {
@@ -444,21 +497,15 @@ System.out.println(String.valueOf(outNumber) + " = outNumber, higher = better fo
         double turnsUntilDeathByUnblockable = 0;
         boolean doUnblockableAttack = false;
         for (Card attacker : attackers) {
-            boolean isUnblockableCreature = true;
             // check blockers individually, as the bulk canBeBlocked doesn't check all circumstances
-            for (Card blocker : blockers) {
-                if (CombatUtil.canBlock(attacker, blocker)) {
-                    isUnblockableCreature = false;
-                }
-            }
-            if (isUnblockableCreature) {
-                unblockableDamage += CombatUtil.damageIfUnblocked(attacker, AllZone.getHumanPlayer(), combat);
+            if (!sim.canBeBlocked(attacker)) {
+                unblockableDamage += sim.damageIfUnblocked(attacker);
             }
         }
         if (unblockableDamage > 0) {
-            turnsUntilDeathByUnblockable = AllZone.getHumanPlayer().life / unblockableDamage;
+            turnsUntilDeathByUnblockable = human.life / unblockableDamage;
         }
-        if (unblockableDamage > AllZone.getHumanPlayer().life) {
+        if (unblockableDamage > human.life) {
             doUnblockableAttack = true;
         }
         // *****************
@@ -492,10 +539,10 @@ System.out.println(String.valueOf(outNumber) + " = outNumber, higher = better fo
         // ****************
 
         //Exalted
-        if (combat.getAttackers().length == 0 && (countExaltedBonus(AllZone.getComputerPlayer()) >= 3 ||
-                AllZoneUtil.isCardInPlay("Rafiq of the Many", AllZone.getComputerPlayer()) ||
-                AllZoneUtil.getPlayerCardsInPlay(AllZone.getComputerPlayer(), "Battlegrace Angel").size() >= 2 ||
-                (AllZoneUtil.getPlayerCardsInPlay(AllZone.getComputerPlayer(), "Finest Hour").size() >= 1) &&
+        if (combat.getAttackers().length == 0 && (countExaltedBonus(computer) >= 3 ||
+                AllZoneUtil.isCardInPlay("Rafiq of the Many", computer) ||
+                AllZoneUtil.getPlayerCardsInPlay(computer, "Battlegrace Angel").size() >= 2 ||
+                (AllZoneUtil.getPlayerCardsInPlay(computer, "Finest Hour").size() >= 1) &&
                         AllZone.getPhase().isFirstCombat())
                 && !bAssault) {
             int biggest = 0;
@@ -530,8 +577,8 @@ System.out.println(String.valueOf(outNumber) + " = outNumber, higher = better fo
             for (int i = 0; i < attackersLeft.size(); i++) {
                 Card attacker = attackersLeft.get(i);
                 int totalFirstStrikeBlockPower = 0;
-                if (!attacker.hasFirstStrike() && !attacker.hasDoubleStrike())
-                    totalFirstStrikeBlockPower = CombatUtil.getTotalFirstStrikeBlockPower(attacker, AllZone.getHumanPlayer());
+                if (!sim.strikesFirst(attacker))
+                    totalFirstStrikeBlockPower = sim.getTotalFirstStrikeBlockPower(attacker);
 
                 if (shouldAttack(attacker, blockers, combat) && (totalFirstStrikeBlockPower < attacker.getKillDamage() || aiAggression == 5)
                         && CombatUtil.canAttack(attacker, combat))
@@ -591,22 +638,24 @@ System.out.println(String.valueOf(outNumber) + " = outNumber, higher = better fo
 
         if (!isEffectiveAttacker(attacker, combat)) return false;
 
+        CombatSimulator sim = getSimulator(combat);
+
         // look at the attacker in relation to the blockers to establish a number of factors about the attacking
         // context that will be relevant to the attackers decision according to the selected strategy
         for (Card defender : defenders) {
-            if (CombatUtil.canBlock(attacker, defender)) { //, combat )) {
+            if (sim.canBlock(attacker, defender)) { //, combat )) {
                 canBeBlocked = true;
-                if (CombatUtil.canDestroyAttacker(attacker, defender, combat, false)) {
+                if (sim.attackerDies(attacker, defender)) {
                     canBeKilledByOne = true;  // there is a single creature on the battlefield that can kill the creature
                     // see if the defending creature is of higher or lower value. We don't want to attack only to lose value
-                    if (CardFactoryUtil.evaluateCreature(defender) <= CardFactoryUtil.evaluateCreature(attacker)) {
+                    if (sim.getValue(defender) <= sim.getValue(attacker)) {
                         isWorthLessThanAllKillers = false;
                     }
                 }
                 // see if this attacking creature can destroy this defender, if not record that it can't kill everything
-                if (!CombatUtil.canDestroyBlocker(defender, attacker, combat, false)) {
+                if (!sim.blockerDies(attacker, defender)) {
                     canKillAll = false;
-                    if (defender.hasKeyword("Wither") || defender.hasKeyword("Infect")) {
+                    if (sim.hasKeyword(defender, Keyword.WITHER) || sim.hasKeyword(defender, Keyword.INFECT)) {
                         canKillAllDangerous = false; // there is a dangerous creature that can survive an attack from this creature
                     }
                 }
@@ -0,0 +1,356 @@
+package forge;
+
+import com.esotericsoftware.minlog.Log;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>ComputerUtil_AttackSearch class.</p>
+ *
+ * Chooses the attackers of the computer by trying out the ways it could
+ * attack.  For each one the blocks of the human are guessed with
+ * {@link ComputerUtil_Block2}, and what would happen is looked up in a
+ * {@link CombatSimulator} and scored.  The attack of
+ * {@link ComputerUtil_Attack2} is scored first, and is only replaced by an
+ * attack that scores higher.  The search stops after the number of attacks
+ * given in {@link Constant.Runtime#AttackSearchNodes} have been scored, so
+ * the same game always gets the same attack.  It also stops once the
+ * milliseconds given in {@link Constant.Runtime#AttackSearchMillis} have
+ * passed, if any, which keeps slow machines responsive but lets the attack
+ * depend on the machine.
+ *
+ * With up to 12 optional attackers every choice is tried, the ones closest
+ * to the attack of ComputerUtil_Attack2 first, one distance at a time
+ * without building the choices that won't be scored.  With more, attackers
+ * are added or taken away one at a time for as long as that improves the
+ * score.
+ *
+ * The attacks are scored one after another on the thread of the game.
+ * Scoring guesses the blocks with ComputerUtil_Block2 and CombatUtil, which
+ * read the cards and the {@link GameState} bound to that thread, so other
+ * threads would see no game at all, and the game they would have to share
+ * isn't safe to read while it is being played.  Which attacks got scored
+ * before the node cap would also depend on the threads, so the same game
+ * could end differently.  Scoring in parallel was dropped for that.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class ComputerUtil_AttackSearch {
+    private static final int LETHAL = 1000000;
+    private static final int LIFE_VALUE = 20; //the score of a point of damage to the human
+    private static final int POISON_VALUE = 40;
+    private static final int MAX_EXHAUSTIVE = 12;
+
+    private final Player human;
+    private final Player computer;
+
+    private final ComputerUtil_Attack2 heuristic;
+    private final CardList possibleAttackers;
+    private final CardList humanCreatures;
+    private final CardList computerCreatures;
+    private final int budget;
+    private final long timeLimit; //in nanoseconds, 0 for none
+    private long deadline;
+
+    private CombatSimulator sim;
+    private CardList forced = new CardList(); //attackers that don't have a choice
+    private CardList optional = new CardList();
+    private boolean[] humanCanAttack; //next turn, by index in humanCreatures
+    private boolean[] computerCanBlock; //next turn, by index in computerCreatures
+
+    private BitSet best;
+    private int bestScore;
+    private int scored;
+
+    /**
+     * <p>Constructor for ComputerUtil_AttackSearch.</p>
+     *
+     * @param possibleAttackers a {@link forge.CardList} object.
+     * @param possibleBlockers a {@link forge.CardList} object.
+     * @param budget how many attacks the search may score.
+     */
+    public ComputerUtil_AttackSearch(CardList possibleAttackers, CardList possibleBlockers, int budget) {
+        this(AllZone.getComputerPlayer(), possibleAttackers, possibleBlockers, budget, 0);
+    }
+
+    /**
+     * <p>Constructor for ComputerUtil_AttackSearch.</p>
+     *
+     * The "computer" of this class is the attacking player and the "human"
+     * its opponent, whoever is playing them.
+     *
+     * @param attacker the {@link forge.Player} attacking.
+     * @param possibleAttackers a {@link forge.CardList} object.
+     * @param possibleBlockers a {@link forge.CardList} object.
+     * @param budget how many attacks the search may score.
+     * @param millis how long the search may take, 0 for as long as the budget lasts.
+     */
+    public ComputerUtil_AttackSearch(Player attacker, CardList possibleAttackers, CardList possibleBlockers,
+                                     int budget, int millis) {
+        computer = attacker;
+        human = attacker.getOpponent();
+
+        heuristic = new ComputerUtil_Attack2(computer, possibleAttackers, possibleBlockers, human.getLife());
+        this.possibleAttackers = heuristic.getPossibleAttackers(possibleAttackers);
+        humanCreatures = possibleBlockers.getType("Creature");
+        computerCreatures = possibleAttackers.getType("Creature");
+        this.budget = budget;
+        timeLimit = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * <p>getAttackers.</p>
+     *
+     * @return a {@link forge.Combat} object.
+     */
+    public Combat getAttackers() {
+        Combat heuristicCombat = heuristic.getAttackers();
+        if (budget <= 0 || possibleAttackers.isEmpty())
+            return heuristicCombat;
+
+        try {
+            BitSet chosen = search(heuristicCombat);
+            return chosen == null ? heuristicCombat : toCombat(chosen);
+        } catch (RuntimeException ex) {
+            //the attack of ComputerUtil_Attack2 is still good to make
+            Log.error("Attack search", "Could not search for a better attack", ex);
+            return heuristicCombat;
+        }
+    }
+
+    /**
+     * <p>search.</p>
+     *
+     * @param heuristicCombat the attack of ComputerUtil_Attack2.
+     * @return the optional attackers of a better attack, or null if none was found.
+     */
+    private BitSet search(Combat heuristicCombat) {
+        deadline = System.nanoTime() + timeLimit;
+        sim = heuristic.getSimulator(heuristicCombat);
+
+        for (Card attacker : possibleAttackers) {
+            if (heuristic.mustAttack(attacker)) forced.add(attacker);
+            else if (heuristic.isEffectiveAttacker(attacker, heuristicCombat)) optional.add(attacker);
+        }
+
+        humanCanAttack = new boolean[humanCreatures.size()];
+        for (int i = 0; i < humanCreatures.size(); i++)
+            humanCanAttack[i] = CombatUtil.canAttackNextTurn(humanCreatures.get(i));
+        computerCanBlock = new boolean[computerCreatures.size()];
+        for (int i = 0; i < computerCreatures.size(); i++)
+            computerCanBlock[i] = CombatUtil.canBlock(computerCreatures.get(i));
+
+        int n = optional.size();
+        BitSet start = new BitSet(n);
+        for (int i = 0; i < n; i++) {
+            if (heuristicCombat.isAttacking(optional.get(i))) start.set(i);
+        }
+        best = start;
+        bestScore = score(start);
+        scored = 1;
+
+        if (n <= MAX_EXHAUSTIVE) {
+            //every attack, the ones closest to the heuristic attack first
+            for (int distance = 1; distance <= n && !isOutOfBudget(); distance++) {
+                //the attackers that change, from the lowest such mask to the highest
+                for (int flip = (1 << distance) - 1; flip < (1 << n) && !isOutOfBudget(); flip = nextMask(flip)) {
+                    BitSet candidate = (BitSet) start.clone();
+                    for (int i = 0; i < n; i++)
+                        if ((flip & (1 << i)) != 0) candidate.flip(i);
+                    evaluate(candidate);
+                }
+            }
+        } else {
+            //add or take away one attacker at a time while that helps
+            boolean improved = true;
+            while (improved && !isOutOfBudget()) {
+                List<BitSet> candidates = new ArrayList<BitSet>();
+                for (int i = 0; i < n; i++) {
+                    BitSet candidate = (BitSet) best.clone();
+                    candidate.flip(i);
+                    candidates.add(candidate);
+                }
+                improved = false;
+                for (BitSet candidate : candidates) {
+                    if (isOutOfBudget()) break;
+                    if (evaluate(candidate)) improved = true;
+                }
+            }
+        }
+
+        return best == start ? null : best;
+    }
+
+    /**
+     * <p>nextMask.</p>
+     *
+     * @param mask a int with some bits set.
+     * @return the next higher int with as many bits set.
+     */
+    static int nextMask(int mask) {
+        int lowest = mask & -mask;
+        int ripple = mask + lowest;
+        return ripple | (((mask ^ ripple) >>> 2) / lowest);
+    }
+
+    /**
+     * <p>isOutOfBudget.</p>
+     *
+     * @return true once the search scored as many attacks as it may, or its time is up.
+     */
+    private boolean isOutOfBudget() {
+        return scored >= budget || (timeLimit > 0 && System.nanoTime() - deadline >= 0);
+    }
+
+    /**
+     * <p>evaluate.</p>
+     *
+     * Scores the candidate, and keeps it if it is the best so far.
+     *
+     * @param candidate an attack to try, as a set of optional attackers.
+     * @return true if it is better than the best attack so far.
+     */
+    private boolean evaluate(BitSet candidate) {
+        scored++;
+
+        int score = score(candidate);
+        if (score <= bestScore) return false;
+
+        bestScore = score;
+        best = candidate;
+        return true;
+    }
+
+    /**
+     * <p>newCombat.</p>
+     *
+     * @return a {@link forge.Combat} with no attackers, against the human.
+     */
+    private Combat newCombat() {
+        Combat combat = new Combat();
+        combat.setAttackingPlayer(computer);
+        combat.setDefendingPlayer(human);
+        combat.setDefenders(AllZone.getCombat().getDefenders());
+        combat.setCurrentDefender(0);
+        return combat;
+    }
+
+    /**
+     * <p>toCombat.</p>
+     *
+     * @param candidate a set of optional attackers.
+     * @return a {@link forge.Combat} with them and the forced attackers attacking.
+     */
+    private Combat toCombat(BitSet candidate) {
+        Combat combat = newCombat();
+
+        for (Card attacker : forced)
+            if (CombatUtil.canAttack(attacker, combat)) combat.addAttacker(attacker);
+
+        for (int i = candidate.nextSetBit(0); i >= 0; i = candidate.nextSetBit(i + 1)) {
+            Card attacker = optional.get(i);
+            if (CombatUtil.canAttack(attacker, combat)) combat.addAttacker(attacker);
+        }
+
+        return combat;
+    }
+
+    /**
+     * <p>score.</p>
+     *
+     * Damage to the human and creatures destroyed on both sides, less the
+     * damage the surviving human creatures could deal back next turn.
+     *
+     * @param candidate a set of optional attackers.
+     * @return a int, higher is better for the computer.
+     */
+    private int score(BitSet candidate) {
+        Combat combat = toCombat(candidate);
+        Card[] attacking = combat.getAttackers();
+        combat = ComputerUtil_Block2.getBlockers(combat, humanCreatures, human);
+
+        int damage = 0;
+        int poison = 0;
+        int lifeGain = 0;
+        int value = 0;
+        CardList deadHuman = new CardList();
+        CardList deadComputer = new CardList();
+
+        for (Card attacker : attacking) {
+            CardList blockers = combat.getBlockers(attacker);
+
+            if (blockers.size() <= 1) {
+                Card blocker = blockers.isEmpty() ? null : blockers.get(0);
+                CombatSimulator.Outcome outcome = sim.resolve(attacker, blocker);
+                damage += outcome.getDamage();
+                poison += outcome.getPoison();
+                lifeGain += outcome.getAttackerLifeGain();
+                if (outcome.attackerDies()) deadComputer.add(attacker);
+                if (outcome.blockerDies()) deadHuman.add(blocker);
+                continue;
+            }
+
+            //gang block: the attacker deals its damage to the blockers in order
+            int blockDamage = 0;
+            boolean attackerDies = false;
+            for (Card blocker : blockers) {
+                blockDamage += sim.damageAsBlocker(attacker, blocker);
+                if (sim.attackerDies(attacker, blocker)) attackerDies = true;
+            }
+            if (attackerDies || blockDamage >= sim.getToughness(attacker)) deadComputer.add(attacker);
+
+            int power = sim.getPower(attacker);
+            for (Card blocker : blockers) {
+                int lethal = sim.hasKeyword(attacker, Keyword.DEATHTOUCH) ? 1 : sim.getToughness(blocker);
+                if (power >= lethal && sim.blockerDies(attacker, blocker)) {
+                    deadHuman.add(blocker);
+                    power -= lethal;
+                }
+            }
+        }
+
+        if (!human.cantLose()) {
+            if ((damage >= human.getLife() && human.canLoseLife() && !human.cantLoseForZeroOrLessLife())
+                    || human.getPoisonCounters() + poison >= 10)
+                return LETHAL + damage;
+        }
+
+        for (Card c : deadHuman) value += sim.getValue(c);
+        for (Card c : deadComputer) value -= sim.getValue(c);
+
+        int score = value + damage * LIFE_VALUE + poison * POISON_VALUE + lifeGain * LIFE_VALUE / 2;
+
+        //what the human could attack back with
+        List<Integer> counterAttack = new ArrayList<Integer>();
+        for (int i = 0; i < humanCreatures.size(); i++) {
+            Card c = humanCreatures.get(i);
+            if (humanCanAttack[i] && !deadHuman.contains(c)) counterAttack.add(sim.getPower(c));
+        }
+        int computerBlockers = 0;
+        for (int i = 0; i < computerCreatures.size(); i++) {
+            Card c = computerCreatures.get(i);
+            if (!computerCanBlock[i] || deadComputer.contains(c)) continue;
+            if (combat.isAttacking(c) && !c.hasKeyword(Keyword.VIGILANCE)) continue;
+            computerBlockers++;
+        }
+
+        //each creature kept back stops one of the biggest attackers
+        Collections.sort(counterAttack);
+        int counterDamage = 0;
+        for (int i = 0; i < counterAttack.size() - computerBlockers; i++)
+            counterDamage += counterAttack.get(i);
+
+        if (counterDamage >= computer.getLife() + lifeGain && !computer.cantLose())
+            score -= LETHAL / 2;
+        else
+            score -= counterDamage * LIFE_VALUE / 2;
+
+        return score;
+    }
+}
@@ -3,33 +3,223 @@ package forge;
 import forge.card.cardFactory.CardFactoryUtil;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 
 /**
  * <p>ComputerUtil_Block2 class.</p>
  *
+ * Works out the blocks of the computer player.  Each call to
+ * {@link #getBlockers(Combat, CardList)} plans with its own instance, so
+ * games played at the same time on different threads don't share anything.
+ * Whether a blocker can block an attacker, destroys it or gets destroyed by
+ * it does not change while the blocks are planned, so it is worked out once
+ * for every pair and looked up by the stages below.
+ *
  * @author Forge
  * @version $Id: $
  */
 public class ComputerUtil_Block2 {
-    /** Constant <code>attackers</code> */
-    private static CardList attackers = new CardList(); //all attackers
-    /** Constant <code>attackersLeft</code> */
-    private static CardList attackersLeft = new CardList(); //keeps track of all currently unblocked attackers
-    /** Constant <code>blockedButUnkilled</code> */
-    private static CardList blockedButUnkilled = new CardList(); //blocked attackers that currently wouldn't be destroyed
-    /** Constant <code>blockersLeft</code> */
-    private static CardList blockersLeft = new CardList(); //keeps track of all unassigned blockers
-    /** Constant <code>diff=0</code> */
-    private static int diff = 0;
+    private CardList attackers = new CardList(); //all attackers
+    private CardList attackersLeft = new CardList(); //keeps track of all currently unblocked attackers
+    private CardList blockedButUnkilled = new CardList(); //blocked attackers that currently wouldn't be destroyed
+    private CardList blockersLeft = new CardList(); //keeps track of all unassigned blockers
+    private CardList possibleBlockers = new CardList(); //all creatures able to block
+    private int diff = 0;
+    private final Player defender; //the player making the blocks
+
+    private final Map<Card, Integer> attackerIndex = new IdentityHashMap<Card, Integer>();
+    private final Map<Card, Integer> blockerIndex = new IdentityHashMap<Card, Integer>();
+
+    private boolean[][] canBlock; //the blocker can block the attacker, before any blocks are made
+    private boolean[][] kills; //the blocker destroys the attacker
+    private boolean[][] dies; //the attacker destroys the blocker
+    private boolean[] attackerStrikesFirst;
+    private boolean[] blockerStrikesFirst;
+    private boolean[] attackerHasLure;
+    private boolean[] attackerBlockedOnce; //can't be blocked by more than one creature
+    private boolean[] blockerMustBlockLure; //can block an attacker with lure
+    private int[] attackerValue;
+    private int[] blockerValue;
+    private int blockerLimit = Integer.MAX_VALUE; //Caverns of Despair, Silent Arbiter, Dueling Grounds
+
+    private int changes = 0; //the number of blocks made or removed
+    private int dangerCheckedAt = -1;
+    private boolean danger;
+    private int seriousDangerCheckedAt = -1;
+    private boolean seriousDanger;
+
+
+    /**
+     * <p>Constructor for ComputerUtil_Block2.</p>
+     *
+     * @param combat a {@link forge.Combat} object.
+     * @param possibleBlockers a {@link forge.CardList} object.
+     * @param defender the {@link forge.Player} making the blocks.
+     */
+    ComputerUtil_Block2(Combat combat, CardList possibleBlockers, Player defender) {
+        this.defender = defender;
+        setAttackers(sortPotentialAttackers(combat, defender));
 
+        // remove all blockers that can't block anyway
+        for (Card b : possibleBlockers) {
+            if (CombatUtil.canBlock(b, combat)) this.possibleBlockers.add(b);
+        }
+
+        setDiff(defender.getLife() * 2 - 5); //This is the minimal gain for an unnecessary trade
+    }
+
+    /**
+     * <p>precompute.</p>
+     *
+     * Fills in the attacker by blocker tables.
+     *
+     * @param combat a {@link forge.Combat} object.
+     */
+    void precompute(Combat combat) {
+        int numAttackers = attackers.size();
+        int numBlockers = possibleBlockers.size();
+
+        canBlock = new boolean[numAttackers][numBlockers];
+        kills = new boolean[numAttackers][numBlockers];
+        dies = new boolean[numAttackers][numBlockers];
+        attackerStrikesFirst = new boolean[numAttackers];
+        blockerStrikesFirst = new boolean[numBlockers];
+        attackerHasLure = new boolean[numAttackers];
+        attackerBlockedOnce = new boolean[numAttackers];
+        blockerMustBlockLure = new boolean[numBlockers];
+        attackerValue = new int[numAttackers];
+        blockerValue = new int[numBlockers];
+
+        for (int b = 0; b < numBlockers; b++) {
+            Card blocker = possibleBlockers.get(b);
+            blockerIndex.put(blocker, b);
+            blockerStrikesFirst[b] = blocker.hasFirstStrike() || blocker.hasDoubleStrike();
+            blockerValue[b] = CardFactoryUtil.evaluateCreature(blocker);
+        }
+
+        for (int a = 0; a < numAttackers; a++) {
+            Card attacker = attackers.get(a);
+            attackerIndex.put(attacker, a);
+            attackerStrikesFirst[a] = attacker.hasFirstStrike() || attacker.hasDoubleStrike();
+            attackerHasLure[a] = attacker.hasKeyword("All creatures able to block CARDNAME do so.");
+            attackerBlockedOnce[a] = attacker.hasKeyword("CARDNAME can't be blocked by more than one creature.");
+            attackerValue[a] = CardFactoryUtil.evaluateCreature(attacker);
+
+            for (int b = 0; b < numBlockers; b++) {
+                Card blocker = possibleBlockers.get(b);
+                canBlock[a][b] = CombatUtil.canBlock(attacker, blocker);
+                if (!canBlock[a][b]) continue;
+
+                kills[a][b] = CombatUtil.canDestroyAttacker(attacker, blocker, combat, false);
+                dies[a][b] = CombatUtil.canDestroyBlocker(blocker, attacker, combat, false);
+                if (attackerHasLure[a]) blockerMustBlockLure[b] = true;
+            }
+        }
+
+        if (AllZoneUtil.isCardInPlay("Silent Arbiter") || AllZoneUtil.isCardInPlay("Dueling Grounds"))
+            blockerLimit = 1;
+        else if (AllZoneUtil.isCardInPlay("Caverns of Despair"))
+            blockerLimit = 2;
+    }
+
+    /**
+     * <p>canBlock.</p>
+     *
+     * The same as {@link CombatUtil#canBlock(Card, Card, Combat)}, with
+     * everything that doesn't depend on the blocks made so far looked up.
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @param blocker a {@link forge.Card} object.
+     * @param combat a {@link forge.Combat} object.
+     * @return a boolean.
+     */
+    private boolean canBlock(Card attacker, Card blocker, Combat combat) {
+        int a = attackerIndex.get(attacker);
+        int b = blockerIndex.get(blocker);
+
+        if (!canBlock[a][b]) return false;
+
+        if (blockerLimit < Integer.MAX_VALUE && combat.getAllBlockers().size() >= blockerLimit) return false;
+
+        if (attackerBlockedOnce[a] && combat.getBlockers(attacker).size() > 0) return false;
+
+        //if the attacker has no lure effect, but the blocker can block another attacker with lure, the blocker can't block the former
+        return attackerHasLure[a] || !blockerMustBlockLure[b];
+    }
+
+    /**
+     * <p>keepsUpWith.</p>
+     *
+     * @param attacker a {@link forge.Card} object.
+     * @param blocker a {@link forge.Card} object.
+     * @return true if the attacker doesn't deal its damage before the blocker.
+     */
+    private boolean keepsUpWith(Card attacker, Card blocker) {
+        return !attackerStrikesFirst[attackerIndex.get(attacker)] || blockerStrikesFirst[blockerIndex.get(blocker)];
+    }
+
+    /**
+     * <p>valueOf.</p>
+     *
+     * @param blocker a {@link forge.Card} object.
+     * @return the value of the blocker.
+     */
+    private int valueOf(Card blocker) {
+        return blockerValue[blockerIndex.get(blocker)];
+    }
+
+    /**
+     * <p>addBlocker.</p>
+     *
+     * @param combat a {@link forge.Combat} object.
+     * @param attacker a {@link forge.Card} object.
+     * @param blocker a {@link forge.Card} object.
+     */
+    private void addBlocker(Combat combat, Card attacker, Card blocker) {
+        combat.addBlocker(attacker, blocker);
+        getBlockersLeft().remove(blocker);
+        changes++;
+    }
+
+    /**
+     * <p>lifeInDanger.</p>
+     *
+     * {@link CombatUtil#lifeInDanger(Player, Combat)}, only worked out again after
+     * the blocks have changed.
+     *
+     * @param combat a {@link forge.Combat} object.
+     * @return a boolean.
+     */
+    private boolean lifeInDanger(Combat combat) {
+        if (dangerCheckedAt != changes) {
+            danger = CombatUtil.lifeInDanger(defender, combat);
+            dangerCheckedAt = changes;
+        }
+        return danger;
+    }
+
+    /**
+     * <p>lifeInSeriousDanger.</p>
+     *
+     * @param combat a {@link forge.Combat} object.
+     * @return a boolean.
+     */
+    private boolean lifeInSeriousDanger(Combat combat) {
+        if (seriousDangerCheckedAt != changes) {
+            seriousDanger = CombatUtil.lifeInSeriousDanger(defender, combat);
+            seriousDangerCheckedAt = changes;
+        }
+        return seriousDanger;
+    }
 
     /**
      * <p>Getter for the field <code>attackers</code>.</p>
      *
      * @return a {@link forge.CardList} object.
      */
-    private static CardList getAttackers() {
+    private CardList getAttackers() {
         return attackers;
     }
 
@@ -38,7 +228,7 @@ public class ComputerUtil_Block2 {
      *
      * @param cardList a {@link forge.CardList} object.
      */
-    private static void setAttackers(CardList cardList) {
+    private void setAttackers(CardList cardList) {
         attackers = (cardList);
     }
 
@@ -47,7 +237,7 @@ public class ComputerUtil_Block2 {
      *
      * @return a {@link forge.CardList} object.
      */
-    private static CardList getAttackersLeft() {
+    private CardList getAttackersLeft() {
         return attackersLeft;
     }
 
@@ -56,7 +246,7 @@ public class ComputerUtil_Block2 {
      *
      * @param cardList a {@link forge.CardList} object.
      */
-    private static void setAttackersLeft(CardList cardList) {
+    private void setAttackersLeft(CardList cardList) {
         attackersLeft = (cardList);
     }
 
@@ -65,7 +255,7 @@ public class ComputerUtil_Block2 {
      *
      * @return a {@link forge.CardList} object.
      */
-    private static CardList getBlockedButUnkilled() {
+    private CardList getBlockedButUnkilled() {
         return blockedButUnkilled;
 
     }
@@ -75,7 +265,7 @@ public class ComputerUtil_Block2 {
      *
      * @param cardList a {@link forge.CardList} object.
      */
-    private static void setBlockedButUnkilled(CardList cardList) {
+    private void setBlockedButUnkilled(CardList cardList) {
         blockedButUnkilled = (cardList);
     }
 
@@ -84,7 +274,7 @@ public class ComputerUtil_Block2 {
      *
      * @return a {@link forge.CardList} object.
      */
-    private static CardList getBlockersLeft() {
+    private CardList getBlockersLeft() {
         return blockersLeft;
     }
 
@@ -93,7 +283,7 @@ public class ComputerUtil_Block2 {
      *
      * @param cardList a {@link forge.CardList} object.
      */
-    private static void setBlockersLeft(CardList cardList) {
+    private void setBlockersLeft(CardList cardList) {
         blockersLeft = (cardList);
     }
 
@@ -102,7 +292,7 @@ public class ComputerUtil_Block2 {
      *
      * @return a int.
      */
-    private static int getDiff() {
+    private int getDiff() {
         return diff;
     }
 
@@ -111,8 +301,8 @@ public class ComputerUtil_Block2 {
      *
      * @param diff a int.
      */
-    private static void setDiff(int diff) {
-        ComputerUtil_Block2.diff = (diff);
+    private void setDiff(int diff) {
+        this.diff = (diff);
     }
 
 
@@ -125,12 +315,12 @@ public class ComputerUtil_Block2 {
      * @param combat a {@link forge.Combat} object.
      * @return a {@link forge.CardList} object.
      */
-    private static CardList getPossibleBlockers(Card attacker, CardList blockersLeft, Combat combat) {
+    CardList getPossibleBlockers(Card attacker, CardList blockersLeft, Combat combat) {
         CardList blockers = new CardList();
 
         for (Card blocker : blockersLeft) {
             //if the blocker can block a creature with lure it can't block a creature without
-            if (CombatUtil.canBlock(attacker, blocker, combat)) blockers.add(blocker);
+            if (canBlock(attacker, blocker, combat)) blockers.add(blocker);
         }
 
         return blockers;
@@ -145,11 +335,12 @@ public class ComputerUtil_Block2 {
      * @param combat a {@link forge.Combat} object.
      * @return a {@link forge.CardList} object.
      */
-    private static CardList getSafeBlockers(Card attacker, CardList blockersLeft, Combat combat) {
+    CardList getSafeBlockers(Card attacker, CardList blockersLeft, Combat combat) {
         CardList blockers = new CardList();
+        int a = attackerIndex.get(attacker);
 
         for (Card b : blockersLeft) {
-            if (!CombatUtil.canDestroyBlocker(b, attacker, combat, false)) blockers.add(b);
+            if (!dies[a][blockerIndex.get(b)]) blockers.add(b);
         }
 
         return blockers;
@@ -164,11 +355,12 @@ public class ComputerUtil_Block2 {
      * @param combat a {@link forge.Combat} object.
      * @return a {@link forge.CardList} object.
      */
-    private static CardList getKillingBlockers(Card attacker, CardList blockersLeft, Combat combat) {
+    CardList getKillingBlockers(Card attacker, CardList blockersLeft, Combat combat) {
         CardList blockers = new CardList();
+        int a = attackerIndex.get(attacker);
 
         for (Card b : blockersLeft) {
-            if (CombatUtil.canDestroyAttacker(attacker, b, combat, false)) blockers.add(b);
+            if (kills[a][blockerIndex.get(b)]) blockers.add(b);
         }
 
         return blockers;
@@ -181,6 +373,17 @@ public class ComputerUtil_Block2 {
      * @return a {@link forge.CardList} object.
      */
     public static CardList sortPotentialAttackers(Combat combat) {
+        return sortPotentialAttackers(combat, AllZone.getComputerPlayer());
+    }
+
+    /**
+     * <p>sortPotentialAttackers.</p>
+     *
+     * @param combat a {@link forge.Combat} object.
+     * @param defender the {@link forge.Player} being attacked.
+     * @return a {@link forge.CardList} object.
+     */
+    public static CardList sortPotentialAttackers(Combat combat, Player defender) {
         CardList[] attackerLists = combat.sortAttackerByDefender();
         CardList sortedAttackers = new CardList();
 
@@ -194,7 +397,7 @@ public class ComputerUtil_Block2 {
         if (defenders.size() == 1)
             return attackerLists[0];
 
-        boolean bLifeInDanger = CombatUtil.lifeInDanger(combat);
+        boolean bLifeInDanger = CombatUtil.lifeInDanger(defender, combat);
 
         // TODO: Add creatures attacking Planeswalkers in order of which we want to protect
         // defend planeswalkers with more loyalty before planeswalkers with less loyalty
@@ -229,7 +432,7 @@ public class ComputerUtil_Block2 {
      * @param combat a {@link forge.Combat} object.
      * @return a {@link forge.Combat} object.
      */
-    private static Combat makeGoodBlocks(Combat combat) {
+    private Combat makeGoodBlocks(Combat combat) {
 
         CardList currentAttackers = new CardList(getAttackersLeft().toArray());
 
@@ -259,15 +462,14 @@ public class ComputerUtil_Block2 {
                     // 3.Blockers that can destroy the attacker and are worth less
                     Card worst = CardFactoryUtil.AI_getWorstCreature(killingBlockers);
 
-                    if (CardFactoryUtil.evaluateCreature(worst) + getDiff() < CardFactoryUtil.evaluateCreature(attacker)) {
+                    if (valueOf(worst) + getDiff() < attackerValue[attackerIndex.get(attacker)]) {
                         blocker = worst;
                     }
                 }
             }
             if (blocker.getName() != "") {
                 currentAttackers.remove(attacker);
-                getBlockersLeft().remove(blocker);
-                combat.addBlocker(attacker, blocker);
+                addBlocker(combat, attacker, blocker);
             }
         }
         setAttackersLeft(new CardList(currentAttackers.toArray()));
@@ -281,7 +483,7 @@ public class ComputerUtil_Block2 {
      * @param combat a {@link forge.Combat} object.
      * @return a {@link forge.Combat} object.
      */
-    private static Combat makeGangBlocks(Combat combat) {
+    private Combat makeGangBlocks(Combat combat) {
 
         CardList currentAttackers = new CardList(getAttackersLeft().toArray());
         currentAttackers = currentAttackers.getKeywordsDontContain("Rampage");
@@ -290,13 +492,12 @@ public class ComputerUtil_Block2 {
 
         //Try to block an attacker without first strike with a gang of first strikers
         for (Card attacker : getAttackersLeft()) {
-            if (!attacker.hasKeyword("First Strike")
-                    && !attacker.hasKeyword("Double Strike")) {
+            if (!attackerStrikesFirst[attackerIndex.get(attacker)]) {
                 blockers = getPossibleBlockers(attacker, getBlockersLeft(), combat);
                 CardList firstStrikeBlockers = new CardList();
                 CardList blockGang = new CardList();
                 for (int i = 0; i < blockers.size(); i++)
-                    if (blockers.get(i).hasFirstStrike() || blockers.get(i).hasDoubleStrike())
+                    if (blockerStrikesFirst[blockerIndex.get(blockers.get(i))])
                         firstStrikeBlockers.add(blockers.get(i));
 
                 if (firstStrikeBlockers.size() > 1) {
@@ -308,8 +509,7 @@ public class ComputerUtil_Block2 {
                             if (CombatUtil.totalDamageOfBlockers(attacker, blockGang) >= attacker.getKillDamage()) {
                                 currentAttackers.remove(attacker);
                                 for (Card b : blockGang) {
-                                    getBlockersLeft().remove(b);
-                                    combat.addBlocker(attacker, b);
+                                    addBlocker(combat, attacker, b);
                                 }
                             }
                         }
@@ -331,12 +531,12 @@ public class ComputerUtil_Block2 {
 
             //Try to add blockers that could be destroyed, but are worth less than the attacker
             //Don't use blockers without First Strike or Double Strike if attacker has it
+            final int attackerWorth = attackerValue[attackerIndex.get(attacker)];
             usableBlockers = blockers.filter(new CardListFilter() {
                 public boolean addCard(Card c) {
-                    if ((attacker.hasKeyword("First Strike") || attacker.hasKeyword("Double Strike"))
-                            && !(c.hasKeyword("First Strike") || c.hasKeyword("Double Strike")))
+                    if (!keepsUpWith(attacker, c))
                         return false;
-                    return CardFactoryUtil.evaluateCreature(c) + getDiff() < CardFactoryUtil.evaluateCreature(attacker);
+                    return valueOf(c) + getDiff() < attackerWorth;
                 }
             });
             if (usableBlockers.size() < 2)
@@ -346,24 +546,22 @@ public class ComputerUtil_Block2 {
             blockGang.add(leader);
             usableBlockers.remove(leader);
             absorbedDamage = leader.getEnoughDamageToKill(attacker.getNetCombatDamage(), attacker, true);
-            currentValue = CardFactoryUtil.evaluateCreature(leader);
+            currentValue = valueOf(leader);
 
             for (Card blocker : usableBlockers) {
                 //Add an additional blocker if the current blockers are not enough and the new one would deal the remaining damage
                 int currentDamage = CombatUtil.totalDamageOfBlockers(attacker, blockGang);
                 int additionalDamage = CombatUtil.dealsDamageAsBlocker(attacker, blocker);
                 int absorbedDamage2 = blocker.getEnoughDamageToKill(attacker.getNetCombatDamage(), attacker, true);
-                int addedValue = CardFactoryUtil.evaluateCreature(blocker);
+                int addedValue = valueOf(blocker);
                 if (attacker.getKillDamage() > currentDamage
                         && !(attacker.getKillDamage() > currentDamage + additionalDamage) //The attacker will be killed
                         && (absorbedDamage2 + absorbedDamage > attacker.getNetCombatDamage() //only one blocker can be killed
-                        || currentValue + addedValue - 50 <= CardFactoryUtil.evaluateCreature(attacker)) //attacker is worth more
-                        && CombatUtil.canBlock(attacker, blocker, combat)) {//this is needed for attackers that can't be blocked by more than 1
+                        || currentValue + addedValue - 50 <= attackerWorth) //attacker is worth more
+                        && canBlock(attacker, blocker, combat)) {//this is needed for attackers that can't be blocked by more than 1
                     currentAttackers.remove(attacker);
-                    combat.addBlocker(attacker, blocker);
-                    combat.addBlocker(attacker, leader);
-                    getBlockersLeft().remove(blocker);
-                    getBlockersLeft().remove(leader);
+                    addBlocker(combat, attacker, blocker);
+                    addBlocker(combat, attacker, leader);
                     break;
                 }
             }
@@ -380,7 +578,7 @@ public class ComputerUtil_Block2 {
      * @param combat a {@link forge.Combat} object.
      * @return a {@link forge.Combat} object.
      */
-    private static Combat makeTradeBlocks(Combat combat) {
+    private Combat makeTradeBlocks(Combat combat) {
 
         CardList currentAttackers = new CardList(getAttackersLeft().toArray());
         CardList killingBlockers;
@@ -388,11 +586,10 @@ public class ComputerUtil_Block2 {
         for (Card attacker : getAttackersLeft()) {
             killingBlockers =
                     getKillingBlockers(attacker, getPossibleBlockers(attacker, getBlockersLeft(), combat), combat);
-            if (killingBlockers.size() > 0 && CombatUtil.lifeInDanger(combat)) {
+            if (killingBlockers.size() > 0 && lifeInDanger(combat)) {
                 Card blocker = CardFactoryUtil.AI_getWorstCreature(killingBlockers);
-                combat.addBlocker(attacker, blocker);
+                addBlocker(combat, attacker, blocker);
                 currentAttackers.remove(attacker);
-                getBlockersLeft().remove(blocker);
             }
         }
         setAttackersLeft(new CardList(currentAttackers.toArray()));
@@ -406,19 +603,18 @@ public class ComputerUtil_Block2 {
      * @param combat a {@link forge.Combat} object.
      * @return a {@link forge.Combat} object.
      */
-    private static Combat makeChumpBlocks(Combat combat) {
+    private Combat makeChumpBlocks(Combat combat) {
 
         CardList currentAttackers = new CardList(getAttackersLeft().toArray());
         CardList chumpBlockers;
 
         for (Card attacker : getAttackersLeft()) {
             chumpBlockers = getPossibleBlockers(attacker, getBlockersLeft(), combat);
-            if (chumpBlockers.size() > 0 && CombatUtil.lifeInDanger(combat)) {
+            if (chumpBlockers.size() > 0 && lifeInDanger(combat)) {
                 Card blocker = CardFactoryUtil.AI_getWorstCreature(chumpBlockers);
-                combat.addBlocker(attacker, blocker);
+                addBlocker(combat, attacker, blocker);
                 currentAttackers.remove(attacker);
                 getBlockedButUnkilled().add(attacker);
-                getBlockersLeft().remove(blocker);
             }
         }
         setAttackersLeft(new CardList(currentAttackers.toArray()));
@@ -432,7 +628,7 @@ public class ComputerUtil_Block2 {
      * @param combat a {@link forge.Combat} object.
      * @return a {@link forge.Combat} object.
      */
-    private static Combat reinforceBlockersAgainstTrample(Combat combat) {
+    private Combat reinforceBlockersAgainstTrample(Combat combat) {
 
         CardList chumpBlockers;
 
@@ -447,10 +643,9 @@ public class ComputerUtil_Block2 {
             for (Card blocker : chumpBlockers) {
                 //Add an additional blocker if the current blockers are not enough and the new one would suck some of the damage
                 if (CombatUtil.getAttack(attacker) > CombatUtil.totalShieldDamage(attacker, combat.getBlockers(attacker))
-                        && CombatUtil.shieldDamage(attacker, blocker) > 0 && CombatUtil.canBlock(attacker, blocker, combat)
-                        && CombatUtil.lifeInDanger(combat)) {
-                    combat.addBlocker(attacker, blocker);
-                    getBlockersLeft().remove(blocker);
+                        && CombatUtil.shieldDamage(attacker, blocker) > 0 && canBlock(attacker, blocker, combat)
+                        && lifeInDanger(combat)) {
+                    addBlocker(combat, attacker, blocker);
                 }
             }
         }
@@ -465,7 +660,7 @@ public class ComputerUtil_Block2 {
      * @param combat a {@link forge.Combat} object.
      * @return a {@link forge.Combat} object.
      */
-    private static Combat reinforceBlockersToKill(Combat combat) {
+    private Combat reinforceBlockersToKill(Combat combat) {
 
         CardList safeBlockers;
         CardList blockers;
@@ -482,19 +677,18 @@ public class ComputerUtil_Block2 {
             for (Card blocker : safeBlockers) {
                 //Add an additional blocker if the current blockers are not enough and the new one would deal additional damage
                 if (attacker.getKillDamage() > CombatUtil.totalDamageOfBlockers(attacker, combat.getBlockers(attacker))
-                        && CombatUtil.dealsDamageAsBlocker(attacker, blocker) > 0 && CombatUtil.canBlock(attacker, blocker, combat)) {
-                    combat.addBlocker(attacker, blocker);
-                    getBlockersLeft().remove(blocker);
+                        && CombatUtil.dealsDamageAsBlocker(attacker, blocker) > 0 && canBlock(attacker, blocker, combat)) {
+                    addBlocker(combat, attacker, blocker);
                 }
                 blockers.remove(blocker); //Don't check them again next
             }
 
             //Try to add blockers that could be destroyed, but are worth less than the attacker
             //Don't use blockers without First Strike or Double Strike if attacker has it
-            if (attacker.hasKeyword("First Strike") || attacker.hasKeyword("Double Strike")) {
-                safeBlockers = blockers.getKeyword("First Strike");
-                safeBlockers.addAll(blockers.getKeyword("Double Strike"));
-            } else safeBlockers = new CardList(blockers.toArray());
+            safeBlockers = new CardList();
+            for (Card blocker : blockers) {
+                if (keepsUpWith(attacker, blocker)) safeBlockers.add(blocker);
+            }
 
             for (Card blocker : safeBlockers) {
                 //Add an additional blocker if the current blockers are not enough and the new one would deal the remaining damage
@@ -502,10 +696,9 @@ public class ComputerUtil_Block2 {
                 int additionalDamage = CombatUtil.dealsDamageAsBlocker(attacker, blocker);
                 if (attacker.getKillDamage() > currentDamage
                         && !(attacker.getKillDamage() > currentDamage + additionalDamage)
-                        && CardFactoryUtil.evaluateCreature(blocker) + getDiff() < CardFactoryUtil.evaluateCreature(attacker)
-                        && CombatUtil.canBlock(attacker, blocker, combat)) {
-                    combat.addBlocker(attacker, blocker);
-                    getBlockersLeft().remove(blocker);
+                        && valueOf(blocker) + getDiff() < attackerValue[attackerIndex.get(attacker)]
+                        && canBlock(attacker, blocker, combat)) {
+                    addBlocker(combat, attacker, blocker);
                 }
             }
         }
@@ -517,15 +710,12 @@ public class ComputerUtil_Block2 {
      * <p>resetBlockers.</p>
      *
      * @param combat a {@link forge.Combat} object.
-     * @param possibleBlockers a {@link forge.CardList} object.
      * @return a {@link forge.Combat} object.
      */
-    private static Combat resetBlockers(Combat combat, CardList possibleBlockers) {
+    private Combat resetBlockers(Combat combat) {
 
-        CardList oldBlockers = combat.getAllBlockers();
-        for (Card blocker : oldBlockers) {
-            combat.removeFromCombat(blocker);
-        }
+        combat.removeAllBlockers();
+        changes++;
 
         setAttackersLeft(new CardList(getAttackers().toArray())); //keeps track of all currently unblocked attackers
         setBlockersLeft(new CardList(possibleBlockers.toArray())); //keeps track of all unassigned blockers
@@ -542,11 +732,34 @@ public class ComputerUtil_Block2 {
      * @param possibleBlockers a {@link forge.CardList} object.
      * @return a {@link forge.Combat} object.
      */
-    static public Combat getBlockers(Combat originalCombat, CardList possibleBlockers) {
+    public static Combat getBlockers(Combat originalCombat, CardList possibleBlockers) {
+        return getBlockers(originalCombat, possibleBlockers, AllZone.getComputerPlayer());
+    }
 
-        Combat combat = originalCombat;
+    /**
+     * <p>getBlockers.</p>
+     *
+     * Blocks the way the computer would if it were the defender, which is
+     * also how the computer guesses the blocks of its opponent.
+     *
+     * @param originalCombat a {@link forge.Combat} object.
+     * @param possibleBlockers a {@link forge.CardList} object.
+     * @param defender the {@link forge.Player} making the blocks.
+     * @return a {@link forge.Combat} object.
+     */
+    public static Combat getBlockers(Combat originalCombat, CardList possibleBlockers, Player defender) {
+        return new ComputerUtil_Block2(originalCombat, possibleBlockers, defender).assignBlockers(originalCombat);
+    }
 
-        setAttackers(sortPotentialAttackers(combat));
+    /**
+     * <p>assignBlockers.</p>
+     *
+     * @param originalCombat a {@link forge.Combat} object.
+     * @return a {@link forge.Combat} object.
+     */
+    private Combat assignBlockers(Combat originalCombat) {
+
+        Combat combat = originalCombat;
 
         if (getAttackers().size() == 0)
             return combat;
@@ -557,8 +770,6 @@ public class ComputerUtil_Block2 {
         CardList blockers;
         CardList chumpBlockers;
 
-        setDiff(AllZone.getComputerPlayer().getLife() * 2 - 5); //This is the minimal gain for an unnecessary trade
-
         // remove all attackers that can't be blocked anyway
         for (Card a : getAttackers()) {
             if (!CombatUtil.canBeBlocked(a)) {
@@ -566,52 +777,49 @@ public class ComputerUtil_Block2 {
             }
         }
 
-        // remove all blockers that can't block anyway
-        for (Card b : possibleBlockers) {
-            if (!CombatUtil.canBlock(b, combat)) getBlockersLeft().remove(b);
-        }
-
         if (getAttackersLeft().size() == 0)
             return combat;
 
+        precompute(combat);
+
         //Begin with the weakest blockers
         CardListUtil.sortAttackLowFirst(getBlockersLeft());
 
         //== 1. choose best blocks first ==
         combat = makeGoodBlocks(combat);
         combat = makeGangBlocks(combat);
-        if (CombatUtil.lifeInDanger(combat))
+        if (lifeInDanger(combat))
             combat = makeTradeBlocks(combat); //choose necessary trade blocks if life is in danger
-        if (CombatUtil.lifeInDanger(combat))
+        if (lifeInDanger(combat))
             combat = makeChumpBlocks(combat); //choose necessary chump blocks if life is still in danger
         //Reinforce blockers blocking attackers with trample if life is still in danger
-        if (CombatUtil.lifeInDanger(combat)) combat = reinforceBlockersAgainstTrample(combat);
+        if (lifeInDanger(combat)) combat = reinforceBlockersAgainstTrample(combat);
         //Support blockers not destroying the attacker with more blockers to try to kill the attacker
-        if (!CombatUtil.lifeInDanger(combat)) combat = reinforceBlockersToKill(combat);
+        if (!lifeInDanger(combat)) combat = reinforceBlockersToKill(combat);
 
 
         //== 2. If the AI life would still be in danger make a safer approach ==
-        if (CombatUtil.lifeInDanger(combat)) {
-            combat = resetBlockers(combat, possibleBlockers); // reset every block assignment
+        if (lifeInDanger(combat)) {
+            combat = resetBlockers(combat); // reset every block assignment
             combat = makeTradeBlocks(combat); //choose necessary trade blocks if life is in danger
             combat = makeGoodBlocks(combat);
-            if (CombatUtil.lifeInDanger(combat))
+            if (lifeInDanger(combat))
                 combat = makeChumpBlocks(combat); //choose necessary chump blocks if life is still in danger
             //Reinforce blockers blocking attackers with trample if life is still in danger
-            if (CombatUtil.lifeInDanger(combat)) combat = reinforceBlockersAgainstTrample(combat);
+            if (lifeInDanger(combat)) combat = reinforceBlockersAgainstTrample(combat);
             combat = makeGangBlocks(combat);
             combat = reinforceBlockersToKill(combat);
         }
 
         //== 3. If the AI life would be in serious danger make an even safer approach ==
-        if (CombatUtil.lifeInSeriousDanger(combat)) {
-            combat = resetBlockers(combat, possibleBlockers); // reset every block assignment
+        if (lifeInSeriousDanger(combat)) {
+            combat = resetBlockers(combat); // reset every block assignment
             combat = makeChumpBlocks(combat); //choose chump blocks
-            if (CombatUtil.lifeInDanger(combat))
+            if (lifeInDanger(combat))
                 combat = makeTradeBlocks(combat); //choose necessary trade blocks if life is in danger
-            if (!CombatUtil.lifeInDanger(combat)) combat = makeGoodBlocks(combat);
+            if (!lifeInDanger(combat)) combat = makeGoodBlocks(combat);
             //Reinforce blockers blocking attackers with trample if life is still in danger
-            if (CombatUtil.lifeInDanger(combat)) combat = reinforceBlockersAgainstTrample(combat);
+            if (lifeInDanger(combat)) combat = reinforceBlockersAgainstTrample(combat);
             combat = makeGangBlocks(combat);
             //Support blockers not destroying the attacker with more blockers to try to kill the attacker
             combat = reinforceBlockersToKill(combat);
@@ -621,16 +829,16 @@ public class ComputerUtil_Block2 {
         chumpBlockers = getBlockersLeft().getKeyword("CARDNAME blocks each turn if able.");
         // if an attacker with lure attacks - all that can block
         for (Card blocker : getBlockersLeft()) {
-            if (CombatUtil.canBlockAnAttackerWithLure(blocker, combat)) chumpBlockers.add(blocker);
+            if (blockerMustBlockLure[blockerIndex.get(blocker)] && CombatUtil.canBlock(blocker, combat))
+                chumpBlockers.add(blocker);
         }
         if (!chumpBlockers.isEmpty()) {
             getAttackers().shuffle();
             for (Card attacker : getAttackers()) {
                 blockers = getPossibleBlockers(attacker, chumpBlockers, combat);
                 for (Card blocker : blockers) {
-                    if (CombatUtil.canBlock(attacker, blocker, combat)) {
-                        combat.addBlocker(attacker, blocker);
-                        getBlockersLeft().remove(blocker);
+                    if (canBlock(attacker, blocker, combat)) {
+                        addBlocker(combat, attacker, blocker);
                     }
                 }
             }
@@ -28,6 +28,17 @@ public interface Constant {
         public static final boolean[] Smooth = new boolean[1];
         public static final boolean[] Mill = new boolean[1];
         public static final boolean[] DevMode = new boolean[1];    // one for normal mode one for quest mode
+
+        // skip checkStateEffects() when nothing changed since its last pass; see GameStateDigest.
+        // Off by default: taking the two digests costs more than the passes it skips
+        public static final boolean[] IncrementalStateEffects = new boolean[1];
+        // run the skipped passes anyway and report what they changed
+        public static final boolean[] VerifyStateEffects = new boolean[1];
+
+        // attacks the AI may score while it searches for a better one; 0 keeps ComputerUtil_Attack2
+        public static final int[] AttackSearchNodes = new int[1];
+        // milliseconds the search may take besides, 0 for no limit
+        public static final int[] AttackSearchMillis = new int[1];
         
         public static final boolean[] NetConn = new boolean[1];
         public static final boolean[] UpldDrft = new boolean[1];
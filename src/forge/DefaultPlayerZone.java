@@ -2,6 +2,7 @@ package forge;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Observable;
 
 /**
@@ -22,6 +23,12 @@ public class DefaultPlayerZone extends PlayerZone implements java.io.Serializabl
     private CardList cardsAddedThisTurn = new CardList();
     private ArrayList<String> cardsAddedThisTurnSource = new ArrayList<String>();
 
+    // The cards above by name, in zone order.  add and remove keep it up to
+    // date; it is dropped (and rebuilt on the next lookup) when cards are
+    // inserted in the middle or a card in the zone changes its name.  A zone
+    // observes only the cards in it, so cards that left don't drop it.
+    private transient HashMap<String, ArrayList<Card>> cardsByName;
+
     /**
      * <p>Constructor for DefaultPlayerZone.</p>
      *
@@ -99,6 +106,8 @@ public class DefaultPlayerZone extends PlayerZone implements java.io.Serializabl
         c.setTurnInZone(AllZone.getPhase().getTurn());
 
         cards.add((Card) c);
+        indexCard(c);
+        registerStaticAbilities(c);
         update();
     }
 
@@ -124,6 +133,8 @@ public class DefaultPlayerZone extends PlayerZone implements java.io.Serializabl
         c.addObserver(this);
 
         cards.add((Card) c);
+        indexCard(c);
+        registerStaticAbilities(c);
         update();
     }
 
@@ -133,6 +144,13 @@ public class DefaultPlayerZone extends PlayerZone implements java.io.Serializabl
      * @param object
      */
     public void update(Observable ob, Object object) {
+        if (cardsByName != null && ob instanceof Card) {
+            Card c = (Card) ob;
+            ArrayList<Card> named = cardsByName.get(c.getName());
+            // renamed
+            if (named == null || !named.contains(c))
+                cardsByName = null;
+        }
         this.update();
     }
 
@@ -152,7 +170,11 @@ public class DefaultPlayerZone extends PlayerZone implements java.io.Serializabl
             }
         }
 
+        c.addObserver(this);
+
         cards.add(index, c);
+        cardsByName = null;
+        registerStaticAbilities(c);
         c.setTurnInZone(AllZone.getPhase().getTurn());
         update();
     }
@@ -162,7 +184,14 @@ public class DefaultPlayerZone extends PlayerZone implements java.io.Serializabl
      * @param c
      */
     public void remove(Object c) {
-        cards.remove((Card) c);
+        int index = cards.indexOf(c);
+        if (index != -1) {
+            Card removed = cards.remove(index);
+            if (!cards.contains(removed))
+                removed.deleteObserver(this);
+            unindexCard(removed);
+            unregisterStaticAbilities(removed);
+        }
         update();
     }
 
@@ -172,7 +201,16 @@ public class DefaultPlayerZone extends PlayerZone implements java.io.Serializabl
      * @param c an array of {@link forge.Card} objects.
      */
     public void setCards(Card c[]) {
+        for (Card old : cards) {
+            old.deleteObserver(this);
+            unregisterStaticAbilities(old);
+        }
         cards = new ArrayList<Card>(Arrays.asList(c));
+        for (Card added : cards) {
+            added.addObserver(this);
+            registerStaticAbilities(added);
+        }
+        cardsByName = null;
         update();
     }
 
@@ -183,7 +221,12 @@ public class DefaultPlayerZone extends PlayerZone implements java.io.Serializabl
     public void reset() {
         cardsAddedThisTurn.clear();
         cardsAddedThisTurnSource.clear();
+        for (Card old : cards) {
+            old.deleteObserver(this);
+            unregisterStaticAbilities(old);
+        }
         cards.clear();
+        cardsByName = null;
         update();
     }
     //************ END - these methods fire updateObservers() *************
@@ -254,12 +297,109 @@ public class DefaultPlayerZone extends PlayerZone implements java.io.Serializabl
         return c;
     }
 
+    /** {@inheritDoc} */
+    public boolean contains(Card c) {
+        return cards.contains(c);
+    }
+
+    /** {@inheritDoc} */
+    public CardList getCardsNamed(String name) {
+        ArrayList<Card> named = getCardsByName().get(name);
+        return named == null ? new CardList() : new CardList(named);
+    }
+
+    /** {@inheritDoc} */
+    public boolean hasCardNamed(String name) {
+        return getCardsByName().containsKey(name);
+    }
+
+    /**
+     * <p>getCardsByName.</p>
+     *
+     * @return the name index, rebuilt first if it was dropped.
+     */
+    private HashMap<String, ArrayList<Card>> getCardsByName() {
+        if (cardsByName == null) {
+            cardsByName = new HashMap<String, ArrayList<Card>>();
+            for (Card c : cards)
+                indexCard(c);
+        }
+        return cardsByName;
+    }
+
+    /**
+     * <p>indexCard.</p>
+     *
+     * @param c a card just added at the end of this zone.
+     */
+    private void indexCard(Card c) {
+        if (cardsByName == null) return;
+        ArrayList<Card> named = cardsByName.get(c.getName());
+        if (named == null) {
+            named = new ArrayList<Card>(1);
+            cardsByName.put(c.getName(), named);
+        }
+        named.add(c);
+    }
+
+    /**
+     * <p>unindexCard.</p>
+     *
+     * @param c a card just removed from this zone.
+     */
+    private void unindexCard(Card c) {
+        if (cardsByName == null) return;
+        ArrayList<Card> named = cardsByName.get(c.getName());
+        if (named == null || !named.remove(c)) {
+            cardsByName = null;
+            return;
+        }
+        if (named.isEmpty())
+            cardsByName.remove(c.getName());
+    }
+
+    /**
+     * <p>isInGame.</p>
+     *
+     * @return true for the zones AllZoneUtil.getCardsInGame() looks at,
+     *         whose cards' static abilities apply.
+     */
+    private boolean isInGame() {
+        return player != null && !is(Constant.Zone.Command);
+    }
+
+    /**
+     * <p>registerStaticAbilities.</p>
+     *
+     * @param c a card just put into this zone.
+     */
+    private void registerStaticAbilities(Card c) {
+        if (isInGame())
+            AllZone.getStaticEffects().registerStaticAbilities(c);
+    }
+
+    /**
+     * <p>unregisterStaticAbilities.</p>
+     *
+     * @param c a card just removed from this zone.
+     */
+    private void unregisterStaticAbilities(Card c) {
+        if (isInGame())
+            AllZone.getStaticEffects().unregisterStaticAbilities(c);
+    }
+
     /**
      * <p>update.</p>
      */
     public void update() {
-        if (update)
-            updateObservers();
+        // nothing observes a zone any more, the display listens to the bus
+        postChange();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void postChange() {
+        AllZone.getEventBus().post(GameEvent.Type.ZONE_CHANGED, this);
     }
 
     /**
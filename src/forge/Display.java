@@ -92,4 +92,18 @@ public interface Display {
      * @param c a {@link forge.Card} object.
      */
     public void setCard(Card c);
+
+    /**
+     * <p>isDisplayable.</p>
+     *
+     * @return false once the game shown in this display is over.
+     */
+    public boolean isDisplayable();
+
+    /**
+     * <p>gameOver.</p>
+     *
+     * Called by GameAction.checkStateEffects() when a player has won.
+     */
+    public void gameOver();
 }
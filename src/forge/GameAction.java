@@ -17,9 +17,10 @@ import forge.gui.input.Input_PayManaCost_Ability;
 import forge.properties.ForgeProps;
 import forge.properties.NewConstants.LANG.GameAction.GAMEACTION_TEXT;
 
-import javax.swing.*;
 import java.util.*;
 
+import static forge.error.ErrorViewer.showError;
+
 /**
  * <p>GameAction class.</p>
  *
@@ -28,6 +29,9 @@ import java.util.*;
  */
 public class GameAction {
 
+    /** The state of the game at the end of the last full checkStateEffects() pass. */
+    private GameStateDigest lastStateEffects;
+
     /**
      * <p>resetActivationsPerTurn.</p>
      */
@@ -538,23 +542,23 @@ public class GameAction {
         Player computer = AllZone.getComputerPlayer();
         Player human = AllZone.getHumanPlayer();
 
-        int gameWon = Constant.Runtime.matchState.getWin();
+        int gameWon = AllZone.getMatchState().getWin();
 
         if (human.hasWon()) {    // Winning Conditions can be worth more than losing conditions
             // Human wins
             humanWins = true;
             if (human.getAltWin()) {
-                Constant.Runtime.matchState.setWinMethod(gameWon, human.getWinCondition());
+                AllZone.getMatchState().setWinMethod(gameWon, human.getWinCondition());
             }
-            Constant.Runtime.matchState.addWin();
+            AllZone.getMatchState().addWin();
         } else if (computer.hasLost()) {
             // Human wins
             humanWins = true;
 
             if (computer.getAltLose()) {
-                Constant.Runtime.matchState.setWinMethod(gameWon, computer.getLoseCondition());
+                AllZone.getMatchState().setWinMethod(gameWon, computer.getLoseCondition());
             }
-            Constant.Runtime.matchState.addWin();
+            AllZone.getMatchState().addWin();
         }
 
 
@@ -566,7 +570,7 @@ public class GameAction {
 
             // Computer wins
             computerWins = true;
-            Constant.Runtime.matchState.addLose();
+            AllZone.getMatchState().addLose();
         }
 
         return humanWins || computerWins;
@@ -577,6 +581,18 @@ public class GameAction {
      * <p>checkStateEffects.</p>
      */
     public void checkStateEffects() {
+        AllZone.getEventBus().beginAction();
+        try {
+            runStateEffects();
+        } finally {
+            AllZone.getEventBus().endAction();
+        }
+    }
+
+    /**
+     * <p>runStateEffects.</p>
+     */
+    private void runStateEffects() {
         // sol(10/29) added for Phase updates, state effects shouldn't be checked during Spell Resolution
         if (AllZone.getStack().getResolving())
             return;
@@ -584,20 +600,28 @@ public class GameAction {
         boolean refreeze = AllZone.getStack().isFrozen();
         AllZone.getStack().setFrozen(true);
 
-        JFrame frame = (JFrame) AllZone.getDisplay();
-        if (!frame.isDisplayable()) return;
+        if (!AllZone.getDisplay().isDisplayable()) return;
 
         if (checkEndGameSate()) {
             AllZone.getDisplay().savePrefs();
-            frame.dispose();
-            if (!Constant.Quest.fantasyQuest[0])
-                new Gui_WinLose();
-            else
-                new Gui_WinLose(Constant.Quest.humanList[0], Constant.Quest.computerList[0],
-                        Constant.Quest.humanLife[0], Constant.Quest.computerLife[0]);
+            AllZone.getDisplay().gameOver();
             return;
         }
 
+        // nothing changed since the last pass, so this one would change nothing either
+        GameStateDigest skipped = null;
+        if (Constant.Runtime.IncrementalStateEffects[0] && lastStateEffects != null) {
+            GameStateDigest now = GameStateDigest.take();
+            if (now.sameAs(lastStateEffects)) {
+                if (!Constant.Runtime.VerifyStateEffects[0]) {
+                    if (!refreeze)
+                        AllZone.getStack().unfreezeStack();
+                    return;
+                }
+                skipped = now;
+            }
+        }
+
         //do this twice, sometimes creatures/permanents will survive when they shouldn't
         for (int q = 0; q < 9; q++) {
         	
@@ -606,23 +630,10 @@ public class GameAction {
         	//remove old effects
         	AllZone.getStaticEffects().clearStaticEffects();
         	
-        	//search for cards with static abilities
-        	CardList allCards = AllZoneUtil.getCardsInGame();
-        	CardList cardsWithStAbs = new CardList();
-        	for (Card card : allCards) {
-        		ArrayList<StaticAbility> staticAbilities = card.getStaticAbilities();
-        		if (!staticAbilities.isEmpty())
-        			cardsWithStAbs.add(card);
-        	}
-        	
         	//apply continuous effects
-        	for (int layer = 4; layer < 9; layer++) {
-	        	for (Card card : cardsWithStAbs) {
-	        		ArrayList<StaticAbility> staticAbilities = card.getStaticAbilities();
-	        		for (StaticAbility stAb : staticAbilities)
-	        			if (stAb.getLayer() == layer)
-	        				stAb.applyAbility("Continuous");
-	        	}
+        	for (int layer = 4; layer <= StaticEffects.MAX_LAYER; layer++) {
+        		for (StaticAbility stAb : AllZone.getStaticEffects().getStaticAbilities(layer))
+        			stAb.applyAbility("Continuous");
         	}
         	
         	HashMap<String, Object> runParams = new HashMap<String, Object>();
@@ -719,9 +730,17 @@ public class GameAction {
 
         GameActionUtil.stLandManaAbilities.execute();
 
+        if (Constant.Runtime.IncrementalStateEffects[0])
+            lastStateEffects = GameStateDigest.take();
+        if (skipped != null) {
+            List<String> missed = skipped.diff(lastStateEffects);
+            if (!missed.isEmpty())
+                showError("checkStateEffects() skipped a pass that changed %s", missed);
+        }
+
         if (!refreeze)
             AllZone.getStack().unfreezeStack();
-    }//checkStateEffects()
+    }//runStateEffects()
 
 
     /**
@@ -1023,6 +1042,7 @@ public class GameAction {
     public void newGame(Deck humanDeck, Deck computerDeck) {
         //AllZone.getComputer() = new ComputerAI_Input(new ComputerAI_General());
         Constant.Quest.fantasyQuest[0] = false;
+        lastStateEffects = null;
 
         AllZone.getGameInfo().setPreventCombatDamageThisTurn(false);
         AllZone.getGameInfo().setHumanNumberOfTimesMulliganed(0);
@@ -1182,7 +1202,7 @@ public class GameAction {
                         sb.append(", ");
                 }
 
-                JOptionPane.showMessageDialog(null, sb.toString(), "", JOptionPane.INFORMATION_MESSAGE);
+                GuiUtils.getDialogs().showMessage(sb.toString(), "");
 
             }
         }//end re-numbering
@@ -1202,13 +1222,13 @@ public class GameAction {
         }
 
         // Only cut/coin toss if it's the first game of the match
-        if (Constant.Runtime.matchState.countWinLose() == 0) {
+        if (AllZone.getMatchState().countWinLose() == 0) {
             // New code to determine who goes first. Delete this if it doesn't work properly
             if (isStartCut())
                 seeWhoPlaysFirst();
             else
                 seeWhoPlaysFirst_CoinToss();
-        } else if (Constant.Runtime.matchState.didWinRecently())    // if player won last, AI starts
+        } else if (AllZone.getMatchState().didWinRecently())    // if player won last, AI starts
             computerStartsGame();
 
         for (int i = 0; i < 7; i++) {
@@ -1369,9 +1389,8 @@ public class GameAction {
      */
     public void seeWhoPlaysFirst_CoinToss() {
         Object[] possibleValues = {ForgeProps.getLocalized(GAMEACTION_TEXT.HEADS), ForgeProps.getLocalized(GAMEACTION_TEXT.TAILS)};
-        Object q = JOptionPane.showOptionDialog(null, ForgeProps.getLocalized(GAMEACTION_TEXT.HEADS_OR_TAILS), ForgeProps.getLocalized(GAMEACTION_TEXT.COIN_TOSS),
-                JOptionPane.DEFAULT_OPTION, JOptionPane.INFORMATION_MESSAGE,
-                null, possibleValues, possibleValues[0]);
+        Object q = GuiUtils.getDialogs().getOption(ForgeProps.getLocalized(GAMEACTION_TEXT.HEADS_OR_TAILS),
+                ForgeProps.getLocalized(GAMEACTION_TEXT.COIN_TOSS), possibleValues);
 
         int Flip = MyRandom.random.nextInt(2);
         String Human_Flip = " ";
@@ -1386,10 +1405,10 @@ public class GameAction {
         }
 
         if ((Flip == 0 && q.equals(0)) || (Flip == 1 && q.equals(1)))
-            JOptionPane.showMessageDialog(null, Human_Flip + "\r\n" + ForgeProps.getLocalized(GAMEACTION_TEXT.HUMAN_WIN), "", JOptionPane.INFORMATION_MESSAGE);
+            GuiUtils.getDialogs().showMessage(Human_Flip + "\r\n" + ForgeProps.getLocalized(GAMEACTION_TEXT.HUMAN_WIN), "");
         else {
             computerStartsGame();
-            JOptionPane.showMessageDialog(null, Computer_Flip + "\r\n" + ForgeProps.getLocalized(GAMEACTION_TEXT.COMPUTER_WIN), "", JOptionPane.INFORMATION_MESSAGE);
+            GuiUtils.getDialogs().showMessage(Computer_Flip + "\r\n" + ForgeProps.getLocalized(GAMEACTION_TEXT.COMPUTER_WIN), "");
         }
     }//seeWhoPlaysFirst_CoinToss()
 
@@ -1416,14 +1435,14 @@ public class GameAction {
                 setHumanCut(HLibrary.get(MyRandom.random.nextInt(HLibrary.size())));
             else {
                 computerStartsGame();
-                JOptionPane.showMessageDialog(null, ForgeProps.getLocalized(GAMEACTION_TEXT.HUMAN_MANA_COST) + "\r\n" + ForgeProps.getLocalized(GAMEACTION_TEXT.COMPUTER_STARTS), "", JOptionPane.INFORMATION_MESSAGE);
+                GuiUtils.getDialogs().showMessage(ForgeProps.getLocalized(GAMEACTION_TEXT.HUMAN_MANA_COST) + "\r\n" + ForgeProps.getLocalized(GAMEACTION_TEXT.COMPUTER_STARTS), "");
                 return;
             }
 
             if (CLibrary.size() > 0)
                 setComputerCut(CLibrary.get(MyRandom.random.nextInt(CLibrary.size())));
             else {
-                JOptionPane.showMessageDialog(null, ForgeProps.getLocalized(GAMEACTION_TEXT.COMPUTER_MANA_COST) + "\r\n" + ForgeProps.getLocalized(GAMEACTION_TEXT.HUMAN_STARTS), "", JOptionPane.INFORMATION_MESSAGE);
+                GuiUtils.getDialogs().showMessage(ForgeProps.getLocalized(GAMEACTION_TEXT.COMPUTER_MANA_COST) + "\r\n" + ForgeProps.getLocalized(GAMEACTION_TEXT.HUMAN_STARTS), "");
                 return;
             }
 
@@ -1437,26 +1456,26 @@ public class GameAction {
             sb.append("\r\n" + "Number of times the deck has been cut: " + Cut_Count + "\r\n");
             if (CardUtil.getConvertedManaCost(getComputerCut().getManaCost()) > CardUtil.getConvertedManaCost(getHumanCut().getManaCost())) {
                 computerStartsGame();
-                JOptionPane.showMessageDialog(null, sb + ForgeProps.getLocalized(GAMEACTION_TEXT.COMPUTER_STARTS), "", JOptionPane.INFORMATION_MESSAGE);
+                GuiUtils.getDialogs().showMessage(sb + ForgeProps.getLocalized(GAMEACTION_TEXT.COMPUTER_STARTS), "");
                 return;
             } else if (CardUtil.getConvertedManaCost(getComputerCut().getManaCost()) < CardUtil.getConvertedManaCost(getHumanCut().getManaCost())) {
-                JOptionPane.showMessageDialog(null, sb + ForgeProps.getLocalized(GAMEACTION_TEXT.HUMAN_STARTS), "", JOptionPane.INFORMATION_MESSAGE);
+                GuiUtils.getDialogs().showMessage(sb + ForgeProps.getLocalized(GAMEACTION_TEXT.HUMAN_STARTS), "");
                 return;
             } else {
                 sb.append(ForgeProps.getLocalized(GAMEACTION_TEXT.EQUAL_CONVERTED_MANA) + "\r\n");
                 if (i == Cut_CountMax - 1) {
                     sb.append(ForgeProps.getLocalized(GAMEACTION_TEXT.RESOLVE_STARTER));
                     if (MyRandom.random.nextInt(2) == 1)
-                        JOptionPane.showMessageDialog(null, sb + ForgeProps.getLocalized(GAMEACTION_TEXT.HUMAN_WIN), "", JOptionPane.INFORMATION_MESSAGE);
+                        GuiUtils.getDialogs().showMessage(sb + ForgeProps.getLocalized(GAMEACTION_TEXT.HUMAN_WIN), "");
                     else {
                         computerStartsGame();
-                        JOptionPane.showMessageDialog(null, sb + ForgeProps.getLocalized(GAMEACTION_TEXT.COMPUTER_WIN), "", JOptionPane.INFORMATION_MESSAGE);
+                        GuiUtils.getDialogs().showMessage(sb + ForgeProps.getLocalized(GAMEACTION_TEXT.COMPUTER_WIN), "");
                     }
                     return;
                 } else {
                     sb.append(ForgeProps.getLocalized(GAMEACTION_TEXT.CUTTING_AGAIN));
                 }
-                JOptionPane.showMessageDialog(null, sb, "", JOptionPane.INFORMATION_MESSAGE);
+                GuiUtils.getDialogs().showMessage(sb.toString(), "");
             }
         } // for-loop for multiple card cutting
 
@@ -11,7 +11,6 @@ import forge.gui.input.Input;
 import forge.gui.input.Input_PayManaCostUtil;
 import forge.gui.input.Input_PayManaCost_Ability;
 
-import javax.swing.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -207,9 +206,7 @@ public class GameActionUtil {
                                 StringBuilder question = new StringBuilder();
                                 question.append("Cast ").append(cascadedCard.getName()).append(" without paying its mana cost?");
 
-                                int answer = JOptionPane.showConfirmDialog(null, question.toString(), title.toString(), JOptionPane.YES_NO_OPTION);
-
-                                if (answer == JOptionPane.YES_OPTION) {
+                                if (GuiUtils.getDialogs().confirm(cascCard, title.toString(), question.toString(), false)) {
                                     AllZone.getGameAction().playCardNoCost(cascadedCard);
                                     revealed.remove(cascadedCard);
                                 }
@@ -279,10 +276,8 @@ public class GameActionUtil {
                 if (controller.isHuman()) {
                     Object[] possibleValues = {"Yes", "No"};
                     AllZone.getDisplay().showMessage("Activate Ripple? ");
-                    Object q = JOptionPane.showOptionDialog(null, "Activate Ripple for " + c, "Ripple",
-                            JOptionPane.DEFAULT_OPTION, JOptionPane.INFORMATION_MESSAGE,
-                            null, possibleValues, possibleValues[0]);
-                    if (q.equals(0)) Activate_Ripple = true;
+                    int q = GuiUtils.getDialogs().getOption("Activate Ripple for " + c, "Ripple", possibleValues);
+                    if (q == 0) Activate_Ripple = true;
                 } else Activate_Ripple = true;
                 if (Activate_Ripple == true) {
                     final Ability ability = new Ability(c, "0") {
@@ -309,10 +304,8 @@ public class GameActionUtil {
 
                                     if (RippledCards[i].getController().isHuman()) {
                                         Object[] possibleValues = {"Yes", "No"};
-                                        Object q = JOptionPane.showOptionDialog(null, "Cast " + RippledCards[i].getName() + "?", "Ripple",
-                                                JOptionPane.DEFAULT_OPTION, JOptionPane.INFORMATION_MESSAGE,
-                                                null, possibleValues, possibleValues[0]);
-                                        if (q.equals(0)) {
+                                        int q = GuiUtils.getDialogs().getOption("Cast " + RippledCards[i].getName() + "?", "Ripple", possibleValues);
+                                        if (q == 0) {
                                             AllZone.getGameAction().playCardNoCost(RippledCards[i]);
                                             revealed.remove(RippledCards[i]);
                                         }
@@ -1582,18 +1575,7 @@ public class GameActionUtil {
             question = "Activate card's ability?";
         }
 
-        int answer;
-        if(defaultNo) {
-        	Object options[] = {"Yes", "No"};
-        	answer = JOptionPane.showOptionDialog(null, question, title.toString(), JOptionPane.YES_NO_OPTION,
-        				JOptionPane.PLAIN_MESSAGE, null, options, options[1]);
-        }
-        else {
-        	answer= JOptionPane.showConfirmDialog(null, question, title.toString(), JOptionPane.YES_NO_OPTION);
-        }
-
-        if (answer == JOptionPane.YES_OPTION) return true;
-        else return false;
+        return GuiUtils.getDialogs().confirm(c, title.toString(), question, defaultNo);
     }
 
     /**
@@ -1602,7 +1584,7 @@ public class GameActionUtil {
      * @param message a {@link java.lang.String} object.
      */
     public static void showInfoDialg(String message) {
-        JOptionPane.showMessageDialog(null, message);
+        GuiUtils.getDialogs().showMessage(message, "");
     }
 
     /**
@@ -1623,10 +1605,10 @@ public class GameActionUtil {
         }
 
         if ((flip == true && choice.equals("heads")) || (flip == false && choice.equals("tails"))) {
-            JOptionPane.showMessageDialog(null, source.getName() + " - " + caller + " wins flip.", source.getName(), JOptionPane.PLAIN_MESSAGE);
+            GuiUtils.getDialogs().showMessage(source.getName() + " - " + caller + " wins flip.", source.getName());
             return true;
         } else {
-            JOptionPane.showMessageDialog(null, source.getName() + " - " + caller + " loses flip.", source.getName(), JOptionPane.PLAIN_MESSAGE);
+            GuiUtils.getDialogs().showMessage(source.getName() + " - " + caller + " loses flip.", source.getName());
             return false;
         }
     }
@@ -4624,12 +4606,16 @@ public class GameActionUtil {
     public static Command Conspiracy = new Command() {
         private static final long serialVersionUID = -752798545956593342L;
 
-        CardList gloriousAnthemList = new CardList();
+        GameLocal<CardList> gloriousAnthemList = new GameLocal<CardList>() {
+            protected CardList initialValue() {
+                return new CardList();
+            }
+        };
 
         public void execute() {
             //String keyword = "Defender";
 
-            CardList list = gloriousAnthemList;
+            CardList list = gloriousAnthemList.get();
             Card c;
             // reset all cards in list - aka "old" cards
             for (int i = 0; i < list.size(); i++) {
@@ -4676,7 +4662,7 @@ public class GameActionUtil {
                         if (ench) c.addType("Enchantment");
                         c.addType(card.getChosenType());
 
-                        gloriousAnthemList.add(c);
+                        gloriousAnthemList.get().add(c);
                     }
                 }
             }// for inner
@@ -4688,12 +4674,16 @@ public class GameActionUtil {
     public static Command Elspeth_Emblem = new Command() {
 
         private static final long serialVersionUID = 7414127991531889390L;
-        CardList gloriousAnthemList = new CardList();
+        GameLocal<CardList> gloriousAnthemList = new GameLocal<CardList>() {
+            protected CardList initialValue() {
+                return new CardList();
+            }
+        };
 
         public void execute() {
             String keyword = "Indestructible";
 
-            CardList list = gloriousAnthemList;
+            CardList list = gloriousAnthemList.get();
             Card c;
             // reset all cards in list - aka "old" cards
             for (int i = 0; i < list.size(); i++) {
@@ -4718,7 +4708,7 @@ public class GameActionUtil {
                     c = perms.get(j);
                     if (!c.hasKeyword(keyword)) {
                         c.addExtrinsicKeyword(keyword);
-                        gloriousAnthemList.add(c);
+                        gloriousAnthemList.get().add(c);
                     }
                 }
             }
@@ -4728,18 +4718,22 @@ public class GameActionUtil {
     /** Constant <code>Favor_of_the_Mighty</code> */
     public static Command Favor_of_the_Mighty = new Command() {
         private static final long serialVersionUID = 2920036758177137722L;
-        private CardList pumped = new CardList();
+        private GameLocal<CardList> pumped = new GameLocal<CardList>() {
+            protected CardList initialValue() {
+                return new CardList();
+            }
+        };
 
         public void execute() {
             //Reset old cards
-            for (Card c : pumped) {
+            for (Card c : pumped.get()) {
                 c.removeIntrinsicKeyword("Protection from white");
                 c.removeIntrinsicKeyword("Protection from blue");
                 c.removeIntrinsicKeyword("Protection from black");
                 c.removeIntrinsicKeyword("Protection from red");
                 c.removeIntrinsicKeyword("Protection from green");
             }
-            pumped.clear();
+            pumped.get().clear();
 
             //Find creature(s) with highest cmc
             int maxCMC = -1;
@@ -4747,16 +4741,16 @@ public class GameActionUtil {
             CardList creats = AllZoneUtil.getCreaturesInPlay();
             for (Card c : creats) {
                 if (c.getCMC() > maxCMC) {
-                    pumped.clear();
-                    pumped.add(c);
+                    pumped.get().clear();
+                    pumped.get().add(c);
                     maxCMC = c.getCMC();
                 } else if (c.getCMC() == maxCMC) {
-                    pumped.add(c);
+                    pumped.get().add(c);
                 }
             }
 
             //Pump new cards
-            for (Card c : pumped) {
+            for (Card c : pumped.get()) {
                 c.addIntrinsicKeyword("Protection from white");
                 c.addIntrinsicKeyword("Protection from blue");
                 c.addIntrinsicKeyword("Protection from black");
@@ -4770,10 +4764,14 @@ public class GameActionUtil {
     public static Command Koth_Emblem = new Command() {
 
         private static final long serialVersionUID = -3233715310427996429L;
-        CardList gloriousAnthemList = new CardList();
+        GameLocal<CardList> gloriousAnthemList = new GameLocal<CardList>() {
+            protected CardList initialValue() {
+                return new CardList();
+            }
+        };
 
         public void execute() {
-            CardList list = gloriousAnthemList;
+            CardList list = gloriousAnthemList.get();
             Card crd;
             // reset all cards in list - aka "old" cards
             for (int i = 0; i < list.size(); i++) {
@@ -4840,7 +4838,7 @@ public class GameActionUtil {
 
                         c.addSpellAbility(ability);
 
-                        gloriousAnthemList.add(c);
+                        gloriousAnthemList.get().add(c);
                     }
                 }
             }
@@ -4856,18 +4854,22 @@ public class GameActionUtil {
          */
 
         private static final long serialVersionUID = -7853346190458174501L;
-        private ArrayList<StaticEffect> storage = new ArrayList<StaticEffect>();
+        private GameLocal<ArrayList<StaticEffect>> storage = new GameLocal<ArrayList<StaticEffect>>() {
+            protected ArrayList<StaticEffect> initialValue() {
+                return new ArrayList<StaticEffect>();
+            }
+        };
         // storage stores the source card and the cards it gave its bonus to, to know what to remove
 
         public void execute() {
 
             // remove all static effects
-            for (int i = 0; i < storage.size(); i++) {
-                removeStaticEffect(storage.get(i));
+            for (int i = 0; i < storage.get().size(); i++) {
+                removeStaticEffect(storage.get().get(i));
             }
 
             //clear the list
-            storage = new ArrayList<StaticEffect>();
+            storage.set(new ArrayList<StaticEffect>());
 
             //Gather Cards on the Battlefield with the stPump Keyword
             CardList cards_WithKeyword = AllZoneUtil.getCardsInPlay();
@@ -4927,7 +4929,7 @@ public class GameActionUtil {
 
                             addStaticEffects(cardWithKeyword, affectedCards, k[2], x, y); //give the boni to the affected cards
 
-                            storage.add(se); // store the information
+                            storage.get().add(se); // store the information
                         }
                     }
                 }
@@ -5445,10 +5447,14 @@ public class GameActionUtil {
     public static Command Coat_of_Arms = new Command() {
         private static final long serialVersionUID = 583505612126735693L;
 
-        CardList gloriousAnthemList = new CardList();
+        GameLocal<CardList> gloriousAnthemList = new GameLocal<CardList>() {
+            protected CardList initialValue() {
+                return new CardList();
+            }
+        };
 
         public void execute() {
-            CardList list = gloriousAnthemList;
+            CardList list = gloriousAnthemList.get();
             // reset all cards in list - aka "old" cards
             for (int i2 = 0; i2 < list.size(); i2++) {
                 list.get(i2).addSemiPermanentAttackBoost(-1);
@@ -5483,7 +5489,7 @@ public class GameActionUtil {
                                         Already_Added.add(Type.get(x));
                                         crd.addSemiPermanentAttackBoost(1);
                                         crd.addSemiPermanentDefenseBoost(1);
-                                        gloriousAnthemList.add(crd);
+                                        gloriousAnthemList.get().add(crd);
                                     }
                                 }
                             }
@@ -5716,10 +5722,14 @@ public class GameActionUtil {
     /** Constant <code>Muraganda_Petroglyphs</code> */
     public static Command Muraganda_Petroglyphs = new Command() {
         private static final long serialVersionUID = -6715848091817213517L;
-        CardList gloriousAnthemList = new CardList();
+        GameLocal<CardList> gloriousAnthemList = new GameLocal<CardList>() {
+            protected CardList initialValue() {
+                return new CardList();
+            }
+        };
 
         public void execute() {
-            CardList list = gloriousAnthemList;
+            CardList list = gloriousAnthemList.get();
             Card c;
             // reset all cards in list - aka "old" cards
             for (int i = 0; i < list.size(); i++) {
@@ -5742,7 +5752,7 @@ public class GameActionUtil {
                         c.addSemiPermanentAttackBoost(2);
                         c.addSemiPermanentDefenseBoost(2);
 
-                        gloriousAnthemList.add(c);
+                        gloriousAnthemList.get().add(c);
                     }
 
                 }// for inner
@@ -5753,10 +5763,14 @@ public class GameActionUtil {
     /** Constant <code>Meddling_Mage</code> */
     public static Command Meddling_Mage = new Command() {
         private static final long serialVersionUID = 738264163993370439L;
-        CardList gloriousAnthemList = new CardList();
+        GameLocal<CardList> gloriousAnthemList = new GameLocal<CardList>() {
+            protected CardList initialValue() {
+                return new CardList();
+            }
+        };
 
         public void execute() {
-            CardList list = gloriousAnthemList;
+            CardList list = gloriousAnthemList.get();
             Card c;
             // reset all cards in list - aka "old" cards
             for (int i = 0; i < list.size(); i++) {
@@ -5790,7 +5804,7 @@ public class GameActionUtil {
                     if (!c.isLand()) {
                         //c.addIntrinsicKeyword("This card can't be cast");
                         c.setUnCastable(true);
-                        gloriousAnthemList.add(c);
+                        gloriousAnthemList.get().add(c);
                     }
                 }// for inner
             }// for outer
@@ -5800,10 +5814,14 @@ public class GameActionUtil {
     /** Constant <code>Gaddock_Teeg</code> */
     public static Command Gaddock_Teeg = new Command() {
         private static final long serialVersionUID = -479252814191086571L;
-        CardList gloriousAnthemList = new CardList();
+        GameLocal<CardList> gloriousAnthemList = new GameLocal<CardList>() {
+            protected CardList initialValue() {
+                return new CardList();
+            }
+        };
 
         public void execute() {
-            CardList list = gloriousAnthemList;
+            CardList list = gloriousAnthemList.get();
             Card c;
             // reset all cards in list - aka "old" cards
             for (int i = 0; i < list.size(); i++) {
@@ -5842,7 +5860,7 @@ public class GameActionUtil {
                     c = spells.get(j);
                     if (!c.isLand()) {
                         c.setUnCastable(true);
-                        gloriousAnthemList.add(c);
+                        gloriousAnthemList.get().add(c);
                     }
                 }// for inner
             }// for outer
@@ -5852,10 +5870,14 @@ public class GameActionUtil {
     /** Constant <code>Iona_Shield_of_Emeria</code> */
     public static Command Iona_Shield_of_Emeria = new Command() {
         private static final long serialVersionUID = 7349652597673216545L;
-        CardList gloriousAnthemList = new CardList();
+        GameLocal<CardList> gloriousAnthemList = new GameLocal<CardList>() {
+            protected CardList initialValue() {
+                return new CardList();
+            }
+        };
 
         public void execute() {
-            CardList list = gloriousAnthemList;
+            CardList list = gloriousAnthemList.get();
             Card c;
             // reset all cards in list - aka "old" cards
             for (int i = 0; i < list.size(); i++) {
@@ -5889,7 +5911,7 @@ public class GameActionUtil {
                     c = spells.get(j);
                     if (!c.isLand()) {
                         c.setUnCastable(true);
-                        gloriousAnthemList.add(c);
+                        gloriousAnthemList.get().add(c);
                     }
                 }// for inner
             }// for outer
@@ -5962,17 +5984,21 @@ public class GameActionUtil {
         private static final long serialVersionUID = -1404133561787349004L;
 
         // storage stores the source card and the cards it gave its bonus to, to know what to remove
-        private ArrayList<StaticEffect> storage = new ArrayList<StaticEffect>();
+        private GameLocal<ArrayList<StaticEffect>> storage = new GameLocal<ArrayList<StaticEffect>>() {
+            protected ArrayList<StaticEffect> initialValue() {
+                return new ArrayList<StaticEffect>();
+            }
+        };
 
         public void execute() {
 
             // remove all static effects
-            for (int i = 0; i < storage.size(); i++) {
-                removeStaticEffect(storage.get(i));
+            for (int i = 0; i < storage.get().size(); i++) {
+                removeStaticEffect(storage.get().get(i));
             }
 
             //clear the list
-            storage = new ArrayList<StaticEffect>();
+            storage.set(new ArrayList<StaticEffect>());
 
             //Gather Cards on the Battlefield with the stPump Keyword
             CardList cards = AllZoneUtil.getCardsInPlay();
@@ -6055,7 +6081,7 @@ public class GameActionUtil {
 
                             addStaticEffects(se, cardWithKeyword, affectedCards, k[2], types, colors); //give the boni to the affected cards
 
-                            storage.add(se); // store the information
+                            storage.get().add(se); // store the information
                         }
                     }
                 }
@@ -0,0 +1,86 @@
+package forge;
+
+/**
+ * <p>GameEvent class.</p>
+ *
+ * Something in the game changed.  An event only says what kind of change it
+ * was and what it happened to; listeners read the new state from the subject
+ * itself.  Two events of the same type for the same subject are equal, which
+ * is how {@link forge.GameEventBus} merges them within one action.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public final class GameEvent {
+
+    /** The kinds of change. */
+    public enum Type {
+        /** Cards were put into or taken out of a zone, or a card in it changed; the subject is the {@link forge.PlayerZone}. */
+        ZONE_CHANGED,
+        /** A card was tapped or untapped; the subject is the {@link forge.Card}. */
+        TAPPED,
+        /** Counters were put on or removed from a card; the subject is the {@link forge.Card}. */
+        COUNTERS_CHANGED,
+        /** Damage was dealt to a card or removed from it; the subject is the {@link forge.Card}. */
+        DAMAGE_CHANGED,
+        /** A player's life, poison counters or other state changed; the subject is the {@link forge.Player}. */
+        PLAYER_CHANGED,
+        /** Something was put on or taken off the stack; the subject is the {@link forge.MagicStack}. */
+        STACK_CHANGED,
+        /** The phase or turn changed; the subject is the {@link forge.Phase}. */
+        PHASE_CHANGED
+    }
+
+    private final Type type;
+    private final Object subject;
+
+    /**
+     * <p>Constructor for GameEvent.</p>
+     *
+     * @param type a {@link forge.GameEvent.Type} object.
+     * @param subject what changed.
+     */
+    public GameEvent(Type type, Object subject) {
+        this.type = type;
+        this.subject = subject;
+    }
+
+    /**
+     * <p>Getter for the field <code>type</code>.</p>
+     *
+     * @return a {@link forge.GameEvent.Type} object.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * <p>Getter for the field <code>subject</code>.</p>
+     *
+     * @return the card, zone, player or phase that changed.
+     */
+    public Object getSubject() {
+        return subject;
+    }
+
+    /** {@inheritDoc} */
+    public boolean equals(Object o) {
+        if (!(o instanceof GameEvent)) return false;
+        GameEvent e = (GameEvent) o;
+        return type == e.type && subject == e.subject;
+    }
+
+    /** {@inheritDoc} */
+    public int hashCode() {
+        return 31 * type.hashCode() + System.identityHashCode(subject);
+    }
+
+    /**
+     * <p>toString.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String toString() {
+        return type + " " + subject;
+    }
+}
@@ -0,0 +1,169 @@
+package forge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * <p>GameEventBus class.</p>
+ *
+ * Tells the GUI and the engine what changed in the game.  Zones, players,
+ * the stack and the phase post an event whenever they update their
+ * observers (see {@link MyObservable#postChange()}), and cards post when
+ * they are tapped or their counters or damage change.  Other changes to a
+ * card reach the bus through its zone, which observes it.  Between
+ * beginAction() and endAction() the events are collected, merged (a card
+ * tapped and untapped within one spell is one TAPPED event) and handed out
+ * once when the outermost action ends.  Outside of an action they go out
+ * right away.
+ *
+ * GuiDisplay4 redraws the parts of the screen the events name, and
+ * HeadlessDisplay counts them to tell a game that is stuck from one that is
+ * still going.  Without listeners, post() returns at once.
+ *
+ * The bus also counts the changes, see {@link #getVersion()}.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class GameEventBus {
+
+    private static final class Subscription {
+        private final GameEventListener listener;
+        private final EnumSet<GameEvent.Type> types;
+
+        private Subscription(GameEventListener listener, EnumSet<GameEvent.Type> types) {
+            this.listener = listener;
+            this.types = types;
+        }
+    }
+
+    private final ArrayList<Subscription> subscriptions = new ArrayList<Subscription>();
+    private final LinkedHashSet<GameEvent> pending = new LinkedHashSet<GameEvent>();
+    private int actionDepth = 0;
+    private long version = 0;
+
+    /**
+     * <p>subscribe.</p>
+     *
+     * @param listener a {@link forge.GameEventListener} object.
+     * @param types the types of event to get; all of them if none are given.
+     */
+    public synchronized void subscribe(GameEventListener listener, GameEvent.Type... types) {
+        EnumSet<GameEvent.Type> set = EnumSet.allOf(GameEvent.Type.class);
+        if (types.length > 0) {
+            set = EnumSet.noneOf(GameEvent.Type.class);
+            Collections.addAll(set, types);
+        }
+        subscriptions.add(new Subscription(listener, set));
+    }
+
+    /**
+     * <p>unsubscribe.</p>
+     *
+     * @param listener a {@link forge.GameEventListener} object.
+     */
+    public synchronized void unsubscribe(GameEventListener listener) {
+        for (int i = subscriptions.size() - 1; i >= 0; i--)
+            if (subscriptions.get(i).listener == listener)
+                subscriptions.remove(i);
+    }
+
+    /**
+     * <p>hasSubscribers.</p>
+     *
+     * @return a boolean.
+     */
+    public synchronized boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * <p>post.</p>
+     *
+     * @param type a {@link forge.GameEvent.Type} object.
+     * @param subject the card, zone, player or phase that changed.
+     */
+    public void post(GameEvent.Type type, Object subject) {
+        List<GameEvent> now;
+        synchronized (this) {
+            version++;
+            if (subscriptions.isEmpty())
+                return;
+            GameEvent event = new GameEvent(type, subject);
+            if (actionDepth > 0) {
+                pending.add(event);
+                return;
+            }
+            now = Collections.singletonList(event);
+        }
+        deliver(now);
+    }
+
+    /**
+     * <p>beginAction.</p>
+     *
+     * Holds back events until the matching endAction().  Actions nest.
+     */
+    public synchronized void beginAction() {
+        version++;
+        actionDepth++;
+    }
+
+    /**
+     * <p>endAction.</p>
+     *
+     * Sends the events held back since the outermost beginAction(); call it
+     * from a finally block.
+     */
+    public void endAction() {
+        List<GameEvent> events;
+        synchronized (this) {
+            version++;
+            if (actionDepth == 0 || --actionDepth > 0 || pending.isEmpty())
+                return;
+            events = new ArrayList<GameEvent>(pending);
+            pending.clear();
+        }
+        deliver(events);
+    }
+
+    /**
+     * <p>getVersion.</p>
+     *
+     * Goes up with every change posted and whenever an action begins or
+     * ends, which covers resolving the stack and checking state effects.
+     * Something worked out from the game can be kept for as long as the
+     * version stays the same.
+     *
+     * @return a long.
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * <p>deliver.</p>
+     *
+     * @param events the events to hand to the listeners.
+     */
+    private void deliver(List<GameEvent> events) {
+        ArrayList<Subscription> subs;
+        synchronized (this) {
+            subs = new ArrayList<Subscription>(subscriptions);
+        }
+        for (Subscription s : subs) {
+            List<GameEvent> wanted = events;
+            if (s.types.size() != GameEvent.Type.values().length) {
+                wanted = new ArrayList<GameEvent>();
+                for (GameEvent e : events)
+                    if (s.types.contains(e.getType()))
+                        wanted.add(e);
+            }
+            if (!wanted.isEmpty())
+                s.listener.handleEvents(Collections.unmodifiableList(wanted));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package forge;
+
+import java.util.List;
+
+/**
+ * <p>GameEventListener interface.</p>
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public interface GameEventListener {
+    /**
+     * <p>handleEvents.</p>
+     *
+     * Called on the thread that runs the game, once per action, with the
+     * events of that action of the types the listener subscribed to.
+     *
+     * @param events the events, each one only once, in the order they first happened.
+     */
+    void handleEvents(List<GameEvent> events);
+}
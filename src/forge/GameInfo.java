@@ -22,6 +22,10 @@ public class GameInfo {
 
     private ArrayList<Card_Color> globalColorChanges = new ArrayList<Card_Color>();
 
+    // bumped on every change to the colors of a card of this game or to the
+    // global color changes, so cards know when their cached color is out of date
+    private long colorEpoch;
+
     /**
      * <p>Getter for the field <code>humanNumberOfTimesMulliganed</code>.</p>
      *
@@ -152,6 +156,7 @@ public class GameInfo {
         if (bIncrease)
             Card_Color.increaseTimestamp();
         globalColorChanges.add(new Card_Color(new ManaCost(s), c, addToColors, false));
+        colorsChanged();
         return Card_Color.getTimestamp();
     }
 
@@ -169,8 +174,10 @@ public class GameInfo {
             if (cc.equals(s, c, addTo, timestamp))
                 removeCol = cc;
 
-        if (removeCol != null)
+        if (removeCol != null) {
             globalColorChanges.remove(removeCol);
+            colorsChanged();
+        }
     }
 
     /**
@@ -179,6 +186,23 @@ public class GameInfo {
     public void clearColorChanges() {
         // clear the global color changes at end of each game
         globalColorChanges.clear();
+        colorsChanged();
+    }
+
+    /**
+     * <p>getColorEpoch.</p>
+     *
+     * @return a long.
+     */
+    long getColorEpoch() {
+        return colorEpoch;
+    }
+
+    /**
+     * <p>colorsChanged.</p>
+     */
+    void colorsChanged() {
+        colorEpoch++;
     }
 
     /**
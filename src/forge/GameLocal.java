@@ -0,0 +1,40 @@
+package forge;
+
+/**
+ * <p>GameLocal class.</p>
+ *
+ * A value that every game keeps its own copy of, like a ThreadLocal is for
+ * threads.  For state that lives in a static object, such as the static
+ * effect commands in GameActionUtil, which would otherwise be shared by all
+ * the games that run at the same time.
+ *
+ * @param <T> the type of the value.
+ * @author Forge
+ * @version $Id: $
+ */
+public abstract class GameLocal<T> {
+    /**
+     * <p>initialValue.</p>
+     *
+     * @return the value a game starts with.
+     */
+    protected abstract T initialValue();
+
+    /**
+     * <p>get.</p>
+     *
+     * @return the value for the game bound to the calling thread.
+     */
+    public T get() {
+        return AllZone.getGameState().getLocal(this);
+    }
+
+    /**
+     * <p>set.</p>
+     *
+     * @param value the new value for the game bound to the calling thread.
+     */
+    public void set(T value) {
+        AllZone.getGameState().setLocal(this, value);
+    }
+}
@@ -0,0 +1,348 @@
+package forge;
+
+import forge.card.mana.ManaPool;
+import forge.card.trigger.TriggerHandler;
+import forge.gui.input.InputControl;
+import forge.quest.data.QuestMatchState;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * <p>GameState class.</p>
+ *
+ * Everything that belongs to one game: the players, their zones and mana
+ * pools, the phase, the stack, combat, triggers, static effects and the
+ * input queue.  AllZone hands out the parts of the game bound to the calling
+ * thread, see {@link AllZone#setGameState(GameState)}; a thread that has
+ * none bound sees the game shown on the screen.  A game must only be played
+ * on one thread at a time, and several games can be played at once on
+ * different threads.
+ *
+ * The card database, the decks and the quest data are shared by all games.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class GameState {
+    private final GameEventBus eventBus;
+
+    private final Player humanPlayer;
+    private final Player computerPlayer;
+
+    private final EndOfTurn endOfTurn;
+    private final EndOfCombat endOfCombat;
+    private final Upkeep upkeep;
+    private final Phase phase;
+
+    private final MagicStack stack;
+    private final InputControl inputControl;
+    private final GameAction gameAction;
+    private final StaticEffects staticEffects;
+    private final GameInfo gameInfo;
+    private final TriggerHandler triggerHandler;
+
+    private ComputerAI_Input computer;
+    private Combat combat;
+
+    private final PlayerZone humanBattlefield;
+    private final PlayerZone humanHand;
+    private final PlayerZone humanGraveyard;
+    private final PlayerZone humanLibrary;
+    private final PlayerZone humanExile;
+    private final PlayerZone humanCommand;
+
+    private final PlayerZone computerBattlefield;
+    private final PlayerZone computerHand;
+    private final PlayerZone computerGraveyard;
+    private final PlayerZone computerLibrary;
+    private final PlayerZone computerExile;
+    private final PlayerZone computerCommand;
+
+    private final PlayerZone stackZone;
+
+    private final ManaPool manaPool;
+    private final ManaPool computerManaPool;
+
+    private final Map<String, PlayerZone> map = new HashMap<String, PlayerZone>();
+
+    private final QuestMatchState matchState;
+
+    private final Map<GameLocal<?>, Object> locals = new IdentityHashMap<GameLocal<?>, Object>();
+
+    private Display display;
+
+    private long timestamp = 0;
+
+    /**
+     * <p>Constructor for GameState.</p>
+     *
+     * Makes a new game with its own match record.
+     */
+    public GameState() {
+        this(new QuestMatchState());
+    }
+
+    /**
+     * <p>Constructor for GameState.</p>
+     *
+     * The parts of the game are made with the new game bound to the calling
+     * thread, because some of them look up the others through AllZone.
+     *
+     * @param matchState the {@link forge.quest.data.QuestMatchState} the
+     * results of this game are added to.
+     */
+    GameState(QuestMatchState matchState) {
+        GameState previous = AllZone.getBoundGameState();
+        AllZone.setGameState(this);
+        try {
+            this.matchState = matchState;
+
+            // first, everything below posts to it
+            eventBus = new GameEventBus();
+
+            humanPlayer = new HumanPlayer("Human");
+            computerPlayer = new AIPlayer("Computer");
+
+            endOfTurn = new EndOfTurn();
+            endOfCombat = new EndOfCombat();
+            upkeep = new Upkeep();
+
+            phase = new Phase();
+
+            stack = new MagicStack();
+            inputControl = new InputControl();
+            gameAction = new GameAction();
+            staticEffects = new StaticEffects();
+            gameInfo = new GameInfo();
+
+            triggerHandler = new TriggerHandler();
+
+            //shared between Input_Attack, Input_Block, Input_CombatDamage , InputState_Computer
+            combat = new Combat();
+
+            //Human_Play, Computer_Play is different because Card.comesIntoPlay() is called when a card is added by PlayerZone.add(Card)
+            humanBattlefield = new PlayerZone_ComesIntoPlay(Constant.Zone.Battlefield, humanPlayer);
+            humanHand = new DefaultPlayerZone(Constant.Zone.Hand, humanPlayer);
+            humanGraveyard = new DefaultPlayerZone(Constant.Zone.Graveyard, humanPlayer);
+            humanLibrary = new DefaultPlayerZone(Constant.Zone.Library, humanPlayer);
+            humanExile = new DefaultPlayerZone(Constant.Zone.Exile, humanPlayer);
+            humanCommand = new DefaultPlayerZone(Constant.Zone.Command, humanPlayer);
+
+            computerBattlefield = new PlayerZone_ComesIntoPlay(Constant.Zone.Battlefield, computerPlayer);
+            computerHand = new DefaultPlayerZone(Constant.Zone.Hand, computerPlayer);
+            computerGraveyard = new DefaultPlayerZone(Constant.Zone.Graveyard, computerPlayer);
+            computerLibrary = new DefaultPlayerZone(Constant.Zone.Library, computerPlayer);
+            computerExile = new DefaultPlayerZone(Constant.Zone.Exile, computerPlayer);
+            computerCommand = new DefaultPlayerZone(Constant.Zone.Command, computerPlayer);
+
+            stackZone = new DefaultPlayerZone(Constant.Zone.Stack, null);
+
+            manaPool = new ManaPool(humanPlayer);
+            computerManaPool = new ManaPool(computerPlayer);
+
+            map.put(Constant.Zone.Graveyard + humanPlayer, humanGraveyard);
+            map.put(Constant.Zone.Hand + humanPlayer, humanHand);
+            map.put(Constant.Zone.Library + humanPlayer, humanLibrary);
+            map.put(Constant.Zone.Battlefield + humanPlayer, humanBattlefield);
+            map.put(Constant.Zone.Exile + humanPlayer, humanExile);
+            map.put(Constant.Zone.Command + humanPlayer, humanCommand);
+
+            map.put(Constant.Zone.Graveyard + computerPlayer, computerGraveyard);
+            map.put(Constant.Zone.Hand + computerPlayer, computerHand);
+            map.put(Constant.Zone.Library + computerPlayer, computerLibrary);
+            map.put(Constant.Zone.Battlefield + computerPlayer, computerBattlefield);
+            map.put(Constant.Zone.Exile + computerPlayer, computerExile);
+            map.put(Constant.Zone.Command + computerPlayer, computerCommand);
+
+            map.put(Constant.Zone.Stack + null, stackZone);
+        } finally {
+            AllZone.setGameState(previous);
+        }
+    }
+
+    GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    Player getHumanPlayer() {
+        return humanPlayer;
+    }
+
+    Player getComputerPlayer() {
+        return computerPlayer;
+    }
+
+    EndOfTurn getEndOfTurn() {
+        return endOfTurn;
+    }
+
+    EndOfCombat getEndOfCombat() {
+        return endOfCombat;
+    }
+
+    Upkeep getUpkeep() {
+        return upkeep;
+    }
+
+    Phase getPhase() {
+        return phase;
+    }
+
+    MagicStack getStack() {
+        return stack;
+    }
+
+    InputControl getInputControl() {
+        return inputControl;
+    }
+
+    GameAction getGameAction() {
+        return gameAction;
+    }
+
+    StaticEffects getStaticEffects() {
+        return staticEffects;
+    }
+
+    GameInfo getGameInfo() {
+        return gameInfo;
+    }
+
+    TriggerHandler getTriggerHandler() {
+        return triggerHandler;
+    }
+
+    ComputerAI_Input getComputer() {
+        return computer;
+    }
+
+    void setComputer(ComputerAI_Input computer) {
+        this.computer = computer;
+    }
+
+    Combat getCombat() {
+        return combat;
+    }
+
+    void setCombat(Combat combat) {
+        this.combat = combat;
+    }
+
+    PlayerZone getHumanBattlefield() {
+        return humanBattlefield;
+    }
+
+    PlayerZone getHumanHand() {
+        return humanHand;
+    }
+
+    PlayerZone getHumanGraveyard() {
+        return humanGraveyard;
+    }
+
+    PlayerZone getHumanLibrary() {
+        return humanLibrary;
+    }
+
+    PlayerZone getHumanExile() {
+        return humanExile;
+    }
+
+    PlayerZone getHumanCommand() {
+        return humanCommand;
+    }
+
+    PlayerZone getComputerBattlefield() {
+        return computerBattlefield;
+    }
+
+    PlayerZone getComputerHand() {
+        return computerHand;
+    }
+
+    PlayerZone getComputerGraveyard() {
+        return computerGraveyard;
+    }
+
+    PlayerZone getComputerLibrary() {
+        return computerLibrary;
+    }
+
+    PlayerZone getComputerExile() {
+        return computerExile;
+    }
+
+    PlayerZone getComputerCommand() {
+        return computerCommand;
+    }
+
+    PlayerZone getStackZone() {
+        return stackZone;
+    }
+
+    ManaPool getManaPool() {
+        return manaPool;
+    }
+
+    ManaPool getComputerManaPool() {
+        return computerManaPool;
+    }
+
+    Display getDisplay() {
+        return display;
+    }
+
+    void setDisplay(Display display) {
+        this.display = display;
+    }
+
+    Map<String, PlayerZone> getMap() {
+        return map;
+    }
+
+    /**
+     * <p>getMatchState.</p>
+     *
+     * @return the {@link forge.quest.data.QuestMatchState} the results of
+     * this game are added to.
+     */
+    public QuestMatchState getMatchState() {
+        return matchState;
+    }
+
+    long getNextTimestamp() {
+        timestamp++;
+        return timestamp;
+    }
+
+    /**
+     * <p>getLocal.</p>
+     *
+     * @param local a {@link forge.GameLocal} object.
+     * @param <T> the type of its value.
+     * @return the value of local in this game.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getLocal(GameLocal<T> local) {
+        if (!locals.containsKey(local)) {
+            T value = local.initialValue();
+            locals.put(local, value);
+            return value;
+        }
+        return (T) locals.get(local);
+    }
+
+    /**
+     * <p>setLocal.</p>
+     *
+     * @param local a {@link forge.GameLocal} object.
+     * @param value its new value in this game.
+     * @param <T> the type of its value.
+     */
+    <T> void setLocal(GameLocal<T> local, T value) {
+        locals.put(local, value);
+    }
+}
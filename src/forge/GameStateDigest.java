@@ -0,0 +1,166 @@
+package forge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * <p>GameStateDigest class.</p>
+ *
+ * A copy of everything continuous effects and state-based actions look at:
+ * the cards in each zone and their controller, tapped state, damage,
+ * counters, power/toughness, keywords, types, colors, SVars, remembered
+ * objects and attachments, plus the players' life, the phase, the stack and
+ * combat.
+ *
+ * GameAction.checkStateEffects() takes one at the end of every full pass.  If
+ * the next call finds the same values nothing has changed since, and running
+ * the pass again would only put back what it just removed, so it is skipped.
+ * The values are compared exactly, never by hash, so a pass is only skipped
+ * when nothing it looks at has changed.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class GameStateDigest {
+    private final List<Object> game;
+    private final Card[] cards;
+    private final List<List<Object>> values;
+
+    /**
+     * <p>Constructor for GameStateDigest.</p>
+     *
+     * @param game the state outside of the cards.
+     * @param cards all cards in the game, in zone order.
+     * @param values the state of each card in cards.
+     */
+    private GameStateDigest(List<Object> game, Card[] cards, List<List<Object>> values) {
+        this.game = game;
+        this.cards = cards;
+        this.values = values;
+    }
+
+    /**
+     * <p>take.</p>
+     *
+     * @return a {@link forge.GameStateDigest} of the current game.
+     */
+    public static GameStateDigest take() {
+        CardList all = AllZoneUtil.getCardsInGame();
+        Card[] cards = all.toArray();
+        List<List<Object>> values = new ArrayList<List<Object>>(cards.length);
+        for (Card c : cards)
+            values.add(valuesOf(c));
+
+        return new GameStateDigest(valuesOfGame(), cards, values);
+    }
+
+    /**
+     * <p>valuesOfGame.</p>
+     *
+     * @return a {@link java.util.List} object.
+     */
+    private static List<Object> valuesOfGame() {
+        List<Object> v = new ArrayList<Object>();
+        v.add(AllZone.getPhase().getTurn());
+        v.add(AllZone.getPhase().getPhase());
+        v.add(AllZone.getPhase().isPlayerTurn(AllZone.getHumanPlayer()));
+        v.add(AllZone.getHumanPlayer().getLife());
+        v.add(AllZone.getHumanPlayer().getPoisonCounters());
+        v.add(AllZone.getComputerPlayer().getLife());
+        v.add(AllZone.getComputerPlayer().getPoisonCounters());
+        v.add(AllZone.getStack().size());
+
+        // the zone each card is in
+        v.add(AllZone.getHumanGraveyard().size());
+        v.add(AllZone.getHumanHand().size());
+        v.add(AllZone.getHumanLibrary().size());
+        v.add(AllZone.getHumanBattlefield().size());
+        v.add(AllZone.getHumanExile().size());
+        v.add(AllZone.getComputerGraveyard().size());
+        v.add(AllZone.getComputerHand().size());
+        v.add(AllZone.getComputerLibrary().size());
+        v.add(AllZone.getComputerBattlefield().size());
+        v.add(AllZone.getComputerExile().size());
+
+        v.add(Arrays.asList(AllZone.getCombat().getAttackers()));
+        v.add(Arrays.asList(AllZone.getCombat().getAllBlockers().toArray()));
+
+        v.add(new HashMap<String, Integer>(AllZone.getStaticEffects().getStateBasedMap()));
+        return v;
+    }
+
+    /**
+     * <p>valuesOf.</p>
+     *
+     * @param c a {@link forge.Card} object.
+     * @return a {@link java.util.List} object.
+     */
+    private static List<Object> valuesOf(Card c) {
+        List<Object> v = new ArrayList<Object>();
+        v.add(c.getController());
+        v.add(c.isTapped());
+        v.add(c.hasSickness());
+        v.add(c.isFaceDown());
+        v.add(c.getDamage());
+        v.add(new HashMap<Counters, Integer>(c.getCounters()));
+        v.add(c.getNetAttack());
+        v.add(c.getNetDefense());
+        v.add(new ArrayList<String>(c.getCachedKeywords()));
+        v.add(new ArrayList<String>(c.getType()));
+        v.add(c.getColorMask());
+        v.add(new HashMap<String, String>(c.getSVars()));
+        v.add(new ArrayList<Object>(c.getRemembered()));
+        v.add(c.getChosenType());
+        v.add(c.getChosenColor());
+        v.add(c.getNamedCard());
+        v.add(new ArrayList<Card>(c.getEquipping()));
+        v.add(new ArrayList<Card>(c.getEnchanting()));
+        return v;
+    }
+
+    /**
+     * <p>sameAs.</p>
+     *
+     * @param other a {@link forge.GameStateDigest} object.
+     * @return true if nothing differs between the two.
+     */
+    public boolean sameAs(GameStateDigest other) {
+        if (other == null || cards.length != other.cards.length)
+            return false;
+        for (int i = 0; i < cards.length; i++)
+            if (cards[i] != other.cards[i]) return false;
+        return game.equals(other.game) && values.equals(other.values);
+    }
+
+    /**
+     * <p>diff.</p>
+     *
+     * @param other a {@link forge.GameStateDigest} object.
+     * @return a description of each card that differs between the two,
+     *         and "game" if something else does; empty if they are the same.
+     */
+    public List<String> diff(GameStateDigest other) {
+        List<String> result = new ArrayList<String>();
+        if (!game.equals(other.game))
+            result.add("game");
+
+        IdentityHashMap<Card, List<Object>> mine = new IdentityHashMap<Card, List<Object>>();
+        for (int i = 0; i < cards.length; i++)
+            mine.put(cards[i], values.get(i));
+
+        for (int i = 0; i < other.cards.length; i++) {
+            List<Object> v = mine.remove(other.cards[i]);
+            if (v == null)
+                result.add("+" + other.cards[i]);
+            else if (!v.equals(other.values.get(i)))
+                result.add(other.cards[i].toString());
+        }
+        for (Card c : mine.keySet())
+            result.add("-" + c);
+
+        return result;
+    }
+}
@@ -8,6 +8,7 @@ import arcane.ui.util.Animation;
 import forge.card.cardFactory.CardFactoryUtil;
 import forge.error.ErrorViewer;
 import forge.gui.ForgeAction;
+import forge.gui.GuiRefresher;
 import forge.gui.GuiUtils;
 import forge.gui.game.CardDetailPanel;
 import forge.gui.game.CardPanel;
@@ -54,6 +55,20 @@ public class GuiDisplay4 extends JFrame implements CardContainer, Display, NewCo
 
     private GuiInput inputControl;
 
+    /** The parts of the screen to redraw when a zone, player or the stack changes, by subject. */
+    private final IdentityHashMap<Object, List<Runnable>> refreshes = new IdentityHashMap<Object, List<Runnable>>();
+
+    private final GameEventListener eventListener = new GameEventListener() {
+        public void handleEvents(List<GameEvent> events) {
+            for (GameEvent e : events) {
+                List<Runnable> list = refreshes.get(getRefreshSubject(e));
+                if (list == null) continue;
+                for (Runnable refresh : list)
+                    GuiRefresher.refreshLater(refresh);
+            }
+        }
+    };
+
     Font statFont = new Font("Dialog", Font.PLAIN, 12);
     Font lifeFont = new Font("Dialog", Font.PLAIN, 40);
    // Font checkboxFont = new Font("Dialog", Font.PLAIN, 9);
@@ -92,6 +107,11 @@ public class GuiDisplay4 extends JFrame implements CardContainer, Display, NewCo
         if (visible) {
             //causes an error if put in the constructor, causes some random null pointer exception
             AllZone.getInputControl().updateObservers();
+            if (AllZone.getPhase().isNeedToNextPhase()) {
+                // starting the game may have ended its first phase
+                AllZone.getPhase().setNeedToNextPhase(false);
+                AllZone.getPhase().nextPhase();
+            }
 
             //Use both so that when "un"maximizing, the frame isn't tiny
             setSize(1024, 740);
@@ -100,6 +120,16 @@ public class GuiDisplay4 extends JFrame implements CardContainer, Display, NewCo
         super.setVisible(visible);
     }
 
+    /** {@inheritDoc} */
+    public void gameOver() {
+        dispose();
+        if (!Constant.Quest.fantasyQuest[0])
+            new Gui_WinLose();
+        else
+            new Gui_WinLose(Constant.Quest.humanList[0], Constant.Quest.computerList[0],
+                    Constant.Quest.humanLife[0], Constant.Quest.computerLife[0]);
+    }
+
     /** {@inheritDoc} */
     public void assignDamage(Card attacker, CardList blockers, int damage) {
         if (damage <= 0)
@@ -536,14 +566,55 @@ public class GuiDisplay4 extends JFrame implements CardContainer, Display, NewCo
         picture.setCard(card);
     }
 
+    /**
+     * <p>getRefreshSubject.</p>
+     *
+     * @param e a {@link forge.GameEvent} object.
+     * @return the zone, player or stack whose part of the screen the event
+     *         redraws; a card is drawn with its zone.
+     */
+    static Object getRefreshSubject(GameEvent e) {
+        Object subject = e.getSubject();
+        if (subject instanceof Card)
+            subject = AllZone.getZone((Card) subject);
+        return subject;
+    }
+
+    /**
+     * <p>refreshOn.</p>
+     *
+     * @param refresh redraws part of the screen.
+     * @param subjects the zones, players or stack whose events it is redrawn for.
+     */
+    private void refreshOn(Runnable refresh, Object... subjects) {
+        for (Object subject : subjects) {
+            List<Runnable> list = refreshes.get(subject);
+            if (list == null) {
+                list = new ArrayList<Runnable>();
+                refreshes.put(subject, list);
+            }
+            list.add(refresh);
+        }
+    }
+
     /**
      * <p>addObservers.</p>
+     *
+     * Subscribes to the game's {@link GameEventBus}.  The bus hands over the
+     * events of an action once it is done, and each zone, player or stack
+     * named in them only asks {@link GuiRefresher} to redraw its part of the
+     * screen, so changes to many cards in one action are drawn together.
+     * A card that is tapped or gets counters or damage redraws its zone.
      */
     private void addObservers() {
+        AllZone.getEventBus().subscribe(eventListener,
+                GameEvent.Type.ZONE_CHANGED, GameEvent.Type.PLAYER_CHANGED, GameEvent.Type.STACK_CHANGED,
+                GameEvent.Type.TAPPED, GameEvent.Type.COUNTERS_CHANGED, GameEvent.Type.DAMAGE_CHANGED);
+
         //Human Hand, Graveyard, and Library totals
         {//make sure to not interfer with anything below, since this is a very long method
-            Observer o = new Observer() {
-                public void update(Observable a, Object b) {
+            refreshOn(new Runnable() {
+                public void run() {
                     playerHandValue.setText("" + AllZone.getHumanHand().size());
                     playerGraveValue.setText("" + AllZone.getHumanGraveyard().size());
                     playerLibraryValue.setText("" + AllZone.getHumanLibrary().size());
@@ -551,36 +622,30 @@ public class GuiDisplay4 extends JFrame implements CardContainer, Display, NewCo
                     playerRemovedValue.setText("" + AllZone.getHumanExile().size());
 
                 }
-            };
-            AllZone.getHumanHand().addObserver(o);
-            AllZone.getHumanGraveyard().addObserver(o);
-            AllZone.getHumanLibrary().addObserver(o);
+            }, AllZone.getHumanHand(), AllZone.getHumanGraveyard(), AllZone.getHumanLibrary());
         }
 
         //opponent Hand, Graveyard, and Library totals
         {//make sure to not interfer with anything below, since this is a very long method
-            Observer o = new Observer() {
-                public void update(Observable a, Object b) {
+            refreshOn(new Runnable() {
+                public void run() {
                     oppHandValue.setText("" + AllZone.getComputerHand().size());
                     oppGraveValue.setText("" + AllZone.getComputerGraveyard().size());
                     oppLibraryValue.setText("" + AllZone.getComputerLibrary().size());
                     oppRemovedValue.setText("" + AllZone.getComputerExile().size());
                 }
-            };
-            AllZone.getComputerHand().addObserver(o);
-            AllZone.getComputerGraveyard().addObserver(o);
-            AllZone.getComputerLibrary().addObserver(o);
+            }, AllZone.getComputerHand(), AllZone.getComputerGraveyard(), AllZone.getComputerLibrary());
         }
 
 
         //opponent life
         oppLifeLabel.setText("" + AllZone.getComputerPlayer().getLife());
-        AllZone.getComputerPlayer().addObserver(new Observer() {
-            public void update(Observable a, Object b) {
+        refreshOn(new Runnable() {
+            public void run() {
                 int life = AllZone.getComputerPlayer().getLife();
                 oppLifeLabel.setText("" + life);
             }
-        });
+        }, AllZone.getComputerPlayer());
         AllZone.getComputerPlayer().updateObservers();
 
         if (AllZone.getQuestData() != null) {
@@ -597,36 +662,36 @@ public class GuiDisplay4 extends JFrame implements CardContainer, Display, NewCo
         }
 
         oppPCLabel.setText("Poison Counters: " + AllZone.getComputerPlayer().getPoisonCounters());
-        AllZone.getComputerPlayer().addObserver(new Observer() {
-            public void update(Observable a, Object b) {
+        refreshOn(new Runnable() {
+            public void run() {
                 int pcs = AllZone.getComputerPlayer().getPoisonCounters();
                 oppPCLabel.setText("Poison Counters: " + pcs);
             }
-        });
+        }, AllZone.getComputerPlayer());
         AllZone.getComputerPlayer().updateObservers();
 
         //player life
         playerLifeLabel.setText("" + AllZone.getHumanPlayer().getLife());
-        AllZone.getHumanPlayer().addObserver(new Observer() {
-            public void update(Observable a, Object b) {
+        refreshOn(new Runnable() {
+            public void run() {
                 int life = AllZone.getHumanPlayer().getLife();
                 playerLifeLabel.setText("" + life);
             }
-        });
+        }, AllZone.getHumanPlayer());
         AllZone.getHumanPlayer().updateObservers();
 
         playerPCLabel.setText("Poison Counters: " + AllZone.getHumanPlayer().getPoisonCounters());
-        AllZone.getHumanPlayer().addObserver(new Observer() {
-            public void update(Observable a, Object b) {
+        refreshOn(new Runnable() {
+            public void run() {
                 int pcs = AllZone.getHumanPlayer().getPoisonCounters();
                 playerPCLabel.setText("Poison Counters: " + pcs);
             }
-        });
+        }, AllZone.getHumanPlayer());
         AllZone.getHumanPlayer().updateObservers();
 
         //stack
-        AllZone.getStack().addObserver(new Observer() {
-            public void update(Observable a, Object b) {
+        refreshOn(new Runnable() {
+            public void run() {
                 stackPanel.removeAll();
                 MagicStack stack = AllZone.getStack();
                 int count = 1;
@@ -656,15 +721,15 @@ public class GuiDisplay4 extends JFrame implements CardContainer, Display, NewCo
                 okButton.requestFocusInWindow();
 
             }
-        });
+        }, AllZone.getStack());
         AllZone.getStack().updateObservers();
         //END, stack
 
 
         //self hand
-        AllZone.getHumanHand().addObserver(new Observer() {
-            public void update(Observable a, Object b) {
-                PlayerZone pZone = (PlayerZone) a;
+        refreshOn(new Runnable() {
+            public void run() {
+                PlayerZone pZone = AllZone.getHumanHand();
                 HandArea p = playerHandPanel;
                 ;
 
@@ -712,34 +777,34 @@ public class GuiDisplay4 extends JFrame implements CardContainer, Display, NewCo
                         Animation.moveCard(toPanel);
                 }
             }
-        });
+        }, AllZone.getHumanHand());
         AllZone.getHumanHand().updateObservers();
         //END, self hand
 
         //self play
-        AllZone.getHumanBattlefield().addObserver(new Observer() {
-            public void update(Observable a, Object b) {
-                PlayerZone pZone = (PlayerZone) a;
+        refreshOn(new Runnable() {
+            public void run() {
+                PlayerZone pZone = AllZone.getHumanBattlefield();
 
                 Card c[] = AllZoneUtil.getCardsInZone(pZone).toArray();
 
                 GuiDisplayUtil.setupPlayZone(playerPlayPanel, c);
             }
-        });
+        }, AllZone.getHumanBattlefield());
         AllZone.getHumanBattlefield().updateObservers();
         //END - self play
 
 
         //computer play
-        AllZone.getComputerBattlefield().addObserver(new Observer() {
-            public void update(Observable a, Object b) {
-                PlayerZone pZone = (PlayerZone) a;
+        refreshOn(new Runnable() {
+            public void run() {
+                PlayerZone pZone = AllZone.getComputerBattlefield();
 
                 Card c[] = AllZoneUtil.getCardsInZone(pZone).toArray();
 
                 GuiDisplayUtil.setupPlayZone(oppPlayPanel, c);
             }
-        });
+        }, AllZone.getComputerBattlefield());
         AllZone.getComputerBattlefield().updateObservers();
         //END - computer play
 
@@ -761,6 +826,8 @@ public class GuiDisplay4 extends JFrame implements CardContainer, Display, NewCo
 
             @Override
             public void windowClosed(WindowEvent e) {
+                AllZone.getEventBus().unsubscribe(eventListener);
+
                 File f = ForgeProps.getFile(LAYOUT_NEW);
                 Node layout = pane.getMultiSplitLayout().getModel();
                 try {
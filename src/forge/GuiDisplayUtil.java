@@ -1021,9 +1021,8 @@ public class GuiDisplayUtil implements NewConstants {
         diff.removeAll(tmp);
 
         arcane.ui.CardPanel toPanel = null;
-        for (Card card : diff) {
-            toPanel = p.addCard(card);
-            Animation.moveCard(toPanel);
+        for (arcane.ui.CardPanel added : p.addCards(diff)) {
+            Animation.moveCard(added);
         }
 
         for (Card card : c) {
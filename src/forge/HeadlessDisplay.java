@@ -0,0 +1,246 @@
+package forge;
+
+import forge.gui.input.Input;
+import forge.gui.input.InputPilot;
+
+import java.util.List;
+
+/**
+ * <p>HeadlessDisplay class.</p>
+ *
+ * A {@link Display} that shows nothing, for playing games without a screen.
+ * The human player's inputs are played by an {@link InputPilot}; set
+ * {@link forge.gui.GuiUtils#setDialogs(forge.gui.Dialogs)} to a
+ * {@link forge.gui.ScriptedDialogs} as well so choices don't open a window.
+ * <pre>
+ *   HeadlessDisplay display = new HeadlessDisplay(new AIPilot());
+ *   AllZone.getGameAction().newGame(humanDeck, computerDeck);
+ *   display.play(50);
+ * </pre>
+ * To play several games at once, bind a new {@link GameState} on each
+ * thread before making its display, and give each game dialogs of its own
+ * with {@link forge.gui.GuiUtils#setGameDialogs(forge.gui.Dialogs)}; see
+ * {@link Tournament}.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class HeadlessDisplay implements Display {
+    /** How often the pilot may act without the game changing before it is considered stuck. */
+    private static final int MAX_IDLE_ACTIONS = 100;
+
+    private final InputPilot pilot;
+    private final GuiInput inputControl;
+    private final Button okButton = new Button(true);
+    private final Button cancelButton = new Button(false);
+
+    private String message = "";
+    private boolean over = false;
+    private int changes = 0; //events heard from the game, to tell when it is stuck
+
+    /**
+     * <p>Constructor for HeadlessDisplay.</p>
+     *
+     * @param pilot the {@link forge.gui.input.InputPilot} that plays the human player.
+     */
+    public HeadlessDisplay(InputPilot pilot) {
+        AllZone.setDisplay(this);
+        if (AllZone.getComputer() == null)
+            AllZone.setComputer(new ComputerAI_Input(new ComputerAI_General()));
+        this.pilot = pilot;
+        inputControl = new GuiInput();
+
+        AllZone.getEventBus().subscribe(new GameEventListener() {
+            public void handleEvents(List<GameEvent> events) {
+                changes += events.size();
+            }
+        });
+    }
+
+    /**
+     * <p>play.</p>
+     *
+     * Plays the game started with GameAction.newGame() until it is over or
+     * maxTurns turns have been played.
+     *
+     * @param maxTurns a int.
+     * @return true if the game is over.
+     */
+    public boolean play(int maxTurns) {
+        // what GuiDisplay4.setVisible(true) starts the game with
+        AllZone.getInputControl().updateObservers();
+
+        Input last = null;
+        int lastChanges = -1;
+        String lastMessage = null;
+        int idle = 0;
+
+        while (!over && AllZone.getPhase().getTurn() <= maxTurns) {
+            if (AllZone.getPhase().isNeedToNextPhase()) {
+                // the last action ended the phase
+                AllZone.getPhase().setNeedToNextPhase(false);
+                AllZone.getPhase().nextPhase();
+                continue;
+            }
+
+            Input input = inputControl.input;
+            if (input == null)
+                throw new IllegalStateException("No input in " + AllZone.getPhase().getPhase());
+
+            if (input == last && changes == lastChanges && message.equals(lastMessage)) {
+                if (++idle > MAX_IDLE_ACTIONS)
+                    throw new IllegalStateException("Game is stuck on " + input.getClass().getSimpleName() + " in " + AllZone.getPhase().getPhase());
+            } else {
+                idle = 0;
+            }
+            last = input;
+            lastChanges = changes;
+            lastMessage = message;
+
+            if (input instanceof ComputerAI_Input)
+                input.showMessage();
+            else
+                pilot.act(input);
+        }
+
+        return over;
+    }
+
+    /**
+     * <p>isOver.</p>
+     *
+     * @return true once a player has won.
+     */
+    public boolean isOver() {
+        return over;
+    }
+
+    /**
+     * <p>getMessage.</p>
+     *
+     * @return the last message shown to the human player.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /** {@inheritDoc} */
+    public void showMessage(String s) {
+        message = s;
+    }
+
+    /** {@inheritDoc} */
+    public MyButton getButtonOK() {
+        return okButton;
+    }
+
+    /** {@inheritDoc} */
+    public MyButton getButtonCancel() {
+        return cancelButton;
+    }
+
+    /** {@inheritDoc} */
+    public void showCombat(String message) {
+    }
+
+    /** {@inheritDoc} */
+    public void setVisible(boolean b) {
+    }
+
+    /** {@inheritDoc} */
+    public void assignDamage(Card attacker, CardList blockers, int damage) {
+        if (damage <= 0)
+            return;
+        AllZone.getCombat().distributeAIDamage(attacker, blockers, damage);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Stops only in the human player's main phases, where the pilot may play a card.
+     */
+    public boolean stopAtPhase(Player turn, String phase) {
+        return turn.isHuman() && (phase.equals(Constant.Phase.Main1) || phase.equals(Constant.Phase.Main2));
+    }
+
+    /** {@inheritDoc} */
+    public boolean loadPrefs() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    public boolean savePrefs() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    public boolean canLoseByDecking() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    public void setCard(Card c) {
+    }
+
+    /** {@inheritDoc} */
+    public boolean isDisplayable() {
+        return !over;
+    }
+
+    /** {@inheritDoc} */
+    public void gameOver() {
+        over = true;
+        AllZone.getInputControl().deleteObserver(inputControl);
+        AllZone.getStack().deleteObserver(inputControl);
+        AllZone.getPhase().deleteObserver(inputControl);
+    }
+
+    /**
+     * A button that only remembers its state; pressing it sends the press
+     * to the current input like the buttons of GuiDisplay4 do.
+     */
+    private class Button implements MyButton {
+        private final boolean ok;
+        private String text;
+        private boolean selectable = false;
+
+        Button(boolean ok) {
+            this.ok = ok;
+            reset();
+        }
+
+        public void select() {
+            if (!ok) {
+                inputControl.selectButtonCancel();
+                return;
+            }
+
+            inputControl.selectButtonOK();
+            if (AllZone.getPhase().isNeedToNextPhase()) {
+                // moves to next turn, like the OK button of GuiDisplay4
+                AllZone.getPhase().setNeedToNextPhase(false);
+                AllZone.getPhase().nextPhase();
+            }
+        }
+
+        public void setSelectable(boolean b) {
+            selectable = b;
+        }
+
+        public boolean isSelectable() {
+            return selectable;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+
+        public void reset() {
+            text = ok ? "OK" : "Cancel";
+        }
+    }
+}
@@ -85,6 +85,30 @@ interface IPlayerZone {
      */
     public void reset();
 
+    /**
+     * <p>contains.</p>
+     *
+     * @param c a {@link forge.Card} object.
+     * @return true if the card is in this zone.
+     */
+    public boolean contains(Card c);
+
+    /**
+     * <p>getCardsNamed.</p>
+     *
+     * @param name a card name.
+     * @return a {@link forge.CardList} with the cards of that name in this zone.
+     */
+    public CardList getCardsNamed(String name);
+
+    /**
+     * <p>hasCardNamed.</p>
+     *
+     * @param name a card name.
+     * @return true if there is a card of that name in this zone.
+     */
+    public boolean hasCardNamed(String name);
+
     /**
      * <p>is.</p>
      *
@@ -0,0 +1,138 @@
+package forge;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>Keyword enum.</p>
+ *
+ * The common keywords without parameters.  Card keeps a bit mask of the ones
+ * it has (see {@link Card#hasKeyword(Keyword)}), so checking for them is a
+ * bit test instead of a string lookup.  All other keywords are still plain
+ * strings; Card.hasKeyword(String) works for both.
+ *
+ * At most 64 keywords fit in the mask.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public enum Keyword {
+    FLYING("Flying"),
+    REACH("Reach"),
+    SHADOW("Shadow"),
+    HORSEMANSHIP("Horsemanship"),
+    FEAR("Fear"),
+    INTIMIDATE("Intimidate"),
+    UNBLOCKABLE("Unblockable"),
+
+    PLAINSWALK("Plainswalk"),
+    ISLANDWALK("Islandwalk"),
+    SWAMPWALK("Swampwalk"),
+    MOUNTAINWALK("Mountainwalk"),
+    FORESTWALK("Forestwalk"),
+    LEGENDARY_LANDWALK("Legendary landwalk"),
+    SNOW_PLAINSWALK("Snow plainswalk"),
+    SNOW_ISLANDWALK("Snow islandwalk"),
+    SNOW_SWAMPWALK("Snow swampwalk"),
+    SNOW_MOUNTAINWALK("Snow mountainwalk"),
+    SNOW_FORESTWALK("Snow forestwalk"),
+    SNOW_LANDWALK("Snow landwalk"),
+    DESERTWALK("Desertwalk"),
+    NONBASIC_LANDWALK("Nonbasic landwalk"),
+
+    FIRST_STRIKE("First Strike"),
+    DOUBLE_STRIKE("Double Strike"),
+    DEATHTOUCH("Deathtouch"),
+    DEFENDER("Defender"),
+    HASTE("Haste"),
+    VIGILANCE("Vigilance"),
+    TRAMPLE("Trample"),
+    LIFELINK("Lifelink"),
+    INDESTRUCTIBLE("Indestructible"),
+    HEXPROOF("Hexproof"),
+    SHROUD("Shroud"),
+    CHANGELING("Changeling"),
+    INFECT("Infect"),
+    WITHER("Wither"),
+    FLANKING("Flanking"),
+    FLASH("Flash"),
+    EXALTED("Exalted"),
+    PERSIST("Persist"),
+    SPLIT_SECOND("Split Second"),
+    STORM("Storm");
+
+    /** All the landwalk keywords. */
+    public static final long LANDWALK = maskOf(PLAINSWALK, ISLANDWALK, SWAMPWALK, MOUNTAINWALK, FORESTWALK,
+            LEGENDARY_LANDWALK, SNOW_PLAINSWALK, SNOW_ISLANDWALK, SNOW_SWAMPWALK, SNOW_MOUNTAINWALK,
+            SNOW_FORESTWALK, SNOW_LANDWALK, DESERTWALK, NONBASIC_LANDWALK);
+
+    private static final Map<String, Keyword> byText = new HashMap<String, Keyword>();
+
+    static {
+        for (Keyword k : values())
+            byText.put(k.text, k);
+    }
+
+    private final String text;
+    private final long mask;
+
+    /**
+     * <p>Constructor for Keyword.</p>
+     *
+     * @param text the keyword as it is written in card scripts.
+     */
+    Keyword(String text) {
+        this.text = text;
+        this.mask = 1L << ordinal();
+    }
+
+    /**
+     * <p>Getter for the field <code>text</code>.</p>
+     *
+     * @return the keyword as it is written in card scripts.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * <p>Getter for the field <code>mask</code>.</p>
+     *
+     * @return a long with only this keyword's bit set.
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * <p>get.</p>
+     *
+     * @param text a keyword as it is written in card scripts.
+     * @return the matching {@link forge.Keyword}, or null for any other keyword.
+     */
+    public static Keyword get(String text) {
+        return byText.get(text);
+    }
+
+    /**
+     * <p>maskOf.</p>
+     *
+     * @param keywords the keywords to combine.
+     * @return a long with the bits of all the given keywords set.
+     */
+    public static long maskOf(Keyword... keywords) {
+        long m = 0;
+        for (Keyword k : keywords)
+            m |= k.mask;
+        return m;
+    }
+
+    /**
+     * <p>toString.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String toString() {
+        return text;
+    }
+}
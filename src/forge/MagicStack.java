@@ -58,6 +58,12 @@ public class MagicStack extends MyObservable {
         this.updateObservers();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void postChange() {
+        AllZone.getEventBus().post(GameEvent.Type.STACK_CHANGED, this);
+    }
+
     /**
      * <p>isSplitSecondOnStack.</p>
      *
@@ -765,26 +771,31 @@ public class MagicStack extends MyObservable {
     public void resolveStack() {
         // Resolving the Stack
         GuiDisplayUtil.updateGUI();
-        this.freezeStack();    // freeze the stack while we're in the middle of resolving
-        setResolving(true);
-
-        SpellAbility sa = AllZone.getStack().pop();
-
-        AllZone.getPhase().resetPriority();    // ActivePlayer gains priority first after Resolve
-        Card source = sa.getSourceCard();
+        AllZone.getEventBus().beginAction();    // the listeners hear about the whole resolution at once
+        try {
+            this.freezeStack();    // freeze the stack while we're in the middle of resolving
+            setResolving(true);
+
+            SpellAbility sa = AllZone.getStack().pop();
+
+            AllZone.getPhase().resetPriority();    // ActivePlayer gains priority first after Resolve
+            Card source = sa.getSourceCard();
+
+            if (hasFizzled(sa, source)) {//Fizzle
+                // TODO: Spell fizzles, what's the best way to alert player?
+                Log.debug(source.getName() + " ability fizzles.");
+                finishResolving(sa, true);
+            } else if (sa.getAbilityFactory() != null) {
+                AbilityFactory.handleRemembering(sa.getAbilityFactory());
+                AbilityFactory.resolve(sa, true);
+            } else {
+                sa.resolve();
+                finishResolving(sa, false);
+            }
 
-        if (hasFizzled(sa, source)) {//Fizzle
-            // TODO: Spell fizzles, what's the best way to alert player?
-            Log.debug(source.getName() + " ability fizzles.");
-            finishResolving(sa, true);
-        } else if (sa.getAbilityFactory() != null) {
-            AbilityFactory.handleRemembering(sa.getAbilityFactory());
-            AbilityFactory.resolve(sa, true);
-        } else {
-            sa.resolve();
-            finishResolving(sa, false);
+        } finally {
+            AllZone.getEventBus().endAction();
         }
-
     }
 
     /**
@@ -5,6 +5,11 @@ import java.util.Observable;
 /**
  * <p>MyObservable class.</p>
  *
+ * Every change its observers hear about is also posted to the game's
+ * {@link GameEventBus} by the subclasses that override {@link #postChange()}.
+ * Moving on to the next phase is left to the input loops, once the action
+ * that ended the phase is over.
+ *
  * @author Forge
  * @version $Id: $
  */
@@ -15,14 +20,16 @@ public class MyObservable extends Observable {
     public final void updateObservers() {
         this.setChanged();
         this.notifyObservers();
+        postChange();
+    }
 
-        if (AllZone.getPhase() != null && AllZone.getPhase().isNeedToNextPhase()) {
-            if (AllZone.getPhase().isNeedToNextPhaseInit()) {
-                // this is used.
-                AllZone.getPhase().setNeedToNextPhase(false);
-                AllZone.getPhase().nextPhase();
-            }
-        }
+    /**
+     * <p>postChange.</p>
+     *
+     * Posts the change to {@link AllZone#getEventBus()}; does nothing unless
+     * overridden.
+     */
+    protected void postChange() {
     }
 }
 
@@ -23,23 +23,16 @@ public class Phase extends MyObservable implements java.io.Serializable {
     private int turn;
 
     // Please use getX, setX, and incrementX methods instead of directly
-    // accessing the following:
-    /** Constant <code>GameBegins=0</code> */
-    private static int GameBegins = 0;
-    /** Constant <code>StormCount=</code> */
-    private static int StormCount;
-    /** Constant <code>PlayerSpellCount=</code> */
-    private static int PlayerSpellCount;
-    /** Constant <code>PlayerCreatureSpellCount=</code> */
-    private static int PlayerCreatureSpellCount;
-    /** Constant <code>PlayerInstantSpellCount=</code> */
-    private static int PlayerInstantSpellCount;
-    /** Constant <code>ComputerSpellCount=</code> */
-    private static int ComputerSpellCount;
-    /** Constant <code>ComputerCreatureSpellCount=</code> */
-    private static int ComputerCreatureSpellCount;
-    /** Constant <code>ComputerInstantSpellCount=</code> */
-    private static int ComputerInstantSpellCount;
+    // accessing the following.  They belong to the game of this Phase; the
+    // static methods use the Phase of the game bound to the calling thread.
+    private int GameBegins = 0;
+    private int StormCount;
+    private int PlayerSpellCount;
+    private int PlayerCreatureSpellCount;
+    private int PlayerInstantSpellCount;
+    private int ComputerSpellCount;
+    private int ComputerCreatureSpellCount;
+    private int ComputerInstantSpellCount;
 
     private Stack<Player> extraTurns = new Stack<Player>();
 
@@ -242,7 +235,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
         resetPriority();
         bPhaseEffects = true;
         needToNextPhase = false;
-        setGameBegins(0);
+        GameBegins = 0;
         phaseIndex = 0;
         extraTurns.clear();
         nCombatsThisTurn = 0;
@@ -256,13 +249,13 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * <p>turnReset.</p>
      */
     public void turnReset() {
-        setStormCount(0);
-        setPlayerSpellCount(0);
-        setPlayerCreatureSpellCount(0);
-        setPlayerInstantSpellCount(0);
-        setComputerSpellCount(0);
-        setComputerCreatureSpellCount(0);
-        setComputerInstantSpellCount(0);
+        StormCount = 0;
+        PlayerSpellCount = 0;
+        PlayerCreatureSpellCount = 0;
+        PlayerInstantSpellCount = 0;
+        ComputerSpellCount = 0;
+        ComputerCreatureSpellCount = 0;
+        ComputerInstantSpellCount = 0;
         playerTurn.setNumLandsPlayed(0);
     }
 
@@ -707,6 +700,12 @@ public class Phase extends MyObservable implements java.io.Serializable {
         super.addObserver(o);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void postChange() {
+        AllZone.getEventBus().post(GameEvent.Type.PHASE_CHANGED, this);
+    }
+
     boolean needToNextPhase = false;
 
     /**
@@ -727,22 +726,6 @@ public class Phase extends MyObservable implements java.io.Serializable {
         return this.needToNextPhase;
     }
 
-    //This should only be true four times! that is for the initial nextPhases in MyObservable
-    int needToNextPhaseInit = 0;
-
-    /**
-     * <p>isNeedToNextPhaseInit.</p>
-     *
-     * @return a boolean.
-     */
-    public boolean isNeedToNextPhaseInit() {
-        needToNextPhaseInit++;
-        if (needToNextPhaseInit <= 4) {
-            return true;
-        }
-        return false;
-    }
-
     /**
      * <p>canCastSorcery.</p>
      *
@@ -815,7 +798,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @since 1.0.15
      */
     protected static void incrementComputerInstantSpellCount() {
-        ComputerInstantSpellCount++;
+        AllZone.getPhase().ComputerInstantSpellCount++;
     }
 
     /**
@@ -824,7 +807,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @since 1.0.15
      */
     protected static void incrementComputerCreatureSpellCount() {
-        ComputerCreatureSpellCount++;
+        AllZone.getPhase().ComputerCreatureSpellCount++;
     }
 
     /**
@@ -833,7 +816,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @since 1.0.15
      */
     protected static void incrementComputerSpellCount() {
-        ComputerSpellCount++;
+        AllZone.getPhase().ComputerSpellCount++;
     }
 
     /**
@@ -842,7 +825,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @since 1.0.15
      */
     protected static void incrementPlayerInstantSpellCount() {
-        PlayerInstantSpellCount++;
+        AllZone.getPhase().PlayerInstantSpellCount++;
     }
 
     /**
@@ -851,7 +834,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @since 1.0.15
      */
     protected static void incrementPlayerCreatureSpellCount() {
-        PlayerCreatureSpellCount++;
+        AllZone.getPhase().PlayerCreatureSpellCount++;
     }
 
     /**
@@ -860,7 +843,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @since 1.0.15
      */
     protected static void incrementPlayerSpellCount() {
-        PlayerSpellCount++;
+        AllZone.getPhase().PlayerSpellCount++;
     }
 
     /**
@@ -869,7 +852,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @since 1.0.15
      */
     protected static void incrementStormCount() {
-        StormCount++;
+        AllZone.getPhase().StormCount++;
     }
 
     /**
@@ -878,7 +861,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @param stormCount a int.
      */
     public static void setStormCount(int stormCount) {
-        StormCount = stormCount;
+        AllZone.getPhase().StormCount = stormCount;
     }
 
     /**
@@ -887,7 +870,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @return a int.
      */
     public static int getStormCount() {
-        return StormCount;
+        return AllZone.getPhase().StormCount;
     }
 
     /**
@@ -896,7 +879,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @param gameBegins a int.
      */
     public static void setGameBegins(int gameBegins) {
-        GameBegins = gameBegins;
+        AllZone.getPhase().GameBegins = gameBegins;
     }
 
     /**
@@ -905,7 +888,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @return a int.
      */
     public static int getGameBegins() {
-        return GameBegins;
+        return AllZone.getPhase().GameBegins;
     }
 
     // this is a hack for the setup game state mode, do not use outside of devSetupGameState code
@@ -925,7 +908,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @return a int.
      */
     static int getPlayerSpellCount() {
-        return PlayerSpellCount;
+        return AllZone.getPhase().PlayerSpellCount;
     }
 
     /**
@@ -934,7 +917,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @param i a int.
      */
     static void setPlayerSpellCount(int i) {
-        PlayerSpellCount = (i);
+        AllZone.getPhase().PlayerSpellCount = (i);
     }
 
     /**
@@ -943,7 +926,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @return a int.
      */
     static int getPlayerCreatureSpellCount() {
-        return PlayerCreatureSpellCount;
+        return AllZone.getPhase().PlayerCreatureSpellCount;
     }
 
     /**
@@ -952,7 +935,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @param i a int.
      */
     static void setPlayerCreatureSpellCount(int i) {
-        PlayerCreatureSpellCount = (i);
+        AllZone.getPhase().PlayerCreatureSpellCount = (i);
     }
 
     /**
@@ -961,7 +944,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @return a int.
      */
     static int getPlayerInstantSpellCount() {
-        return PlayerInstantSpellCount;
+        return AllZone.getPhase().PlayerInstantSpellCount;
     }
 
     /**
@@ -970,7 +953,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @param i a int.
      */
     static void setPlayerInstantSpellCount(int i) {
-        PlayerInstantSpellCount = (i);
+        AllZone.getPhase().PlayerInstantSpellCount = (i);
     }
 
     /**
@@ -979,7 +962,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @return a int.
      */
     static int getComputerSpellCount() {
-        return ComputerSpellCount;
+        return AllZone.getPhase().ComputerSpellCount;
     }
 
     /**
@@ -988,7 +971,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @param i a int.
      */
     static void setComputerSpellCount(int i) {
-        ComputerSpellCount = (i);
+        AllZone.getPhase().ComputerSpellCount = (i);
     }
 
     /**
@@ -997,7 +980,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @return a int.
      */
     static int getComputerCreatureSpellCount() {
-        return ComputerCreatureSpellCount;
+        return AllZone.getPhase().ComputerCreatureSpellCount;
     }
 
     /**
@@ -1006,7 +989,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @param i a int.
      */
     static void setComputerCreatureSpellCount(int i) {
-        ComputerCreatureSpellCount = (i);
+        AllZone.getPhase().ComputerCreatureSpellCount = (i);
     }
 
     /**
@@ -1015,7 +998,7 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @return a int.
      */
     static int getComputerInstantSpellCount() {
-        return ComputerInstantSpellCount;
+        return AllZone.getPhase().ComputerInstantSpellCount;
     }
 
     /**
@@ -1024,6 +1007,6 @@ public class Phase extends MyObservable implements java.io.Serializable {
      * @param i a int.
      */
     static void setComputerInstantSpellCount(int i) {
-        ComputerInstantSpellCount = (i);
+        AllZone.getPhase().ComputerInstantSpellCount = (i);
     }
 }
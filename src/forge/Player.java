@@ -3,9 +3,10 @@ package forge;
 import forge.card.cardFactory.CardFactoryUtil;
 import forge.card.spellability.Ability;
 import forge.card.spellability.SpellAbility;
+import forge.gui.GuiUtils;
 
-import javax.swing.*;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -93,6 +94,12 @@ public abstract class Player extends MyObservable {
         this.updateObservers();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void postChange() {
+        AllZone.getEventBus().post(GameEvent.Type.PLAYER_CHANGED, this);
+    }
+
     /**
      * <p>Getter for the field <code>name</code>.</p>
      *
@@ -1663,7 +1670,7 @@ public abstract class Player extends MyObservable {
     }
 
     /** Constant <code>NextHandSizeStamp=0</code> */
-    private static int NextHandSizeStamp = 0;
+    private static final AtomicInteger NextHandSizeStamp = new AtomicInteger();
 
     /**
      * <p>getHandSizeStamp.</p>
@@ -1671,7 +1678,7 @@ public abstract class Player extends MyObservable {
      * @return a int.
      */
     public static int getHandSizeStamp() {
-        return NextHandSizeStamp++;
+        return NextHandSizeStamp.getAndIncrement();
     }
 
     /**
@@ -1770,7 +1777,7 @@ public abstract class Player extends MyObservable {
             reveal.append("\r\n\r\n");
             if (pCMC > oCMC) reveal.append(player).append(" wins clash.");
             else reveal.append(player).append(" loses clash.");
-            JOptionPane.showMessageDialog(null, reveal.toString(), source.getName(), JOptionPane.PLAIN_MESSAGE);
+            GuiUtils.getDialogs().showMessage(reveal.toString(), source.getName());
             player.clashMoveToTopOrBottom(pCard);
             opponent.clashMoveToTopOrBottom(oCard);
             //JOptionPane.showMessageDialog(null, reveal.toString(), source.getName(), JOptionPane.PLAIN_MESSAGE);
@@ -5,10 +5,21 @@ import forge.card.trigger.TriggerHandler;
 import forge.error.ErrorViewer;
 import forge.properties.NewConstants;
 
+import java.awt.GraphicsEnvironment;
 import java.io.*;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -16,6 +27,8 @@ import com.google.code.jyield.YieldUtils;
 
 import net.slightlymagic.braids.util.generator.FindNonDirectoriesSkipDotDirectoriesGenerator;
 import net.slightlymagic.braids.util.generator.GeneratorFunctions;
+import net.slightlymagic.braids.util.progress_monitor.BraidsProgressMonitor;
+import net.slightlymagic.braids.util.progress_monitor.StderrProgressMonitor;
 
 import forge.gui.MultiPhaseProgressMonitorWithETA;
 
@@ -27,12 +40,18 @@ import forge.gui.MultiPhaseProgressMonitorWithETA;
  * @version $Id: $
  */
 public class ReadCard implements Runnable, NewConstants {
-    private BufferedReader in;
+    /** How many card scripts one worker reads before handing them back. */
+    private static final int SHARD_SIZE = 128;
+
     Map<String,Card> mapToFill;
 	private File cardsfolder;
     
     private File zipFile;
 
+    private File cacheFile;
+
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+
     /**
      * <p>getCards.</p>
      *
@@ -79,50 +98,69 @@ public class ReadCard implements Runnable, NewConstants {
             throw new RuntimeException("ReadCard : constructor error -- not a directory -- "
                     + cardsfolder.getAbsolutePath());
         zipFile = new File(cardsfolder, CARDSFOLDER + ".zip");
+        cacheFile = new File(cardsfolder, CARDSFOLDER + ".bin");
 
         this.cardsfolder = cardsfolder;
     }//ReadCard()
 
 	/**
      * <p>run.</p>
+     *
+     * Loads the compiled card image written by {@link CardDatabaseCache} when
+     * it is still current, and otherwise parses the card scripts and writes a
+     * new image for the next start.
      * @since 1.0.15
      */
     public void run() {
-        Card c = null;
+        long checksum = zipFile.exists() ? CardDatabaseCache.checksumZip(zipFile)
+                : CardDatabaseCache.checksumFolder(cardsfolder);
+        CardDatabaseCache cache = new CardDatabaseCache(cacheFile, checksum);
+
+        // the compiled image is only used if the card scripts did not change since it was written
+        if (mapToFill.isEmpty() && cache.load(mapToFill)) {
+            return;
+        }
+
+        readCardScripts();
 
+        if (!mapToFill.isEmpty()) {
+            cache.save(mapToFill);
+        }
+    }//run()
+
+    /**
+     * <p>readCardScripts.</p>
+     *
+     * Parses every card script, either from the zip or from the cardsfolder.
+     */
+    private void readCardScripts() {
         if (zipFile.exists()) {
             try {
                 ZipFile zip = new ZipFile(zipFile);
                 ZipEntry entry;
-                
+
                 int zipSize = zip.size();
-                
-                MultiPhaseProgressMonitorWithETA monitor = 
-                	new MultiPhaseProgressMonitorWithETA("Forge - Loading card database from ZIP", 
-                			1, zipSize, 1.0f);
-                
+
+                BraidsProgressMonitor monitor = newMonitor("Forge - Loading card database from ZIP", zipSize);
+
+                List<ScriptSource> sources = new ArrayList<ScriptSource>(zipSize);
                 Enumeration<? extends ZipEntry> e = zip.entries();
                 while (e.hasMoreElements()) {
 
                 	entry = (ZipEntry) e.nextElement();
-                    
+
                     if (entry.isDirectory() || !entry.getName().endsWith(".txt")) {
                     	monitor.incrementUnitsCompletedThisPhase(1L);
                         continue;
                     }
-                    
-                    in = new BufferedReader(new InputStreamReader(zip.getInputStream(entry)));
-                    c = new Card();
-                    loadCard(c);
-                    
-                    mapToFill.put(c.getName(), c);
-                    
-                    in.close();
-                	monitor.incrementUnitsCompletedThisPhase(1L);
+
+                    sources.add(new ZipEntrySource(zip, entry));
                 }
-                
-                monitor.getDialog().dispose();
-                
+
+                loadScripts(sources, monitor);
+
+                monitor.dispose();
+
             } catch (Exception e) {
 
             }
@@ -131,60 +169,125 @@ public class ReadCard implements Runnable, NewConstants {
 
         	FindNonDirectoriesSkipDotDirectoriesGenerator findNonDirsGen = new FindNonDirectoriesSkipDotDirectoriesGenerator(cardsfolder);
         	long fileCount = GeneratorFunctions.estimateSize(findNonDirsGen);
-        	
-            MultiPhaseProgressMonitorWithETA monitor = 
-            	new MultiPhaseProgressMonitorWithETA("Forge - Loading card database from files", 
-            			1, fileCount, 1.0f);
-            
+
+            BraidsProgressMonitor monitor = newMonitor("Forge - Loading card database from files", fileCount);
+
+            List<ScriptSource> sources = new ArrayList<ScriptSource>((int) fileCount);
             for (File cardTxtFile : YieldUtils.toIterable(findNonDirsGen)) {
 				if (!cardTxtFile.getName().endsWith(".txt")) {
 	            	monitor.incrementUnitsCompletedThisPhase(1L);
                     continue;
 				}
 
-                try {
-                    in = new BufferedReader(new FileReader(cardTxtFile));
-                } catch (Exception ex) {
-                    ErrorViewer.showError(ex, "File \"%s\" exception", cardTxtFile.getAbsolutePath());
-                    throw new RuntimeException("ReadCard : run error -- file exception -- filename is "
-                            + cardTxtFile.getPath(),
-                            ex);
-                }
+                sources.add(new FileSource(cardTxtFile));
+            } //endfor
+
+            loadScripts(sources, monitor);
 
-                c = new Card();
-                loadCard(c);
+            monitor.dispose();
 
-                mapToFill.put(c.getName(), c);
+        } //endif
 
-            	monitor.incrementUnitsCompletedThisPhase(1L);
+    }//readCardScripts()
 
-                try {
-                    in.close();
-                } catch (IOException ex) {
-                    ErrorViewer.showError(ex, "File \"%s\" exception", cardTxtFile.getAbsolutePath());
-                    throw new RuntimeException("ReadCard : run error -- file exception -- filename is "
-                            + cardTxtFile.getPath(),
-                            ex);
-                }
+    /**
+     * <p>newMonitor.</p>
+     *
+     * @param title a {@link java.lang.String} object.
+     * @param totalUnits the number of scripts to read.
+     * @return a progress dialog, or a monitor that prints to stderr when there is no screen.
+     */
+    private static BraidsProgressMonitor newMonitor(String title, long totalUnits) {
+        if (GraphicsEnvironment.isHeadless())
+            return new StderrProgressMonitor(1, totalUnits);
+        return new MultiPhaseProgressMonitorWithETA(title, 1, totalUnits, 1.0f);
+    }
 
-            } //endfor
+    /**
+     * <p>loadScripts.</p>
+     *
+     * Reads the given scripts and adds the resulting cards to mapToFill.  With
+     * more than one thread, the sources are split into shards that are read
+     * and split up on a worker pool; the cards themselves are still created
+     * on this thread, in whatever order the shards complete, because Card
+     * and Trigger hand out ids from unsynchronized counters and Card setters
+     * call into AllZone, which may still be initializing at this point.
+     *
+     * @param sources the scripts to read
+     * @param monitor ticked once per script, always from this thread
+     */
+    private void loadScripts(List<ScriptSource> sources, BraidsProgressMonitor monitor) {
+        int shards = Math.min(threadCount, sources.size() / SHARD_SIZE);
+
+        if (shards < 2) {
+            for (ScriptSource source : sources) {
+                addCard(readScript(source));
+                monitor.incrementUnitsCompletedThisPhase(1L);
+            }
+            return;
+        }
 
-            monitor.getDialog().dispose();
+        ExecutorService pool = Executors.newFixedThreadPool(shards, new ThreadFactory() {
+            private int count = 0;
 
-        } //endif
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "ReadCard-" + (++count));
+                t.setDaemon(true);
+                return t;
+            }
+        });
 
-    }//run()
+        try {
+            CompletionService<List<CardScript>> done = new ExecutorCompletionService<List<CardScript>>(pool);
+
+            int submitted = 0;
+            for (int i = 0; i < sources.size(); i += SHARD_SIZE) {
+                final List<ScriptSource> shard = sources.subList(i, Math.min(i + SHARD_SIZE, sources.size()));
+                done.submit(new Callable<List<CardScript>>() {
+                    public List<CardScript> call() {
+                        List<CardScript> scripts = new ArrayList<CardScript>(shard.size());
+                        for (ScriptSource source : shard) {
+                            scripts.add(readScript(source));
+                        }
+                        return scripts;
+                    }
+                });
+                submitted++;
+            }
+
+            // merge on this thread, so duplicate detection works exactly like the serial path
+            for (int i = 0; i < submitted; i++) {
+                List<CardScript> scripts = done.take().get();
+                for (CardScript script : scripts) {
+                    addCard(script);
+                }
+                monitor.incrementUnitsCompletedThisPhase(scripts.size());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("ReadCard : run error -- interrupted while loading cards", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("ReadCard : run error -- " + cause, cause);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
 
     /**
-     * <p>addTypes.</p>
+     * <p>Setter for the field <code>threadCount</code>.</p>
      *
-     * @param c a {@link forge.Card} object.
-     * @param types a {@link java.lang.String} object.
+     * @param threadCount how many threads may read card scripts at the same
+     * time; 1 reads them one after the other on the calling thread
      */
-    private void addTypes(Card c, String types) {
-        StringTokenizer tok = new StringTokenizer(types);
-        while (tok.hasMoreTokens())
-            c.addType(tok.nextToken());
+    public void setThreadCount(int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("threadCount must be at least 1.");
+        }
+        this.threadCount = threadCount;
     }
 
     /**
@@ -193,7 +296,7 @@ public class ReadCard implements Runnable, NewConstants {
      * @return a {@link java.lang.String} object.
      * @param in a {@link java.io.BufferedReader} object.
      */
-    private String readLine() {
+    private static String readLine(BufferedReader in) {
         //makes the checked exception, into an unchecked runtime exception
         try {
             String s = in.readLine();
@@ -207,73 +310,203 @@ public class ReadCard implements Runnable, NewConstants {
 
 
     /**
-     * <p>loadCard.</p>
+     * <p>readScript.</p>
+     *
+     * Reads one card script and splits it into its parts.  This does not
+     * touch any shared state, so it may run on any thread.
      *
-     * @param c a {@link forge.Card} object.
+     * @param source a {@link forge.ReadCard.ScriptSource} object.
+     * @return a {@link forge.ReadCard.CardScript} object.
      */
-    private void loadCard(Card c) {
-        String s = readLine();
+    private static CardScript readScript(ScriptSource source) {
+        BufferedReader in;
+        try {
+            in = source.open();
+        } catch (Exception ex) {
+            ErrorViewer.showError(ex, "File \"%s\" exception", source.getPath());
+            throw new RuntimeException("ReadCard : run error -- file exception -- filename is "
+                    + source.getPath(),
+                    ex);
+        }
+
+        CardScript script = new CardScript();
+        String s = readLine(in);
         while (!s.equals("End")) {
             if (s.startsWith("#")) {
                 //no need to do anything, this indicates a comment line
             } else if (s.startsWith("Name:")) {
-                String t = s.substring(5);
+                script.name = s.substring(5);
 
                 //if (Constant.Runtime.DevMode[0])
                 //	System.out.println("ReadCard: " + s);
-
-                if (mapToFill.containsKey(t)) {
-                    System.out.println("ReadCard:run() error - duplicate card name: " + t);
-                    throw new RuntimeException("ReadCard:run() error - duplicate card name: " + t);
-                } else
-                    c.setName(t);
             } else if (s.startsWith("ManaCost:")) {
                 String t = s.substring(9);
                 //System.out.println(s);
                 if (!t.equals("no cost"))
-                    c.setManaCost(t);
-            } else if (s.startsWith("Types:"))
-                addTypes(c, s.substring(6));
-
-            else if (s.startsWith("Text:")) {
+                    script.manaCost = t;
+            } else if (s.startsWith("Types:")) {
+                StringTokenizer tok = new StringTokenizer(s.substring(6));
+                while (tok.hasMoreTokens())
+                    script.types.add(tok.nextToken());
+            } else if (s.startsWith("Text:")) {
                 String t = s.substring(5);
                 // if (!t.equals("no text"));
                 if (t.equals("no text")) t = ("");
-                c.setText(t);
+                script.text = t;
             } else if (s.startsWith("PT:")) {
                 String t = s.substring(3);
-                String pt[] = t.split("/");
-                int att = pt[0].contains("*") ? 0 : Integer.parseInt(pt[0]);
-                int def = pt[1].contains("*") ? 0 : Integer.parseInt(pt[1]);
-                c.setBaseAttackString(pt[0]);
-                c.setBaseDefenseString(pt[1]);
-                c.setBaseAttack(att);
-                c.setBaseDefense(def);
+                script.pt = t.split("/");
             } else if (s.startsWith("Loyalty:")) {
                 String splitStr[] = s.split(":");
-                int loyal = Integer.parseInt(splitStr[1]);
-                c.setBaseLoyalty(loyal);
+                script.loyalty = Integer.valueOf(splitStr[1]);
             } else if (s.startsWith("K:")) {
-                String t = s.substring(2);
-                c.addIntrinsicKeyword(t);
+                script.keywords.add(s.substring(2));
             } else if (s.startsWith("SVar:")) {
-                String t[] = s.split(":", 3);
-                c.setSVar(t[1], t[2]);
+                script.sVars.add(s.split(":", 3));
             } else if (s.startsWith("A:")) {
-                String t = s.substring(2);
-                c.addIntrinsicAbility(t);
+                script.abilities.add(s.substring(2));
             } else if (s.startsWith("T:")) {
-                String t = s.substring(2);
-                c.addTrigger(TriggerHandler.parseTrigger(t, c));
+                script.triggers.add(TriggerHandler.parseParams(s.substring(2)));
             } else if (s.startsWith("S:")) {
-                String t = s.substring(2);
-                c.addStaticAbilityString(t);
+                script.staticAbilities.add(s.substring(2));
             } else if (s.startsWith("SetInfo:")) {
-                String t = s.substring(8);
-                c.addSet(new SetInfo(t));
+                script.sets.add(new SetInfo(s.substring(8)));
             }
 
-            s = readLine();
+            s = readLine(in);
         } // while !End
+
+        try {
+            in.close();
+        } catch (IOException ex) {
+            ErrorViewer.showError(ex, "File \"%s\" exception", source.getPath());
+            throw new RuntimeException("ReadCard : run error -- file exception -- filename is "
+                    + source.getPath(),
+                    ex);
+        }
+
+        return script;
+    }
+
+    /**
+     * <p>addCard.</p>
+     *
+     * Turns a card script into a Card and adds it to mapToFill.
+     *
+     * @param script a {@link forge.ReadCard.CardScript} object.
+     */
+    private void addCard(CardScript script) {
+        Card c = new Card();
+
+        if (script.name != null) {
+            String t = script.name;
+            if (mapToFill.containsKey(t)) {
+                System.out.println("ReadCard:run() error - duplicate card name: " + t);
+                throw new RuntimeException("ReadCard:run() error - duplicate card name: " + t);
+            } else
+                c.setName(t);
+        }
+
+        if (script.manaCost != null)
+            c.setManaCost(script.manaCost);
+        for (String type : script.types)
+            c.addType(type);
+        if (script.text != null)
+            c.setText(script.text);
+
+        if (script.pt != null) {
+            String pt[] = script.pt;
+            int att = pt[0].contains("*") ? 0 : Integer.parseInt(pt[0]);
+            int def = pt[1].contains("*") ? 0 : Integer.parseInt(pt[1]);
+            c.setBaseAttackString(pt[0]);
+            c.setBaseDefenseString(pt[1]);
+            c.setBaseAttack(att);
+            c.setBaseDefense(def);
+        }
+        if (script.loyalty != null)
+            c.setBaseLoyalty(script.loyalty);
+
+        for (String k : script.keywords)
+            c.addIntrinsicKeyword(k);
+        for (String t[] : script.sVars)
+            c.setSVar(t[1], t[2]);
+        for (String a : script.abilities)
+            c.addIntrinsicAbility(a);
+        for (HashMap<String, String> mapParams : script.triggers)
+            c.addTrigger(TriggerHandler.parseTrigger(mapParams, c));
+        for (String st : script.staticAbilities)
+            c.addStaticAbilityString(st);
+        for (SetInfo si : script.sets)
+            c.addSet(si);
+
+        mapToFill.put(c.getName(), c);
+    }
+
+    /**
+     * The parts of one card script, split up but not yet applied to a Card.
+     */
+    private static class CardScript {
+        private String name;
+        private String manaCost;
+        private ArrayList<String> types = new ArrayList<String>();
+        private String text;
+        private String pt[];
+        private Integer loyalty;
+        private ArrayList<String> keywords = new ArrayList<String>();
+        private ArrayList<String[]> sVars = new ArrayList<String[]>();
+        private ArrayList<String> abilities = new ArrayList<String>();
+        private ArrayList<HashMap<String, String>> triggers = new ArrayList<HashMap<String, String>>();
+        private ArrayList<String> staticAbilities = new ArrayList<String>();
+        private ArrayList<SetInfo> sets = new ArrayList<SetInfo>();
+    }
+
+    /**
+     * A card script, either a file in the cardsfolder or an entry in the zip.
+     */
+    private interface ScriptSource {
+        BufferedReader open() throws IOException;
+
+        String getPath();
+    }
+
+    /**
+     * A card script in the cardsfolder.
+     */
+    private static class FileSource implements ScriptSource {
+        private File file;
+
+        public FileSource(File file) {
+            this.file = file;
+        }
+
+        public BufferedReader open() throws IOException {
+            return new BufferedReader(new FileReader(file));
+        }
+
+        public String getPath() {
+            return file.getAbsolutePath();
+        }
+    }
+
+    /**
+     * A card script in cardsfolder.zip; ZipFile may be read from several
+     * threads at once.
+     */
+    private static class ZipEntrySource implements ScriptSource {
+        private ZipFile zip;
+        private ZipEntry entry;
+
+        public ZipEntrySource(ZipFile zip, ZipEntry entry) {
+            this.zip = zip;
+            this.entry = entry;
+        }
+
+        public BufferedReader open() throws IOException {
+            return new BufferedReader(new InputStreamReader(zip.getInputStream(entry)));
+        }
+
+        public String getPath() {
+            return zip.getName() + "!" + entry.getName();
+        }
     }
 }
@@ -10,13 +10,21 @@ import java.util.HashMap;
  * @version $Id: $
  */
 public class SetInfoUtil {
-    /** Constant <code>setData</code> */
-    private static ArrayList<HashMap<String, String>> setData = new ArrayList<HashMap<String, String>>();
+    /** Constant <code>setData</code>, replaced once it is loaded and never changed after that */
+    private static volatile ArrayList<HashMap<String, String>> setData = new ArrayList<HashMap<String, String>>();
 
     /**
      * <p>loadSetData.</p>
+     *
+     * Games on other threads may ask for the set data at the same time, so
+     * only one of them loads it, and the others only see it once it is all
+     * there.
      */
-    private static void loadSetData() {
+    private static synchronized void loadSetData() {
+        if (setData.size() > 0)
+            return;
+
+        ArrayList<HashMap<String, String>> data = new ArrayList<HashMap<String, String>>();
         ArrayList<String> fData = FileUtil.readFile("res/blockdata/setdata.txt");
 
         if (fData.size() > 0) {
@@ -31,11 +39,12 @@ public class SetInfoUtil {
                         sm.put(kv[0], kv[1]);
                     }
 
-                    setData.add(sm);
+                    data.add(sm);
                 }
             }
 
         }
+        setData = data;
     }
 
     /**
@@ -2,6 +2,7 @@ package forge;
 
 
 import forge.card.spellability.SpellAbility;
+import forge.card.staticAbility.ContinuousEffect;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -22,6 +23,7 @@ public class StaticEffect {
     
     private String chosenType;
     private HashMap<String, String> mapParams = new HashMap<String, String>();
+    private ContinuousEffect continuousEffect;
 
     //for P/T
     private HashMap<Card, String> originalPT = new HashMap<Card, String>();
@@ -622,6 +624,24 @@ public class StaticEffect {
     public HashMap<String, String> getParams() {
     	return mapParams;
     }
+
+    /**
+     * <p>Setter for the field <code>continuousEffect</code>.</p>
+     *
+     * @param effect the decoded params, see {@link forge.card.staticAbility.StaticAbility#getContinuousEffect()}.
+     */
+    public void setContinuousEffect(ContinuousEffect effect) {
+        continuousEffect = effect;
+    }
+
+    /**
+     * <p>Getter for the field <code>continuousEffect</code>.</p>
+     *
+     * @return a {@link forge.card.staticAbility.ContinuousEffect} object.
+     */
+    public ContinuousEffect getContinuousEffect() {
+        return continuousEffect;
+    }
     
     public void setChosenType(String type) {
     	chosenType = type;
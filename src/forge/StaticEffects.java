@@ -3,10 +3,12 @@ package forge;
 import com.esotericsoftware.minlog.Log;
 import forge.card.cardFactory.CardFactoryUtil;
 import forge.card.spellability.SpellAbility;
+import forge.card.staticAbility.ContinuousEffect;
+import forge.card.staticAbility.StaticAbility;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 
 
 /**
@@ -37,68 +39,21 @@ public class StaticEffects {
 	void removeStaticEffect(StaticEffect se) {
         //Card source = se.getSource();
         CardList affectedCards = se.getAffectedCards();
-        //int xValue = se.getXValue();         // the old xValue has to be removed, not the actual one!
-        //int yValue = se.getYValue();         // the old xValue has to be removed, not the actual one!
-        HashMap<String, String> params = se.getParams();
-
-        int powerBonus = 0;
-        int toughnessBonus = 0;
-		int setPower = -1;
-		int setToughness = -1;
-		String addKeywords[] = null;
-		String addTypes[] = null;
-		String addColors = null;
-		
-		if (params.containsKey("SetPower")) {
-			String setP = params.get("SetPower");
-			setPower = setP.matches("[0-9][0-9]?") ? Integer.parseInt(setP) : -1;
-		}
-		
-		if (params.containsKey("SetToughness")) {
-			String setT = params.get("SetToughness");
-			setToughness = setT.matches("[0-9][0-9]?") ? Integer.parseInt(setT) : -1;
-		}
-        
-		if (params.containsKey("AddPower")) {
-			if (params.get("AddPower").equals("X")) {
-				powerBonus = se.getXValue();
-			} else if (params.get("AddPower").equals("Y")) {
-				powerBonus = se.getYValue();
-			} else 
-				powerBonus = Integer.valueOf(params.get("AddPower"));
-		}
-		
-		if (params.containsKey("AddToughness")) {
-			if (params.get("AddToughness").equals("X"))
-				toughnessBonus = se.getXValue();
-			else if (params.get("AddToughness").equals("Y"))
-				toughnessBonus = se.getYValue();
-			else toughnessBonus = Integer.valueOf(params.get("AddToughness"));
-		}
-		
-		if (params.containsKey("AddKeyword"))
-			addKeywords = params.get("AddKeyword").split(" & ");
-		
-		if (params.containsKey("AddType")) {
-			addTypes = params.get("AddType").split(" & ");
-    		if(addTypes[0].equals("ChosenType")) {
-    			String chosenType = se.getChosenType(); 
-    			addTypes[0] = chosenType;
-    		}
-		}
-		
-		if (params.containsKey("AddColor"))
-			addColors = CardUtil.getShortColorsString(new ArrayList<String>(Arrays.asList(params.get("AddColor").split(" & "))));
-		
-		if (params.containsKey("SetColor"))
-			addColors = CardUtil.getShortColorsString(new ArrayList<String>(Arrays.asList(params.get("SetColor").split(" & "))));
+        ContinuousEffect effect = se.getContinuousEffect();
+
+        // the old x and y values have to be removed, not the actual ones!
+        int powerBonus = effect.getAddPower(se.getXValue(), se.getYValue());
+        int toughnessBonus = effect.getAddToughness(se.getXValue(), se.getYValue());
+		String addKeywords[] = effect.getAddKeywords();
+		String addTypes[] = effect.getAddTypes(se.getChosenType());
+		String addColors = effect.getColors();
 			
 		//modify the affected card
 		for (int i = 0; i < affectedCards.size(); i++) {
             Card affectedCard = affectedCards.get(i);
             
             //remove set P/T
-            if(!params.containsKey("CharacteristicDefining") && (setPower != -1 || setToughness != -1))
+            if(!effect.isCharacteristicDefining() && effect.setsPT())
             	affectedCard.removeNewPT(se.getTimestamp());
             
             //remove P/T bonus
@@ -111,7 +66,7 @@ public class StaticEffects {
             		affectedCard.removeExtrinsicKeyword(keyword);
             
             //remove abilities
-            if (params.containsKey("AddAbility")) {
+            if (effect.hasAddAbilities()) {
             	SpellAbility[] spellAbility = affectedCard.getSpellAbility();
                 for (SpellAbility s : spellAbility)
                     if (s.getType().equals("Temporary"))
@@ -129,6 +84,97 @@ public class StaticEffects {
 		}
 		se.clearTimestamps();
     }
+
+    /** The highest layer {@link StaticAbility#getLayer()} returns. */
+    public static final int MAX_LAYER = 8;
+
+    // The static abilities of the cards in the game zones, by layer.  The
+    // zones register a card when it is put into them and unregister it when it
+    // leaves, Card re-registers one whose static abilities change.
+    private ArrayList<ArrayList<StaticAbility>> staticAbilitiesByLayer = newLayers();
+    private IdentityHashMap<Card, ArrayList<StaticAbility>> registeredStaticAbilities = new IdentityHashMap<Card, ArrayList<StaticAbility>>();
+    private IdentityHashMap<Card, Integer> zonesOfCard = new IdentityHashMap<Card, Integer>();
+
+    /**
+     * <p>newLayers.</p>
+     *
+     * @return an empty list for each layer.
+     */
+    private static ArrayList<ArrayList<StaticAbility>> newLayers() {
+        ArrayList<ArrayList<StaticAbility>> layers = new ArrayList<ArrayList<StaticAbility>>(MAX_LAYER + 1);
+        for (int i = 0; i <= MAX_LAYER; i++)
+            layers.add(new ArrayList<StaticAbility>());
+        return layers;
+    }
+
+    /**
+     * <p>registerStaticAbilities.</p>
+     *
+     * @param c a card just put into a game zone.
+     */
+    public void registerStaticAbilities(Card c) {
+        Integer zones = zonesOfCard.get(c);
+        zonesOfCard.put(c, zones == null ? 1 : zones + 1);
+        if (zones == null)
+            addStaticAbilities(c);
+    }
+
+    /**
+     * <p>unregisterStaticAbilities.</p>
+     *
+     * @param c a card just removed from a game zone.
+     */
+    public void unregisterStaticAbilities(Card c) {
+        Integer zones = zonesOfCard.get(c);
+        if (zones == null)
+            return;
+        if (zones > 1) {
+            zonesOfCard.put(c, zones - 1);
+            return;
+        }
+        zonesOfCard.remove(c);
+        removeStaticAbilities(c);
+    }
+
+    /**
+     * <p>staticAbilitiesChanged.</p>
+     *
+     * @param c a card that gained or lost static abilities.
+     */
+    public void staticAbilitiesChanged(Card c) {
+        if (!zonesOfCard.containsKey(c))
+            return;
+        removeStaticAbilities(c);
+        addStaticAbilities(c);
+    }
+
+    private void addStaticAbilities(Card c) {
+        ArrayList<StaticAbility> stAbs = c.getStaticAbilities();
+        if (stAbs.isEmpty())
+            return;
+        registeredStaticAbilities.put(c, stAbs);
+        for (StaticAbility stAb : stAbs)
+            staticAbilitiesByLayer.get(stAb.getLayer()).add(stAb);
+    }
+
+    private void removeStaticAbilities(Card c) {
+        ArrayList<StaticAbility> stAbs = registeredStaticAbilities.remove(c);
+        if (stAbs == null)
+            return;
+        for (StaticAbility stAb : stAbs)
+            staticAbilitiesByLayer.get(stAb.getLayer()).remove(stAb);
+    }
+
+    /**
+     * <p>getStaticAbilities.</p>
+     *
+     * @param layer a int.
+     * @return the static abilities of the cards in the game that apply in
+     *         this layer, in the order their cards entered their zones.
+     */
+    public ArrayList<StaticAbility> getStaticAbilities(int layer) {
+        return new ArrayList<StaticAbility>(staticAbilitiesByLayer.get(layer));
+    }
 	
 	//**************** End StaticAbility system **************************
 	
@@ -0,0 +1,465 @@
+package forge;
+
+import forge.deck.Deck;
+import forge.deck.DeckManager;
+import forge.gui.GuiUtils;
+import forge.gui.ScriptedDialogs;
+import forge.gui.input.AIPilot;
+import forge.quest.data.QuestMatchState;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * <p>Tournament class.</p>
+ *
+ * Plays decks against each other without a screen and reports how they did.
+ * Both players are played by the AI, the human player through an
+ * {@link AIPilot}; the two decks of a pairing take turns in each seat.
+ * The AI of the human seat only casts permanents that need no choices, so
+ * the overall win rates are those of a deck against a weaker opponent; the
+ * results say so in their humanseat column or field, and count the wins in
+ * each seat apart, so the games a deck played from the computer seat can be
+ * compared on their own.
+ * Every game is played on its own {@link GameState}, so the games are spread
+ * over a pool of threads.
+ * <pre>
+ *   java -cp ... forge.Tournament [-gauntlet] [-games 10] [-threads 4]
+ *       [-turns 50] [-search 0] [-searchms 0] [-csv results.csv] [-json results.json] a.dck b.dck ...
+ * </pre>
+ * A round robin plays every deck against every other one, a gauntlet plays
+ * the first deck against each of the others.  With -search the AI scores up
+ * to that many attacks when it looks for a better one, and with -searchms it
+ * stops after that many milliseconds, see {@link ComputerUtil_AttackSearch}.
+ * The engine prints its progress on standard output, so the results go to
+ * the files given, or to tournament.csv without -csv or -json, and the
+ * summary to standard error once the games are over.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class Tournament {
+    /** The winner of a game that neither deck won. */
+    private static final int NOBODY = -1;
+
+    /** Where the results go without -csv or -json. */
+    private static final String DEFAULT_CSV = "tournament.csv";
+
+    /** How the human seat is played, written with the results. */
+    private static final String HUMAN_SEAT = "AI casting only permanents without choices";
+
+    private final List<Deck> decks;
+    private final List<String> names;
+    private final int gamesPerPairing;
+    private final int maxTurns;
+    private final List<Pairing> pairings = new ArrayList<Pairing>();
+
+    private long millis;
+
+    /**
+     * <p>Constructor for Tournament.</p>
+     *
+     * @param decks the decks to play.
+     * @param names their names, in the same order.
+     * @param gauntlet true to play only the first deck against the others.
+     * @param gamesPerPairing how many games each pair of decks plays.
+     * @param maxTurns games still going after this many turns are a draw.
+     */
+    public Tournament(List<Deck> decks, List<String> names, boolean gauntlet, int gamesPerPairing, int maxTurns) {
+        this.decks = decks;
+        this.names = names;
+        this.gamesPerPairing = gamesPerPairing;
+        this.maxTurns = maxTurns;
+
+        for (int i = 0; i < decks.size(); i++) {
+            for (int j = i + 1; j < decks.size(); j++) {
+                if (gauntlet && i != 0) break;
+                pairings.add(new Pairing(i, j));
+            }
+        }
+    }
+
+    /**
+     * <p>run.</p>
+     *
+     * Plays all the games and waits for them to finish.
+     *
+     * @param threads how many games to play at once.
+     * @throws InterruptedException if the waiting thread is interrupted.
+     */
+    public void run(int threads) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Game> games = new ArrayList<Game>();
+        List<Future<GameResult>> futures = new ArrayList<Future<GameResult>>();
+        long start = System.currentTimeMillis();
+        try {
+            for (Pairing p : pairings) {
+                for (int g = 0; g < gamesPerPairing; g++) {
+                    // the decks swap seats every game
+                    int human = g % 2 == 0 ? p.first : p.second;
+                    int computer = g % 2 == 0 ? p.second : p.first;
+                    Game game = new Game(p, human, computer);
+                    games.add(game);
+                    futures.add(pool.submit(game));
+                }
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                GameResult r;
+                try {
+                    r = futures.get(i).get();
+                } catch (ExecutionException ex) {
+                    // Game catches everything, but one failed game must not lose the others
+                    r = games.get(i).failed(ex.getCause());
+                }
+                r.pairing.add(r);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        millis = System.currentTimeMillis() - start;
+    }
+
+    /**
+     * <p>getGamesPlayed.</p>
+     *
+     * @return the number of games played, including the ones that failed.
+     */
+    public int getGamesPlayed() {
+        int n = 0;
+        for (Pairing p : pairings)
+            n += p.games;
+        return n;
+    }
+
+    /**
+     * <p>getGamesPerSecond.</p>
+     *
+     * @return how many games were played per second of wall clock time.
+     */
+    public double getGamesPerSecond() {
+        return millis == 0 ? 0 : getGamesPlayed() * 1000.0 / millis;
+    }
+
+    /**
+     * <p>writeCSV.</p>
+     *
+     * One line per pairing, with the wins of each deck, the draws, the
+     * games that failed, the games deck1 played from each seat and the wins
+     * of each deck from each seat, the average number of turns and
+     * milliseconds of a game, and how the human seat was played.
+     *
+     * @param out a {@link java.io.PrintWriter} object.
+     */
+    public void writeCSV(PrintWriter out) {
+        out.println("deck1,deck2,games,wins1,wins2,draws,errors,winrate1,"
+                + "games1computer,wins1computer,wins2human,games1human,wins1human,wins2computer,"
+                + "avgturns,avgmillis,humanseat");
+        for (Pairing p : pairings) {
+            out.println(csv(names.get(p.first)) + "," + csv(names.get(p.second)) + "," + p.games + ","
+                    + p.wins1 + "," + p.wins2 + "," + p.draws + "," + p.errors + ","
+                    + format(rate(p.wins1, p.games)) + ","
+                    + p.games1Computer + "," + p.wins1Computer + "," + p.wins2Human + ","
+                    + p.games1Human + "," + p.wins1Human + "," + p.wins2Computer + ","
+                    + format(p.averageTurns()) + "," + format(p.averageMillis()) + "," + csv(HUMAN_SEAT));
+        }
+        out.flush();
+    }
+
+    /**
+     * <p>writeJSON.</p>
+     *
+     * The totals, how the human seat was played, the results of each deck
+     * over all its games and over the games it played from each seat, and
+     * the pairings as in {@link #writeCSV(PrintWriter)}.
+     *
+     * @param out a {@link java.io.PrintWriter} object.
+     */
+    public void writeJSON(PrintWriter out) {
+        out.println("{");
+        out.println("  \"games\": " + getGamesPlayed() + ",");
+        out.println("  \"millis\": " + millis + ",");
+        out.println("  \"gamesPerSecond\": " + format(getGamesPerSecond()) + ",");
+        out.println("  \"humanSeat\": " + json(HUMAN_SEAT) + ",");
+
+        out.println("  \"decks\": [");
+        for (int i = 0; i < decks.size(); i++) {
+            int games = 0, wins = 0;
+            int gamesComputer = 0, winsComputer = 0, gamesHuman = 0, winsHuman = 0;
+            for (Pairing p : pairings) {
+                if (p.first == i) {
+                    games += p.games;
+                    wins += p.wins1;
+                    gamesComputer += p.games1Computer;
+                    winsComputer += p.wins1Computer;
+                    gamesHuman += p.games1Human;
+                    winsHuman += p.wins1Human;
+                } else if (p.second == i) {
+                    games += p.games;
+                    wins += p.wins2;
+                    gamesComputer += p.games1Human;
+                    winsComputer += p.wins2Computer;
+                    gamesHuman += p.games1Computer;
+                    winsHuman += p.wins2Human;
+                }
+            }
+            out.print("    {\"name\": " + json(names.get(i)) + ", \"games\": " + games + ", \"wins\": " + wins
+                    + ", \"winRate\": " + format(rate(wins, games))
+                    + ", \"gamesAsComputer\": " + gamesComputer + ", \"winsAsComputer\": " + winsComputer
+                    + ", \"winRateAsComputer\": " + format(rate(winsComputer, gamesComputer))
+                    + ", \"gamesAsHuman\": " + gamesHuman + ", \"winsAsHuman\": " + winsHuman
+                    + ", \"winRateAsHuman\": " + format(rate(winsHuman, gamesHuman)) + "}");
+            out.println(i < decks.size() - 1 ? "," : "");
+        }
+        out.println("  ],");
+
+        out.println("  \"pairings\": [");
+        for (int i = 0; i < pairings.size(); i++) {
+            Pairing p = pairings.get(i);
+            out.print("    {\"deck1\": " + json(names.get(p.first)) + ", \"deck2\": " + json(names.get(p.second))
+                    + ", \"games\": " + p.games + ", \"wins1\": " + p.wins1 + ", \"wins2\": " + p.wins2
+                    + ", \"draws\": " + p.draws + ", \"errors\": " + p.errors
+                    + ", \"games1Computer\": " + p.games1Computer + ", \"wins1Computer\": " + p.wins1Computer
+                    + ", \"wins2Human\": " + p.wins2Human
+                    + ", \"games1Human\": " + p.games1Human + ", \"wins1Human\": " + p.wins1Human
+                    + ", \"wins2Computer\": " + p.wins2Computer
+                    + ", \"avgTurns\": " + format(p.averageTurns()) + ", \"avgMillis\": " + format(p.averageMillis()) + "}");
+            out.println(i < pairings.size() - 1 ? "," : "");
+        }
+        out.println("  ]");
+        out.println("}");
+        out.flush();
+    }
+
+    private static double rate(int part, int whole) {
+        return whole == 0 ? 0 : (double) part / whole;
+    }
+
+    private static String format(double d) {
+        return String.format(Locale.US, "%.3f", d);
+    }
+
+    private static String csv(String s) {
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0) return s;
+        return "\"" + s.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String json(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : s.toCharArray()) {
+            if (c == '"' || c == '\\') sb.append('\\').append(c);
+            else if (c < ' ') sb.append(String.format("\\u%04x", (int) c));
+            else sb.append(c);
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * Two decks that play each other, and the results of their games so far.
+     */
+    private static class Pairing {
+        private final int first;
+        private final int second;
+
+        private int games, wins1, wins2, draws, errors;
+        // the finished games with the first deck in each seat, and the wins from each seat
+        private int games1Computer, wins1Computer, wins2Human;
+        private int games1Human, wins1Human, wins2Computer;
+        private long turns, millis;
+
+        Pairing(int first, int second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        void add(GameResult r) {
+            games++;
+            if (r.error != null) {
+                errors++;
+                return;
+            }
+            boolean firstIsComputer = r.computer == first;
+            if (firstIsComputer) games1Computer++;
+            else games1Human++;
+
+            if (r.winner == first) {
+                wins1++;
+                if (firstIsComputer) wins1Computer++;
+                else wins1Human++;
+            } else if (r.winner == second) {
+                wins2++;
+                if (firstIsComputer) wins2Human++;
+                else wins2Computer++;
+            } else draws++;
+            turns += r.turns;
+            millis += r.millis;
+        }
+
+        double averageTurns() {
+            int played = games - errors;
+            return played == 0 ? 0 : (double) turns / played;
+        }
+
+        double averageMillis() {
+            int played = games - errors;
+            return played == 0 ? 0 : (double) millis / played;
+        }
+    }
+
+    /**
+     * The end of one game.
+     */
+    private static class GameResult {
+        private final Pairing pairing;
+        private final int computer;
+        private final int winner;
+        private final int turns;
+        private final long millis;
+        private final Throwable error;
+
+        GameResult(Pairing pairing, int computer, int winner, int turns, long millis, Throwable error) {
+            this.pairing = pairing;
+            this.computer = computer;
+            this.winner = winner;
+            this.turns = turns;
+            this.millis = millis;
+            this.error = error;
+        }
+    }
+
+    /**
+     * One game, played on the thread that calls it.
+     */
+    private class Game implements Callable<GameResult> {
+        private final Pairing pairing;
+        private final int human;
+        private final int computer;
+
+        Game(Pairing pairing, int human, int computer) {
+            this.pairing = pairing;
+            this.human = human;
+            this.computer = computer;
+        }
+
+        public GameResult call() {
+            long start = System.currentTimeMillis();
+            AllZone.setGameState(new GameState());
+            try {
+                GuiUtils.setGameDialogs(new ScriptedDialogs());
+                HeadlessDisplay display = new HeadlessDisplay(new AIPilot());
+                AllZone.getGameAction().newGame(decks.get(human), decks.get(computer));
+                display.play(maxTurns);
+
+                QuestMatchState match = AllZone.getMatchState();
+                int winner = NOBODY;
+                if (match.getWin() > 0 && match.getLose() == 0) winner = human;
+                else if (match.getLose() > 0 && match.getWin() == 0) winner = computer;
+
+                return new GameResult(pairing, computer, winner, AllZone.getPhase().getTurn(),
+                        System.currentTimeMillis() - start, null);
+            } catch (Throwable t) {
+                // an Error such as a StackOverflowError ends only this game
+                return failed(t);
+            } finally {
+                AllZone.setGameState(null);
+            }
+        }
+
+        GameResult failed(Throwable t) {
+            System.err.println(names.get(human) + " vs " + names.get(computer) + ": " + t);
+            return new GameResult(pairing, computer, NOBODY, 0, 0, t);
+        }
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args the options and deck files, see the class comment.
+     * @throws Exception if the games can't be played or the results can't be written.
+     */
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        boolean gauntlet = false;
+        int games = 10;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int turns = 50;
+        String csvFile = null;
+        String jsonFile = null;
+        List<Deck> decks = new ArrayList<Deck>();
+        List<String> names = new ArrayList<String>();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("-gauntlet")) gauntlet = true;
+            else if (arg.equals("-games") && i + 1 < args.length) games = Integer.parseInt(args[++i]);
+            else if (arg.equals("-threads") && i + 1 < args.length) threads = Integer.parseInt(args[++i]);
+            else if (arg.equals("-turns") && i + 1 < args.length) turns = Integer.parseInt(args[++i]);
+            else if (arg.equals("-search") && i + 1 < args.length)
+                Constant.Runtime.AttackSearchNodes[0] = Integer.parseInt(args[++i]);
+            else if (arg.equals("-searchms") && i + 1 < args.length)
+                Constant.Runtime.AttackSearchMillis[0] = Integer.parseInt(args[++i]);
+            else if (arg.equals("-csv") && i + 1 < args.length) csvFile = args[++i];
+            else if (arg.equals("-json") && i + 1 < args.length) jsonFile = args[++i];
+            else if (arg.startsWith("-")) {
+                usage("Unknown option " + arg);
+                return;
+            } else {
+                File f = new File(arg);
+                if (!f.isFile()) {
+                    usage("No such deck " + arg);
+                    return;
+                }
+                Deck d = DeckManager.readDeck(f);
+                decks.add(d);
+                names.add(d.getName() == null || d.getName().equals("") ? f.getName() : d.getName());
+            }
+        }
+        if (decks.size() < 2) {
+            usage("At least two decks are needed");
+            return;
+        }
+
+        Gui_NewGame.loadDynamicGamedata();
+        Constant.Runtime.GameType[0] = Constant.GameType.Constructed;
+
+        Tournament t = new Tournament(decks, names, gauntlet, games, turns);
+        t.run(Math.max(1, threads));
+
+        if (csvFile == null && jsonFile == null) csvFile = DEFAULT_CSV;
+        if (csvFile != null) write(t, csvFile, false);
+        if (jsonFile != null) write(t, jsonFile, true);
+
+        System.err.println(t.getGamesPlayed() + " games in " + t.millis + " ms, "
+                + format(t.getGamesPerSecond()) + " games/s, results in "
+                + (csvFile != null ? csvFile : "") + (csvFile != null && jsonFile != null ? " and " : "")
+                + (jsonFile != null ? jsonFile : ""));
+        System.exit(0);
+    }
+
+    private static void write(Tournament t, String file, boolean json) throws IOException {
+        PrintWriter out = new PrintWriter(new FileWriter(file));
+        try {
+            if (json) t.writeJSON(out);
+            else t.writeCSV(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("usage: forge.Tournament [-gauntlet] [-games n] [-threads n] [-turns n]"
+                + " [-search attacks] [-searchms millis] [-csv file] [-json file] deck.dck deck.dck ...");
+    }
+}
@@ -808,7 +808,7 @@ public class AbilityFactory_ChangeZone {
 
         // what types can I go get?
         for (int i = 0; i < names.length; i++) {
-            if (list.getType(names[i]).size() != 0)
+            if (list.view().getType(names[i]).any())
                 basics.add(names[i]);
         }
 
@@ -818,7 +818,7 @@ public class AbilityFactory_ChangeZone {
 
         for (int i = 0; i < basics.size(); i++) {
             String b = basics.get(i);
-            int num = combined.getType(names[i]).size();
+            int num = combined.view().getType(names[i]).count();
             if (num < minSize) {
                 minType = b;
                 minSize = num;
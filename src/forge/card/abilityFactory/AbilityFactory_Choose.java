@@ -462,7 +462,7 @@ public class AbilityFactory_Choose {
                 } else {
                 	//TODO - needs improvement
                     card.setChosenColor(Constant.Color.Black);
-                    JOptionPane.showMessageDialog(null, "Computer chooses "+Constant.Color.Black, ""+card, JOptionPane.PLAIN_MESSAGE); 
+                    GuiUtils.getDialogs().showMessage("Computer chooses "+Constant.Color.Black, ""+card); 
                 }
             }
         }
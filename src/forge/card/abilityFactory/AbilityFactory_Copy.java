@@ -221,7 +221,7 @@ public class AbilityFactory_Copy {
                 }
 
                 Card choice;
-                if (list.filter(AllZoneUtil.creatures).size() > 0) {
+                if (list.view().filter(AllZoneUtil.creatures).any()) {
                     choice = CardFactoryUtil.AI_getBestCreature(list);
                 } else {
                     choice = CardFactoryUtil.AI_getMostExpensivePermanent(list, source, true);
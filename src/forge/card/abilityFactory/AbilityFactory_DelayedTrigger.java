@@ -21,8 +21,6 @@ import java.util.HashMap;
  * @version $Id: $
  */
 public class AbilityFactory_DelayedTrigger {
-    /** Constant <code>tempCreator</code> */
-    private static AbilityFactory tempCreator = new AbilityFactory();
     
     /**
      * <p>getAbility.</p>
@@ -126,7 +124,7 @@ public class AbilityFactory_DelayedTrigger {
     private static boolean doChkAI_Drawback(final AbilityFactory AF, final SpellAbility SA) {
         HashMap<String, String> params = AF.getMapParams();
         String svarName = params.get("Execute");
-        SpellAbility trigsa = tempCreator.getAbility(AF.getHostCard().getSVar(svarName), AF.getHostCard());
+        SpellAbility trigsa = new AbilityFactory().getAbility(AF.getHostCard().getSVar(svarName), AF.getHostCard());
 
         if (trigsa instanceof Ability_Sub) {
             return ((Ability_Sub) trigsa).chkAI_Drawback();
@@ -145,7 +143,7 @@ public class AbilityFactory_DelayedTrigger {
     private static boolean doTriggerAI(final AbilityFactory AF, final SpellAbility SA, boolean mandatory) {
         HashMap<String, String> params = AF.getMapParams();
         String svarName = params.get("Execute");
-        SpellAbility trigsa = tempCreator.getAbility(AF.getHostCard().getSVar(svarName), AF.getHostCard());
+        SpellAbility trigsa = new AbilityFactory().getAbility(AF.getHostCard().getSVar(svarName), AF.getHostCard());
 
         if (!params.containsKey("OptionalDecider")) {
             return trigsa.doTrigger(true);
@@ -164,7 +162,7 @@ public class AbilityFactory_DelayedTrigger {
     private static boolean delTrigCanPlayAI(final AbilityFactory af, final SpellAbility sa) {
         HashMap<String, String> params = af.getMapParams();
         String svarName = params.get("Execute");
-        SpellAbility trigsa = tempCreator.getAbility(af.getHostCard().getSVar(svarName), af.getHostCard());
+        SpellAbility trigsa = new AbilityFactory().getAbility(af.getHostCard().getSVar(svarName), af.getHostCard());
 
         return trigsa.canPlayAI();
     }
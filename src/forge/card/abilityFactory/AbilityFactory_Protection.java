@@ -11,7 +11,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Random;
 
-import javax.swing.JOptionPane;
 
 /**
  * <p>AbilityFactory_Protection class.</p>
@@ -565,7 +564,7 @@ public class AbilityFactory_Protection {
         		//TODO - needs improvement
         		String choice = choices.get(0);
                 gains.add(choice);
-                JOptionPane.showMessageDialog(null, "Computer chooses "+gains, ""+host, JOptionPane.PLAIN_MESSAGE); 
+                GuiUtils.getDialogs().showMessage("Computer chooses "+gains, ""+host); 
             }
         }
         else
@@ -882,7 +881,7 @@ public class AbilityFactory_Protection {
         		//TODO - needs improvement
         		String choice = choices.get(0);
                 gains.add(choice);
-                JOptionPane.showMessageDialog(null, "Computer chooses "+gains, ""+host, JOptionPane.PLAIN_MESSAGE); 
+                GuiUtils.getDialogs().showMessage("Computer chooses "+gains, ""+host); 
             }
         }
         else
@@ -4,7 +4,6 @@ import forge.*;
 import forge.card.spellability.*;
 import forge.gui.GuiUtils;
 
-import javax.swing.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -722,7 +721,7 @@ public class AbilityFactory_Reveal {
                     } else {
                         StringBuilder sb = new StringBuilder();
                         sb.append(p).append("'s hand is empty!");
-                        javax.swing.JOptionPane.showMessageDialog(null, sb.toString(), p + "'s hand", JOptionPane.INFORMATION_MESSAGE);
+                        GuiUtils.getDialogs().showMessage(sb.toString(), p + "'s hand");
                     }
                 } else {
                     //reveal to Computer (when computer can keep track of seen cards...)
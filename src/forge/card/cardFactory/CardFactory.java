@@ -25,31 +25,34 @@ import java.util.*;
 /**
  * <p>CardFactory class.</p>
  *
- * TODO: The map field contains Card instances that have not gone through 
- * getCard2, and thus lack abilities.  However, when a new 
- * Card is requested via getCard, it is this map's values that serve as
- * the templates for the values it returns.  This class has another field,
- * allCards, which is another copy of the card database.  These cards have
- * abilities attached to them, and are owned by the human player by 
- * default.  <b>It would be better memory-wise if we had only one or the
- * other.</b>  We may experiment in the future with using allCard-type
- * values for the map instead of the less complete ones that exist there
- * today.
+ * The map field contains the CardTemplate for every card name.  When a new
+ * Card is requested via getCard, it is built from its template, sharing the
+ * template's printed characteristics, and then goes through getCard2 to get
+ * its abilities.  The full-fledged, human-owned cards handed out by
+ * iterator() and getDatabaseCard are only built the first time something
+ * asks for them, and are then kept in allCards, so starting Forge no longer
+ * runs getCard2 on the whole database.
  *
  * @author Forge
  * @version $Id: $
  */
 public class CardFactory implements NewConstants, Iterable<Card> {
     /** 
-     * This maps card name Strings to Card instances. The Card instances have
-     * no owner, and lack abilities.
+     * This maps card name Strings to the templates that all Card instances
+     * of that name are built from.
      * 
      * To get a full-fledged card, see allCards.
      */
-    private Map<String, Card> map = new TreeMap<String, Card>();
+    private Map<String, CardTemplate> map = new TreeMap<String, CardTemplate>();
 
-    /** This is a special list of cards, with all abilities attached. */
-    private CardList allCards = new CardList();
+    /** The keys of map, in the same order, for index based access. */
+    private List<String> cardNames = new ArrayList<String>();
+
+    /**
+     * Card names mapped to full-fledged cards, with all abilities attached.
+     * Filled in on demand by getDatabaseCard.
+     */
+    private Map<String, Card> allCards = new HashMap<String, Card>();
 
     private Set<String> removedCardList;
     private Card blankCard = new Card();                 //new code
@@ -63,7 +66,12 @@ public class CardFactory implements NewConstants, Iterable<Card> {
         this(new File(filename));
     }
 
-    public CardList CopiedList = new CardList();
+    /** The spell copies made in each game, see copyCardintoNew. */
+    public GameLocal<CardList> CopiedList = new GameLocal<CardList>() {
+        protected CardList initialValue() {
+            return new CardList();
+        }
+    };
 
     /**
      * <p>Constructor for CardFactory.</p>
@@ -98,13 +106,8 @@ public class CardFactory implements NewConstants, Iterable<Card> {
         try {
             readCards(file);
 
-            // initialize CardList allCards
-            Iterator<String> it = map.keySet().iterator();
-            Card c;
-            while (it.hasNext()) {
-                c = getCard(it.next().toString(), AllZone.getHumanPlayer());
-                allCards.add(c);
-            }
+            // allCards is filled in lazily, see getDatabaseCard
+            cardNames.addAll(map.keySet());
         } catch (Exception ex) {
             ErrorViewer.showError(ex);
         }
@@ -116,7 +119,8 @@ public class CardFactory implements NewConstants, Iterable<Card> {
      * 
      * @deprecated  Use iterator and make your own copy, if you absolutely 
      * need one.  Keep in mind that there are thousands of cards, so
-     * it is a very heap-intensive operation.
+     * it is a very heap-intensive operation, and it builds every card in
+     * the database that has not been built yet.
      * 
      * @see #iterator
      *
@@ -124,9 +128,9 @@ public class CardFactory implements NewConstants, Iterable<Card> {
      */
     public CardList getAllCards() {
     	
-    	CardList result = new CardList(allCards.size());
+    	CardList result = new CardList(size());
     	
-    	for (Card card : allCards) {
+    	for (Card card : this) {
     		result.add(card);
     	}
     	
@@ -135,32 +139,47 @@ public class CardFactory implements NewConstants, Iterable<Card> {
 
     
     /**
-     * Faster than getAllCards, but callers must not modify this list directly!
+     * Callers must not modify this list directly!
      *
      * @deprecated use iterator 
      * 
      * @see #iterator
      *
-     * @return the internal {@link forge.CardList} object -- do not modify!
+     * @return a {@link forge.CardList} object -- do not modify!
      */
     public CardList getCards() {
-        return allCards;
+        return getAllCards();
     }// getAllCards()
 
 
     /**
      * Iterate over all full-fledged cards in the database; these cards are 
-     * owned by the human player by default.
+     * owned by the human player by default.  Each card is built the first
+     * time it is reached, so stopping early saves work.
      * 
      * @return an Iterator that does NOT support the remove method 
      */
 	public Iterator<Card> iterator() {
-		return new ImmutableIterableFrom<Card>(allCards);
+		final Iterator<String> names = cardNames.iterator();
+
+		return new ImmutableIterableFrom<Card>(new Iterator<Card>() {
+			public boolean hasNext() {
+				return names.hasNext();
+			}
+
+			public Card next() {
+				return getDatabaseCard(names.next());
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		});
 	}
 
 
 	/**
-	 * Typical size method. 
+	 * Typical size method.  This does not build any cards.
 	 * 
 	 * @return an estimate of the number of items encountered by this object's 
 	 * iterator
@@ -168,7 +187,51 @@ public class CardFactory implements NewConstants, Iterable<Card> {
 	 * @see #iterator
 	 */
 	public int size() {
-		return allCards.size();
+		return cardNames.size();
+	}
+
+
+	/**
+	 * The names of all cards in the database, in the order iterator() visits
+	 * them.  Use this instead of iterating when only the names are needed,
+	 * because it does not build any cards.
+	 *
+	 * @return an unmodifiable {@link java.util.List} of card names
+	 */
+	public List<String> getCardNames() {
+		return Collections.unmodifiableList(cardNames);
+	}
+
+
+	/**
+	 * Get the shared, full-fledged instance of a card, as returned by
+	 * iterator(); it is built on first use.
+	 *
+	 * @param cardName a {@link java.lang.String} object.
+	 *
+	 * @return a {@link forge.Card} instance owned by the human player, or the
+	 * special blankCard; callers must not modify it
+	 *
+	 * @throws RuntimeException if cardName isn't in the Card map
+	 */
+	public synchronized Card getDatabaseCard(String cardName) {
+		Card c = allCards.get(cardName);
+		if (c == null) {
+			c = getCard(cardName, AllZone.getHumanPlayer());
+			allCards.put(cardName, c);
+		}
+		return c;
+	}
+
+
+	/**
+	 * <p>getBuiltCards.</p>
+	 *
+	 * @return a new {@link forge.CardList} with the full-fledged cards that
+	 * have been built so far
+	 */
+	private synchronized CardList getBuiltCards() {
+		return new CardList(allCards.values());
 	}
 
 	
@@ -180,10 +243,15 @@ public class CardFactory implements NewConstants, Iterable<Card> {
     private void readCards(File file) {
         map.clear();
 
-        ReadCard read = new ReadCard(ForgeProps.getFile(CARDSFOLDER), map);
+        Map<String, Card> cards = new TreeMap<String, Card>();
+        ReadCard read = new ReadCard(ForgeProps.getFile(CARDSFOLDER), cards);
 
         // this fills in our map of card names to Card instances.
         read.run();
+
+        for (Map.Entry<String, Card> e : cards.entrySet()) {
+            map.put(e.getKey(), new CardTemplate(e.getValue()));
+        }
     }// readCard()
 
     /**
@@ -221,11 +289,11 @@ public class CardFactory implements NewConstants, Iterable<Card> {
 
         Card out = copyStats(in);
         out.setOwner(in.getOwner());
-        CardList all = AllZone.getCardFactory().getAllCards();
+        CardList all = getBuiltCards();
         CardList tokens = AllZoneUtil.getCardsInPlay();
         tokens = tokens.filter(AllZoneUtil.token);
         all.addAll(tokens);
-        all.addAll(CopiedList);
+        all.addAll(CopiedList.get());
         int Unumber = 0;
         for (int i = 0; i < all.size(); i++) {
             if (all.get(i).getUniqueNumber() > Unumber) Unumber = all.get(i).getUniqueNumber();
@@ -235,7 +303,7 @@ public class CardFactory implements NewConstants, Iterable<Card> {
         for (Trigger t : out.getTriggers()) {
             AllZone.getTriggerHandler().registerTrigger(t);
         }
-        CopiedList.add(out);
+        CopiedList.get().add(out);
         return out;
 
     }
@@ -405,7 +473,7 @@ public class CardFactory implements NewConstants, Iterable<Card> {
 
 		CardList result = new CardList(numCards);
 		for (Integer index : intSelections) {
-			result.add(allCards.get(index));
+			result.add(getDatabaseCard(cardNames.get(index)));
 		}
 		
 		return result;
@@ -801,11 +869,10 @@ public class CardFactory implements NewConstants, Iterable<Card> {
      * @throws RuntimeException if cardName isn't in the Card map
      */
     final private Card getCard2(final String cardName, final Player owner) {
-        //o should be Card object
-        Object o = map.get(cardName);
-        if (o == null) throw new RuntimeException("CardFactory : getCard() invalid card name - " + cardName);
+        CardTemplate template = map.get(cardName);
+        if (template == null) throw new RuntimeException("CardFactory : getCard() invalid card name - " + cardName);
 
-        final Card card = copyStats(o);
+        final Card card = new Card(template);
         card.setOwner(owner);
         card.setController(owner);
         card.addColor(card.getManaCost());
@@ -2029,7 +2096,7 @@ public class CardFactory implements NewConstants, Iterable<Card> {
                     if (!hand.isEmpty()) {
                         hand.shuffle();
                         Card c = hand.get(0);
-                        JOptionPane.showMessageDialog(null, "Revealed card:\n" + c.getName(), card.getName(), JOptionPane.PLAIN_MESSAGE);
+                        GuiUtils.getDialogs().showMessage("Revealed card:\n" + c.getName(), card.getName());
                         if (input.equals(c.getName())) {
                             if (null != getTargetCard()) {
                                 getTargetCard().addDamage(2, card);
@@ -2038,7 +2105,7 @@ public class CardFactory implements NewConstants, Iterable<Card> {
                             }
                         }
                     } else {
-                        JOptionPane.showMessageDialog(null, "No cards to reveal.  Damage fail.", card.getName(), JOptionPane.PLAIN_MESSAGE);
+                        GuiUtils.getDialogs().showMessage("No cards to reveal.  Damage fail.", card.getName());
                     }
                 }
 
@@ -2086,13 +2153,13 @@ public class CardFactory implements NewConstants, Iterable<Card> {
                             if (player.canPlayLand()) {
                                 player.playLand(freeCard);
                             } else {
-                                JOptionPane.showMessageDialog(null, "You can't play any more lands this turn.", "", JOptionPane.INFORMATION_MESSAGE);
+                                GuiUtils.getDialogs().showMessage("You can't play any more lands this turn.", "");
                             }
                         } else {
                             AllZone.getGameAction().playCardNoCost(freeCard);
                         }
                     } else
-                        JOptionPane.showMessageDialog(null, "Error in " + cardName + ".  freeCard is null", "", JOptionPane.INFORMATION_MESSAGE);
+                        GuiUtils.getDialogs().showMessage("Error in " + cardName + ".  freeCard is null", "");
 
                 }
 
@@ -2119,7 +2186,7 @@ public class CardFactory implements NewConstants, Iterable<Card> {
 
                         //reveal the top card
                         topCard[0] = lib.get(0);
-                        JOptionPane.showMessageDialog(null, "Revealed card:\n" + topCard[0].getName(), card.getName(), JOptionPane.PLAIN_MESSAGE);
+                        GuiUtils.getDialogs().showMessage("Revealed card:\n" + topCard[0].getName(), card.getName());
 
                         card.addSpellAbility(freeCast);
                         card.addExtrinsicKeyword("Play with the top card of your library revealed.");
@@ -300,6 +300,23 @@ public class CardFactoryUtil {
         return value;
     }
 
+    /**
+     * The creature values worked out since the game last changed, by card.
+     * The AI asks for the same creatures many times while it decides what to
+     * do, and every value looks for dozens of keywords.
+     */
+    private static final class CreatureValues {
+        private long version = -1;
+        private final IdentityHashMap<Card, Integer> values = new IdentityHashMap<Card, Integer>();
+    }
+
+    /** Constant <code>creatureValues</code> */
+    private static final GameLocal<CreatureValues> creatureValues = new GameLocal<CreatureValues>() {
+        protected CreatureValues initialValue() {
+            return new CreatureValues();
+        }
+    };
+
     /**
      * <p>evaluateCreature.</p>
      *
@@ -307,6 +324,28 @@ public class CardFactoryUtil {
      * @return a int.
      */
     public static int evaluateCreature(Card c) {
+        CreatureValues cache = creatureValues.get();
+        long version = AllZone.getEventBus().getVersion();
+        if (cache.version != version) {
+            cache.values.clear();
+            cache.version = version;
+        }
+
+        Integer value = cache.values.get(c);
+        if (value == null) {
+            value = computeCreatureValue(c);
+            cache.values.put(c, value);
+        }
+        return value;
+    }
+
+    /**
+     * <p>computeCreatureValue.</p>
+     *
+     * @param c a {@link forge.Card} object.
+     * @return a int.
+     */
+    private static int computeCreatureValue(Card c) {
 
         int value = 100;
         if (c.isToken()) value = 80; //tokens should be worth less than actual cards
@@ -499,27 +538,27 @@ public class CardFactoryUtil {
     public static Card AI_getWorstPermanent(final CardList list, boolean biasEnch, boolean biasLand, boolean biasArt, boolean biasCreature) {
         if (list.size() == 0) return null;
 
-        if (biasEnch && list.getType("Enchantment").size() > 0) {
+        if (biasEnch && list.view().getType("Enchantment").any()) {
             return AI_getCheapestPermanent(list.getType("Enchantment"), null, false);
         }
 
-        if (biasArt && list.getType("Artifact").size() > 0) {
+        if (biasArt && list.view().getType("Artifact").any()) {
             return AI_getCheapestPermanent(list.getType("Artifact"), null, false);
         }
 
-        if (biasLand && list.getType("Land").size() > 0) {
+        if (biasLand && list.view().getType("Land").any()) {
             return getWorstLand(list.getType("Land"));
         }
 
-        if (biasCreature && list.getType("Creature").size() > 0) {
+        if (biasCreature && list.view().getType("Creature").any()) {
             return AI_getWorstCreature(list.getType("Creature"));
         }
 
-        if (list.getType("Land").size() > 6) {
+        if (list.view().getType("Land").count() > 6) {
             return getWorstLand(list.getType("Land"));
         }
 
-        if (list.getType("Artifact").size() > 0 || list.getType("Enchantment").size() > 0) {
+        if (list.view().getType("Artifact").any() || list.view().getType("Enchantment").any()) {
             return AI_getCheapestPermanent(list.filter(new CardListFilter() {
                 public boolean addCard(Card c) {
                     return c.isArtifact() || c.isEnchantment();
@@ -527,7 +566,7 @@ public class CardFactoryUtil {
             }), null, false);
         }
 
-        if (list.getType("Creature").size() > 0) {
+        if (list.view().getType("Creature").any()) {
             return AI_getWorstCreature(list.getType("Creature"));
         }
 
@@ -2832,7 +2871,7 @@ public class CardFactoryUtil {
             String basic[] = {"Forest", "Plains", "Mountain", "Island", "Swamp"};
 
             for (int i = 0; i < basic.length; i++)
-                if (!someCards.getType(basic[i]).isEmpty()) n++;
+                if (someCards.view().getType(basic[i]).any()) n++;
 
             return doXMath(n, m, c);
         }
@@ -3491,7 +3530,7 @@ public class CardFactoryUtil {
         int count = 0;
 
         for (int i = 0; i < basic.length; i++)
-            if (!list.getType(basic[i]).isEmpty()) count++;
+            if (list.view().getType(basic[i]).any()) count++;
 
         return count;
     }
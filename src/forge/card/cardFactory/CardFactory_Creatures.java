@@ -2458,7 +2458,7 @@ public class CardFactory_Creatures {
                         void done() {
                             StringBuilder sb = new StringBuilder();
                             for (Card reveal : revealed) sb.append(reveal.getName() + "\n");
-                            JOptionPane.showMessageDialog(null, "Revealed Cards:\n" + sb.toString(), card.getName(), JOptionPane.PLAIN_MESSAGE);
+                            GuiUtils.getDialogs().showMessage("Revealed Cards:\n" + sb.toString(), card.getName());
                             //adding mana
 
                             Ability_Mana abMana = new Ability_Mana(card, "0", "1", 2 * revealed.size()) {
@@ -3101,7 +3101,7 @@ public class CardFactory_Creatures {
                     } else {
                         StringBuilder sb = new StringBuilder();
                         sb.append(getTargetPlayer()).append("'s library is empty!");
-                        javax.swing.JOptionPane.showMessageDialog(null, sb.toString(), "Target player's library", JOptionPane.INFORMATION_MESSAGE);
+                        GuiUtils.getDialogs().showMessage(sb.toString(), "Target player's library");
                     }
                 }//resolve()
 
@@ -193,7 +193,7 @@ public class CardFactory_Instants {
                     CardList cards = new CardList();
 
                     if (Library.size() == 0) {
-                        JOptionPane.showMessageDialog(null, "No more cards in library.", "", JOptionPane.INFORMATION_MESSAGE);
+                        GuiUtils.getDialogs().showMessage("No more cards in library.", "");
                         return;
                     }
                     int Count = 5;
@@ -231,14 +231,14 @@ public class CardFactory_Instants {
                         for (int i = 0; i < Pile1.size(); i++) sb.append(Pile1.get(i).getName() + "\r\n");
                         sb.append("\r\n" + "Pile 2: " + "\r\n");
                         for (int i = 0; i < Pile2.size(); i++) sb.append(Pile2.get(i).getName() + "\r\n");
-                        JOptionPane.showMessageDialog(null, sb, "", JOptionPane.INFORMATION_MESSAGE);
+                        GuiUtils.getDialogs().showMessage(sb.toString(), "");
                         if (Pile1CMC >= Pile2CMC) {
-                            JOptionPane.showMessageDialog(null, "Computer adds the first pile to its hand and puts the second pile into the graveyard", "", JOptionPane.INFORMATION_MESSAGE);
+                            GuiUtils.getDialogs().showMessage("Computer adds the first pile to its hand and puts the second pile into the graveyard", "");
                             for (int i = 0; i < Pile1.size(); i++) AllZone.getGameAction().moveTo(Hand, Pile1.get(i));
                             for (int i = 0; i < Pile2.size(); i++)
                                 AllZone.getGameAction().moveToGraveyard(Pile2.get(i));
                         } else {
-                            JOptionPane.showMessageDialog(null, "Computer adds the second pile to its hand and puts the first pile into the graveyard", "", JOptionPane.INFORMATION_MESSAGE);
+                            GuiUtils.getDialogs().showMessage("Computer adds the second pile to its hand and puts the first pile into the graveyard", "");
                             for (int i = 0; i < Pile2.size(); i++) AllZone.getGameAction().moveTo(Hand, Pile2.get(i));
                             for (int i = 0; i < Pile1.size(); i++)
                                 AllZone.getGameAction().moveToGraveyard(Pile1.get(i));
@@ -710,7 +710,7 @@ class CardFactory_Lands {
                         @Override
                         public void selectCard(Card c, PlayerZone zone) {
                             if (zone.is(Constant.Zone.Hand) && c.isType(type)) {
-                                JOptionPane.showMessageDialog(null, "Revealed card: " + c.getName(), card.getName(), JOptionPane.PLAIN_MESSAGE);
+                                GuiUtils.getDialogs().showMessage("Revealed card: " + c.getName(), card.getName());
                                 stop();
                             }
                         }
@@ -724,7 +724,7 @@ class CardFactory_Lands {
                 }//execute()
 
                 private void revealCard(Card c) {
-                    JOptionPane.showMessageDialog(null, c.getController() + " reveals " + c.getName(), card.getName(), JOptionPane.PLAIN_MESSAGE);
+                    GuiUtils.getDialogs().showMessage(c.getController() + " reveals " + c.getName(), card.getName());
                 }
             });
         }//*************** END ************ END **************************
@@ -314,7 +314,7 @@ public class CardFactory_Sorceries {
                                     if (player.canPlayLand()) {
                                         player.playLand(c);
                                     } else {
-                                        JOptionPane.showMessageDialog(null, "You can't play any more lands this turn.", "", JOptionPane.INFORMATION_MESSAGE);
+                                        GuiUtils.getDialogs().showMessage("You can't play any more lands this turn.", "");
                                     }
                                 } else if (c.isPermanent() == true && c.isAura() == false) {
                                     c.removeIntrinsicKeyword("Flash"); // Stops the player from re-casting the flash spell.
@@ -347,9 +347,9 @@ public class CardFactory_Sorceries {
                                     card.unattachCard(c);
                                 }
                             } else
-                                JOptionPane.showMessageDialog(null, "Player cancelled or there is no more cards available on Mind's Desire.", "", JOptionPane.INFORMATION_MESSAGE);
+                                GuiUtils.getDialogs().showMessage("Player cancelled or there is no more cards available on Mind's Desire.", "");
                         } else
-                            JOptionPane.showMessageDialog(null, "You can only play an instant at this point in time, but none are attached to Mind's Desire.", "", JOptionPane.INFORMATION_MESSAGE);
+                            GuiUtils.getDialogs().showMessage("You can only play an instant at this point in time, but none are attached to Mind's Desire.", "");
                     }
                 }
 
@@ -375,7 +375,7 @@ public class CardFactory_Sorceries {
                         Play.remove(card);
                         Minds_D = MindsList.get(0);
                     } else
-                        JOptionPane.showMessageDialog(null, "Click Mind's Desire to see the available cards to play without paying its mana cost.", "", JOptionPane.INFORMATION_MESSAGE);
+                        GuiUtils.getDialogs().showMessage("Click Mind's Desire to see the available cards to play without paying its mana cost.", "");
                     CardList libList = AllZoneUtil.getPlayerCardsInLibrary(player);
                     Card c = null;
                     if (libList.size() > 0) {
@@ -435,7 +435,7 @@ public class CardFactory_Sorceries {
                     CardList cards = new CardList();
                     CardList exiled = new CardList();
                     if (lib.size() == 0) {
-                        JOptionPane.showMessageDialog(null, "No more cards in library.", "", JOptionPane.INFORMATION_MESSAGE);
+                        GuiUtils.getDialogs().showMessage("No more cards in library.", "");
                         return;
                     }
                     int Count = 5;
@@ -477,9 +477,9 @@ public class CardFactory_Sorceries {
                         for (int i = 0; i < Pile1.size(); i++) sb.append(Pile1.get(i).getName() + "\r\n");
                         sb.append("\r\n" + "Pile 2: " + "\r\n");
                         for (int i = 0; i < Pile2.size(); i++) sb.append(Pile2.get(i).getName() + "\r\n");
-                        JOptionPane.showMessageDialog(null, sb, "", JOptionPane.INFORMATION_MESSAGE);
+                        GuiUtils.getDialogs().showMessage(sb.toString(), "");
                         if (Pile1CMC >= Pile2CMC) {
-                            JOptionPane.showMessageDialog(null, "Computer chooses the Pile 1", "", JOptionPane.INFORMATION_MESSAGE);
+                            GuiUtils.getDialogs().showMessage("Computer chooses the Pile 1", "");
                             for (int i = 0; i < Pile1.size(); i++) {
                                 ArrayList<SpellAbility> choices = Pile1.get(i).getBasicSpells();
 
@@ -492,7 +492,7 @@ public class CardFactory_Sorceries {
                                 }
                             }
                         } else {
-                            JOptionPane.showMessageDialog(null, "Computer chooses the Pile 2", "", JOptionPane.INFORMATION_MESSAGE);
+                            GuiUtils.getDialogs().showMessage("Computer chooses the Pile 2", "");
                             for (int i = 0; i < Pile2.size(); i++) {
                                 ArrayList<SpellAbility> choices = Pile2.get(i).getBasicSpells();
 
@@ -548,7 +548,7 @@ public class CardFactory_Sorceries {
                                 if (card.getController().canPlayLand()) {
                                     card.getController().playLand(playing);
                                 } else {
-                                    JOptionPane.showMessageDialog(null, "You can't play any more lands this turn.", "", JOptionPane.INFORMATION_MESSAGE);
+                                    GuiUtils.getDialogs().showMessage("You can't play any more lands this turn.", "");
                                 }
                             } else {
                                 AllZone.getGameAction().playCardNoCost(playing);
@@ -784,15 +784,15 @@ public class CardFactory_Sorceries {
                     if (getTargetCard() != null) {
                         if (AllZoneUtil.isCardInPlay(getTargetCard())
                                 && CardFactoryUtil.canTarget(card, getTargetCard())) {
-                            javax.swing.JOptionPane.showMessageDialog(null, "Erratic Explosion causes " + damage
-                                    + " to " + getTargetCard());
+                            GuiUtils.getDialogs().showMessage("Erratic Explosion causes " + damage
+                                    + " to " + getTargetCard(), "");
 
                             Card c = getTargetCard();
                             c.addDamage(damage, card);
                         }
                     } else {
-                        javax.swing.JOptionPane.showMessageDialog(null, "Erratic Explosion causes " + damage
-                                + " to " + getTargetPlayer());
+                        GuiUtils.getDialogs().showMessage("Erratic Explosion causes " + damage
+                                + " to " + getTargetPlayer(), "");
                         getTargetPlayer().addDamage(damage, card);
                     }
                 }
@@ -1913,15 +1913,15 @@ public class CardFactory_Sorceries {
                     if (getTargetCard() != null) {
                         if (AllZoneUtil.isCardInPlay(getTargetCard())
                                 && CardFactoryUtil.canTarget(card, getTargetCard())) {
-                            javax.swing.JOptionPane.showMessageDialog(null, cardName + " causes " + damage
-                                    + " to " + getTargetCard());
+                            GuiUtils.getDialogs().showMessage(cardName + " causes " + damage
+                                    + " to " + getTargetCard(), "");
 
                             Card c = getTargetCard();
                             c.addDamage(damage, card);
                         }
                     } else {
-                        javax.swing.JOptionPane.showMessageDialog(null, cardName + " causes " + damage
-                                + " to " + getTargetPlayer());
+                        GuiUtils.getDialogs().showMessage(cardName + " causes " + damage
+                                + " to " + getTargetPlayer(), "");
                         getTargetPlayer().addDamage(damage, card);
                     }
                     //System.out.println("Library after: "+AllZoneUtil.getPlayerCardsInLibrary(card.getController()));
@@ -2016,7 +2016,7 @@ public class CardFactory_Sorceries {
                                 sb.append(p + "\n");
                             }
                         }
-                        javax.swing.JOptionPane.showMessageDialog(null, sb.toString());
+                        GuiUtils.getDialogs().showMessage(sb.toString(), "");
                     }
                     for (int i = 0; i < targets.size(); i++) {
                         Card target = targets.get(i);
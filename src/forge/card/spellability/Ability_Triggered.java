@@ -74,7 +74,7 @@ public class Ability_Triggered extends Ability implements Command {
      * @return a boolean.
      */
     public boolean triggerFor(Card c) {
-        return !(new CardList(c)).getValidCards(restrictions, c.getController(), c).isEmpty();
+        return c.isValidCard(restrictions, c.getController(), c);
     }
 
     /**
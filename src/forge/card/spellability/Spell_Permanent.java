@@ -205,12 +205,12 @@ public class Spell_Permanent extends Spell {
 
         //check on legendary
         if (card.isType("Legendary")) {
-            CardList list = AllZoneUtil.getPlayerCardsInPlay(AllZone.getComputerPlayer());
+            CardList list = AllZoneUtil.getPlayerCardsInPlay(card.getController());
             if (list.containsName(card.getName()))
                 return false;
         }
         if (card.isPlaneswalker()) {
-            CardList list = AllZoneUtil.getPlayerCardsInPlay(AllZone.getComputerPlayer());
+            CardList list = AllZoneUtil.getPlayerCardsInPlay(card.getController());
             list = list.getType("Planeswalker");
 
             for (int i = 0; i < list.size(); i++) {
@@ -223,7 +223,7 @@ public class Spell_Permanent extends Spell {
             }
         }
         if (card.isType("World")) {
-            CardList list = AllZoneUtil.getPlayerCardsInPlay(AllZone.getComputerPlayer());
+            CardList list = AllZoneUtil.getPlayerCardsInPlay(card.getController());
             list = list.getType("World");
             if (list.size() > 0) return false;
         }
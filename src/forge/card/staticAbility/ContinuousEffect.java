@@ -0,0 +1,312 @@
+package forge.card.staticAbility;
+
+import forge.Card;
+import forge.CardUtil;
+import forge.card.cardFactory.CardFactoryUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * <p>ContinuousEffect class.</p>
+ *
+ * What a continuous static ability does to the cards it affects, read from
+ * its parameters once: P/T to set or add, keywords, abilities, SVars, types,
+ * colors and triggers to add.  StaticAbility_Continuous applies it every
+ * time state effects are checked, and StaticEffects removes it again, so
+ * neither has to split and match the parameter strings each time.
+ *
+ * Values that depend on the game (X, Y and SVar counts, the chosen type,
+ * the host's SVars) are still looked up when the effect is applied.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public final class ContinuousEffect {
+    private final boolean characteristicDefining;
+
+    // SetPower and SetToughness: a number, or the name of an SVar to count
+    private final int setPower;
+    private final String setPowerSVar;
+    private final int setToughness;
+    private final String setToughnessSVar;
+    private final boolean setsPT;
+
+    // AddPower and AddToughness: a number, or "X" or "Y"
+    private final int addPower;
+    private final String addPowerVar;
+    private final int addToughness;
+    private final String addToughnessVar;
+
+    private final String[] addKeywords;
+    private final String[] addAbilities;
+    private final String[] addSVars;
+    private final String[] addTypes;
+    private final boolean addsChosenType;
+    private final String colors;
+    private final boolean overwriteColors;
+    private final String[] addTriggers;
+
+    /**
+     * <p>Constructor for ContinuousEffect.</p>
+     *
+     * @param params the parameters of a continuous static ability.
+     */
+    public ContinuousEffect(Map<String, String> params) {
+        characteristicDefining = params.containsKey("CharacteristicDefining");
+
+        String setP = params.get("SetPower");
+        boolean numericP = setP != null && setP.matches("[0-9][0-9]?");
+        setPower = numericP ? Integer.parseInt(setP) : -1;
+        setPowerSVar = setP != null && !numericP ? setP : null;
+
+        String setT = params.get("SetToughness");
+        boolean numericT = setT != null && setT.matches("[0-9][0-9]?");
+        setToughness = numericT ? Integer.parseInt(setT) : -1;
+        setToughnessSVar = setT != null && !numericT ? setT : null;
+
+        setsPT = setP != null || setT != null;
+
+        String addP = params.get("AddPower");
+        addPowerVar = isVar(addP) ? addP : null;
+        addPower = addP == null || addPowerVar != null ? 0 : Integer.valueOf(addP);
+
+        String addT = params.get("AddToughness");
+        addToughnessVar = isVar(addT) ? addT : null;
+        addToughness = addT == null || addToughnessVar != null ? 0 : Integer.valueOf(addT);
+
+        addKeywords = split(params.get("AddKeyword"));
+        addAbilities = split(params.get("AddAbility"));
+        addSVars = split(params.get("AddSVar"));
+        addTypes = split(params.get("AddType"));
+        addsChosenType = addTypes != null && addTypes[0].equals("ChosenType");
+        addTriggers = split(params.get("AddTrigger"));
+
+        if (params.containsKey("SetColor")) {
+            colors = shortColors(params.get("SetColor"));
+            overwriteColors = true;
+        } else {
+            colors = params.containsKey("AddColor") ? shortColors(params.get("AddColor")) : null;
+            overwriteColors = false;
+        }
+    }
+
+    private static boolean isVar(String s) {
+        return "X".equals(s) || "Y".equals(s);
+    }
+
+    private static String[] split(String s) {
+        return s == null ? null : s.split(" & ");
+    }
+
+    private static String shortColors(String s) {
+        return CardUtil.getShortColorsString(new ArrayList<String>(Arrays.asList(s.split(" & "))));
+    }
+
+    /**
+     * <p>count.</p>
+     *
+     * @param host a {@link forge.Card} object.
+     * @param sVar the name of an SVar of host.
+     * @return the SVar counted with xCount.
+     */
+    private static int count(Card host, String sVar) {
+        return CardFactoryUtil.xCount(host, host.getSVar(sVar).split("\\$")[1]);
+    }
+
+    /**
+     * <p>isCharacteristicDefining.</p>
+     *
+     * @return a boolean.
+     */
+    public boolean isCharacteristicDefining() {
+        return characteristicDefining;
+    }
+
+    /**
+     * <p>getSetPower.</p>
+     *
+     * @param host a {@link forge.Card} object.
+     * @return the power to set, or -1 for none.
+     */
+    public int getSetPower(Card host) {
+        return setPowerSVar != null ? count(host, setPowerSVar) : setPower;
+    }
+
+    /**
+     * <p>getSetToughness.</p>
+     *
+     * @param host a {@link forge.Card} object.
+     * @return the toughness to set, or -1 for none.
+     */
+    public int getSetToughness(Card host) {
+        return setToughnessSVar != null ? count(host, setToughnessSVar) : setToughness;
+    }
+
+    /**
+     * <p>setsPT.</p>
+     *
+     * @return true if this effect has SetPower or SetToughness.
+     */
+    public boolean setsPT() {
+        return setsPT;
+    }
+
+    /**
+     * <p>getAddPowerVar.</p>
+     *
+     * @return "X" or "Y" if AddPower counts that SVar, otherwise null.
+     */
+    public String getAddPowerVar() {
+        return addPowerVar;
+    }
+
+    /**
+     * <p>getAddToughnessVar.</p>
+     *
+     * @return "X" or "Y" if AddToughness counts that SVar, otherwise null.
+     */
+    public String getAddToughnessVar() {
+        return addToughnessVar;
+    }
+
+    /**
+     * <p>getAddPower.</p>
+     *
+     * @param host a {@link forge.Card} object.
+     * @return the power bonus; counts the SVar when it is X or Y.
+     */
+    public int getAddPower(Card host) {
+        return addPowerVar != null ? count(host, addPowerVar) : addPower;
+    }
+
+    /**
+     * <p>getAddToughness.</p>
+     *
+     * @param host a {@link forge.Card} object.
+     * @return the toughness bonus; counts the SVar when it is X or Y.
+     */
+    public int getAddToughness(Card host) {
+        return addToughnessVar != null ? count(host, addToughnessVar) : addToughness;
+    }
+
+    /**
+     * <p>getAddPower.</p>
+     *
+     * @param xValue the X the effect was applied with.
+     * @param yValue the Y the effect was applied with.
+     * @return the power bonus that was given.
+     */
+    public int getAddPower(int xValue, int yValue) {
+        return addPowerVar == null ? addPower : addPowerVar.equals("X") ? xValue : yValue;
+    }
+
+    /**
+     * <p>getAddToughness.</p>
+     *
+     * @param xValue the X the effect was applied with.
+     * @param yValue the Y the effect was applied with.
+     * @return the toughness bonus that was given.
+     */
+    public int getAddToughness(int xValue, int yValue) {
+        return addToughnessVar == null ? addToughness : addToughnessVar.equals("X") ? xValue : yValue;
+    }
+
+    /**
+     * <p>getAddKeywords.</p>
+     *
+     * @return the keywords to add, or null; do not modify.
+     */
+    public String[] getAddKeywords() {
+        return addKeywords;
+    }
+
+    /**
+     * <p>hasAddAbilities.</p>
+     *
+     * @return a boolean.
+     */
+    public boolean hasAddAbilities() {
+        return addAbilities != null;
+    }
+
+    /**
+     * <p>getAddAbilities.</p>
+     *
+     * @param host a {@link forge.Card} object.
+     * @return the abilities to add, read from the SVars of host, or null.
+     */
+    public String[] getAddAbilities(Card host) {
+        return sVarsOf(host, addAbilities);
+    }
+
+    /**
+     * <p>getAddSVars.</p>
+     *
+     * @return the names of the SVars to copy from the host, or null; do not modify.
+     */
+    public String[] getAddSVars() {
+        return addSVars;
+    }
+
+    /**
+     * <p>getAddTypes.</p>
+     *
+     * @param chosenType the type to put in for "ChosenType".
+     * @return the types to add, or null.
+     */
+    public String[] getAddTypes(String chosenType) {
+        if (!addsChosenType)
+            return addTypes;
+        String[] types = addTypes.clone();
+        types[0] = chosenType;
+        return types;
+    }
+
+    /**
+     * <p>addsChosenType.</p>
+     *
+     * @return true if the first type to add is the host's chosen type.
+     */
+    public boolean addsChosenType() {
+        return addsChosenType;
+    }
+
+    /**
+     * <p>getColors.</p>
+     *
+     * @return the colors of AddColor or SetColor as a short string, or null.
+     */
+    public String getColors() {
+        return colors;
+    }
+
+    /**
+     * <p>isOverwriteColors.</p>
+     *
+     * @return true for SetColor.
+     */
+    public boolean isOverwriteColors() {
+        return overwriteColors;
+    }
+
+    /**
+     * <p>getAddTriggers.</p>
+     *
+     * @param host a {@link forge.Card} object.
+     * @return the triggers to add, read from the SVars of host, or null.
+     */
+    public String[] getAddTriggers(Card host) {
+        return sVarsOf(host, addTriggers);
+    }
+
+    private static String[] sVarsOf(Card host, String[] names) {
+        if (names == null)
+            return null;
+        String[] sVars = new String[names.length];
+        for (int i = 0; i < names.length; i++)
+            sVars[i] = host.getSVar(names[i]);
+        return sVars;
+    }
+}
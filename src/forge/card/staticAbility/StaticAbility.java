@@ -11,6 +11,9 @@ public class StaticAbility {
     private Card hostCard = null;
     private HashMap<String, String> mapParams = new HashMap<String, String>();
 
+    // mapParams decoded for Mode$ Continuous, made on first use
+    private ContinuousEffect continuousEffect;
+
     /**
      * <p>getHostCard.</p>
      *
@@ -29,6 +32,17 @@ public class StaticAbility {
         return mapParams;
     }
 
+    /**
+     * <p>Getter for the field <code>continuousEffect</code>.</p>
+     *
+     * @return what this ability does as a continuous effect, read from mapParams the first time.
+     */
+    public ContinuousEffect getContinuousEffect() {
+        if (continuousEffect == null)
+            continuousEffect = new ContinuousEffect(mapParams);
+        return continuousEffect;
+    }
+
     //*******************************************************
 
     /**
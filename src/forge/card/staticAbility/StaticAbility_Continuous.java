@@ -1,18 +1,14 @@
 package forge.card.staticAbility;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 
 import forge.AllZone;
 import forge.AllZoneUtil;
 import forge.Card;
 import forge.CardList;
-import forge.CardUtil;
 import forge.Player;
 import forge.StaticEffect;
 import forge.card.abilityFactory.AbilityFactory;
-import forge.card.cardFactory.CardFactoryUtil;
 import forge.card.spellability.SpellAbility;
 import forge.card.trigger.Trigger;
 import forge.card.trigger.TriggerHandler;
@@ -21,6 +17,7 @@ public class StaticAbility_Continuous {
 	
 	public static void applyContinuousAbility(StaticAbility stAb) {
 		HashMap<String, String> params = stAb.getMapParams();
+		ContinuousEffect effect = stAb.getContinuousEffect();
 		Card hostCard = stAb.getHostCard();
 		
 		StaticEffect se = new StaticEffect();
@@ -28,97 +25,52 @@ public class StaticAbility_Continuous {
 		
 		se.setAffectedCards(affectedCards);
 		se.setParams(params);
+		se.setContinuousEffect(effect);
 		se.setTimestamp(hostCard.getTimestamp());
 		AllZone.getStaticEffects().addStaticEffect(se);
 		
-		int powerBonus = 0;
-		int toughnessBonus = 0;
-		int setPower = -1;
-		int setToughness = -1;
-		String addKeywords[] = null;
-		String addAbilities[] = null;
-		String addSVars[] = null;
-		String addTypes[] = null;
-		String addColors = null;
-		String addTriggers[] = null;
-		
-		if (params.containsKey("SetPower")) {
-			String setP = params.get("SetPower");
-			setPower = setP.matches("[0-9][0-9]?") ? Integer.parseInt(setP) : CardFactoryUtil.xCount(hostCard, hostCard.getSVar(setP).split("\\$")[1]);
-		}
-		
-		if (params.containsKey("SetToughness")) {
-			String setT = params.get("SetToughness");
-			setToughness = setT.matches("[0-9][0-9]?") ? Integer.parseInt(setT) : CardFactoryUtil.xCount(hostCard, hostCard.getSVar(setT).split("\\$")[1]);
-		}
+		int setPower = effect.getSetPower(hostCard);
+		int setToughness = effect.getSetToughness(hostCard);
 		
-		if (params.containsKey("AddPower")) {
-			if (params.get("AddPower").equals("X")) {
-				powerBonus = CardFactoryUtil.xCount(hostCard, hostCard.getSVar("X").split("\\$")[1]);
+		int powerBonus = effect.getAddPower(hostCard);
+		if (effect.getAddPowerVar() != null) {
+			if (effect.getAddPowerVar().equals("X"))
 				se.setXValue(powerBonus);
-			}
-			else if (params.get("AddPower").equals("Y")) {
-				powerBonus = CardFactoryUtil.xCount(hostCard, hostCard.getSVar("Y").split("\\$")[1]);
+			else
 				se.setYValue(powerBonus);
-			}
-			else powerBonus = Integer.valueOf(params.get("AddPower"));
 		}
 		
-		if (params.containsKey("AddToughness")) {
-			if (params.get("AddToughness").equals("X")) {
-				toughnessBonus = CardFactoryUtil.xCount(hostCard, hostCard.getSVar("X").split("\\$")[1]);
+		int toughnessBonus = effect.getAddToughness(hostCard);
+		if (effect.getAddToughnessVar() != null) {
+			if (effect.getAddToughnessVar().equals("X"))
 				se.setXValue(toughnessBonus);
-			}
-			else if (params.get("AddToughness").equals("Y")) {
-				toughnessBonus = CardFactoryUtil.xCount(hostCard, hostCard.getSVar("Y").split("\\$")[1]);
+			else
 				se.setYValue(toughnessBonus);
-			}
-			else toughnessBonus = Integer.valueOf(params.get("AddToughness"));
 		}
 		
-		if (params.containsKey("AddKeyword"))
-			addKeywords = params.get("AddKeyword").split(" & ");
+		String addKeywords[] = effect.getAddKeywords();
+		String addAbilities[] = effect.getAddAbilities(hostCard);
+		String addSVars[] = effect.getAddSVars();
 		
-		if (params.containsKey("AddAbility")) {
-			String sVars[] = params.get("AddAbility").split(" & ");
-			for(int i = 0 ; i < sVars.length ; i++)
-				sVars[i] = hostCard.getSVar(sVars[i]);
-			addAbilities = sVars;
+		String chosenType = null;
+		if (effect.addsChosenType()) {
+			chosenType = hostCard.getChosenType();
+			se.setChosenType(chosenType);
 		}
+		String addTypes[] = effect.getAddTypes(chosenType);
 		
-		if (params.containsKey("AddSVar"))
-			addSVars = params.get("AddSVar").split(" & ");
-		
-		if (params.containsKey("AddType")) {
-			addTypes = params.get("AddType").split(" & ");
-    		if(addTypes[0].equals("ChosenType")) {
-    			String chosenType = hostCard.getChosenType(); 
-    			addTypes[0] = chosenType;
-    			se.setChosenType(chosenType);
-    		}
-        }
-		
-		if (params.containsKey("AddColor"))
-			addColors = CardUtil.getShortColorsString(new ArrayList<String>(Arrays.asList(params.get("AddColor").split(" & "))));
-		
-		if (params.containsKey("SetColor")) {
-			addColors = CardUtil.getShortColorsString(new ArrayList<String>(Arrays.asList(params.get("SetColor").split(" & "))));
+		String addColors = effect.getColors();
+		if (effect.isOverwriteColors())
 			se.setOverwriteColors(true);
-		}
 		
-		if (params.containsKey("AddTrigger")) {
-			String sVars[] = params.get("AddTrigger").split(" & ");
-			for(int i = 0 ; i < sVars.length ; i++)
-				sVars[i] = hostCard.getSVar(sVars[i]);
-			addTriggers = sVars;
-		}
+		String addTriggers[] = effect.getAddTriggers(hostCard);
 			
 		//start modifying the cards
 		for (int i = 0; i < affectedCards.size(); i++) {
             Card affectedCard = affectedCards.get(i);
             
             // set P/T
-            if(params.containsKey("CharacteristicDefining")) {
+            if(effect.isCharacteristicDefining()) {
                 if (setPower != -1)
                 	affectedCard.setBaseAttack(setPower);
                 if (setToughness != -1)
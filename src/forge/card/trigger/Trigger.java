@@ -1,12 +1,12 @@
 package forge.card.trigger;
 
 import forge.*;
-import forge.card.cardFactory.CardFactoryUtil;
 import forge.card.spellability.SpellAbility;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>Abstract Trigger class.</p>
@@ -17,16 +17,21 @@ import java.util.Map;
 public abstract class Trigger {
 
     /** Constant <code>nextID=0</code> */
-    private static int nextID = 0;
+    private static final AtomicInteger nextID = new AtomicInteger();
 
     /**
      * <p>resetIDs.</p>
+     *
+     * Other games may be going on, so the IDs only ever go up; the first
+     * reset moves them past the ones given to the cards in the database.
      */
     public static void resetIDs() {
-        nextID = 50000;
+        int id = nextID.get();
+        while (id < 50000 && !nextID.compareAndSet(id, 50000))
+            id = nextID.get();
     }
 
-    protected int ID = nextID++;
+    protected int ID = nextID.getAndIncrement();
 
     protected String name;
 
@@ -59,6 +64,9 @@ public abstract class Trigger {
 
     protected HashMap<String, String> mapParams = new HashMap<String, String>();
 
+    // the conditions in mapParams, see requirementsCheck()
+    private ArrayList<TriggerRequirement> requirements;
+
     /**
      * <p>Getter for the field <code>mapParams</code>.</p>
      *
@@ -164,6 +172,7 @@ public abstract class Trigger {
             mapParams.put(entry.getKey(), entry.getValue());
         }
         hostCard = host;
+        requirements = TriggerRequirement.compile(mapParams);
     }
 
     /**
@@ -178,6 +187,7 @@ public abstract class Trigger {
             mapParams.put(entry.getKey(), entry.getValue());
         }
         hostCard = host;
+        requirements = TriggerRequirement.compile(mapParams);
     }
 
     /**
@@ -257,168 +267,10 @@ public abstract class Trigger {
      * @return a boolean.
      */
     public boolean requirementsCheck() {
-        if (mapParams.containsKey("Metalcraft")) {
-            if (mapParams.get("Metalcraft").equals("True") && !hostCard.getController().hasMetalcraft()) {
-                return false;
-            }
-        }
-
-        if (mapParams.containsKey("Threshold")) {
-            if (mapParams.get("Threshold").equals("True") && !hostCard.getController().hasThreshold()) {
-                return false;
-            }
-        }
-
-        if (mapParams.containsKey("Hellbent")) {
-            if (mapParams.get("Hellbent").equals("True") && !hostCard.getController().hasHellbent()) {
-                return false;
-            }
-        }
-
-        if (mapParams.containsKey("PlayersPoisoned")) {
-            if (mapParams.get("PlayersPoisoned").equals("You") && hostCard.getController().getPoisonCounters() == 0) {
+        for (TriggerRequirement req : requirements) {
+            if (!req.test(hostCard)) {
                 return false;
-            } else if (mapParams.get("PlayersPoisoned").equals("Opponent") && hostCard.getController().getOpponent().getPoisonCounters() == 0) {
-                return false;
-            } else if (mapParams.get("PlayersPoisoned").equals("Each") && !(hostCard.getController().getPoisonCounters() != 0 && hostCard.getController().getPoisonCounters() != 0)) {
-                return false;
-            }
-        }
-
-        if (mapParams.containsKey("LifeTotal")) {
-            String player = mapParams.get("LifeTotal");
-            String lifeCompare = "GE1";
-            int life = 1;
-
-            if (player.equals("You")) {
-                life = hostCard.getController().getLife();
-            }
-            if (player.equals("Opponent")) {
-                life = hostCard.getController().getOpponent().getLife();
-            }
-
-            if (mapParams.containsKey("LifeAmount")) {
-                lifeCompare = mapParams.get("LifeAmount");
-            }
-
-
-            int right = 1;
-            String rightString = lifeCompare.substring(2);
-            if (rightString.equals("X")) {
-                right = CardFactoryUtil.xCount(hostCard, hostCard.getSVar("X"));
-            } else {
-                right = Integer.parseInt(lifeCompare.substring(2));
-            }
-
-            if (!AllZoneUtil.compare(life, lifeCompare, right)) {
-                return false;
-            }
-
-        }
-
-        if (mapParams.containsKey("IsPresent")) {
-            String sIsPresent = mapParams.get("IsPresent");
-            String presentCompare = "GE1";
-            String presentZone = "Battlefield";
-            String presentPlayer = "Any";
-            if (mapParams.containsKey("PresentCompare")) {
-                presentCompare = mapParams.get("PresentCompare");
-            }
-            if (mapParams.containsKey("PresentZone")) {
-                presentZone = mapParams.get("PresentZone");
-            }
-            if (mapParams.containsKey("PresentPlayer")) {
-                presentPlayer = mapParams.get("PresentPlayer");
             }
-            CardList list = new CardList();
-            if (presentPlayer.equals("You") || presentPlayer.equals("Any")) {
-                list.addAll(AllZoneUtil.getCardsInZone(presentZone, hostCard.getController()));
-            }
-            if (presentPlayer.equals("Opponent") || presentPlayer.equals("Any")) {
-                list.addAll(AllZoneUtil.getCardsInZone(presentZone, hostCard.getController().getOpponent()));
-            }
-
-            list = list.getValidCards(sIsPresent.split(","), hostCard.getController(), hostCard);
-
-            int right = 1;
-            String rightString = presentCompare.substring(2);
-            if (rightString.equals("X")) {
-                right = CardFactoryUtil.xCount(hostCard, hostCard.getSVar("X"));
-            } else {
-                right = Integer.parseInt(presentCompare.substring(2));
-            }
-            int left = list.size();
-
-            if (!AllZoneUtil.compare(left, presentCompare, right)) {
-                return false;
-            }
-
-        }
-
-        if (mapParams.containsKey("IsPresent2")) {
-            String sIsPresent = mapParams.get("IsPresent2");
-            String presentCompare = "GE1";
-            String presentZone = "Battlefield";
-            String presentPlayer = "Any";
-            if (mapParams.containsKey("PresentCompare2")) {
-                presentCompare = mapParams.get("PresentCompare2");
-            }
-            if (mapParams.containsKey("PresentZone2")) {
-                presentZone = mapParams.get("PresentZone2");
-            }
-            if (mapParams.containsKey("PresentPlayer2")) {
-                presentPlayer = mapParams.get("PresentPlayer2");
-            }
-            CardList list = new CardList();
-            if (presentPlayer.equals("You") || presentPlayer.equals("Any")) {
-                list.addAll(AllZoneUtil.getCardsInZone(presentZone, hostCard.getController()));
-            }
-            if (presentPlayer.equals("Opponent") || presentPlayer.equals("Any")) {
-                list.addAll(AllZoneUtil.getCardsInZone(presentZone, hostCard.getController().getOpponent()));
-            }
-
-            list = list.getValidCards(sIsPresent.split(","), hostCard.getController(), hostCard);
-
-            int right = 1;
-            String rightString = presentCompare.substring(2);
-            if (rightString.equals("X")) {
-                right = CardFactoryUtil.xCount(hostCard, hostCard.getSVar("X"));
-            } else {
-                right = Integer.parseInt(presentCompare.substring(2));
-            }
-            int left = list.size();
-
-            if (!AllZoneUtil.compare(left, presentCompare, right)) {
-                return false;
-            }
-
-        }
-
-        if(mapParams.containsKey("CheckSVar")) {
-            String SVarName = mapParams.get("CheckSVar");
-            String operator = "GE";
-            String operand = "1";
-
-            if(mapParams.containsKey("SVarCompare"))
-            {
-                operator =  mapParams.get("SVarCompare").substring(0,2);
-                operand = mapParams.get("SVarCompare").substring(2);
-            }
-
-            int sVarResult = CardFactoryUtil.xCount(hostCard, hostCard.getSVar(SVarName));
-            int operandResult = 0;
-            try {
-                operandResult = Integer.parseInt(operand);
-            }
-            catch ( Exception e) {
-                operandResult = CardFactoryUtil.xCount(hostCard, hostCard.getSVar(operand));
-            }
-
-            if(!AllZoneUtil.compare(sVarResult,operator,operandResult))
-            {
-                return false;
-            }
-
         }
 
         return true;
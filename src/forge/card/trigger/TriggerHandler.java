@@ -17,9 +17,11 @@ import java.util.Map;
  */
 public class TriggerHandler {
 
-    private ArrayList<String> registeredModes = new ArrayList<String>();
     private ArrayList<Trigger> registeredTriggers = new ArrayList<Trigger>();
-    private ArrayList<String> suppressedModes = new ArrayList<String>();
+    // registeredTriggers by mode, so runTrigger only looks at the ones that can go off
+    private HashMap<String, ArrayList<Trigger>> registeredTriggersByMode = new HashMap<String, ArrayList<Trigger>>();
+    // how many times each mode is suppressed
+    private HashMap<String, Integer> suppressedModes = new HashMap<String, Integer>();
 
     private ArrayList<Trigger> delayedTriggers = new ArrayList<Trigger>();
 
@@ -29,7 +31,8 @@ public class TriggerHandler {
      * @param mode a {@link java.lang.String} object.
      */
     public void suppressMode(String mode) {
-        suppressedModes.add(mode);
+        Integer n = suppressedModes.get(mode);
+        suppressedModes.put(mode, n == null ? 1 : n + 1);
     }
 
     /**
@@ -38,7 +41,13 @@ public class TriggerHandler {
      * @param mode a {@link java.lang.String} object.
      */
     public void clearSuppression(String mode) {
-        suppressedModes.remove(mode);
+        Integer n = suppressedModes.get(mode);
+        if (n == null)
+            return;
+        if (n > 1)
+            suppressedModes.put(mode, n - 1);
+        else
+            suppressedModes.remove(mode);
     }
 
     /**
@@ -145,7 +154,7 @@ public class TriggerHandler {
      * @param trigParse a {@link java.lang.String} object.
      * @return a {@link java.util.HashMap} object.
      */
-    private static HashMap<String, String> parseParams(String trigParse) {
+    public static HashMap<String, String> parseParams(String trigParse) {
         HashMap<String, String> mapParams = new HashMap<String, String>();
 
         if (trigParse.length() == 0)
@@ -183,10 +192,6 @@ public class TriggerHandler {
      */
     public void registerDelayedTrigger(Trigger trig) {
         delayedTriggers.add(trig);
-
-        String mode = trig.getMapParams().get("Mode");
-        if (!registeredModes.contains(mode))
-            registeredModes.add(mode);
     }
 
     /**
@@ -198,8 +203,29 @@ public class TriggerHandler {
         registeredTriggers.add(trig);
 
         String mode = trig.getMapParams().get("Mode");
-        if (!registeredModes.contains(mode))
-            registeredModes.add(mode);
+        ArrayList<Trigger> withMode = registeredTriggersByMode.get(mode);
+        if (withMode == null) {
+            withMode = new ArrayList<Trigger>();
+            registeredTriggersByMode.put(mode, withMode);
+        }
+        withMode.add(trig);
+    }
+
+    /**
+     * <p>unregisterByMode.</p>
+     *
+     * @param trig a trigger just removed from registeredTriggers.
+     */
+    private void unregisterByMode(Trigger trig) {
+        ArrayList<Trigger> withMode = registeredTriggersByMode.get(trig.getMapParams().get("Mode"));
+        if (withMode == null)
+            return;
+        for (int i = 0; i < withMode.size(); i++) {
+            if (withMode.get(i) == trig) {
+                withMode.remove(i);
+                return;
+            }
+        }
     }
 
     /**
@@ -208,7 +234,7 @@ public class TriggerHandler {
     public void clearRegistered() {
         delayedTriggers.clear();
         registeredTriggers.clear();
-        registeredModes.clear();
+        registeredTriggersByMode.clear();
     }
 
     /**
@@ -219,7 +245,7 @@ public class TriggerHandler {
     public void removeRegisteredTrigger(Trigger trig) {
         for (int i = 0; i < registeredTriggers.size(); i++) {
             if (registeredTriggers.get(i).equals(trig))
-                registeredTriggers.remove(i);
+                unregisterByMode(registeredTriggers.remove(i));
         }
     }
     
@@ -227,7 +253,7 @@ public class TriggerHandler {
     	for (int i = 0; i < registeredTriggers.size(); i++) {
             if (registeredTriggers.get(i).isTemporary()) {
             	registeredTriggers.get(i).hostCard.removeTrigger(registeredTriggers.get(i));
-                registeredTriggers.remove(i);
+                unregisterByMode(registeredTriggers.remove(i));
             }
         }
     }
@@ -249,7 +275,7 @@ public class TriggerHandler {
     public void removeAllFromCard(Card crd) {
         for (int i = 0; i < registeredTriggers.size(); i++) {
             if (registeredTriggers.get(i).getHostCard().equals(crd)) {
-                registeredTriggers.remove(i);
+                unregisterByMode(registeredTriggers.remove(i));
                 i--;
             }
         }
@@ -262,17 +288,27 @@ public class TriggerHandler {
      * @param runParams a {@link java.util.Map} object.
      */
     public void runTrigger(String mode, Map<String, Object> runParams) {
-        if (suppressedModes.contains(mode) || !registeredModes.contains(mode)) {
+        if (suppressedModes.containsKey(mode)) {
+            return;
+        }
+        ArrayList<Trigger> withMode = registeredTriggersByMode.get(mode);
+        if (withMode == null) {
+            withMode = new ArrayList<Trigger>();
+        }
+        if (withMode.isEmpty() && !hasDelayedTrigger(mode)) {
             return;
         }
         //AP
-        for (Trigger regtrig : registeredTriggers) {
+        for (Trigger regtrig : withMode) {
             if (regtrig.getHostCard().getController().equals(AllZone.getPhase().getPlayerTurn())) {
                 runSingleTrigger(regtrig, mode, runParams);
             }
         }
         for (int i = 0; i < delayedTriggers.size(); i++) {
             Trigger deltrig = delayedTriggers.get(i);
+            if (!mode.equals(deltrig.getMapParams().get("Mode"))) {
+                continue;
+            }
             if (deltrig.getHostCard().getController().equals(AllZone.getPhase().getPlayerTurn())) {
                 if (runSingleTrigger(deltrig, mode, runParams)) {
                     delayedTriggers.remove(i);
@@ -282,13 +318,16 @@ public class TriggerHandler {
         }
 
         //NAP
-        for (Trigger regtrig : registeredTriggers) {
+        for (Trigger regtrig : withMode) {
             if (regtrig.getHostCard().getController().equals(AllZone.getPhase().getPlayerTurn().getOpponent())) {
                 runSingleTrigger(regtrig, mode, runParams);
             }
         }
         for (int i = 0; i < delayedTriggers.size(); i++) {
             Trigger deltrig = delayedTriggers.get(i);
+            if (!mode.equals(deltrig.getMapParams().get("Mode"))) {
+                continue;
+            }
             if (deltrig.getHostCard().getController().equals(AllZone.getPhase().getPlayerTurn().getOpponent())) {
                 if (runSingleTrigger(deltrig, mode, runParams)) {
                     delayedTriggers.remove(i);
@@ -298,6 +337,21 @@ public class TriggerHandler {
         }
     }
 
+    /**
+     * <p>hasDelayedTrigger.</p>
+     *
+     * @param mode a {@link java.lang.String} object.
+     * @return true if a delayed trigger with this mode is waiting.
+     */
+    private boolean hasDelayedTrigger(String mode) {
+        for (Trigger deltrig : delayedTriggers) {
+            if (mode.equals(deltrig.getMapParams().get("Mode"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     //Checks if the conditions are right for a single trigger to go off, and runs it if so.
     //Return true if the trigger went off, false otherwise.
     /**
@@ -0,0 +1,251 @@
+package forge.card.trigger;
+
+import forge.AllZoneUtil;
+import forge.Card;
+import forge.CardList;
+import forge.Player;
+import forge.card.cardFactory.CardFactoryUtil;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * <p>Abstract TriggerRequirement class.</p>
+ *
+ * One of the conditions in a trigger's parameters (Metalcraft, Threshold,
+ * Hellbent, PlayersPoisoned, LifeTotal, IsPresent, IsPresent2, CheckSVar),
+ * parsed once when the trigger is made, so {@link Trigger#requirementsCheck()}
+ * doesn't have to look them up and split the comparisons every time.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+abstract class TriggerRequirement {
+
+    /**
+     * <p>test.</p>
+     *
+     * @param host the card of the trigger.
+     * @return true if the condition holds.
+     */
+    abstract boolean test(Card host);
+
+    /**
+     * <p>compile.</p>
+     *
+     * @param mapParams the parameters of a trigger.
+     * @return the conditions in them, in the order requirementsCheck() checks them.
+     */
+    static ArrayList<TriggerRequirement> compile(Map<String, String> mapParams) {
+        ArrayList<TriggerRequirement> reqs = new ArrayList<TriggerRequirement>();
+
+        if ("True".equals(mapParams.get("Metalcraft"))) {
+            reqs.add(new TriggerRequirement() {
+                boolean test(Card host) {
+                    return host.getController().hasMetalcraft();
+                }
+            });
+        }
+
+        if ("True".equals(mapParams.get("Threshold"))) {
+            reqs.add(new TriggerRequirement() {
+                boolean test(Card host) {
+                    return host.getController().hasThreshold();
+                }
+            });
+        }
+
+        if ("True".equals(mapParams.get("Hellbent"))) {
+            reqs.add(new TriggerRequirement() {
+                boolean test(Card host) {
+                    return host.getController().hasHellbent();
+                }
+            });
+        }
+
+        if (mapParams.containsKey("PlayersPoisoned")) {
+            final String who = mapParams.get("PlayersPoisoned");
+            if (who.equals("You") || who.equals("Opponent") || who.equals("Each")) {
+                reqs.add(new TriggerRequirement() {
+                    boolean test(Card host) {
+                        Player you = host.getController();
+                        boolean youPoisoned = you.getPoisonCounters() != 0;
+                        boolean oppPoisoned = you.getOpponent().getPoisonCounters() != 0;
+                        if (who.equals("You")) return youPoisoned;
+                        if (who.equals("Opponent")) return oppPoisoned;
+                        return youPoisoned && oppPoisoned;
+                    }
+                });
+            }
+        }
+
+        if (mapParams.containsKey("LifeTotal")) {
+            final String player = mapParams.get("LifeTotal");
+            String lifeCompare = mapParams.containsKey("LifeAmount") ? mapParams.get("LifeAmount") : "GE1";
+            final int op = operator(lifeCompare);
+            final Operand right = Operand.xOrNumber(lifeCompare.substring(2));
+            reqs.add(new TriggerRequirement() {
+                boolean test(Card host) {
+                    int life = 1;
+                    if (player.equals("You")) {
+                        life = host.getController().getLife();
+                    }
+                    if (player.equals("Opponent")) {
+                        life = host.getController().getOpponent().getLife();
+                    }
+                    return compare(life, op, right.value(host));
+                }
+            });
+        }
+
+        addIsPresent(reqs, mapParams, "");
+        addIsPresent(reqs, mapParams, "2");
+
+        if (mapParams.containsKey("CheckSVar")) {
+            final String sVarName = mapParams.get("CheckSVar");
+            String operator = "GE";
+            String operand = "1";
+            if (mapParams.containsKey("SVarCompare")) {
+                operator = mapParams.get("SVarCompare").substring(0, 2);
+                operand = mapParams.get("SVarCompare").substring(2);
+            }
+            final int op = operator(operator);
+            final Operand right = Operand.numberOrSVar(operand);
+            reqs.add(new TriggerRequirement() {
+                boolean test(Card host) {
+                    int sVarResult = CardFactoryUtil.xCount(host, host.getSVar(sVarName));
+                    return compare(sVarResult, op, right.value(host));
+                }
+            });
+        }
+
+        return reqs;
+    }
+
+    /**
+     * <p>addIsPresent.</p>
+     *
+     * @param reqs the list to add to.
+     * @param mapParams the parameters of a trigger.
+     * @param suffix "" for IsPresent, "2" for IsPresent2.
+     */
+    private static void addIsPresent(ArrayList<TriggerRequirement> reqs, Map<String, String> mapParams, String suffix) {
+        if (!mapParams.containsKey("IsPresent" + suffix)) {
+            return;
+        }
+
+        final String[] valid = mapParams.get("IsPresent" + suffix).split(",");
+        String presentCompare = "GE1";
+        String presentZone = "Battlefield";
+        String presentPlayer = "Any";
+        if (mapParams.containsKey("PresentCompare" + suffix)) {
+            presentCompare = mapParams.get("PresentCompare" + suffix);
+        }
+        if (mapParams.containsKey("PresentZone" + suffix)) {
+            presentZone = mapParams.get("PresentZone" + suffix);
+        }
+        if (mapParams.containsKey("PresentPlayer" + suffix)) {
+            presentPlayer = mapParams.get("PresentPlayer" + suffix);
+        }
+
+        final String zone = presentZone;
+        final boolean you = presentPlayer.equals("You") || presentPlayer.equals("Any");
+        final boolean opponent = presentPlayer.equals("Opponent") || presentPlayer.equals("Any");
+        final int op = operator(presentCompare);
+        final Operand right = Operand.xOrNumber(presentCompare.substring(2));
+        reqs.add(new TriggerRequirement() {
+            boolean test(Card host) {
+                CardList list = new CardList();
+                if (you) {
+                    list.addAll(AllZoneUtil.getCardsInZone(zone, host.getController()));
+                }
+                if (opponent) {
+                    list.addAll(AllZoneUtil.getCardsInZone(zone, host.getController().getOpponent()));
+                }
+                int left = list.view().getValidCards(valid, host.getController(), host).count();
+                return compare(left, op, right.value(host));
+            }
+        });
+    }
+
+    private static final int LT = 0, LE = 1, EQ = 2, GE = 3, GT = 4, NE = 5, NEVER = -1;
+
+    /**
+     * <p>operator.</p>
+     *
+     * @param comp a comparison like "GE1"; checked the way
+     *             {@link forge.AllZoneUtil#compare(int, String, int)} does.
+     * @return a int.
+     */
+    private static int operator(String comp) {
+        if (comp.contains("LT")) return LT;
+        if (comp.contains("LE")) return LE;
+        if (comp.contains("EQ")) return EQ;
+        if (comp.contains("GE")) return GE;
+        if (comp.contains("GT")) return GT;
+        if (comp.contains("NE")) return NE;
+        return NEVER;
+    }
+
+    /**
+     * <p>compare.</p>
+     *
+     * @param left a int.
+     * @param op one of the operators above.
+     * @param right a int.
+     * @return a boolean.
+     */
+    private static boolean compare(int left, int op, int right) {
+        switch (op) {
+            case LT: return left < right;
+            case LE: return left <= right;
+            case EQ: return left == right;
+            case GE: return left >= right;
+            case GT: return left > right;
+            case NE: return left != right;
+            default: return false;
+        }
+    }
+
+    /**
+     * The right side of a comparison: a number, or an SVar of the host
+     * card counted with xCount.
+     */
+    private static final class Operand {
+        private final int number;
+        private final String sVar;
+        private final String unparsed;
+
+        private Operand(int number, String sVar, String unparsed) {
+            this.number = number;
+            this.sVar = sVar;
+            this.unparsed = unparsed;
+        }
+
+        /** "X" counts the host's SVar X, anything else must be a number. */
+        static Operand xOrNumber(String s) {
+            if (s.equals("X")) return new Operand(0, "X", null);
+            try {
+                return new Operand(Integer.parseInt(s), null, null);
+            } catch (NumberFormatException e) {
+                // fails when the trigger is checked, like it always has
+                return new Operand(0, null, s);
+            }
+        }
+
+        /** A number, or else the name of an SVar of the host. */
+        static Operand numberOrSVar(String s) {
+            try {
+                return new Operand(Integer.parseInt(s), null, null);
+            } catch (NumberFormatException e) {
+                return new Operand(0, s, null);
+            }
+        }
+
+        int value(Card host) {
+            if (sVar != null) return CardFactoryUtil.xCount(host, host.getSVar(sVar));
+            if (unparsed != null) return Integer.parseInt(unparsed);
+            return number;
+        }
+    }
+}
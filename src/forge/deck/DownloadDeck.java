@@ -142,10 +142,8 @@ public class DownloadDeck {
      * @return a boolean.
      */
     public boolean isCardSupport(String CardName) {
-    	// TODO: using AllZone.getCardFactory().getCard() would probably be much faster.
-    	
-        for (Card gCard : AllZone.getCardFactory()) {
-            if (CardName.equalsIgnoreCase(gCard.getName())) {
+        for (String name : AllZone.getCardFactory().getCardNames()) {
+            if (CardName.equalsIgnoreCase(name)) {
                 return true;
             }
         }
@@ -160,11 +158,9 @@ public class DownloadDeck {
      * @return a {@link forge.Card} object.
      */
     public Card getCardDownload(Card c, String CardName) {
-    	// TODO: using AllZone.getCardFactory().getCard() would probably be much faster.
-    	
-        for (Card newCard : AllZone.getCardFactory()) {
-            if (CardName.equalsIgnoreCase(newCard.getName())) {
-                return newCard;
+        for (String name : AllZone.getCardFactory().getCardNames()) {
+            if (CardName.equalsIgnoreCase(name)) {
+                return AllZone.getCardFactory().getDatabaseCard(name);
             }
         }
 
@@ -0,0 +1,60 @@
+package forge.gui;
+
+import forge.Card;
+
+import java.util.List;
+
+/**
+ * <p>Dialogs interface.</p>
+ *
+ * Where the game asks the human player to choose.  GuiUtils.getChoices(),
+ * GameActionUtil.showYesNoDialog(), the messages of GameAction, coin flips,
+ * clashes, cascade and ripple go through the one set with
+ * {@link GuiUtils#setDialogs(Dialogs)}, which is {@link SwingDialogs} unless
+ * the game runs without a screen.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public interface Dialogs {
+    /**
+     * <p>getChoices.</p>
+     *
+     * @param message a {@link java.lang.String} object.
+     * @param min the fewest choices that may be made.
+     * @param max the most choices that may be made.
+     * @param choices the choices to pick from.
+     * @param <T> a T object.
+     * @return the choices made; empty if the choice was canceled.
+     */
+    public <T> List<T> getChoices(String message, int min, int max, T[] choices);
+
+    /**
+     * <p>confirm.</p>
+     *
+     * @param card the {@link forge.Card} that asks.
+     * @param title a {@link java.lang.String} object.
+     * @param question a {@link java.lang.String} object.
+     * @param defaultNo true if the default answer is "No".
+     * @return true for "Yes".
+     */
+    public boolean confirm(Card card, String title, String question, boolean defaultNo);
+
+    /**
+     * <p>getOption.</p>
+     *
+     * @param message a {@link java.lang.String} object.
+     * @param title a {@link java.lang.String} object.
+     * @param options the answers to pick from.
+     * @return the index of the answer picked, or -1 if none was.
+     */
+    public int getOption(String message, String title, Object[] options);
+
+    /**
+     * <p>showMessage.</p>
+     *
+     * @param message a {@link java.lang.String} object.
+     * @param title a {@link java.lang.String} object.
+     */
+    public void showMessage(String message, String title);
+}
@@ -0,0 +1,89 @@
+package forge.gui;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+
+/**
+ * <p>GuiRefresher class.</p>
+ *
+ * Collects the parts of the screen that need to be redrawn and redraws each
+ * of them once on the Swing event thread.  A zone posts an event for every
+ * card that changes in it, so while a spell resolves the battlefield could
+ * be laid out dozens of times; GuiDisplay4 asks for its refresh here for each
+ * {@link forge.GameEvent}, so it is laid out once, after the engine is done
+ * with the current action, and at most once per frame.
+ *
+ * A refresh must read the game when it runs, not when it was asked for,
+ * and be the same object every time so repeated requests collapse into one.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public final class GuiRefresher {
+    /** The shortest time between two refreshes, in milliseconds. */
+    private static final int FRAME_MILLIS = 40;
+
+    private static final Object lock = new Object();
+    private static final LinkedHashSet<Runnable> dirty = new LinkedHashSet<Runnable>();
+    private static boolean scheduled = false;
+    private static volatile long lastFlush = 0;
+
+    private static final Runnable flusher = new Runnable() {
+        public void run() {
+            flush();
+        }
+    };
+
+    private GuiRefresher() {
+        throw new AssertionError();
+    }
+
+    /**
+     * <p>refreshLater.</p>
+     *
+     * @param refresh a {@link java.lang.Runnable} that redraws part of the screen.
+     */
+    public static void refreshLater(Runnable refresh) {
+        synchronized (lock) {
+            dirty.add(refresh);
+            if (scheduled) return;
+            scheduled = true;
+        }
+
+        long wait = lastFlush + FRAME_MILLIS - System.currentTimeMillis();
+        if (wait <= 0) {
+            SwingUtilities.invokeLater(flusher);
+        } else {
+            Timer timer = new Timer((int) wait, new ActionListener() {
+                public void actionPerformed(ActionEvent e) {
+                    flush();
+                }
+            });
+            timer.setRepeats(false);
+            timer.start();
+        }
+    }
+
+    /**
+     * <p>flush.</p>
+     *
+     * Runs every refresh asked for so far.  Must be called from the Swing
+     * event thread.
+     */
+    public static void flush() {
+        ArrayList<Runnable> toRun;
+        synchronized (lock) {
+            toRun = new ArrayList<Runnable>(dirty);
+            dirty.clear();
+            scheduled = false;
+        }
+        lastFlush = System.currentTimeMillis();
+
+        for (Runnable refresh : toRun)
+            refresh.run();
+    }
+}
@@ -1,13 +1,10 @@
 package forge.gui;
 
-import forge.AllZone;
-import forge.Card;
+import forge.GameLocal;
 import forge.properties.ForgeProps;
 import forge.properties.NewConstants;
 
 import javax.swing.*;
-import javax.swing.event.ListSelectionEvent;
-import javax.swing.event.ListSelectionListener;
 
 import net.slightlymagic.braids.util.UtilFunctions;
 
@@ -27,6 +24,15 @@ import java.util.List;
  */
 public class GuiUtils {
 
+    private static Dialogs dialogs = new SwingDialogs();
+
+    /** The dialogs of a single game, which take the place of dialogs in it. */
+    private static final GameLocal<Dialogs> gameDialogs = new GameLocal<Dialogs>() {
+        protected Dialogs initialValue() {
+            return null;
+        }
+    };
+
     /**
      * This method takes a collection of components and sets the width of each component
      * to the maximum of the collection
@@ -237,19 +243,40 @@ public class GuiUtils {
      * @return a {@link java.util.List} object.
      */
     public static <T> List<T> getChoices(String message, int min, int max, T... choices) {
-        ListChooser<T> c = new ListChooser<T>(message, min, max, choices);
-        final JList list = c.getJList();
-        list.addListSelectionListener(new ListSelectionListener() {
-            public void valueChanged(ListSelectionEvent ev) {
-                if (list.getSelectedValue() instanceof Card && AllZone.getDisplay() != null) {
-                    AllZone.getDisplay().setCard((Card) list.getSelectedValue());
-                }
-            }
-        });
-        c.show();
-        return c.getSelectedValues();
+        return getDialogs().getChoices(message, min, max, choices);
     }//getChoice()
 
+    /**
+     * <p>getDialogs.</p>
+     *
+     * @return the {@link forge.gui.Dialogs} the human player's choices are made with.
+     */
+    public static Dialogs getDialogs() {
+        Dialogs d = gameDialogs.get();
+        return d != null ? d : dialogs;
+    }
+
+    /**
+     * <p>setDialogs.</p>
+     *
+     * @param d the {@link forge.gui.Dialogs} of every game.
+     */
+    public static void setDialogs(Dialogs d) {
+        dialogs = d;
+    }
+
+    /**
+     * <p>setGameDialogs.</p>
+     *
+     * For games played at the same time on their own threads, each of which
+     * needs dialogs of its own.
+     *
+     * @param d the {@link forge.gui.Dialogs} of the game bound to the calling thread.
+     */
+    public static void setGameDialogs(Dialogs d) {
+        gameDialogs.set(d);
+    }
+
     /**
      * Centers a frame on the screen based on its current size
      *
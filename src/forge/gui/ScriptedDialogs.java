@@ -0,0 +1,82 @@
+package forge.gui;
+
+import forge.Card;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * <p>ScriptedDialogs class.</p>
+ *
+ * Answers the human player's dialogs without showing anything, for games run
+ * without a screen.  Answers added with {@link #addChoice(Object)} and
+ * {@link #addAnswer(boolean)} are given first, in order; after that a choice
+ * takes the first of the offered items it must take, a question gets its
+ * default answer and an option the first one.  Messages are not shown.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class ScriptedDialogs implements Dialogs {
+    private final LinkedList<Object> choices = new LinkedList<Object>();
+    private final LinkedList<Boolean> answers = new LinkedList<Boolean>();
+
+    /**
+     * <p>addChoice.</p>
+     *
+     * @param choice the item to pick the next time it is offered in a choice.
+     */
+    public void addChoice(Object choice) {
+        choices.add(choice);
+    }
+
+    /**
+     * <p>addAnswer.</p>
+     *
+     * @param yes the answer to the next question.
+     */
+    public void addAnswer(boolean yes) {
+        answers.add(yes);
+    }
+
+    /** {@inheritDoc} */
+    public <T> List<T> getChoices(String message, int min, int max, T[] offered) {
+        List<T> result = new ArrayList<T>();
+        List<T> left = new ArrayList<T>(Arrays.asList(offered));
+
+        while (result.size() < max && !choices.isEmpty() && left.contains(choices.getFirst())) {
+            T choice = left.remove(left.indexOf(choices.removeFirst()));
+            result.add(choice);
+        }
+        while (result.size() < min && !left.isEmpty()) {
+            result.add(left.remove(0));
+        }
+
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    public boolean confirm(Card card, String title, String question, boolean defaultNo) {
+        if (!answers.isEmpty())
+            return answers.removeFirst();
+        return !defaultNo;
+    }
+
+    /** {@inheritDoc} */
+    public int getOption(String message, String title, Object[] options) {
+        if (!choices.isEmpty()) {
+            int index = Arrays.asList(options).indexOf(choices.getFirst());
+            if (index != -1) {
+                choices.removeFirst();
+                return index;
+            }
+        }
+        return 0;
+    }
+
+    /** {@inheritDoc} */
+    public void showMessage(String message, String title) {
+    }
+}
@@ -0,0 +1,60 @@
+package forge.gui;
+
+import forge.AllZone;
+import forge.Card;
+
+import javax.swing.JList;
+import javax.swing.JOptionPane;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
+import java.util.List;
+
+/**
+ * <p>SwingDialogs class.</p>
+ *
+ * Asks the human player with a {@link ListChooser} or a JOptionPane.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class SwingDialogs implements Dialogs {
+    /** {@inheritDoc} */
+    public <T> List<T> getChoices(String message, int min, int max, T[] choices) {
+        ListChooser<T> c = new ListChooser<T>(message, min, max, choices);
+        final JList list = c.getJList();
+        list.addListSelectionListener(new ListSelectionListener() {
+            public void valueChanged(ListSelectionEvent ev) {
+                if (list.getSelectedValue() instanceof Card && AllZone.getDisplay() != null) {
+                    AllZone.getDisplay().setCard((Card) list.getSelectedValue());
+                }
+            }
+        });
+        c.show();
+        return c.getSelectedValues();
+    }
+
+    /** {@inheritDoc} */
+    public boolean confirm(Card card, String title, String question, boolean defaultNo) {
+        int answer;
+        if (defaultNo) {
+            Object options[] = {"Yes", "No"};
+            answer = JOptionPane.showOptionDialog(null, question, title, JOptionPane.YES_NO_OPTION,
+                    JOptionPane.PLAIN_MESSAGE, null, options, options[1]);
+        } else {
+            answer = JOptionPane.showConfirmDialog(null, question, title, JOptionPane.YES_NO_OPTION);
+        }
+
+        return answer == JOptionPane.YES_OPTION;
+    }
+
+    /** {@inheritDoc} */
+    public int getOption(String message, String title, Object[] options) {
+        return JOptionPane.showOptionDialog(null, message, title, JOptionPane.DEFAULT_OPTION,
+                JOptionPane.INFORMATION_MESSAGE, null, options, options[0]);
+    }
+
+    /** {@inheritDoc} */
+    public void showMessage(String message, String title) {
+        JOptionPane.showMessageDialog(null, message, title, JOptionPane.INFORMATION_MESSAGE);
+    }
+}
@@ -0,0 +1,93 @@
+package forge.gui.input;
+
+import forge.AllZone;
+import forge.AllZoneUtil;
+import forge.Card;
+import forge.ComputerAI_General;
+import forge.ComputerUtil;
+import forge.ComputerUtil_Block2;
+import forge.Constant;
+import forge.Phase;
+import forge.Player;
+
+/**
+ * <p>AIPilot class.</p>
+ *
+ * Plays the human player with the computer's AI, so that a game without a
+ * screen is the AI against itself: ComputerAI_General plays the lands and
+ * spells and answers the stack, ComputerUtil_Attack2 attacks and
+ * ComputerUtil_Block2 blocks.  The card AI still decides for the computer,
+ * so the human player only casts spells that need no decisions, see
+ * ComputerAI_General.  The opening hand is kept, and everything else is
+ * left to a {@link ScriptedPilot}.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class AIPilot implements InputPilot {
+    private final Player human;
+    private final ComputerAI_General ai;
+    private final ScriptedPilot scripted = new ScriptedPilot();
+
+    private Input blocked; //the Input_Block the blocks were made for
+
+    /**
+     * <p>Constructor for AIPilot.</p>
+     *
+     * Plays the human player of the game bound to the calling thread.
+     */
+    public AIPilot() {
+        human = AllZone.getHumanPlayer();
+        ai = new ComputerAI_General(human);
+    }
+
+    /** {@inheritDoc} */
+    public void act(Input input) {
+        if (input instanceof Input_PassPriority) {
+            Phase phase = AllZone.getPhase();
+            if (!human.equals(phase.getPriorityPlayer())) {
+                // left over from before the computer got priority
+                pressOK();
+                return;
+            }
+
+            if (phase.is(Constant.Phase.Main1, human))
+                ai.main1();
+            else if (phase.is(Constant.Phase.Main2, human))
+                ai.main2();
+            else
+                ai.stackResponse();
+
+            // the rest of what pressing OK does, in case the AI passed priority
+            if (AllZone.getInputControl().getInput() == input)
+                AllZone.getInputControl().resetInput();
+            if (phase.isNeedToNextPhase()) {
+                phase.setNeedToNextPhase(false);
+                phase.nextPhase();
+            }
+        } else if (input instanceof Input_Attack) {
+            for (Card c : ComputerUtil.getAttackers(human).getAttackers())
+                input.selectCard(c, AllZone.getHumanBattlefield());
+            pressOK();
+        } else if (input instanceof Input_Block) {
+            if (input != blocked) {
+                blocked = input;
+                AllZone.setCombat(ComputerUtil_Block2.getBlockers(AllZone.getCombat(),
+                        AllZoneUtil.getCreaturesInPlay(human), human));
+            }
+            pressOK();
+        } else {
+            scripted.act(input);
+        }
+    }
+
+    /**
+     * <p>pressOK.</p>
+     *
+     * Presses OK on the display rather than the input, so the display moves
+     * on to the next phase when the input asks for it.
+     */
+    private void pressOK() {
+        AllZone.getDisplay().getButtonOK().select();
+    }
+}
@@ -0,0 +1,22 @@
+package forge.gui.input;
+
+/**
+ * <p>InputPilot interface.</p>
+ *
+ * Plays the human player's side of a game that runs without a screen, by
+ * selecting cards and pressing buttons on the current {@link Input} the way
+ * a user would.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public interface InputPilot {
+    /**
+     * <p>act.</p>
+     *
+     * Takes one step on the input: select a card or press a button.
+     *
+     * @param input the human player's current {@link forge.gui.input.Input}.
+     */
+    public void act(Input input);
+}
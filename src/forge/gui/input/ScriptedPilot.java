@@ -0,0 +1,65 @@
+package forge.gui.input;
+
+import forge.AllZone;
+import forge.AllZoneUtil;
+import forge.Card;
+import forge.CardList;
+import forge.CombatUtil;
+import forge.Player;
+
+/**
+ * <p>ScriptedPilot class.</p>
+ *
+ * A simple human player for games without a screen: keeps the opening hand,
+ * plays a land each turn, attacks with every creature that can, doesn't
+ * block, discards its last cards in cleanup and otherwise passes priority.
+ * It casts no spells.  Any other input gets OK, or Cancel if OK can't be
+ * pressed.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public class ScriptedPilot implements InputPilot {
+    /** {@inheritDoc} */
+    public void act(Input input) {
+        Player human = AllZone.getHumanPlayer();
+
+        if (input instanceof Input_PassPriority) {
+            if (AllZone.getStack().size() == 0 && human.canPlayLand()) {
+                Card land = AllZoneUtil.getPlayerHand(human).view().getType("Land").first();
+                if (land != null) {
+                    input.selectCard(land, AllZone.getHumanHand());
+                    return;
+                }
+            }
+            pressOK();
+        } else if (input instanceof Input_Attack) {
+            CardList creatures = AllZoneUtil.getCreaturesInPlay(human);
+            for (Card c : creatures) {
+                if (!c.isAttacking() && CombatUtil.canAttack(c, AllZone.getCombat()))
+                    input.selectCard(c, AllZone.getHumanBattlefield());
+            }
+            pressOK();
+        } else if (input instanceof Input_Cleanup && human.getMaxHandSize() != -1
+                && AllZoneUtil.getPlayerHand(human).size() > human.getMaxHandSize()) {
+            CardList hand = AllZoneUtil.getPlayerHand(human);
+            input.selectCard(hand.get(hand.size() - 1), AllZone.getHumanHand());
+        } else if (AllZone.getDisplay().getButtonOK().isSelectable()
+                || !AllZone.getDisplay().getButtonCancel().isSelectable()) {
+            // Input_Mulligan and Input_Block end up here as well
+            pressOK();
+        } else {
+            AllZone.getDisplay().getButtonCancel().select();
+        }
+    }
+
+    /**
+     * <p>pressOK.</p>
+     *
+     * Presses OK on the display rather than the input, so the display moves
+     * on to the next phase when the input asks for it.
+     */
+    private void pressOK() {
+        AllZone.getDisplay().getButtonOK().select();
+    }
+}
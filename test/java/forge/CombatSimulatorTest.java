@@ -0,0 +1,130 @@
+package forge;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static forge.GameFixture.makeCreature;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * <p>CombatSimulatorTest class.</p>
+ *
+ * Checks the answers of the simulator against the CombatUtil calls
+ * ComputerUtil_Attack2 used to make for them.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+@Test
+public class CombatSimulatorTest {
+    private CardList attackers;
+    private CardList blockers;
+    private Combat combat;
+
+    /**
+     * <p>newGame.</p>
+     *
+     * Binds a new game to the calling thread, with computer creatures that
+     * could attack and human creatures on the battlefield that could block.
+     */
+    private void newGame() {
+        GameFixture.bind();
+
+        Player computer = AllZone.getComputerPlayer();
+        Player human = AllZone.getHumanPlayer();
+
+        attackers = new CardList();
+        attackers.add(makeCreature("Bear", 2, 2, computer));
+        attackers.add(makeCreature("First Striker", 2, 1, computer, "First Strike"));
+        attackers.add(makeCreature("Double Striker", 2, 2, computer, "Double Strike"));
+        attackers.add(makeCreature("Deathtoucher", 1, 1, computer, "Deathtouch"));
+        attackers.add(makeCreature("Trampler", 4, 4, computer, "Trample"));
+        attackers.add(makeCreature("Lifelinker", 2, 3, computer, "Lifelink"));
+        attackers.add(makeCreature("Infecter", 2, 2, computer, "Infect"));
+        attackers.add(makeCreature("Flyer", 3, 3, computer, "Flying"));
+        attackers.add(makeCreature("Shadow", 2, 2, computer, "Shadow"));
+        attackers.add(makeCreature("Wall", 0, 4, computer, "Defender"));
+
+        blockers = new CardList();
+        blockers.add(makeCreature("Human Bear", 2, 2, human));
+        blockers.add(makeCreature("Human First Striker", 1, 3, human, "First Strike"));
+        blockers.add(makeCreature("Human Double Striker", 1, 1, human, "Double Strike"));
+        blockers.add(makeCreature("Human Flyer", 2, 2, human, "Flying"));
+        blockers.add(makeCreature("Human Reach", 1, 4, human, "Reach"));
+        blockers.add(makeCreature("Human Deathtoucher", 1, 1, human, "Deathtouch"));
+        blockers.add(makeCreature("Human Indestructible", 2, 2, human, "Indestructible"));
+        blockers.add(makeCreature("Human Wither", 2, 2, human, "Wither"));
+        Card tapped = makeCreature("Human Tapped", 3, 3, human);
+        tapped.tap();
+        blockers.add(tapped);
+        for (Card c : blockers)
+            AllZone.getHumanBattlefield().add(c);
+
+        combat = new Combat();
+        combat.setAttackingPlayer(computer);
+        combat.setDefendingPlayer(human);
+    }
+
+    /**
+     * <p>endGame.</p>
+     */
+    @AfterMethod(alwaysRun = true)
+    public void endGame() {
+        GameFixture.unbind();
+    }
+
+    /**
+     * <p>attackerAnswersMatchCombatUtil.</p>
+     */
+    @Test
+    public void attackerAnswersMatchCombatUtil() {
+        newGame();
+        Player human = AllZone.getHumanPlayer();
+        CombatSimulator sim = new CombatSimulator(attackers, blockers, human, combat);
+
+        for (Card attacker : attackers) {
+            assertEquals(sim.damageIfUnblocked(attacker), CombatUtil.damageIfUnblocked(attacker, human, combat),
+                    attacker.getName());
+            assertEquals(sim.poisonIfUnblocked(attacker), CombatUtil.poisonIfUnblocked(attacker, human, combat),
+                    attacker.getName());
+            assertEquals(sim.strikesFirst(attacker), attacker.hasFirstStrike() || attacker.hasDoubleStrike(),
+                    attacker.getName());
+            assertEquals(sim.getTotalFirstStrikeBlockPower(attacker),
+                    CombatUtil.getTotalFirstStrikeBlockPower(attacker, human), attacker.getName());
+
+            boolean blockable = false;
+            for (Card blocker : blockers) {
+                if (CombatUtil.canBlock(attacker, blocker)) blockable = true;
+            }
+            assertEquals(sim.canBeBlocked(attacker), blockable, attacker.getName());
+        }
+    }
+
+    /**
+     * <p>pairAnswersMatchCombatUtil.</p>
+     */
+    @Test
+    public void pairAnswersMatchCombatUtil() {
+        newGame();
+        CombatSimulator sim = new CombatSimulator(attackers, blockers, AllZone.getHumanPlayer(), combat);
+
+        int pairs = 0;
+        for (Card attacker : attackers) {
+            for (Card blocker : blockers) {
+                String pair = attacker.getName() + " blocked by " + blocker.getName();
+                boolean canBlock = CombatUtil.canBlock(attacker, blocker);
+                assertEquals(sim.canBlock(attacker, blocker), canBlock, pair);
+                if (!canBlock) continue;
+
+                pairs++;
+                assertEquals(sim.attackerDies(attacker, blocker),
+                        CombatUtil.canDestroyAttacker(attacker, blocker, combat, false), pair);
+                assertEquals(sim.blockerDies(attacker, blocker),
+                        CombatUtil.canDestroyBlocker(blocker, attacker, combat, false), pair);
+                assertEquals(sim.damageAsBlocker(attacker, blocker),
+                        CombatUtil.dealsDamageAsBlocker(attacker, blocker), pair);
+            }
+        }
+        assertEquals(pairs > 0, true, "some of the creatures can block");
+    }
+}
@@ -0,0 +1,143 @@
+package forge;
+
+import forge.card.spellability.SpellAbility;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertTrue;
+
+/**
+ * <p>ComputerUtilTest class.</p>
+ *
+ * Checks that the prefilter in front of canBePlayedAndPayedByAI never turns
+ * down an ability that can be played and paid for.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+@Test
+public class ComputerUtilTest {
+    private static final String[] HAND = {"Grizzly Bears", "Serra Angel", "Llanowar Elves", "Kird Ape",
+            "Ornithopter", "Boros Recruit", "Giant Growth", "Shock", "Lightning Bolt", "Fireball"};
+    private static final String[] LANDS = {"Forest", "Mountain", "Plains", "Forest", "Mountain"};
+
+    /**
+     * <p>newGame.</p>
+     *
+     * Binds a new game to the calling thread, in the first main phase of the
+     * player's turn with the spells in the player's hand and two creatures
+     * with abilities on the battlefield.
+     *
+     * @param computer true for the computer's turn, false for the human's.
+     */
+    private void newGame(boolean computer) {
+        GameFixture.bind();
+        Player player = computer ? AllZone.getComputerPlayer() : AllZone.getHumanPlayer();
+
+        for (String name : HAND)
+            AllZone.getZone(Constant.Zone.Hand, player).add(AllZone.getCardFactory().getCard(name, player));
+        addToBattlefield("Prodigal Pyromancer", player);
+        addToBattlefield("Birds of Paradise", player);
+
+        AllZone.getPhase().setPlayerTurn(player);
+        AllZone.getPhase().setDevPhaseState(Constant.Phase.Main1);
+        AllZone.getPhase().setPriority(player);
+    }
+
+    /**
+     * <p>endGame.</p>
+     */
+    @AfterMethod(alwaysRun = true)
+    public void endGame() {
+        GameFixture.unbind();
+    }
+
+    /**
+     * <p>addToBattlefield.</p>
+     *
+     * Checks the state effects afterwards, which give basic lands their mana
+     * abilities.
+     *
+     * @param name the name of the card.
+     * @param player a {@link forge.Player} object.
+     * @return a {@link forge.Card} object.
+     */
+    private Card addToBattlefield(String name, Player player) {
+        Card c = AllZone.getCardFactory().getCard(name, player);
+        c.setSickness(false);
+        AllZone.getZone(Constant.Zone.Battlefield, player).add(c);
+        AllZone.getGameAction().checkStateEffects();
+        return c;
+    }
+
+    /**
+     * <p>assertPrefilterAccepts.</p>
+     *
+     * Asks the prefilter about every ability of the player's cards in hand
+     * and on the battlefield, and checks each one it turns down.
+     *
+     * @param player a {@link forge.Player} object.
+     * @param when describes the game state for the failure message.
+     * @return the number of abilities that can be played and paid for.
+     */
+    private int assertPrefilterAccepts(Player player, String when) {
+        CardList cards = AllZoneUtil.getPlayerHand(player);
+        cards.addAll(AllZoneUtil.getPlayerCardsInPlay(player));
+
+        int playable = 0;
+        for (Card c : cards) {
+            for (SpellAbility sa : c.getSpellAbility()) {
+                sa.setActivatingPlayer(player);
+                boolean canPlay = sa.canPlay() && ComputerUtil.canPayCost(sa, player);
+                if (canPlay) playable++;
+                assertTrue(!canPlay || ComputerUtil.passesPrefilter(sa, player), sa + " " + when);
+            }
+        }
+        return playable;
+    }
+
+    /**
+     * <p>assertNeverRejectsPlayable.</p>
+     *
+     * Lays the lands one at a time, taps one and floats its mana, asking the
+     * prefilter after every change, so its remembered rejections are asked
+     * again after the player got more mana.
+     *
+     * @param player a {@link forge.Player} object.
+     */
+    private void assertNeverRejectsPlayable(Player player) {
+        int playable = assertPrefilterAccepts(player, "without lands");
+
+        Card land = null;
+        for (int i = 0; i < LANDS.length; i++) {
+            land = addToBattlefield(LANDS[i], player);
+            playable += assertPrefilterAccepts(player, "with " + (i + 1) + " lands");
+        }
+
+        land.tap();
+        playable += assertPrefilterAccepts(player, "with a tapped land");
+
+        (player.isComputer() ? AllZone.getComputerManaPool() : AllZone.getManaPool()).addManaToFloating("R", land);
+        playable += assertPrefilterAccepts(player, "with floating mana");
+
+        assertTrue(playable > 0, "something could be played");
+    }
+
+    /**
+     * <p>computerPrefilter.</p>
+     */
+    @Test
+    public void computerPrefilter() {
+        newGame(true);
+        assertNeverRejectsPlayable(AllZone.getComputerPlayer());
+    }
+
+    /**
+     * <p>humanPrefilter.</p>
+     */
+    @Test
+    public void humanPrefilter() {
+        newGame(false);
+        assertNeverRejectsPlayable(AllZone.getHumanPlayer());
+    }
+}
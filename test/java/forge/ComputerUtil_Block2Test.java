@@ -0,0 +1,177 @@
+package forge;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static forge.GameFixture.makeCreature;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * <p>ComputerUtil_Block2Test class.</p>
+ *
+ * Checks the blockers found with the attacker by blocker tables against the
+ * CombatUtil calls ComputerUtil_Block2 made for every lookup before.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+@Test
+public class ComputerUtil_Block2Test {
+    private CardList attackers;
+    private CardList blockers;
+    private CardList ableBlockers; //the blockers that aren't tapped
+    private Combat combat;
+
+    /**
+     * <p>newGame.</p>
+     *
+     * Binds a new game to the calling thread, with the human creatures
+     * attacking the computer's.
+     */
+    private void newGame() {
+        GameFixture.bind();
+
+        Player computer = AllZone.getComputerPlayer();
+        Player human = AllZone.getHumanPlayer();
+
+        attackers = new CardList();
+        attackers.add(makeCreature("Bear", 2, 2, human));
+        attackers.add(makeCreature("First Striker", 3, 1, human, "First Strike"));
+        attackers.add(makeCreature("Double Striker", 2, 2, human, "Double Strike"));
+        attackers.add(makeCreature("Deathtoucher", 1, 1, human, "Deathtouch"));
+        attackers.add(makeCreature("Trampler", 5, 5, human, "Trample"));
+        attackers.add(makeCreature("Flyer", 3, 3, human, "Flying"));
+        attackers.add(makeCreature("Loner", 4, 4, human, "CARDNAME can't be blocked by more than one creature."));
+
+        blockers = new CardList();
+        blockers.add(makeCreature("Computer Bear", 2, 2, computer));
+        blockers.add(makeCreature("Computer First Striker", 1, 3, computer, "First Strike"));
+        blockers.add(makeCreature("Computer Reach", 1, 4, computer, "Reach"));
+        blockers.add(makeCreature("Computer Deathtoucher", 1, 1, computer, "Deathtouch"));
+        blockers.add(makeCreature("Computer Indestructible", 2, 2, computer, "Indestructible"));
+        blockers.add(makeCreature("Computer Wall", 0, 6, computer, "Defender"));
+        ableBlockers = new CardList(blockers.toArray());
+        Card tapped = makeCreature("Computer Tapped", 3, 3, computer);
+        tapped.tap();
+        blockers.add(tapped);
+
+        for (Card c : attackers)
+            AllZone.getHumanBattlefield().add(c);
+        for (Card c : blockers)
+            AllZone.getComputerBattlefield().add(c);
+
+        combat = new Combat();
+        combat.setAttackingPlayer(human);
+        combat.setDefendingPlayer(computer);
+        combat.initiatePossibleDefenders(computer);
+        combat.nextDefender();
+        for (Card c : attackers)
+            combat.addAttacker(c);
+    }
+
+    /**
+     * <p>endGame.</p>
+     */
+    @AfterMethod(alwaysRun = true)
+    public void endGame() {
+        GameFixture.unbind();
+    }
+
+    /**
+     * <p>plan.</p>
+     *
+     * @return a {@link forge.ComputerUtil_Block2} with its tables filled in.
+     */
+    private ComputerUtil_Block2 plan() {
+        ComputerUtil_Block2 block = new ComputerUtil_Block2(combat, blockers, AllZone.getComputerPlayer());
+        block.precompute(combat);
+        return block;
+    }
+
+    /**
+     * <p>assertSameAsCombatUtil.</p>
+     *
+     * Compares the blockers each lookup finds with the blockers the
+     * CombatUtil call it replaced accepts, for every attacker.
+     *
+     * @param block a {@link forge.ComputerUtil_Block2} object.
+     * @param blockersLeft the blockers not assigned yet.
+     */
+    private void assertSameAsCombatUtil(ComputerUtil_Block2 block, CardList blockersLeft) {
+        for (Card attacker : attackers) {
+            CardList possible = new CardList();
+            CardList safe = new CardList();
+            CardList killing = new CardList();
+            for (Card blocker : blockersLeft) {
+                if (!CombatUtil.canBlock(attacker, blocker, combat)) continue;
+                possible.add(blocker);
+                if (!CombatUtil.canDestroyBlocker(blocker, attacker, combat, false)) safe.add(blocker);
+                if (CombatUtil.canDestroyAttacker(attacker, blocker, combat, false)) killing.add(blocker);
+            }
+
+            CardList found = block.getPossibleBlockers(attacker, blockersLeft, combat);
+            assertEquals(found.toString(), possible.toString(), attacker.getName() + " possible blockers");
+            assertEquals(block.getSafeBlockers(attacker, found, combat).toString(), safe.toString(),
+                    attacker.getName() + " safe blockers");
+            assertEquals(block.getKillingBlockers(attacker, found, combat).toString(), killing.toString(),
+                    attacker.getName() + " killing blockers");
+        }
+    }
+
+    /**
+     * <p>tablesMatchCombatUtil.</p>
+     */
+    @Test
+    public void tablesMatchCombatUtil() {
+        newGame();
+        assertSameAsCombatUtil(plan(), ableBlockers);
+    }
+
+    /**
+     * <p>tablesMatchCombatUtilAfterBlocks.</p>
+     */
+    @Test
+    public void tablesMatchCombatUtilAfterBlocks() {
+        newGame();
+        ComputerUtil_Block2 block = plan();
+
+        // once the Wall blocks the Loner, nothing else may
+        combat.addBlocker(attackers.get(6), blockers.get(5));
+        CardList blockersLeft = new CardList(ableBlockers.toArray());
+        blockersLeft.remove(blockers.get(5));
+        assertTrue(block.getPossibleBlockers(attackers.get(6), blockersLeft, combat).isEmpty());
+        assertSameAsCombatUtil(block, blockersLeft);
+    }
+
+    /**
+     * <p>tablesMatchCombatUtilWithSilentArbiter.</p>
+     */
+    @Test
+    public void tablesMatchCombatUtilWithSilentArbiter() {
+        newGame();
+        AllZone.getComputerBattlefield().add(makeCreature("Silent Arbiter", 1, 5, AllZone.getComputerPlayer()));
+        ComputerUtil_Block2 block = plan();
+        assertSameAsCombatUtil(block, ableBlockers);
+
+        combat.addBlocker(attackers.get(0), blockers.get(0));
+        CardList blockersLeft = new CardList(ableBlockers.toArray());
+        blockersLeft.remove(blockers.get(0));
+        assertSameAsCombatUtil(block, blockersLeft);
+    }
+
+    /**
+     * <p>tablesMatchCombatUtilWithLure.</p>
+     */
+    @Test
+    public void tablesMatchCombatUtilWithLure() {
+        newGame();
+        Card lure = makeCreature("Lure Bearer", 1, 1, AllZone.getHumanPlayer(),
+                "All creatures able to block CARDNAME do so.", "Flying");
+        AllZone.getHumanBattlefield().add(lure);
+        combat.addAttacker(lure);
+        attackers.add(lure);
+
+        assertSameAsCombatUtil(plan(), ableBlockers);
+    }
+}
@@ -0,0 +1,65 @@
+package forge;
+
+import forge.gui.input.ScriptedPilot;
+
+/**
+ * <p>GameFixture class.</p>
+ *
+ * Sets up the games the engine tests play in.  A test binds a new game to
+ * its thread with {@link #bind()} and unbinds it with {@link #unbind()}
+ * once it is done, from an AfterMethod, so the next test on that thread
+ * starts with a game of its own.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+public final class GameFixture {
+    private GameFixture() {
+    }
+
+    /**
+     * <p>bind.</p>
+     *
+     * Binds a new game with a headless display to the calling thread.  The
+     * type lists are loaded first, which the card factory and the search
+     * for planeswalkers among the defenders need.
+     */
+    public static void bind() {
+        if (AllZone.getBoundGameState() != null)
+            throw new IllegalStateException("The last test left its game bound");
+
+        Gui_NewGame.loadDynamicGamedata();
+        AllZone.setGameState(new GameState());
+        new HeadlessDisplay(new ScriptedPilot());
+    }
+
+    /**
+     * <p>unbind.</p>
+     */
+    public static void unbind() {
+        AllZone.setGameState(null);
+    }
+
+    /**
+     * <p>makeCreature.</p>
+     *
+     * @param name a {@link java.lang.String} object.
+     * @param power a int.
+     * @param toughness a int.
+     * @param controller a {@link forge.Player} object.
+     * @param keywords the creature's keywords.
+     * @return a {@link forge.Card} that is in no zone yet.
+     */
+    public static Card makeCreature(String name, int power, int toughness, Player controller, String... keywords) {
+        Card c = new Card();
+        c.setName(name);
+        c.addType("Creature");
+        c.setBaseAttack(power);
+        c.setBaseDefense(toughness);
+        c.setOwner(controller);
+        c.setController(controller);
+        for (String keyword : keywords)
+            c.addIntrinsicKeyword(keyword);
+        return c;
+    }
+}
@@ -0,0 +1,108 @@
+package forge;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static forge.GameFixture.makeCreature;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * <p>GameStateDigestTest class.</p>
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+@Test
+public class GameStateDigestTest {
+    private Card bear;
+    private Card other;
+
+    /**
+     * <p>newGame.</p>
+     *
+     * Binds a new game to the calling thread, with two creatures in the
+     * computer's hand.
+     */
+    private void newGame() {
+        GameFixture.bind();
+
+        bear = makeCreature("Grizzly Bears", 2, 2, AllZone.getComputerPlayer());
+        other = makeCreature("Runeclaw Bear", 2, 2, AllZone.getComputerPlayer());
+        AllZone.getComputerHand().add(bear);
+        AllZone.getComputerHand().add(other);
+    }
+
+    /**
+     * <p>endGame.</p>
+     */
+    @AfterMethod(alwaysRun = true)
+    public void endGame() {
+        GameFixture.unbind();
+    }
+
+    /**
+     * <p>unchangedGameIsTheSame.</p>
+     */
+    @Test
+    public void unchangedGameIsTheSame() {
+        newGame();
+        GameStateDigest before = GameStateDigest.take();
+        assertTrue(before.sameAs(GameStateDigest.take()));
+        assertTrue(before.diff(GameStateDigest.take()).isEmpty());
+    }
+
+    /**
+     * <p>counterChangesTheDigest.</p>
+     */
+    @Test
+    public void counterChangesTheDigest() {
+        newGame();
+        GameStateDigest before = GameStateDigest.take();
+        bear.addCounter(Counters.P1P1, 1);
+        assertFalse(before.sameAs(GameStateDigest.take()));
+    }
+
+    /**
+     * <p>swappedCountersChangeTheDigest.</p>
+     */
+    @Test
+    public void swappedCountersChangeTheDigest() {
+        newGame();
+        bear.addCounter(Counters.AGE, 1);
+        bear.addCounter(Counters.CHARGE, 2);
+        GameStateDigest before = GameStateDigest.take();
+
+        bear.setCounter(Counters.AGE, 2, true);
+        bear.setCounter(Counters.CHARGE, 1, true);
+        assertFalse(before.sameAs(GameStateDigest.take()));
+    }
+
+    /**
+     * <p>sVarChangesTheDigest.</p>
+     */
+    @Test
+    public void sVarChangesTheDigest() {
+        newGame();
+        bear.setSVar("X", "1");
+        GameStateDigest before = GameStateDigest.take();
+
+        bear.setSVar("X", "2");
+        assertFalse(before.sameAs(GameStateDigest.take()));
+        assertTrue(before.diff(GameStateDigest.take()).contains(bear.toString()));
+    }
+
+    /**
+     * <p>rememberedCardChangesTheDigest.</p>
+     */
+    @Test
+    public void rememberedCardChangesTheDigest() {
+        newGame();
+        bear.addRemembered(other);
+        GameStateDigest before = GameStateDigest.take();
+
+        bear.clearRemembered();
+        bear.addRemembered(bear);
+        assertFalse(before.sameAs(GameStateDigest.take()));
+    }
+}
@@ -0,0 +1,144 @@
+package forge;
+
+import forge.card.spellability.SpellAbility;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * <p>GuiDisplay4Test class.</p>
+ *
+ * Plays the changes the screen shows without a screen, and checks that the
+ * events of each one name a part of the screen GuiDisplay4 redraws: the
+ * hands, battlefields, graveyards and libraries, the players' life and
+ * poison, and the stack.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+@Test
+public class GuiDisplay4Test {
+    private final List<Object> redrawn = new ArrayList<Object>();
+
+    /**
+     * <p>newGame.</p>
+     *
+     * Binds a new game to the calling thread, and records what GuiDisplay4
+     * would redraw for each event of it.
+     */
+    private void newGame() {
+        GameFixture.bind();
+        redrawn.clear();
+        AllZone.getEventBus().subscribe(new GameEventListener() {
+            public void handleEvents(List<GameEvent> events) {
+                for (GameEvent e : events)
+                    redrawn.add(GuiDisplay4.getRefreshSubject(e));
+            }
+        });
+    }
+
+    /**
+     * <p>endGame.</p>
+     */
+    @AfterMethod(alwaysRun = true)
+    public void endGame() {
+        GameFixture.unbind();
+    }
+
+    /**
+     * <p>assertRedrawn.</p>
+     *
+     * @param subjects the zones, players or stack that must have been redrawn.
+     */
+    private void assertRedrawn(Object... subjects) {
+        for (Object subject : subjects)
+            assertTrue(redrawn.contains(subject), subject + " redrawn in " + redrawn);
+        assertFalse(redrawn.contains(null), "every event names a part of the screen " + redrawn);
+        redrawn.clear();
+    }
+
+    /**
+     * <p>castRedrawsHandStackAndBattlefield.</p>
+     */
+    @Test
+    public void castRedrawsHandStackAndBattlefield() {
+        newGame();
+        Player human = AllZone.getHumanPlayer();
+        Card bears = AllZone.getCardFactory().getCard("Grizzly Bears", human);
+        AllZone.getHumanHand().add(bears);
+        assertRedrawn(AllZone.getHumanHand());
+
+        SpellAbility spell = bears.getSpellAbility()[0];
+        spell.setActivatingPlayer(human);
+        AllZone.getStack().addAndUnfreeze(spell);
+        assertRedrawn(AllZone.getHumanHand(), AllZone.getStack());
+
+        AllZone.getStack().resolveStack();
+        assertRedrawn(AllZone.getStack(), AllZone.getHumanBattlefield());
+        assertTrue(AllZone.getHumanBattlefield().contains(bears));
+    }
+
+    /**
+     * <p>combatRedrawsCreaturesAndPlayers.</p>
+     *
+     * Tapping an attacker, damage and counters on a blocker and damage to the
+     * defending player.
+     */
+    @Test
+    public void combatRedrawsCreaturesAndPlayers() {
+        newGame();
+        Card attacker = AllZone.getCardFactory().getCard("Kird Ape", AllZone.getHumanPlayer());
+        Card blocker = AllZone.getCardFactory().getCard("Serra Angel", AllZone.getComputerPlayer());
+        AllZone.getHumanBattlefield().add(attacker);
+        AllZone.getComputerBattlefield().add(blocker);
+        redrawn.clear();
+
+        attacker.tap();
+        assertRedrawn(AllZone.getHumanBattlefield());
+
+        blocker.addDamage(1, attacker);
+        assertRedrawn(AllZone.getComputerBattlefield());
+
+        blocker.addCounter(Counters.M1M1, 1);
+        assertRedrawn(AllZone.getComputerBattlefield());
+
+        AllZone.getComputerPlayer().addDamage(1, attacker);
+        assertRedrawn(AllZone.getComputerPlayer());
+    }
+
+    /**
+     * <p>lifeAndPoisonRedrawThePlayer.</p>
+     */
+    @Test
+    public void lifeAndPoisonRedrawThePlayer() {
+        newGame();
+        AllZone.getHumanPlayer().loseLife(2, null);
+        assertRedrawn(AllZone.getHumanPlayer());
+
+        AllZone.getHumanPlayer().addPoisonCounters(1);
+        assertRedrawn(AllZone.getHumanPlayer());
+    }
+
+    /**
+     * <p>drawRedrawsHandAndLibrary.</p>
+     */
+    @Test
+    public void drawRedrawsHandAndLibrary() {
+        newGame();
+        Card card = AllZone.getCardFactory().getCard("Grizzly Bears", AllZone.getHumanPlayer());
+        AllZone.getHumanLibrary().add(card);
+        redrawn.clear();
+
+        AllZone.getHumanPlayer().drawCard();
+        assertRedrawn(AllZone.getHumanLibrary(), AllZone.getHumanHand());
+        assertTrue(AllZone.getHumanHand().contains(card));
+
+        AllZone.getHumanPlayer().discard(card, null);
+        assertRedrawn(AllZone.getHumanHand(), AllZone.getHumanGraveyard());
+    }
+}
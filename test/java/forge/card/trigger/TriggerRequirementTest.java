@@ -0,0 +1,304 @@
+package forge.card.trigger;
+
+import forge.AllZone;
+import forge.AllZoneUtil;
+import forge.Card;
+import forge.CardList;
+import forge.GameFixture;
+import forge.card.cardFactory.CardFactoryUtil;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static forge.GameFixture.makeCreature;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * <p>TriggerRequirementTest class.</p>
+ *
+ * Checks the parsed requirements against the way Trigger.requirementsCheck()
+ * used to read them from the parameters each time.
+ *
+ * @author Forge
+ * @version $Id: $
+ */
+@Test
+public class TriggerRequirementTest {
+    private Card host;
+
+    /**
+     * <p>newGame.</p>
+     *
+     * Binds a new game to the calling thread, with the host card in the
+     * computer's hand.
+     */
+    private void newGame() {
+        GameFixture.bind();
+
+        host = makeCreature("Host", 1, 1, AllZone.getComputerPlayer());
+        host.setSVar("X", "Count$YourLifeTotal");
+        host.setSVar("Hand", "Count$InYourHand");
+        AllZone.getComputerHand().add(host);
+    }
+
+    /**
+     * <p>endGame.</p>
+     */
+    @AfterMethod(alwaysRun = true)
+    public void endGame() {
+        GameFixture.unbind();
+    }
+
+    /**
+     * <p>params.</p>
+     *
+     * @param keysAndValues a key, a value, a key, ...
+     * @return a {@link java.util.Map} object.
+     */
+    private static Map<String, String> params(String... keysAndValues) {
+        Map<String, String> map = new HashMap<String, String>();
+        for (int i = 0; i < keysAndValues.length; i += 2)
+            map.put(keysAndValues[i], keysAndValues[i + 1]);
+        return map;
+    }
+
+    /**
+     * <p>parameterSets.</p>
+     *
+     * @return the trigger parameters to try.
+     */
+    private static List<Map<String, String>> parameterSets() {
+        List<Map<String, String>> sets = new ArrayList<Map<String, String>>();
+        sets.add(params());
+        sets.add(params("Threshold", "True"));
+        sets.add(params("Hellbent", "True"));
+        sets.add(params("Hellbent", "False"));
+        sets.add(params("PlayersPoisoned", "You"));
+        sets.add(params("PlayersPoisoned", "Opponent"));
+        sets.add(params("PlayersPoisoned", "Each"));
+        sets.add(params("Metalcraft", "True"));
+        sets.add(params("Metalcraft", "True", "PlayersPoisoned", "Each"));
+        sets.add(params("LifeTotal", "You"));
+        sets.add(params("LifeTotal", "You", "LifeAmount", "LE10"));
+        sets.add(params("LifeTotal", "Opponent", "LifeAmount", "GT15"));
+        sets.add(params("LifeTotal", "Opponent", "LifeAmount", "EQX"));
+        sets.add(params("LifeTotal", "You", "LifeAmount", "NE20"));
+        sets.add(params("IsPresent", "Creature"));
+        sets.add(params("IsPresent", "Creature.YouCtrl", "PresentZone", "Hand", "PresentCompare", "GE3"));
+        sets.add(params("IsPresent", "Creature", "PresentZone", "Hand", "PresentPlayer", "Opponent"));
+        sets.add(params("IsPresent", "Creature", "PresentZone", "Hand", "PresentPlayer", "You",
+                "PresentCompare", "EQ2", "IsPresent2", "Card.Other", "PresentZone2", "Hand", "PresentCompare2", "LT2"));
+        sets.add(params("CheckSVar", "Hand"));
+        sets.add(params("CheckSVar", "Hand", "SVarCompare", "GT2"));
+        sets.add(params("CheckSVar", "X", "SVarCompare", "LEHand"));
+        sets.add(params("Threshold", "True", "LifeTotal", "You", "LifeAmount", "GE5", "CheckSVar", "Hand"));
+        return sets;
+    }
+
+    /**
+     * <p>sameAsStringChecks.</p>
+     *
+     * Tries every set of parameters without and with three artifacts on
+     * the battlefield, at three life totals, with no player, either player
+     * or both players poisoned, and with up to three more cards in hand.
+     */
+    @Test
+    public void sameAsStringChecks() {
+        newGame();
+        List<Map<String, String>> sets = parameterSets();
+        Map<Map<String, String>, Set<Boolean>> results = new HashMap<Map<String, String>, Set<Boolean>>();
+
+        int[] lives = {20, 10, 3};
+        int[][] poison = {{0, 0}, {2, 0}, {0, 2}, {1, 3}}; //the computer's and the human's counters
+        for (int artifacts = 0; artifacts <= 3; artifacts += 3) {
+            for (int i = 0; i < artifacts; i++) {
+                Card artifact = makeCreature("Artifact " + i, 1, 1, AllZone.getComputerPlayer());
+                artifact.addType("Artifact");
+                AllZone.getComputerBattlefield().add(artifact);
+            }
+
+            for (int life : lives) {
+                AllZone.getComputerPlayer().setLife(life, null);
+                AllZone.getHumanPlayer().setLife(30 - life, null);
+
+                for (int[] counters : poison) {
+                    AllZone.getComputerPlayer().setPoisonCounters(counters[0]);
+                    AllZone.getHumanPlayer().setPoisonCounters(counters[1]);
+                    String when = " at life " + life + " with " + artifacts + " artifacts, poison "
+                            + counters[0] + "/" + counters[1] + " and ";
+
+                    for (int extra = 0; extra < 4; extra++) {
+                        for (Map<String, String> params : sets) {
+                            boolean parsed = true;
+                            for (TriggerRequirement req : TriggerRequirement.compile(params))
+                                parsed &= req.test(host);
+
+                            assertEquals(parsed, oldCheck(params, host), params + when + extra + " more cards");
+                            if (!results.containsKey(params))
+                                results.put(params, new HashSet<Boolean>());
+                            results.get(params).add(parsed);
+                        }
+                        AllZone.getComputerHand().add(makeCreature("Extra " + extra, 1, 1, AllZone.getComputerPlayer()));
+                    }
+                    AllZone.getComputerHand().setCards(new Card[]{host});
+                }
+            }
+        }
+
+        // both ways, so the cases above don't pass by never being met
+        assertEquals(results.get(params("PlayersPoisoned", "Each")).size(), 2);
+        assertEquals(results.get(params("Metalcraft", "True")).size(), 2);
+        assertEquals(results.get(params("Metalcraft", "True", "PlayersPoisoned", "Each")).size(), 2);
+    }
+
+    /**
+     * <p>oldCheck.</p>
+     *
+     * Trigger.requirementsCheck() as it was before the requirements were
+     * parsed, with PlayersPoisoned$ Each checking both players.
+     *
+     * @param mapParams the parameters of a trigger.
+     * @param hostCard the card of the trigger.
+     * @return a boolean.
+     */
+    private static boolean oldCheck(Map<String, String> mapParams, Card hostCard) {
+        if (mapParams.containsKey("Metalcraft")) {
+            if (mapParams.get("Metalcraft").equals("True") && !hostCard.getController().hasMetalcraft()) {
+                return false;
+            }
+        }
+
+        if (mapParams.containsKey("Threshold")) {
+            if (mapParams.get("Threshold").equals("True") && !hostCard.getController().hasThreshold()) {
+                return false;
+            }
+        }
+
+        if (mapParams.containsKey("Hellbent")) {
+            if (mapParams.get("Hellbent").equals("True") && !hostCard.getController().hasHellbent()) {
+                return false;
+            }
+        }
+
+        if (mapParams.containsKey("PlayersPoisoned")) {
+            if (mapParams.get("PlayersPoisoned").equals("You") && hostCard.getController().getPoisonCounters() == 0) {
+                return false;
+            } else if (mapParams.get("PlayersPoisoned").equals("Opponent") && hostCard.getController().getOpponent().getPoisonCounters() == 0) {
+                return false;
+            } else if (mapParams.get("PlayersPoisoned").equals("Each") && !(hostCard.getController().getPoisonCounters() != 0 && hostCard.getController().getOpponent().getPoisonCounters() != 0)) {
+                return false;
+            }
+        }
+
+        if (mapParams.containsKey("LifeTotal")) {
+            String player = mapParams.get("LifeTotal");
+            String lifeCompare = "GE1";
+            int life = 1;
+
+            if (player.equals("You")) {
+                life = hostCard.getController().getLife();
+            }
+            if (player.equals("Opponent")) {
+                life = hostCard.getController().getOpponent().getLife();
+            }
+
+            if (mapParams.containsKey("LifeAmount")) {
+                lifeCompare = mapParams.get("LifeAmount");
+            }
+
+            int right;
+            String rightString = lifeCompare.substring(2);
+            if (rightString.equals("X")) {
+                right = CardFactoryUtil.xCount(hostCard, hostCard.getSVar("X"));
+            } else {
+                right = Integer.parseInt(lifeCompare.substring(2));
+            }
+
+            if (!AllZoneUtil.compare(life, lifeCompare, right)) {
+                return false;
+            }
+        }
+
+        if (!oldIsPresent(mapParams, hostCard, "") || !oldIsPresent(mapParams, hostCard, "2")) {
+            return false;
+        }
+
+        if (mapParams.containsKey("CheckSVar")) {
+            String SVarName = mapParams.get("CheckSVar");
+            String operator = "GE";
+            String operand = "1";
+
+            if (mapParams.containsKey("SVarCompare")) {
+                operator = mapParams.get("SVarCompare").substring(0, 2);
+                operand = mapParams.get("SVarCompare").substring(2);
+            }
+
+            int sVarResult = CardFactoryUtil.xCount(hostCard, hostCard.getSVar(SVarName));
+            int operandResult;
+            try {
+                operandResult = Integer.parseInt(operand);
+            } catch (Exception e) {
+                operandResult = CardFactoryUtil.xCount(hostCard, hostCard.getSVar(operand));
+            }
+
+            if (!AllZoneUtil.compare(sVarResult, operator, operandResult)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>oldIsPresent.</p>
+     *
+     * @param mapParams the parameters of a trigger.
+     * @param hostCard the card of the trigger.
+     * @param suffix "" for IsPresent, "2" for IsPresent2.
+     * @return a boolean.
+     */
+    private static boolean oldIsPresent(Map<String, String> mapParams, Card hostCard, String suffix) {
+        if (!mapParams.containsKey("IsPresent" + suffix)) {
+            return true;
+        }
+
+        String sIsPresent = mapParams.get("IsPresent" + suffix);
+        String presentCompare = "GE1";
+        String presentZone = "Battlefield";
+        String presentPlayer = "Any";
+        if (mapParams.containsKey("PresentCompare" + suffix)) {
+            presentCompare = mapParams.get("PresentCompare" + suffix);
+        }
+        if (mapParams.containsKey("PresentZone" + suffix)) {
+            presentZone = mapParams.get("PresentZone" + suffix);
+        }
+        if (mapParams.containsKey("PresentPlayer" + suffix)) {
+            presentPlayer = mapParams.get("PresentPlayer" + suffix);
+        }
+        CardList list = new CardList();
+        if (presentPlayer.equals("You") || presentPlayer.equals("Any")) {
+            list.addAll(AllZoneUtil.getCardsInZone(presentZone, hostCard.getController()));
+        }
+        if (presentPlayer.equals("Opponent") || presentPlayer.equals("Any")) {
+            list.addAll(AllZoneUtil.getCardsInZone(presentZone, hostCard.getController().getOpponent()));
+        }
+
+        list = list.getValidCards(sIsPresent.split(","), hostCard.getController(), hostCard);
+
+        int right;
+        String rightString = presentCompare.substring(2);
+        if (rightString.equals("X")) {
+            right = CardFactoryUtil.xCount(hostCard, hostCard.getSVar("X"));
+        } else {
+            right = Integer.parseInt(presentCompare.substring(2));
+        }
+
+        return AllZoneUtil.compare(list.size(), presentCompare, right);
+    }
+}